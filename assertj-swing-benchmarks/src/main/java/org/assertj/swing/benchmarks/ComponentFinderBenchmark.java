@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.assertj.swing.benchmarks.SyntheticHierarchy.TARGET_NAME;
+import static org.assertj.swing.benchmarks.SyntheticHierarchy.frameWith;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import java.awt.Component;
+import java.util.Collection;
+
+import javax.swing.JButton;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+
+import org.assertj.swing.core.BasicRobot;
+import org.assertj.swing.core.GenericTypeMatcher;
+import org.assertj.swing.core.Robot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for component lookups performed by {@link org.assertj.swing.core.BasicComponentFinder}, over synthetic
+ * hierarchies of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ComponentFinderBenchmark {
+  @Param({ "100", "1000", "10000", "50000" })
+  public int componentCount;
+
+  private Robot robot;
+  private JFrame frame;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    robot = BasicRobot.robotWithNewAwtHierarchy();
+    frame = execute(() -> frameWith(componentCount));
+    robot.showWindow(frame);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    robot.cleanUp();
+  }
+
+  @Benchmark
+  public Component findByName() {
+    return robot.finder().findByName(frame, TARGET_NAME);
+  }
+
+  @Benchmark
+  public JButton findByType() {
+    return robot.finder().findByType(frame, JButton.class);
+  }
+
+  @Benchmark
+  public Collection<JLabel> findAllWithGenericTypeMatcher() {
+    return robot.finder().findAll(frame, new GenericTypeMatcher<JLabel>(JLabel.class) {
+      @Override
+      protected boolean isMatching(JLabel label) {
+        return label.getText().endsWith("7");
+      }
+    });
+  }
+}
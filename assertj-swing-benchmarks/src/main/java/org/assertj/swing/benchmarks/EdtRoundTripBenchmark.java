@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static javax.swing.SwingUtilities.invokeLater;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import javax.swing.JFrame;
+
+import org.assertj.swing.core.BasicRobot;
+import org.assertj.swing.core.Robot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the round-trips to the event dispatch thread (EDT): {@link BasicRobot#waitForIdle()} and
+ * {@link org.assertj.swing.edt.GuiActionRunner#execute}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EdtRoundTripBenchmark {
+  private Robot robot;
+  private JFrame frame;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    robot = BasicRobot.robotWithNewAwtHierarchy();
+    frame = execute(() -> new JFrame(EdtRoundTripBenchmark.class.getSimpleName()));
+    robot.showWindow(frame);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    robot.cleanUp();
+  }
+
+  @Benchmark
+  public void waitForIdle() {
+    robot.waitForIdle();
+  }
+
+  @Benchmark
+  public void waitForIdleWithPendingEvent() {
+    invokeLater(() -> frame.getTitle());
+    robot.waitForIdle();
+  }
+
+  @Benchmark
+  public String executeQuery() {
+    return execute(() -> frame.getTitle());
+  }
+
+  @Benchmark
+  public void executeTask() {
+    execute(() -> frame.setTitle(EdtRoundTripBenchmark.class.getSimpleName()));
+  }
+}
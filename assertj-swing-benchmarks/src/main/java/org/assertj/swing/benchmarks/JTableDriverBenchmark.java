@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import javax.swing.JFrame;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.core.BasicRobot;
+import org.assertj.swing.core.Robot;
+import org.assertj.swing.driver.JTableDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for reading cells through {@link JTableDriver}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JTableDriverBenchmark {
+  private static final int COLUMN_COUNT = 10;
+
+  @Param({ "100", "1000", "10000" })
+  public int rowCount;
+
+  private Robot robot;
+  private JTable table;
+  private JTableDriver driver;
+  private int row;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    robot = BasicRobot.robotWithNewAwtHierarchy();
+    JFrame frame = execute(() -> frameWithTable(rowCount));
+    robot.showWindow(frame);
+    table = robot.finder().findByType(frame, JTable.class);
+    driver = new JTableDriver(robot);
+  }
+
+  @RunsInCurrentThread
+  private static JFrame frameWithTable(int rowCount) {
+    String[][] data = new String[rowCount][COLUMN_COUNT];
+    String[] columnNames = new String[COLUMN_COUNT];
+    for (int column = 0; column < COLUMN_COUNT; column++) {
+      columnNames[column] = "column " + column;
+      for (int row = 0; row < rowCount; row++) {
+        data[row][column] = row + "-" + column;
+      }
+    }
+    JFrame frame = new JFrame(JTableDriverBenchmark.class.getSimpleName());
+    frame.add(new JScrollPane(new JTable(data, columnNames)));
+    return frame;
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    robot.cleanUp();
+  }
+
+  @Benchmark
+  public String cellValue() {
+    row = (row + 1) % rowCount;
+    return driver.value(table, row, row % COLUMN_COUNT);
+  }
+
+  @Benchmark
+  public String[][] contents() {
+    return driver.contents(table);
+  }
+}
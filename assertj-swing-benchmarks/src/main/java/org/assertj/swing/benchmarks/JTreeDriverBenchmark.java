@@ -0,0 +1,113 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import javax.swing.JFrame;
+import javax.swing.JScrollPane;
+import javax.swing.JTree;
+import javax.swing.tree.DefaultMutableTreeNode;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.core.BasicRobot;
+import org.assertj.swing.core.Robot;
+import org.assertj.swing.driver.JTreeDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for resolving {@code String} paths through {@link JTreeDriver}. The tree is complete: every node but the
+ * leaves has {@link #FAN_OUT} children, and the resolved path is the one to the last leaf.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JTreeDriverBenchmark {
+  private static final int FAN_OUT = 5;
+
+  @Param({ "2", "4", "6" })
+  public int depth;
+
+  private Robot robot;
+  private JTree tree;
+  private JTreeDriver driver;
+  private String path;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    robot = BasicRobot.robotWithNewAwtHierarchy();
+    JFrame frame = execute(() -> frameWithTree(depth));
+    robot.showWindow(frame);
+    tree = robot.finder().findByType(frame, JTree.class);
+    driver = new JTreeDriver(robot);
+    StringBuilder lastLeaf = new StringBuilder("root");
+    String node = "node";
+    for (int level = 0; level < depth; level++) {
+      node = node + "-" + (FAN_OUT - 1);
+      lastLeaf.append(driver.separator()).append(node);
+    }
+    path = lastLeaf.toString();
+  }
+
+  @RunsInCurrentThread
+  private static JFrame frameWithTree(int depth) {
+    DefaultMutableTreeNode root = new DefaultMutableTreeNode("root");
+    addChildren(root, "node", depth);
+    JFrame frame = new JFrame(JTreeDriverBenchmark.class.getSimpleName());
+    frame.add(new JScrollPane(new JTree(root)));
+    return frame;
+  }
+
+  private static void addChildren(DefaultMutableTreeNode parent, String prefix, int levels) {
+    if (levels == 0) {
+      return;
+    }
+    for (int i = 0; i < FAN_OUT; i++) {
+      String name = prefix + "-" + i;
+      DefaultMutableTreeNode child = new DefaultMutableTreeNode(name);
+      parent.add(child);
+      addChildren(child, name, levels - 1);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    robot.cleanUp();
+  }
+
+  @Benchmark
+  public void checkPathExists() {
+    driver.checkPathExists(tree, path);
+  }
+
+  @Benchmark
+  public String nodeValue() {
+    return driver.nodeValue(tree, path);
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.benchmarks;
+
+import javax.swing.JButton;
+import javax.swing.JComponent;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+
+/**
+ * Builds synthetic component hierarchies of a given size. Components are laid out as a complete tree in which every
+ * {@code JPanel} has up to {@link #FAN_OUT} children; the leaves are {@code JLabel}s, except for the last component
+ * created, which is a {@code JButton} named {@link #TARGET_NAME} and therefore the last one reached by a depth-first
+ * lookup.
+ */
+final class SyntheticHierarchy {
+  static final int FAN_OUT = 10;
+  static final String TARGET_NAME = "target";
+
+  /**
+   * Creates a new {@code JFrame} whose content pane contains the given number of components.
+   *
+   * @param componentCount the number of components to create.
+   * @return the created frame.
+   */
+  @RunsInCurrentThread
+  static JFrame frameWith(int componentCount) {
+    JComponent[] components = new JComponent[componentCount];
+    for (int i = 0; i < componentCount; i++) {
+      components[i] = newComponent(i, componentCount);
+      if (i > 0) {
+        components[(i - 1) / FAN_OUT].add(components[i]);
+      }
+    }
+    JFrame frame = new JFrame(SyntheticHierarchy.class.getSimpleName());
+    frame.setContentPane(components[0]);
+    return frame;
+  }
+
+  private static JComponent newComponent(int index, int componentCount) {
+    if (index == componentCount - 1) {
+      JButton target = new JButton(TARGET_NAME);
+      target.setName(TARGET_NAME);
+      return target;
+    }
+    if (index * FAN_OUT + 1 < componentCount) {
+      return new JPanel();
+    }
+    return new JLabel(String.valueOf(index));
+  }
+
+  private SyntheticHierarchy() {
+  }
+}
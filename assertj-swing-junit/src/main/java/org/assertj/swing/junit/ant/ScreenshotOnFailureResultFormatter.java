@@ -12,12 +12,13 @@
  */
 package org.assertj.swing.junit.ant;
 
-import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.ERROR;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
 import junit.framework.Test;
 
 import org.apache.tools.ant.taskdefs.optional.junit.JUnitTest;
 import org.assertj.swing.image.ImageException;
-import org.assertj.swing.junit.xml.XmlNode;
 
 /**
  * Understands a JUnit XML report formatter that takes a screenshot when a GUI test fails.
@@ -25,10 +26,14 @@ import org.assertj.swing.junit.xml.XmlNode;
  * <strong>Note:</strong> A test is consider a GUI test if it is marked with the annotation
  * <code>{@link org.assertj.swing.annotation.GUITest}</code>.
  * </p>
+ * <p>
+ * The report is written as the tests run (see <code>{@link StreamingXmlJUnitResultFormatter}</code>,) and screenshots
+ * are kept in temporary files until they are encoded into the report.
+ * </p>
  * 
  * @author Alex Ruiz
  */
-public final class ScreenshotOnFailureResultFormatter extends XmlJUnitResultFormatter {
+public final class ScreenshotOnFailureResultFormatter extends StreamingXmlJUnitResultFormatter {
 
   private ScreenshotXmlWriter screenshotXmlWriter;
 
@@ -43,26 +48,35 @@ public final class ScreenshotOnFailureResultFormatter extends XmlJUnitResultForm
     try {
       screenshotXmlWriter = new ScreenshotXmlWriter();
     } catch (ImageException e) {
-      informCannotTakeScreenshots(e);
+      writeSuiteError(e);
     }
   }
 
-  private void informCannotTakeScreenshots(ImageException error) {
-    XmlNode errorNode = xmlRootNode().addNewNode(ERROR);
-    writeErrorAndStackTrace(error, errorNode);
-  }
-
   /**
-   * A test failed. This method embeds a screenshot of the desktop if the failing test is a GUI test.
+   * A test failed. This method takes a screenshot of the desktop if the failing test is a GUI test.
    * 
    * @param test the failing test.
    * @param error the cause of the failure or error.
-   * @param target the element in the XML report containing information about the failure.
    */
   @Override
-  protected void onFailureOrError(Test test, Throwable error, XmlNode target) {
+  protected void onFailureOrError(Test test, Throwable error) {
+    if (screenshotXmlWriter == null)
+      return;
+    screenshotXmlWriter.takeScreenshot(test);
+  }
+
+  /**
+   * The "testcase" element of a failed test is being written. This method embeds the screenshot taken when the test
+   * failed, if any.
+   * 
+   * @param test the failed test.
+   * @param testCaseWriter the writer of the "testcase" element.
+   * @throws XMLStreamException if the screenshot cannot be written.
+   */
+  @Override
+  protected void onWriteFailedTest(Test test, XMLStreamWriter testCaseWriter) throws XMLStreamException {
     if (screenshotXmlWriter == null)
       return;
-    screenshotXmlWriter.writeScreenshot(target, test);
+    screenshotXmlWriter.writeScreenshot(testCaseWriter, test);
   }
 }
@@ -12,24 +12,39 @@
  */
 package org.assertj.swing.junit.ant;
 
+import static java.util.Arrays.copyOf;
+import static java.util.logging.Level.SEVERE;
+import static org.apache.tools.ant.util.FileUtils.close;
 import static org.assertj.core.util.Strings.join;
 import static org.assertj.swing.image.ImageFileExtensions.PNG;
-import static org.assertj.swing.junit.ant.ImageHandler.encodeBase64;
 import static org.assertj.swing.junit.ant.Tests.testClassNameFrom;
 import static org.assertj.swing.junit.ant.Tests.testMethodNameFrom;
-import static org.assertj.swing.junit.xml.XmlAttribute.name;
-import static org.assertj.swing.util.Strings.isNullOrEmpty;
 
-import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 
 import junit.framework.Test;
 
 import org.assertj.swing.image.ScreenshotTaker;
-import org.assertj.swing.junit.xml.XmlNode;
 
 /**
  * Understands taking a screenshot of the desktop and, encoding and writing the resulting image into a XML element.
- * 
+ * <p>
+ * Screenshots are saved as temporary PNG files when a test fails, and encoded into the XML report in small chunks when
+ * the "testcase" element of the test is written, so neither the image nor its base64 encoding is ever held in memory
+ * as a whole.
+ * </p>
+ *
  * @author Alex Ruiz
  */
 class ScreenshotXmlWriter {
@@ -37,9 +52,16 @@ class ScreenshotXmlWriter {
   private static final String SCREENSHOT_ELEMENT = "screenshot";
   private static final String SCREENSHOT_FILE_ATTRIBUTE = "file";
 
+  // a multiple of 3, so the encoded chunks can be concatenated without padding in between.
+  private static final int CHUNK_SIZE = 3 * 1024;
+
+  private static Logger logger = Logger.getAnonymousLogger();
+
   private final ScreenshotTaker screenshotTaker;
   private final GUITestRecognizer guiTestRecognizer;
 
+  private final Map<Test, File> screenshots = new HashMap<Test, File>();
+
   ScreenshotXmlWriter() {
     this(new ScreenshotTaker(), new GUITestRecognizer());
   }
@@ -49,26 +71,69 @@ class ScreenshotXmlWriter {
     this.guiTestRecognizer = guiTestRecognizer;
   }
 
-  void writeScreenshot(XmlNode target, Test test) {
-    String testClass = testClassNameFrom(test);
-    String testMethod = testMethodNameFrom(test);
-    if (!guiTestRecognizer.isGUITest(testClass, testMethod))
+  void takeScreenshot(Test test) {
+    if (screenshots.containsKey(test))
+      return;
+    if (!guiTestRecognizer.isGUITest(testClassNameFrom(test), testMethodNameFrom(test)))
       return;
-    String image = takeScreenshotAndReturnEncoded();
-    if (isNullOrEmpty(image))
+    File imageFile = null;
+    try {
+      imageFile = File.createTempFile("assertj-swing-screenshot-", "." + PNG);
+      imageFile.deleteOnExit();
+      // the taker does not overwrite existing files.
+      imageFile.delete();
+      screenshotTaker.saveDesktopAsPng(imageFile.getPath());
+      screenshots.put(test, imageFile);
+    } catch (IOException | RuntimeException e) {
+      logger.log(SEVERE, "Unable to take screenshot", e);
+      if (imageFile != null)
+        imageFile.delete();
+    }
+  }
+
+  void writeScreenshot(XMLStreamWriter target, Test test) throws XMLStreamException {
+    File imageFile = screenshots.remove(test);
+    if (imageFile == null)
       return;
-    writeScreenshotFileName(target, image, imageFileName(testClass, testMethod));
+    String imageFileName = imageFileName(testClassNameFrom(test), testMethodNameFrom(test));
+    try {
+      target.writeStartElement(SCREENSHOT_ELEMENT);
+      target.writeAttribute(SCREENSHOT_FILE_ATTRIBUTE, imageFileName);
+      writeEncoded(target, imageFile);
+      target.writeEndElement();
+    } finally {
+      imageFile.delete();
+    }
   }
 
-  private String takeScreenshotAndReturnEncoded() {
-    BufferedImage image = screenshotTaker.takeDesktopScreenshot();
-    return encodeBase64(image);
+  private void writeEncoded(XMLStreamWriter target, File imageFile) throws XMLStreamException {
+    Base64.Encoder encoder = Base64.getEncoder();
+    byte[] chunk = new byte[CHUNK_SIZE];
+    InputStream in = null;
+    try {
+      in = new FileInputStream(imageFile);
+      int length;
+      while ((length = readChunk(in, chunk)) > 0) {
+        byte[] toEncode = length == chunk.length ? chunk : copyOf(chunk, length);
+        target.writeCharacters(new String(encoder.encode(toEncode), StandardCharsets.US_ASCII));
+      }
+    } catch (IOException e) {
+      logger.log(SEVERE, "Unable to encode image", e);
+    } finally {
+      close(in);
+    }
   }
 
-  private void writeScreenshotFileName(XmlNode target, String encodedImage, String imageFileName) {
-    XmlNode screenshotNode = target.parentNode().addNewNode(SCREENSHOT_ELEMENT);
-    screenshotNode.addAttribute(name(SCREENSHOT_FILE_ATTRIBUTE).value(imageFileName));
-    screenshotNode.addText(encodedImage);
+  // fills the chunk, unless the end of the stream is reached.
+  private static int readChunk(InputStream in, byte[] chunk) throws IOException {
+    int length = 0;
+    while (length < chunk.length) {
+      int read = in.read(chunk, length, chunk.length - length);
+      if (read == -1)
+        break;
+      length += read;
+    }
+    return length;
   }
 
   private String imageFileName(String testClass, String testMethod) {
@@ -0,0 +1,471 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.junit.ant;
+
+import static java.lang.System.currentTimeMillis;
+import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.ATTR_CLASSNAME;
+import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.ATTR_ERRORS;
+import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.ATTR_FAILURES;
+import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.ATTR_MESSAGE;
+import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.ATTR_NAME;
+import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.ATTR_TESTS;
+import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.ATTR_TIME;
+import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.ATTR_TYPE;
+import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.ATTR_VALUE;
+import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.ERROR;
+import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.FAILURE;
+import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.HOSTNAME;
+import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.PROPERTIES;
+import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.PROPERTY;
+import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.SYSTEM_ERR;
+import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.SYSTEM_OUT;
+import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.TESTCASE;
+import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.TESTSUITE;
+import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.TIMESTAMP;
+import static org.apache.tools.ant.util.FileUtils.close;
+import static org.assertj.swing.junit.ant.CommonConstants.UNKNOWN;
+import static org.assertj.swing.junit.ant.CommonConstants.UTF_8;
+import static org.assertj.swing.junit.ant.Tests.testClassNameFrom;
+import static org.assertj.swing.junit.ant.Tests.testMethodNameFrom;
+import static org.assertj.swing.util.Strings.isNullOrEmpty;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import junit.framework.AssertionFailedError;
+import junit.framework.Test;
+
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.taskdefs.optional.junit.JUnitResultFormatter;
+import org.apache.tools.ant.taskdefs.optional.junit.JUnitTest;
+
+/**
+ * Understands a JUnit XML report formatter that writes the report as the tests run, instead of building the whole
+ * report in memory like <code>{@link XmlJUnitResultFormatter}</code> does. The produced XML is the same.
+ * <p>
+ * The "testcase" element of a test is written as soon as the test finishes, to a temporary file. Since the root
+ * "testsuite" element needs the statistics of the whole suite, the report is assembled when the suite ends: the root
+ * element is written to this formatter's <code>{@link OutputStream}</code>, followed by the contents of the temporary
+ * file. Memory use does not depend on the number of tests in the suite.
+ * </p>
+ */
+public class StreamingXmlJUnitResultFormatter implements JUnitResultFormatter {
+
+  private static final String LOCALHOST = "localhost";
+  private static final int COPY_BUFFER_SIZE = 8192;
+
+  private final XMLOutputFactory xmlOutputFactory = XMLOutputFactory.newInstance();
+
+  private final StackTraceFilter stackTraceFilter;
+  private final TimestampFormatter timestampFormatter;
+  private final HostNameReader hostNameReader;
+  private final StandardOutputStreams outputStreams;
+
+  private final Map<Test, RunningTest> runningTests = new LinkedHashMap<Test, RunningTest>();
+
+  private OutputStream out; // where to write the log to
+
+  private String suiteName;
+  private String hostName;
+  private String timestamp;
+
+  private File bodyFile; // the children of the root element
+  private Writer bodyOutput;
+  private XMLStreamWriter body;
+
+  /**
+   * Creates a new <code>{@link StreamingXmlJUnitResultFormatter}</code>.
+   */
+  public StreamingXmlJUnitResultFormatter() {
+    this(new StackTraceFilter(), new TimestampFormatter(), new HostNameReader(), new StandardOutputStreams());
+  }
+
+  StreamingXmlJUnitResultFormatter(StackTraceFilter stackTraceFilter, TimestampFormatter timestampFormatter,
+                                   HostNameReader hostNameReader, StandardOutputStreams outputStreams) {
+    this.stackTraceFilter = stackTraceFilter;
+    this.timestampFormatter = timestampFormatter;
+    this.hostNameReader = hostNameReader;
+    this.outputStreams = outputStreams;
+  }
+
+  /**
+   * Sets the stream the formatter is supposed to write its results to.
+   *
+   * @param out the output stream to use.
+   */
+  @Override
+  public final void setOutput(OutputStream out) {
+    this.out = out;
+  }
+
+  /**
+   * This is what the test has written to <code>System.out</code>,
+   *
+   * @param out the <code>String</code> to write.
+   */
+  @Override
+  public final void setSystemOutput(String out) {
+    formatOutput(SYSTEM_OUT, out);
+  }
+
+  /**
+   * This is what the test has written to <code>System.err</code>.
+   *
+   * @param out the <code>String</code> to write.
+   */
+  @Override
+  public final void setSystemError(String out) {
+    formatOutput(SYSTEM_ERR, out);
+  }
+
+  private void formatOutput(String type, String output) {
+    try {
+      body.writeStartElement(type);
+      writeText(body, output);
+      body.writeEndElement();
+    } catch (XMLStreamException e) {
+      throw cannotWriteLog(e);
+    }
+  }
+
+  /**
+   * The whole test suite started. This method creates the temporary file the "testcase" elements are written to.
+   *
+   * @param suite the test suite.
+   * @throws org.apache.tools.ant.BuildException if the temporary file could not be created.
+   */
+  @Override
+  public final void startTestSuite(JUnitTest suite) {
+    runningTests.clear();
+    suiteName = suite.getName();
+    hostName = localHostName();
+    timestamp = timestampFormatter.format(new Date());
+    try {
+      bodyFile = File.createTempFile("assertj-swing-junit-", ".xml");
+      bodyFile.deleteOnExit();
+      bodyOutput = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(bodyFile), UTF_8));
+      body = xmlOutputFactory.createXMLStreamWriter(bodyOutput);
+    } catch (IOException | XMLStreamException e) {
+      throw cannotWriteLog(e);
+    }
+    onStartTestSuite(suite);
+  }
+
+  private String localHostName() {
+    try {
+      return hostNameReader.localHostName();
+    } catch (UnknownHostException e) {
+      return LOCALHOST;
+    }
+  }
+
+  /**
+   * Hook for subclasses to add extra functionality after the whole test suite started.
+   *
+   * @param suite the test suite.
+   */
+  protected void onStartTestSuite(@SuppressWarnings("unused") JUnitTest suite) {
+  }
+
+  /**
+   * The whole test suite ended. This method writes the XML report to this formatter's
+   * <code>{@link OutputStream}</code> and deletes the temporary file.
+   *
+   * @param suite the test suite.
+   * @throws org.apache.tools.ant.BuildException on error.
+   */
+  @Override
+  public final void endTestSuite(JUnitTest suite) {
+    try {
+      // tests that failed but were never reported as finished.
+      for (Test test : new ArrayList<Test>(runningTests.keySet()))
+        endTest(test);
+      body.flush();
+      body.close();
+      close(bodyOutput);
+      if (out == null)
+        return;
+      writeReport(suite);
+    } catch (IOException | XMLStreamException e) {
+      throw cannotWriteLog(e);
+    } finally {
+      close(bodyOutput);
+      bodyFile.delete();
+    }
+  }
+
+  private void writeReport(JUnitTest suite) throws IOException, XMLStreamException {
+    Writer writer = null;
+    try {
+      writer = new BufferedWriter(new OutputStreamWriter(out, UTF_8));
+      XMLStreamWriter xml = xmlOutputFactory.createXMLStreamWriter(writer);
+      xml.writeStartDocument(UTF_8, "1.0");
+      xml.writeStartElement(TESTSUITE);
+      xml.writeAttribute(ATTR_NAME, suiteName == null ? UNKNOWN : suiteName);
+      xml.writeAttribute(HOSTNAME, hostName);
+      xml.writeAttribute(TIMESTAMP, timestamp);
+      xml.writeAttribute(ATTR_TESTS, String.valueOf(suite.runCount()));
+      xml.writeAttribute(ATTR_FAILURES, String.valueOf(suite.failureCount()));
+      xml.writeAttribute(ATTR_ERRORS, String.valueOf(suite.errorCount()));
+      xml.writeAttribute(ATTR_TIME, String.valueOf(suite.getRunTime() / 1000.0));
+      writeProperties(xml, suite.getProperties());
+      // everything written so far must reach the writer before the body is copied to it.
+      xml.flush();
+      copyBodyTo(writer);
+      xml.writeEndElement();
+      xml.writeEndDocument();
+      xml.flush();
+      writer.flush();
+    } finally {
+      if (!outputStreams.isStandardOutOrErr(out))
+        close(writer);
+    }
+  }
+
+  private void writeProperties(XMLStreamWriter xml, Properties properties) throws XMLStreamException {
+    xml.writeStartElement(PROPERTIES);
+    if (properties != null) {
+      Enumeration<?> propertyNames = properties.propertyNames();
+      while (propertyNames.hasMoreElements()) {
+        String propertyName = (String) propertyNames.nextElement();
+        xml.writeEmptyElement(PROPERTY);
+        xml.writeAttribute(ATTR_NAME, propertyName);
+        xml.writeAttribute(ATTR_VALUE, xmlSafe(properties.getProperty(propertyName)));
+      }
+    }
+    xml.writeEndElement();
+  }
+
+  private void copyBodyTo(Writer writer) throws IOException {
+    Reader reader = null;
+    try {
+      reader = new BufferedReader(new InputStreamReader(new FileInputStream(bodyFile), UTF_8));
+      char[] buffer = new char[COPY_BUFFER_SIZE];
+      int read;
+      while ((read = reader.read(buffer)) != -1)
+        writer.write(buffer, 0, read);
+    } finally {
+      close(reader);
+    }
+  }
+
+  /**
+   * A new test is started.
+   *
+   * @param test the test.
+   */
+  @Override
+  public final void startTest(Test test) {
+    runningTests.put(test, new RunningTest(currentTimeMillis()));
+  }
+
+  /**
+   * A test is finished. This method writes the "testcase" element of the test.
+   *
+   * @param test the test.
+   * @throws org.apache.tools.ant.BuildException on error.
+   */
+  @Override
+  public final void endTest(Test test) {
+    RunningTest runningTest = runningTests.remove(test);
+    if (runningTest == null)
+      runningTest = new RunningTest(currentTimeMillis());
+    try {
+      writeTestCase(test, runningTest);
+    } catch (XMLStreamException e) {
+      throw cannotWriteLog(e);
+    }
+  }
+
+  private void writeTestCase(Test test, RunningTest runningTest) throws XMLStreamException {
+    String methodName = testMethodNameFrom(test);
+    body.writeStartElement(TESTCASE);
+    body.writeAttribute(ATTR_NAME, methodName == null ? UNKNOWN : methodName);
+    body.writeAttribute(ATTR_CLASSNAME, testClassNameFrom(test));
+    body.writeAttribute(ATTR_TIME, String.valueOf((currentTimeMillis() - runningTest.startTime) / 1000.0));
+    for (TestFailure failure : runningTest.failures)
+      writeError(failure.type, failure.error);
+    if (!runningTest.failures.isEmpty())
+      onWriteFailedTest(test, body);
+    body.writeEndElement();
+  }
+
+  /**
+   * A test failed.
+   *
+   * @param test the test.
+   * @param failedAssertion the failed assertion.
+   */
+  @Override
+  public final void addFailure(Test test, AssertionFailedError failedAssertion) {
+    addFailure(test, (Throwable) failedAssertion);
+  }
+
+  /**
+   * A test failed.
+   *
+   * @param test the test.
+   * @param error the exception.
+   */
+  public final void addFailure(Test test, Throwable error) {
+    formatError(FAILURE, test, error);
+  }
+
+  /**
+   * An error occurred while running the test.
+   *
+   * @param test the test.
+   * @param error the error.
+   */
+  @Override
+  public final void addError(Test test, Throwable error) {
+    formatError(ERROR, test, error);
+  }
+
+  private void formatError(String type, Test test, Throwable error) {
+    if (test == null) {
+      writeSuiteError(type, error);
+      return;
+    }
+    RunningTest runningTest = runningTests.get(test);
+    if (runningTest == null) {
+      runningTest = new RunningTest(currentTimeMillis());
+      runningTests.put(test, runningTest);
+    }
+    runningTest.failures.add(new TestFailure(type, error));
+    onFailureOrError(test, error);
+  }
+
+  /**
+   * Writes the given error as an "error" element of the test suite.
+   *
+   * @param error the error to write.
+   * @throws org.apache.tools.ant.BuildException on error.
+   */
+  protected final void writeSuiteError(Throwable error) {
+    writeSuiteError(ERROR, error);
+  }
+
+  private void writeSuiteError(String type, Throwable error) {
+    try {
+      writeError(type, error);
+    } catch (XMLStreamException e) {
+      throw cannotWriteLog(e);
+    }
+  }
+
+  private void writeError(String type, Throwable error) throws XMLStreamException {
+    body.writeStartElement(type);
+    String message = error.getMessage();
+    if (!isNullOrEmpty(message))
+      body.writeAttribute(ATTR_MESSAGE, xmlSafe(message));
+    body.writeAttribute(ATTR_TYPE, error.getClass().getName());
+    writeText(body, stackTraceFilter.filter(error));
+    body.writeEndElement();
+  }
+
+  /**
+   * Hook for subclasses to add extra functionality right after a test failure or a test execution error. The
+   * "testcase" element of the test is written later, when the test ends.
+   *
+   * @param test the executing test.
+   * @param error the reason of the failure or error.
+   */
+  protected void onFailureOrError(@SuppressWarnings("unused") Test test, @SuppressWarnings("unused") Throwable error) {
+  }
+
+  /**
+   * Hook for subclasses to write extra elements into the "testcase" element of a test that failed or had an error,
+   * after the elements describing its failures and errors.
+   *
+   * @param test the failed test.
+   * @param testCaseWriter the writer of the "testcase" element.
+   * @throws XMLStreamException if the extra elements cannot be written.
+   */
+  protected void onWriteFailedTest(@SuppressWarnings("unused") Test test,
+                                   @SuppressWarnings("unused") XMLStreamWriter testCaseWriter)
+      throws XMLStreamException {
+  }
+
+  private static void writeText(XMLStreamWriter xml, String text) throws XMLStreamException {
+    if (text != null)
+      xml.writeCharacters(xmlSafe(text));
+  }
+
+  // StAX writers do not check characters, and test output may contain characters XML 1.0 does not allow.
+  private static String xmlSafe(String text) {
+    if (text == null)
+      return "";
+    StringBuilder safe = null;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (isAllowedInXml(c)) {
+        if (safe != null)
+          safe.append(c);
+        continue;
+      }
+      if (safe == null)
+        safe = new StringBuilder(text.length()).append(text, 0, i);
+    }
+    return safe == null ? text : safe.toString();
+  }
+
+  private static boolean isAllowedInXml(char c) {
+    return c == '\t' || c == '\n' || c == '\r' || (c >= 0x20 && c <= 0xD7FF) || (c >= 0xE000 && c <= 0xFFFD)
+        || Character.isSurrogate(c);
+  }
+
+  private static BuildException cannotWriteLog(Exception cause) {
+    return new BuildException("Unable to write log file", cause);
+  }
+
+  private static class RunningTest {
+    final long startTime;
+    final List<TestFailure> failures = new ArrayList<TestFailure>();
+
+    RunningTest(long startTime) {
+      this.startTime = startTime;
+    }
+  }
+
+  private static class TestFailure {
+    final String type;
+    final Throwable error;
+
+    TestFailure(String type, Throwable error) {
+      this.type = type;
+      this.error = error;
+    }
+  }
+}
@@ -30,6 +30,10 @@ import org.assertj.swing.junit.xml.XmlNode;
 
 /**
  * Understands a copy of the original <code>XMLJUnitResultFormatter</code>, with flexibility for extension.
+ * <p>
+ * The whole report is kept in memory until the test suite ends. For big test suites, use
+ * <code>{@link StreamingXmlJUnitResultFormatter}</code> instead.
+ * </p>
  *
  * @author Alex Ruiz
  */
@@ -13,6 +13,7 @@
 package org.assertj.swing.junit.runner;
 
 import static java.io.File.separator;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.logging.Level.WARNING;
 import static org.assertj.core.util.Strings.concat;
 import static org.assertj.core.util.Strings.quote;
@@ -22,6 +23,7 @@ import java.awt.GraphicsEnvironment;
 import java.io.File;
 import java.util.logging.Logger;
 
+import org.assertj.swing.image.AsyncImageFileWriter;
 import org.assertj.swing.image.NoopScreenshotTaker;
 import org.assertj.swing.image.ScreenshotTaker;
 import org.assertj.swing.image.ScreenshotTakerIF;
@@ -32,6 +34,7 @@ import org.assertj.swing.image.ScreenshotTakerIF;
  * @author Alex Ruiz
  */
 public class FailureScreenshotTaker {
+  private static final long FLUSH_TIMEOUT_SECONDS = 30;
 
   private static Logger logger = Logger.getAnonymousLogger();
 
@@ -53,17 +56,28 @@ public class FailureScreenshotTaker {
   }
 
   /**
-   * Saves a screenshot of the desktop using the given description as the file name.
+   * Saves a screenshot of the desktop using the given description as the file name. The screenshot is written to the
+   * file system in the background, so the next test does not wait for it.
    *
    * @param failedTest the description of the test failure.
    */
   public void saveScreenshot(String failedTest) {
     try {
       String fileName = concat(imageFolder.getCanonicalPath(), separator, failedTest, ".", PNG);
-      screenshotTaker.saveDesktopAsPng(fileName);
-      logger.info(concat("Screenshot of failed test saved as ", quote(fileName)));
+      screenshotTaker.saveDesktopAsPngInBackground(fileName).thenAccept(saved -> {
+        if (saved) {
+          logger.info(concat("Screenshot of failed test saved as ", quote(fileName)));
+        }
+      });
     } catch (Exception e) {
       logger.log(WARNING, concat("Unable to take screenshot of failed test ", quote(failedTest)), e);
     }
   }
+
+  /**
+   * Waits for the screenshots saved so far to be written to the file system.
+   */
+  public void flush() {
+    AsyncImageFileWriter.instance().flush(FLUSH_TIMEOUT_SECONDS, SECONDS);
+  }
 }
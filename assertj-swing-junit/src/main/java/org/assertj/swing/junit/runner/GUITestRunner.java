@@ -12,6 +12,7 @@
  */
 package org.assertj.swing.junit.runner;
 
+import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.InitializationError;
@@ -46,4 +47,16 @@ public class GUITestRunner extends BlockJUnit4ClassRunner {
   protected Statement methodInvoker(FrameworkMethod method, Object test) {
     return new MethodInvoker(method, test, screenshotTaker);
   }
+
+  /**
+   * Runs the tests and then waits for the screenshots of the failed ones to be written to the file system.
+   */
+  @Override
+  public void run(RunNotifier notifier) {
+    try {
+      super.run(notifier);
+    } finally {
+      screenshotTaker.flush();
+    }
+  }
 }
@@ -19,10 +19,10 @@ import static org.easymock.EasyMock.expectLastCall;
 import static org.easymock.classextension.EasyMock.createMock;
 import static org.fest.reflect.core.Reflection.field;
 
+import java.io.ByteArrayOutputStream;
 import java.security.PrivilegedAction;
 
 import org.apache.tools.ant.taskdefs.optional.junit.JUnitTest;
-import org.assertj.swing.junit.xml.XmlNode;
 import org.fest.mocks.EasyMockTemplate;
 import org.junit.Before;
 import org.junit.Ignore;
@@ -30,7 +30,7 @@ import org.junit.Test;
 
 /**
  * Tests for
- * <code>{@link ScreenshotOnFailureResultFormatter#onFailureOrError(junit.framework.Test, Throwable, XmlNode)}</code>.
+ * <code>{@link ScreenshotOnFailureResultFormatter#onFailureOrError(junit.framework.Test, Throwable)}</code>.
  * 
  * @author Alex Ruiz
  */
@@ -49,11 +49,12 @@ public class ScreenshotOnFailureResultFormatter_onFailureOrError_Test {
   public void should_Write_Error_In_XML_Document_If_ScreenshotWriter_Could_Not_Be_Created() {
     headlessAWT(true); // force an ImageException to be thrown
     try {
-      formatter.startTestSuite(new JUnitTest());
-      XmlNode root = formatter.xmlRootNode();
-      assertThat(root.size()).isEqualTo(2);
-      XmlNode errorNode = root.child(1);
-      assertThat(errorNode.name()).isEqualTo("error");
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      formatter.setOutput(output);
+      JUnitTest suite = new JUnitTest("test");
+      formatter.startTestSuite(suite);
+      formatter.endTestSuite(suite);
+      assertThat(new String(output.toByteArray())).contains("<error");
     } finally {
       headlessAWT(false);
     }
@@ -74,17 +75,16 @@ public class ScreenshotOnFailureResultFormatter_onFailureOrError_Test {
     final ScreenshotXmlWriter writer = createMock(ScreenshotXmlWriter.class);
     updateWriterInFormatter(writer);
     final junit.framework.Test test = failingTest();
-    final XmlNode errorElement = createMock(XmlNode.class);
     new EasyMockTemplate(writer) {
       @Override
       protected void expectations() {
-        writer.writeScreenshot(errorElement, test);
+        writer.takeScreenshot(test);
         expectLastCall().once();
       }
 
       @Override
       protected void codeToTest() {
-        formatter.onFailureOrError(test, new Throwable(), errorElement);
+        formatter.onFailureOrError(test, new Throwable());
       }
     }.run();
   }
@@ -92,7 +92,7 @@ public class ScreenshotOnFailureResultFormatter_onFailureOrError_Test {
   @Test
   public void should_Not_Take_Screenshot_When_Test_Fails_If_ScreenshotWriter_Is_Null() {
     updateWriterInFormatter(null);
-    formatter.onFailureOrError(failingTest(), new Throwable(), createMock(XmlNode.class));
+    formatter.onFailureOrError(failingTest(), new Throwable());
     // no assertions to be made...are we sure this test is meaningful?
   }
 
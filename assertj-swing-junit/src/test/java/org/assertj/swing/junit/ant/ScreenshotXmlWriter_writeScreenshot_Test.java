@@ -14,19 +14,28 @@ package org.assertj.swing.junit.ant;
 
 import static java.awt.image.BufferedImage.TYPE_BYTE_BINARY;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.swing.junit.ant.ImageHandler.encodeBase64;
+import static org.assertj.swing.junit.ant.ImageHandler.decodeBase64;
 import static org.assertj.swing.junit.ant.Tests.testClassNameFrom;
 import static org.assertj.swing.junit.ant.Tests.testMethodNameFrom;
 import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.expectLastCall;
+import static org.easymock.EasyMock.getCurrentArguments;
+import static org.easymock.EasyMock.isA;
 import static org.easymock.classextension.EasyMock.createMock;
 
 import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.StringWriter;
+
+import javax.imageio.ImageIO;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 
 import junit.framework.TestResult;
 
 import org.assertj.swing.image.ScreenshotTaker;
-import org.assertj.swing.junit.xml.XmlDocument;
-import org.assertj.swing.junit.xml.XmlNode;
+import org.easymock.IAnswer;
 import org.fest.mocks.EasyMockTemplate;
 import org.junit.Before;
 import org.junit.Test;
@@ -38,18 +47,17 @@ import org.junit.Test;
  */
 public class ScreenshotXmlWriter_writeScreenshot_Test {
 
-  private XmlNode root;
-  private XmlNode errorNode;
+  private StringWriter output;
+  private XMLStreamWriter xml;
   private ScreenshotTaker screenshotTaker;
   private GUITestRecognizer guiTestRecognizer;
   private MyTest test;
   private ScreenshotXmlWriter writer;
 
   @Before
-  public void setUp() {
-    XmlDocument document = new XmlDocument();
-    root = document.newRoot("root");
-    errorNode = root.addNewNode("error");
+  public void setUp() throws XMLStreamException {
+    output = new StringWriter();
+    xml = XMLOutputFactory.newInstance().createXMLStreamWriter(output);
     screenshotTaker = createMock(ScreenshotTaker.class);
     guiTestRecognizer = createMock(GUITestRecognizer.class);
     test = new MyTest();
@@ -63,17 +71,28 @@ public class ScreenshotXmlWriter_writeScreenshot_Test {
       @Override
       protected void expectations() {
         expect(guiTestRecognizer.isGUITest(testClassNameFrom(test), testMethodNameFrom(test))).andReturn(true);
-        expect(screenshotTaker.takeDesktopScreenshot()).andReturn(image);
+        screenshotTaker.saveDesktopAsPng(isA(String.class));
+        expectLastCall().andAnswer(new IAnswer<Object>() {
+          @Override
+          public Object answer() throws Throwable {
+            ImageIO.write(image, "png", new File((String) getCurrentArguments()[0]));
+            return null;
+          }
+        });
       }
 
       @Override
-      protected void codeToTest() {
-        writer.writeScreenshot(errorNode, test);
-        assertThat(root.size()).isEqualTo(2);
-        assertThat(root.child(0)).isEqualTo(errorNode);
-        XmlNode secondChild = root.child(1);
-        assertThat(secondChild.name()).isEqualTo("screenshot");
-        assertThat(secondChild.text()).isEqualTo(encodeBase64(image));
+      protected void codeToTest() throws XMLStreamException {
+        writer.takeScreenshot(test);
+        writer.writeScreenshot(xml, test);
+        xml.flush();
+        String screenshotXml = output.toString();
+        String fileName = testClassNameFrom(test) + "." + testMethodNameFrom(test) + ".png";
+        assertThat(screenshotXml).startsWith("<screenshot file=\"" + fileName + "\">").endsWith("</screenshot>");
+        String encoded = screenshotXml.substring(screenshotXml.indexOf('>') + 1, screenshotXml.lastIndexOf('<'));
+        BufferedImage decoded = decodeBase64(encoded);
+        assertThat(decoded.getWidth()).isEqualTo(10);
+        assertThat(decoded.getHeight()).isEqualTo(10);
       }
     }.run();
   }
@@ -87,10 +106,11 @@ public class ScreenshotXmlWriter_writeScreenshot_Test {
       }
 
       @Override
-      protected void codeToTest() {
-        writer.writeScreenshot(errorNode, test);
-        assertThat(root.size()).isEqualTo(1);
-        assertThat(root.child(0)).isEqualTo(errorNode);
+      protected void codeToTest() throws XMLStreamException {
+        writer.takeScreenshot(test);
+        writer.writeScreenshot(xml, test);
+        xml.flush();
+        assertThat(output.toString()).isEmpty();
       }
     }.run();
   }
@@ -0,0 +1,139 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.junit.ant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import junit.framework.AssertionFailedError;
+import junit.framework.TestResult;
+
+import org.apache.tools.ant.taskdefs.optional.junit.JUnitTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/**
+ * Tests for <code>{@link StreamingXmlJUnitResultFormatter#endTestSuite(JUnitTest)}</code>.
+ */
+public class StreamingXmlJUnitResultFormatter_endTestSuite_Test {
+
+  private ByteArrayOutputStream output;
+  private StreamingXmlJUnitResultFormatter formatter;
+  private JUnitTest suite;
+
+  @Before
+  public void setUp() {
+    output = new ByteArrayOutputStream();
+    formatter = new StreamingXmlJUnitResultFormatter();
+    formatter.setOutput(output);
+    suite = new JUnitTest("test");
+    formatter.startTestSuite(suite);
+  }
+
+  @Test
+  public void should_Write_Suite_Statistics_And_Environment_Info() throws Exception {
+    suite.setCounts(18, 8, 6);
+    formatter.endTestSuite(suite);
+    Element root = parseOutput();
+    assertThat(root.getTagName()).isEqualTo("testsuite");
+    assertThat(root.getAttribute("name")).isEqualTo("test");
+    assertThat(root.getAttribute("tests")).isEqualTo("18");
+    assertThat(root.getAttribute("failures")).isEqualTo("8");
+    assertThat(root.getAttribute("errors")).isEqualTo("6");
+    assertThat(root.getAttribute("hostname")).isNotEmpty();
+    assertThat(root.getAttribute("timestamp")).isNotEmpty();
+    assertThat(root.getElementsByTagName("properties").getLength()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_Write_Finished_Tests_And_Their_Failures() throws Exception {
+    MyTest passed = new MyTest("passed");
+    formatter.startTest(passed);
+    formatter.endTest(passed);
+    MyTest failed = new MyTest("failed");
+    formatter.startTest(failed);
+    formatter.addFailure(failed, new AssertionFailedError("Thrown on purpose"));
+    formatter.endTest(failed);
+    formatter.endTestSuite(suite);
+    NodeList testCases = parseOutput().getElementsByTagName("testcase");
+    assertThat(testCases.getLength()).isEqualTo(2);
+    Element passedTestCase = (Element) testCases.item(0);
+    assertThat(passedTestCase.getAttribute("name")).isEqualTo("passed");
+    assertThat(passedTestCase.getAttribute("classname")).isEqualTo(MyTest.class.getName());
+    assertThat(passedTestCase.getChildNodes().getLength()).isEqualTo(0);
+    Element failedTestCase = (Element) testCases.item(1);
+    assertThat(failedTestCase.getAttribute("name")).isEqualTo("failed");
+    Element failure = (Element) failedTestCase.getElementsByTagName("failure").item(0);
+    assertThat(failure.getAttribute("message")).isEqualTo("Thrown on purpose");
+    assertThat(failure.getAttribute("type")).isEqualTo("junit.framework.AssertionFailedError");
+    assertThat(failure.getTextContent()).startsWith("junit.framework.AssertionFailedError: Thrown on purpose");
+  }
+
+  @Test
+  public void should_Write_Failed_Tests_That_Never_Ended() throws Exception {
+    MyTest failed = new MyTest("failed");
+    formatter.startTest(failed);
+    formatter.addError(failed, new AssertionFailedError("Thrown on purpose"));
+    formatter.endTestSuite(suite);
+    NodeList testCases = parseOutput().getElementsByTagName("testcase");
+    assertThat(testCases.getLength()).isEqualTo(1);
+    assertThat(((Element) testCases.item(0)).getElementsByTagName("error").getLength()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_Write_Console_Output_Without_Characters_Not_Allowed_In_Xml() throws Exception {
+    formatter.setSystemOutput("Hello\u0000 World!");
+    formatter.endTestSuite(suite);
+    Element systemOut = (Element) parseOutput().getElementsByTagName("system-out").item(0);
+    assertThat(systemOut.getTextContent()).isEqualTo("Hello World!");
+  }
+
+  @Test
+  public void should_Not_Throw_Error_If_Output_Is_Null() {
+    formatter.setOutput(null);
+    formatter.endTestSuite(suite);
+    assertThat(output.toByteArray()).isEmpty();
+  }
+
+  private Element parseOutput() throws Exception {
+    ByteArrayInputStream in = new ByteArrayInputStream(output.toByteArray());
+    return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(in).getDocumentElement();
+  }
+
+  public static class MyTest implements junit.framework.Test {
+    private final String name;
+
+    MyTest(String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public int countTestCases() {
+      return 1;
+    }
+
+    @Override
+    public void run(TestResult result) {
+    }
+  }
+}
@@ -13,9 +13,9 @@
 package org.assertj.swing.junit.runner;
 
 import static java.io.File.separator;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.util.Strings.concat;
 import static org.easymock.EasyMock.expect;
-import static org.easymock.EasyMock.expectLastCall;
 import static org.easymock.classextension.EasyMock.createMock;
 
 import java.io.File;
@@ -50,8 +50,8 @@ public class FailureScreenshotTaker_saveScreenshot_Test {
       @Override
       protected void expectations() throws Exception {
         expect(imageFolder.getCanonicalPath()).andReturn("myPath");
-        screenshotTaker.saveDesktopAsPng(concat("myPath", separator, "testName.png"));
-        expectLastCall().once();
+        String fileName = concat("myPath", separator, "testName.png");
+        expect(screenshotTaker.saveDesktopAsPngInBackground(fileName)).andReturn(completedFuture(true));
       }
 
       @Override
@@ -13,14 +13,20 @@
 package org.assertj.swing.testng.listener;
 
 import static java.io.File.separator;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.logging.Level.SEVERE;
+import static java.util.logging.Level.WARNING;
 import static org.assertj.core.util.Strings.concat;
 import static org.assertj.core.util.Strings.quote;
 import static org.assertj.swing.testng.listener.ScreenshotFileNameGenerator.screenshotFileNameFrom;
-import static org.assertj.swing.util.Strings.isNullOrEmpty;
 
 import java.awt.GraphicsEnvironment;
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Logger;
 
 import org.assertj.core.util.VisibleForTesting;
@@ -62,12 +68,17 @@ import org.testng.Reporter;
  */
 public class ScreenshotOnFailureListener extends AbstractTestListener {
 
+  private static final long FLUSH_TIMEOUT_SECONDS = 30;
+
   private static Logger logger = Logger.getAnonymousLogger();
 
   private ScreenshotTakerIF screenshotTaker;
   private OutputDirectory output;
   private boolean ready;
 
+  // completed once a screenshot was saved and, if it was, linked from the report.
+  private final List<CompletableFuture<Void>> screenshotsInProgress = new CopyOnWriteArrayList<>();
+
   /**
    * Creates a new <code>{@link ScreenshotOnFailureListener}</code>.
    */
@@ -98,8 +109,31 @@ public class ScreenshotOnFailureListener extends AbstractTestListener {
   }
 
   /**
-   * When a test fails, this method takes a screenshot of the desktop and adds an hyperlink to the screenshot it in the
-   * HTML test report.
+   * Waits for the screenshots taken during the test run to be written to the output directory, and linked from the
+   * HTML test report, before the report is generated.
+   *
+   * @param context the given method context.
+   */
+  @Override
+  public void onFinish(ITestContext context) {
+    if (!ready)
+      return;
+    CompletableFuture<?>[] screenshots = screenshotsInProgress.toArray(new CompletableFuture<?>[0]);
+    try {
+      CompletableFuture.allOf(screenshots).get(FLUSH_TIMEOUT_SECONDS, SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException | TimeoutException e) {
+      logger.log(WARNING, "Unable to wait for the screenshots of failed tests to be saved", e);
+    }
+    for (CompletableFuture<?> screenshot : screenshots) {
+      screenshotsInProgress.remove(screenshot);
+    }
+  }
+
+  /**
+   * When a test fails, this method takes a screenshot of the desktop and, once it is written to the file system in the
+   * background, adds an hyperlink to the screenshot in the HTML test report.
    *
    * @param result contains information about the failing test.
    */
@@ -107,12 +141,27 @@ public class ScreenshotOnFailureListener extends AbstractTestListener {
   public void onTestFailure(ITestResult result) {
     if (!ready || !isGUITest(result))
       return;
-    String screenshotFileName = takeScreenshotAndReturnFileName(result);
-    if (isNullOrEmpty(screenshotFileName))
+    String imageName = screenshotFileNameFrom(result);
+    CompletableFuture<Boolean> saved = takeScreenshot(imageName);
+    if (saved == null)
       return;
-    logger.info(concat("Screenshot of desktop saved as: ", quote(screenshotFileName)));
+    screenshotsInProgress.add(saved.thenAccept(success -> {
+      if (success) {
+        logger.info(concat("Screenshot of desktop saved as: ", quote(imageName)));
+        addScreenshotLink(result, imageName);
+      }
+    }));
+  }
+
+  // the link may be added in the thread that wrote the screenshot, which is not the one running the test.
+  private static void addScreenshotLink(ITestResult result, String imageName) {
+    ITestResult current = Reporter.getCurrentTestResult();
     Reporter.setCurrentTestResult(result);
-    Reporter.log(concat("<a href=\"", screenshotFileName, "\">Screenshot</a>"));
+    try {
+      Reporter.log(concat("<a href=\"", imageName, "\">Screenshot</a>"));
+    } finally {
+      Reporter.setCurrentTestResult(current);
+    }
   }
 
   private static boolean isGUITest(ITestResult testResult) {
@@ -121,16 +170,14 @@ public class ScreenshotOnFailureListener extends AbstractTestListener {
     return GUITestFinder.isGUITest(realClass, testMethod);
   }
 
-  private String takeScreenshotAndReturnFileName(ITestResult result) {
-    String imageName = screenshotFileNameFrom(result);
+  private CompletableFuture<Boolean> takeScreenshot(String imageName) {
     String imagePath = concat(output(), separator, imageName);
     try {
       output.createIfNecessary();
-      screenshotTaker.saveDesktopAsPng(imagePath);
+      return screenshotTaker.saveDesktopAsPngInBackground(imagePath);
     } catch (Exception e) {
       logger.log(SEVERE, e.getMessage(), e);
       return null;
     }
-    return imageName;
   }
 }
@@ -22,7 +22,8 @@ import org.testng.annotations.BeforeMethod;
 /**
  * Understands a template for test cases that use AssertJ-Swing and TestNG. This template installs a
  * <code>{@link FailOnThreadViolationRepaintManager}</code> to catch violations of Swing thread rules and manages both
- * creation and clean up of a <code>{@link org.assertj.swing.core.Robot}</code>.
+ * creation and clean up of a <code>{@link org.assertj.swing.core.Robot}</code>. To run tests in parallel, each worker
+ * JVM can be started on its own display, described by overriding <code>{@link #displayAssignment()}</code>.
  *
  * @author Alex Ruiz
  */
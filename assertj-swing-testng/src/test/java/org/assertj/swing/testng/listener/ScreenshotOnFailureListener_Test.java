@@ -70,6 +70,7 @@ public class ScreenshotOnFailureListener_Test {
   public void should_Take_Screenshot_On_Test_Failure() throws Exception {
     setUpStubsForScreenshot();
     listener.onTestFailure(testResult);
+    listener.onFinish(testContext);
     String imageFileName = screenshotFileName();
     String screenshotPath = concat(testContext.getOutputDirectory(), imageFileName);
     assertThat(readImageFrom(screenshotPath)).hasSize(Toolkit.getDefaultToolkit().getScreenSize());
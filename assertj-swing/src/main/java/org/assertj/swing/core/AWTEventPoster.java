@@ -18,6 +18,7 @@ import java.awt.AWTEvent;
 import java.awt.Component;
 import java.awt.EventQueue;
 import java.awt.Toolkit;
+import java.util.List;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -53,7 +54,26 @@ class AWTEventPoster {
     if (eventQueue != null) {
       eventQueue.postEvent(event);
     }
-    pause(settings.delayBetweenEvents());
+    pauseBetweenEvents();
+  }
+
+  // Post the given events, in order, to the corresponding event queue for the given component, without waiting between
+  // events.
+  void postEvents(@Nullable Component c, @Nonnull List<? extends AWTEvent> events) {
+    EventQueue eventQueue = eventQueueFor(c);
+    for (AWTEvent event : events) {
+      inputState.update(event);
+      if (eventQueue != null) {
+        eventQueue.postEvent(event);
+      }
+    }
+    pauseBetweenEvents();
+  }
+
+  private void pauseBetweenEvents() {
+    if (!settings.timingProfile().skipsFixedDelays()) {
+      pause(settings.delayBetweenEvents());
+    }
   }
 
   /* Usually only needed when dealing with Applets. */
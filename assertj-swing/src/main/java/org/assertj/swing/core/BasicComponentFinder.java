@@ -16,14 +16,13 @@ import static java.lang.System.lineSeparator;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.core.util.Strings.concat;
+import static org.assertj.swing.core.HierarchyDump.UNLIMITED;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
 import static org.assertj.swing.format.Formatting.format;
 import static org.assertj.swing.hierarchy.NewHierarchy.ignoreExistingComponents;
 
 import java.awt.Component;
 import java.awt.Container;
-import java.io.ByteArrayOutputStream;
-import java.io.PrintStream;
 import java.util.Collection;
 
 import javax.annotation.Nonnull;
@@ -35,6 +34,7 @@ import org.assertj.swing.exception.ComponentLookupException;
 import org.assertj.swing.hierarchy.ComponentHierarchy;
 import org.assertj.swing.hierarchy.ExistingHierarchy;
 import org.assertj.swing.hierarchy.SingleComponentHierarchy;
+import org.assertj.swing.util.ToolkitProvider;
 
 /**
  * Default implementation of {@link ComponentFinder}.
@@ -49,6 +49,7 @@ public final class BasicComponentFinder implements ComponentFinder {
   private final Settings settings;
 
   private final FinderDelegate finderDelegate = new FinderDelegate();
+  private ComponentIndex index;
 
   private boolean includeHierarchyInComponentLookupException;
 
@@ -265,11 +266,26 @@ public final class BasicComponentFinder implements ComponentFinder {
     return find(hierarchy(root), m);
   }
 
+  /**
+   * Same as {@link #find(Container, ComponentMatcher)}, except that, if the lookup fails, the component hierarchy is
+   * only printed if the message of the thrown {@link ComponentLookupException} is read. Meant for callers that expect
+   * lookups to fail and usually drop the exception, like {@link ComponentFoundCondition}.
+   */
+  @RunsInEDT
+  @Nonnull Component findWithLazyFailureMessage(@Nullable Container root, @Nonnull ComponentMatcher m) {
+    return find(hierarchy(root), m, true);
+  }
+
   @RunsInEDT
   @Nonnull private Component find(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m) {
-    Collection<Component> found = finderDelegate.find(h, m);
+    return find(h, m, false);
+  }
+
+  @RunsInEDT
+  @Nonnull private Component find(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m, boolean lazyMessage) {
+    Collection<Component> found = findAll(h, m);
     if (found.isEmpty()) {
-      throw componentNotFound(h, m);
+      throw componentNotFound(h, m, lazyMessage);
     }
     if (found.size() > 1) {
       throw multipleComponentsFound(found, m);
@@ -278,29 +294,31 @@ public final class BasicComponentFinder implements ComponentFinder {
   }
 
   @RunsInEDT
-  @Nonnull private ComponentLookupException componentNotFound(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m) {
+  @Nonnull private ComponentLookupException componentNotFound(@Nonnull ComponentHierarchy h,
+                                                              @Nonnull ComponentMatcher m, boolean lazyMessage) {
     String message = concat("Unable to find component using matcher ", m, ".");
-    if (includeHierarchyIfComponentNotFound()) {
-      message = concat(message, lineSeparator(), lineSeparator(), "Component hierarchy:", lineSeparator(),
-                       formattedHierarchy(root(h)));
+    if (!includeHierarchyIfComponentNotFound()) {
+      throw new ComponentLookupException(message);
     }
-    throw new ComponentLookupException(message);
+    if (lazyMessage) {
+      throw new ComponentLookupException(message, () -> hierarchyMessage(h, m));
+    }
+    // printed right away: the windows may be disposed (e.g. by a test's clean up) by the time the message is read.
+    throw new ComponentLookupException(concat(message, hierarchyMessage(h, m)));
   }
 
-  @Nullable private static Container root(@Nullable ComponentHierarchy h) {
-    if (h instanceof SingleComponentHierarchy) {
-      return ((SingleComponentHierarchy) h).root();
-    }
-    return null;
+  @RunsInEDT
+  @Nonnull private String hierarchyMessage(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m) {
+    return concat(lineSeparator(), lineSeparator(), "Component hierarchy:", lineSeparator(), formattedHierarchy(h, m));
   }
 
   @RunsInEDT
-  @Nonnull private String formattedHierarchy(@Nullable Container root) {
-    ByteArrayOutputStream out = new ByteArrayOutputStream();
-    PrintStream printStream = new PrintStream(out, true);
-    printer.printComponents(printStream, root);
-    printStream.flush();
-    return new String(out.toByteArray());
+  @Nonnull private String formattedHierarchy(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m) {
+    if (settings == null) {
+      return new HierarchyDump(h, UNLIMITED, UNLIMITED).print();
+    }
+    HierarchyDump dump = new HierarchyDump(h, settings.lookupFailureMaxDepth(), settings.lookupFailureMaxComponents());
+    return settings.lookupFailureNearestSubtree() ? dump.printAroundClosestMatch(m) : dump.print();
   }
 
   @RunsInEDT
@@ -337,25 +355,81 @@ public final class BasicComponentFinder implements ComponentFinder {
 
   @Override
   @Nonnull public Collection<Component> findAll(@Nonnull ComponentMatcher m) {
-    return finderDelegate.find(hierarchy, m);
+    return findAll(hierarchy, m);
   }
 
   @Override
   @Nonnull public Collection<Component> findAll(@Nonnull Container root, @Nonnull ComponentMatcher m) {
-    return finderDelegate.find(hierarchy(root), m);
+    return findAll(hierarchy(root), m);
   }
 
   @Override
   @Nonnull public <T extends Component> Collection<T> findAll(@Nonnull GenericTypeMatcher<T> m) {
-    return finderDelegate.find(hierarchy, m);
+    return findAll(hierarchy, m);
   }
 
   @Override
   @Nonnull public <T extends Component> Collection<T> findAll(@Nonnull Container root, @Nonnull GenericTypeMatcher<T> m) {
     ComponentHierarchy h = hierarchy(root);
+    return findAll(h, m);
+  }
+
+  @RunsInEDT
+  @Nonnull private Collection<Component> findAll(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m) {
+    if (useIndex()) {
+      if (m instanceof NameMatcher) {
+        return index().find(h, (NameMatcher) m);
+      }
+      if (m instanceof TypeMatcher) {
+        return index().find(h, (TypeMatcher) m);
+      }
+    }
+    if (lookupInSingleQuery()) {
+      return finderDelegate.findInSingleQuery(h, m);
+    }
     return finderDelegate.find(h, m);
   }
 
+  @RunsInEDT
+  @Nonnull private <T extends Component> Collection<T> findAll(@Nonnull ComponentHierarchy h,
+                                                               @Nonnull GenericTypeMatcher<T> m) {
+    if (lookupInSingleQuery()) {
+      return finderDelegate.findInSingleQuery(h, m);
+    }
+    return finderDelegate.find(h, m);
+  }
+
+  private boolean lookupInSingleQuery() {
+    return settings == null || settings.componentLookupInSingleQuery();
+  }
+
+  private boolean useIndex() {
+    return settings != null && settings.componentLookupIndex();
+  }
+
+  @Nonnull private synchronized ComponentIndex index() {
+    if (index == null) {
+      index = new ComponentIndex(ToolkitProvider.instance().defaultToolkit());
+    }
+    return index;
+  }
+
+  /**
+   * Discards the index of AWT and Swing {@code Component}s used by this finder, if any, so it no longer listens to the
+   * indexed {@code Component}s. {@link BasicRobot} calls this method when it is cleaned up.
+   */
+  @RunsInEDT
+  void cleanUp() {
+    ComponentIndex discarded;
+    synchronized (this) {
+      discarded = index;
+      index = null;
+    }
+    if (discarded != null) {
+      discarded.cleanUp();
+    }
+  }
+
   /**
    * Returns the value of the flag "requireShowing" in the {@link ComponentLookupScope} this finder's {@link Settings}.
    * If the settings object is {@code null}, this method will return the provided default value.
@@ -13,18 +13,16 @@
 package org.assertj.swing.core;
 
 import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
-import static org.assertj.swing.format.Formatting.format;
 import static org.assertj.swing.hierarchy.NewHierarchy.ignoreExistingComponents;
 
 import java.awt.Component;
 import java.awt.Container;
+import java.io.IOException;
 import java.io.PrintStream;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.assertj.swing.annotation.RunsInCurrentThread;
 import org.assertj.swing.annotation.RunsInEDT;
 import org.assertj.swing.hierarchy.ComponentHierarchy;
 import org.assertj.swing.hierarchy.ExistingHierarchy;
@@ -39,8 +37,6 @@ import org.assertj.swing.hierarchy.SingleComponentHierarchy;
  * @see org.assertj.swing.format.Formatting#format(Component)
  */
 public final class BasicComponentPrinter implements ComponentPrinter {
-  private static final String INDENTATION = "  ";
-
   private static final ComponentMatcher ALWAYS_MATCHES = alwaysMatches();
 
   @Nonnull private static ComponentMatcher alwaysMatches() {
@@ -125,36 +121,22 @@ public final class BasicComponentPrinter implements ComponentPrinter {
     print(hierarchy(root), checkNotNull(matcher), checkNotNull(out));
   }
 
+  @Override
+  public void printComponents(@Nonnull Appendable out, @Nonnull PrintFormat format, @Nonnull ComponentMatcher matcher,
+                              @Nullable Container root) throws IOException {
+    checkNotNull(out);
+    checkNotNull(format);
+    HierarchySnapshot.take(hierarchy(root), checkNotNull(matcher)).print(out, format);
+  }
+
   @Nonnull private ComponentHierarchy hierarchy(@Nullable Container root) {
     return root != null ? new SingleComponentHierarchy(root, hierarchy) : hierarchy;
   }
 
+  // the hierarchy is copied in the EDT, but printed in the current thread.
   @RunsInEDT
-  private static void print(@Nonnull final ComponentHierarchy hierarchy, @Nonnull final ComponentMatcher matcher,
-                            @Nonnull final PrintStream out) {
-    execute(() -> {
-      for (Component c : hierarchy.roots()) {
-        print(checkNotNull(c), hierarchy, matcher, 0, out);
-      }
-    });
-  }
-
-  @RunsInCurrentThread
-  private static void print(@Nonnull Component c, @Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher matcher,
-                            int level, @Nonnull PrintStream out) {
-    if (matcher.matches(c)) {
-      print(c, level, out);
-    }
-    for (Component child : h.childrenOf(c)) {
-      print(checkNotNull(child), h, matcher, level + 1, out);
-    }
-  }
-
-  @RunsInCurrentThread
-  private static void print(@Nonnull Component c, int level, @Nonnull PrintStream out) {
-    for (int i = 0; i < level; i++) {
-      out.print(INDENTATION);
-    }
-    out.println(format(c));
+  private static void print(@Nonnull ComponentHierarchy hierarchy, @Nonnull ComponentMatcher matcher,
+                            @Nonnull PrintStream out) {
+    HierarchySnapshot.take(hierarchy, matcher).print(out);
   }
 }
@@ -21,11 +21,14 @@ import static java.awt.event.KeyEvent.VK_UNDEFINED;
 import static java.awt.event.WindowEvent.WINDOW_CLOSING;
 import static java.lang.System.currentTimeMillis;
 import static java.lang.System.lineSeparator;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static javax.swing.SwingUtilities.getWindowAncestor;
 import static javax.swing.SwingUtilities.isEventDispatchThread;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.core.util.Sets.newHashSet;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
 import static org.assertj.core.util.Strings.concat;
 import static org.assertj.swing.awt.AWT.centerOf;
 import static org.assertj.swing.awt.AWT.visibleCenterOf;
@@ -38,12 +41,14 @@ import static org.assertj.swing.core.InputModifiers.unify;
 import static org.assertj.swing.core.MouseButton.LEFT_BUTTON;
 import static org.assertj.swing.core.MouseButton.RIGHT_BUTTON;
 import static org.assertj.swing.core.Scrolling.scrollToVisible;
+import static org.assertj.swing.core.TimingProfile.COMPARE;
 import static org.assertj.swing.core.WindowAncestorFinder.windowAncestorOf;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
 import static org.assertj.swing.exception.ActionFailedException.actionFailure;
 import static org.assertj.swing.format.Formatting.format;
 import static org.assertj.swing.format.Formatting.inEdtFormat;
 import static org.assertj.swing.hierarchy.NewHierarchy.ignoreExistingComponents;
+import static org.assertj.swing.core.KeyEventSequence.keyEventsToType;
 import static org.assertj.swing.keystroke.KeyStrokeMap.keyStrokeFor;
 import static org.assertj.swing.query.ComponentShowingQuery.isShowing;
 import static org.assertj.swing.timing.Pause.pause;
@@ -65,6 +70,10 @@ import java.awt.event.WindowEvent;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -102,9 +111,12 @@ import org.assertj.swing.util.ToolkitProvider;
  * @see Robot
  */
 public class BasicRobot implements Robot {
+  private static Logger logger = Logger.getLogger(BasicRobot.class.getCanonicalName());
+
   private static final int POPUP_DELAY = 10000;
   private static final int POPUP_TIMEOUT = 5000;
   private static final int WINDOW_DELAY = 20000;
+  private static final int WINDOW_READINESS_CHECK_PERIOD = 100;
 
   private static final ComponentMatcher POPUP_MATCHER = new TypeMatcher(JPopupMenu.class, true);
 
@@ -122,13 +134,16 @@ public class BasicRobot implements Robot {
   private static Toolkit toolkit = ToolkitProvider.instance().defaultToolkit();
   private static WindowMonitor windowMonitor = WindowMonitor.instance();
   private static InputState inputState = new InputState(toolkit);
+  private static IdleDetectingEventQueue idleDetectingEventQueue;
+  private static DispatchedEventCounter dispatchedEventCounter;
 
   private final ComponentHierarchy hierarchy;
   private final Object screenLockOwner;
-  private final ComponentFinder finder;
+  private final BasicComponentFinder finder;
   private final Settings settings;
   private final AWTEventPoster eventPoster;
-  private final InputEventGenerator eventGenerator;
+  private final InputEventGenerator directEventGenerator;
+  private InputEventGenerator robotEventGenerator;
   private final UnexpectedJOptionPaneFinder unexpectedJOptionPaneFinder;
 
   /**
@@ -172,8 +187,8 @@ public class BasicRobot implements Robot {
     this.screenLockOwner = screenLockOwner;
     this.hierarchy = hierarchy;
     settings = new Settings();
-    eventGenerator = new RobotEventGenerator(settings);
     eventPoster = new AWTEventPoster(toolkit, inputState, windowMonitor, settings);
+    directEventGenerator = new DirectEventGenerator(eventPoster);
     finder = new BasicComponentFinder(hierarchy, settings);
     unexpectedJOptionPaneFinder = new UnexpectedJOptionPaneFinder(finder);
     active = true;
@@ -227,13 +242,30 @@ public class BasicRobot implements Robot {
 
   @RunsInEDT
   private void waitForWindow(@Nonnull Window w) {
+    CompletableFuture<Void> readiness = windowMonitor.windowReadiness(w);
     long start = currentTimeMillis();
     while (!windowMonitor.isWindowReady(w) || !isShowing(w)) {
       long elapsed = currentTimeMillis() - start;
       if (elapsed > WINDOW_DELAY) {
         throw new WaitTimedOutError(concat("Timed out waiting for Window to open (", String.valueOf(elapsed), "ms)"));
       }
+      awaitReadiness(readiness);
+    }
+  }
+
+  private void awaitReadiness(@Nonnull CompletableFuture<Void> readiness) {
+    if (readiness.isDone() || isEventDispatchThread()) {
+      // the window is ready but not showing yet, or waiting would block the events that make it ready.
       pause();
+      return;
+    }
+    try {
+      // wake up periodically, so isWindowReady can nudge windows that never get painted.
+      readiness.get(WINDOW_READINESS_CHECK_PERIOD, MILLISECONDS);
+    } catch (TimeoutException | ExecutionException ignored) {
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new WaitTimedOutError("Interrupted while waiting for Window to open");
     }
   }
 
@@ -367,6 +399,8 @@ public class BasicRobot implements Robot {
       releaseMouseButtons();
     } finally {
       active = false;
+      finder.cleanUp();
+      uninstallIdleDetectingEventQueue();
       releaseScreenLock();
     }
   }
@@ -378,6 +412,18 @@ public class BasicRobot implements Robot {
     }
   }
 
+  // Uses native input unless direct event dispatch is enabled. The AWT Robot is only created once it is needed, since
+  // it is not available in every environment.
+  @Nonnull private synchronized InputEventGenerator eventGenerator() {
+    if (settings.directEventDispatch()) {
+      return directEventGenerator;
+    }
+    if (robotEventGenerator == null) {
+      robotEventGenerator = new RobotEventGenerator(settings);
+    }
+    return robotEventGenerator;
+  }
+
   @RunsInEDT
   private static void disposeWindows(final @Nonnull ComponentHierarchy hierarchy) {
     execute(() -> {
@@ -470,20 +516,20 @@ public class BasicRobot implements Robot {
       settings.delayBetweenEvents(0);
     }
     if (c == null) {
-      eventGenerator.pressMouse(where, mask);
+      eventGenerator().pressMouse(where, mask);
       for (int i = times; i > 1; i--) {
-        eventGenerator.releaseMouse(mask);
-        eventGenerator.pressMouse(mask);
+        eventGenerator().releaseMouse(mask);
+        eventGenerator().pressMouse(mask);
       }
     } else {
-      eventGenerator.pressMouse(c, where, mask);
+      eventGenerator().pressMouse(c, where, mask);
       for (int i = times; i > 1; i--) {
-        eventGenerator.releaseMouse(mask);
-        eventGenerator.pressMouse(mask);
+        eventGenerator().releaseMouse(mask);
+        eventGenerator().pressMouse(mask);
       }
     }
     settings.delayBetweenEvents(delayBetweenEvents);
-    eventGenerator.releaseMouse(mask);
+    eventGenerator().releaseMouse(mask);
   }
 
   private boolean shouldSetDelayBetweenEventsToZeroWhenClicking(int times) {
@@ -534,7 +580,7 @@ public class BasicRobot implements Robot {
     if (!waitForComponentToBeReady(c, settings.timeoutToBeVisible())) {
       throw actionFailure(concat("Could not obtain position of component ", format(c)));
     }
-    eventGenerator.moveMouse(c, x, y);
+    eventGenerator().moveMouse(c, x, y);
     waitForIdle();
   }
 
@@ -545,12 +591,12 @@ public class BasicRobot implements Robot {
 
   @Override
   public void moveMouse(int x, int y) {
-    eventGenerator.moveMouse(x, y);
+    eventGenerator().moveMouse(x, y);
   }
 
   @Override
   public void pressMouse(@Nonnull MouseButton button) {
-    eventGenerator.pressMouse(button.mask);
+    eventGenerator().pressMouse(button.mask);
   }
 
   @Override
@@ -577,7 +623,7 @@ public class BasicRobot implements Robot {
   public void pressMouse(@Nonnull Component c, @Nonnull Point where, @Nonnull MouseButton button) {
     jitter(c, where);
     moveMouse(c, where.x, where.y);
-    eventGenerator.pressMouse(c, where, button.mask);
+    eventGenerator().pressMouse(c, where, button.mask);
   }
 
   @Override
@@ -593,7 +639,7 @@ public class BasicRobot implements Robot {
 
   @Override
   public void pressMouse(@Nonnull Point where, @Nonnull MouseButton button) {
-    eventGenerator.pressMouse(where, button.mask);
+    eventGenerator().pressMouse(where, button.mask);
   }
 
   @Override
@@ -630,7 +676,7 @@ public class BasicRobot implements Robot {
 
   @Override
   public void rotateMouseWheel(int amount) {
-    eventGenerator.rotateMouseWheel(amount);
+    eventGenerator().rotateMouseWheel(amount);
     waitForIdle();
   }
 
@@ -691,12 +737,29 @@ public class BasicRobot implements Robot {
     if (text.isEmpty()) {
       return;
     }
+    if (settings.batchedTextEntry()) {
+      enterTextInBatch(text);
+      return;
+    }
     for (char character : text.toCharArray()) {
       type(character);
     }
     waitForIdle();
   }
 
+  @RunsInEDT
+  private void enterTextInBatch(@Nonnull String text) {
+    // Allow any pending robot events to complete; otherwise we might stuff the key events before previous
+    // robot-generated events are posted.
+    waitForIdle();
+    Component focus = focusOwner();
+    if (focus == null) {
+      return;
+    }
+    eventPoster.postEvents(focus, keyEventsToType(focus, text));
+    waitForIdle();
+  }
+
   @RunsInEDT
   @Override
   public void type(char character) {
@@ -733,7 +796,9 @@ public class BasicRobot implements Robot {
     for (int keyCode : keyCodes) {
       keyPressAndRelease(keyCode, 0);
       waitForIdle();
-      pause(50); // it seems that even when waiting for idle the events are not completely propagated
+      if (!settings.timingProfile().skipsFixedDelays()) {
+        pause(50); // it seems that even when waiting for idle the events are not completely propagated
+      }
     }
   }
 
@@ -743,7 +808,7 @@ public class BasicRobot implements Robot {
     if (updatedModifiers == modifiers) {
       pressModifiersWhileRunning(updatedModifiers, () -> {
         doPressKey(keyCode);
-        eventGenerator.releaseKey(keyCode);
+        eventGenerator().releaseKey(keyCode);
       });
     }
   }
@@ -767,38 +832,134 @@ public class BasicRobot implements Robot {
 
   @RunsInEDT
   private void doPressKey(int keyCode) {
-    eventGenerator.pressKey(keyCode, CHAR_UNDEFINED);
+    eventGenerator().pressKey(keyCode, CHAR_UNDEFINED);
   }
 
   @RunsInEDT
   @Override
   public void releaseKey(int keyCode) {
-    eventGenerator.releaseKey(keyCode);
+    eventGenerator().releaseKey(keyCode);
     waitForIdle();
   }
 
   @RunsInEDT
   private void mouseRelease(int buttons) {
-    eventGenerator.releaseMouse(buttons);
+    eventGenerator().releaseMouse(buttons);
   }
 
   @RunsInEDT
   @Override
   public void waitForIdle() {
-    waitIfNecessary();
+    TimingProfile profile = settings.timingProfile();
+    if (!profile.skipsFixedDelays()) {
+      waitIfNecessary();
+      waitForIdleEventQueues();
+      return;
+    }
+    waitForNativeInputToBeQueued();
+    waitForIdleEventQueues();
+    if (profile == COMPARE) {
+      checkIdleAfterFixedDelays();
+    }
+  }
+
+  private void waitForIdleEventQueues() {
     if (settings.simpleWaitForIdle()) {
       simpleWaitForIdle();
     } else {
       Collection<EventQueue> queues = windowMonitor.allEventQueues();
-      if (queues.size() == 1) {
-        waitForIdle(checkNotNull(toolkit.getSystemEventQueue()));
+      IdleDetectingEventQueue idleDetector = idleDetectingEventQueue();
+      if (idleDetector != null && idleDetector.isCurrentSystemEventQueue() && dispatchesAll(idleDetector, queues)
+          && idleDetector.awaitIdle(settings.idleTimeout())) {
         return;
       }
-      // FIXME this resurrects dead event queues
-      for (EventQueue queue : queues) {
-        waitForIdle(checkNotNull(queue));
+      // the idle detector is not usable, or timed out waiting (e.g. an event is dispatched for too long): fall back
+      // to posting idle events to every queue, which also copes with queues that keep receiving events.
+      waitForIdle(queues.isEmpty() ? singletonList(checkNotNull(toolkit.getSystemEventQueue()))
+          : topQueuesOf(queues, idleDetector));
+    }
+  }
+
+  // A queue the idle detector was pushed on forwards the events posted to it to the top queue, and never has pending
+  // events of its own: wait on the top queue instead.
+  @Nonnull private static Collection<EventQueue> topQueuesOf(@Nonnull Collection<EventQueue> queues,
+                                                             @Nullable IdleDetectingEventQueue idleDetector) {
+    if (idleDetector == null) {
+      return queues;
+    }
+    Set<EventQueue> topQueues = newLinkedHashSet();
+    for (EventQueue queue : queues) {
+      topQueues.add(idleDetector.dispatchesEventsOf(queue) ? checkNotNull(toolkit.getSystemEventQueue()) : queue);
+    }
+    return topQueues;
+  }
+
+  // Without fixed delays, native input may still be on its way to the AWT event queue when waiting for idle starts.
+  private void waitForNativeInputToBeQueued() {
+    InputEventGenerator generator;
+    synchronized (this) {
+      generator = settings.directEventDispatch() ? null : robotEventGenerator;
+    }
+    if (generator instanceof RobotEventGenerator) {
+      ((RobotEventGenerator) generator).waitForInputToBeQueued();
+    }
+  }
+
+  // Waits again as the SAFE profile would have, and reports if the application under test was still busy.
+  private void checkIdleAfterFixedDelays() {
+    DispatchedEventCounter counter = dispatchedEventCounter();
+    long countWhenIdle = counter.count();
+    pause(settings.delayBetweenEvents());
+    waitIfNecessary();
+    waitForIdleEventQueues();
+    long dispatchedLate = counter.count() - countWhenIdle;
+    if (dispatchedLate > 0) {
+      String msg = String.format("%d event(s) were dispatched after waiting for idle without fixed delays, in %s",
+                                 dispatchedLate, callerOutsideOfThisLibrary());
+      logger.warning(msg);
+    }
+  }
+
+  @Nonnull private static synchronized DispatchedEventCounter dispatchedEventCounter() {
+    if (dispatchedEventCounter == null) {
+      dispatchedEventCounter = DispatchedEventCounter.install(toolkit);
+    }
+    return dispatchedEventCounter;
+  }
+
+  @Nonnull private static String callerOutsideOfThisLibrary() {
+    for (StackTraceElement e : Thread.currentThread().getStackTrace()) {
+      String className = e.getClassName();
+      if (!className.startsWith("org.assertj.swing.") && !className.startsWith("java.")
+          && !className.startsWith("jdk.") && !className.startsWith("sun.")) {
+        return e.toString();
       }
     }
+    return "<unknown caller>";
+  }
+
+  @Nullable private static synchronized IdleDetectingEventQueue idleDetectingEventQueue() {
+    if (idleDetectingEventQueue == null) {
+      idleDetectingEventQueue = IdleDetectingEventQueue.install(toolkit);
+    }
+    return idleDetectingEventQueue;
+  }
+
+  private static synchronized void uninstallIdleDetectingEventQueue() {
+    if (idleDetectingEventQueue != null) {
+      idleDetectingEventQueue.uninstall();
+      idleDetectingEventQueue = null;
+    }
+  }
+
+  private static boolean dispatchesAll(@Nonnull IdleDetectingEventQueue idleDetector,
+                                       @Nonnull Collection<EventQueue> queues) {
+    for (EventQueue queue : queues) {
+      if (!idleDetector.dispatchesEventsOf(queue)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   private void waitIfNecessary() {
@@ -820,19 +981,21 @@ public class BasicRobot implements Robot {
     }
   }
 
-  private void waitForIdle(@Nonnull EventQueue eventQueue) {
+  private void waitForIdle(@Nonnull Collection<EventQueue> eventQueues) {
     if (EventQueue.isDispatchThread()) {
       throw new IllegalThreadStateException("Cannot call method from the event dispatcher thread");
     }
     // Abbot: as of Java 1.3.1, robot.waitForIdle only waits for the last event on the queue at the time of this
-    // invocation to be processed. We need better than that. Make sure the given event queue is empty when this method
+    // invocation to be processed. We need better than that. Make sure the given event queues are empty when this method
     // returns.
-    // We always post at least one idle event to allow any current event dispatch processing to finish.
+    // We always post at least one idle event to allow any current event dispatch processing to finish. Idle events are
+    // posted to all the queues at once, so waiting for one queue overlaps with waiting for the others.
     long start = currentTimeMillis();
+    Collection<EventQueue> busyQueues = eventQueues;
     do {
       // Timed out waiting for idle
       int idleTimeout = settings.idleTimeout();
-      if (postInvocationEvent(eventQueue, idleTimeout)) {
+      if (postInvocationEvents(busyQueues, idleTimeout)) {
         break;
       }
       // Timed out waiting for idle event queue
@@ -844,20 +1007,37 @@ public class BasicRobot implements Robot {
       // Abbot: this does not detect invocation events (i.e. what gets posted with EventQueue.invokeLater), so if
       // someone is repeatedly posting one, we might get stuck. Not too worried, since if a Runnable keeps calling
       // invokeLater on itself, *nothing* else gets much chance to run, so it seems to be a bad programming practice.
-    } while (eventQueue.peekEvent() != null);
+      busyQueues = queuesWithPendingEvents(busyQueues);
+    } while (!busyQueues.isEmpty());
   }
 
-  /** Indicates whether we timed out waiting for the invocation to run. */
+  @Nonnull private static Collection<EventQueue> queuesWithPendingEvents(@Nonnull Collection<EventQueue> eventQueues) {
+    List<EventQueue> busyQueues = newArrayList();
+    for (EventQueue queue : eventQueues) {
+      if (queue.peekEvent() != null) {
+        busyQueues.add(queue);
+      }
+    }
+    return busyQueues;
+  }
+
+  /** Indicates whether we timed out waiting for the invocations to run. */
   @RunsInEDT
-  private boolean postInvocationEvent(@Nonnull EventQueue eventQueue, long timeout) {
+  private boolean postInvocationEvents(@Nonnull Collection<EventQueue> eventQueues, long timeout) {
     Object lock = new RobotIdleLock();
     synchronized (lock) {
-      InvocationEvent event = new InvocationEvent(toolkit, EMPTY_RUNNABLE, lock, true);
-      eventQueue.postEvent(event);
+      List<InvocationEvent> events = newArrayList();
+      for (EventQueue eventQueue : eventQueues) {
+        InvocationEvent event = new InvocationEvent(toolkit, EMPTY_RUNNABLE, lock, true);
+        events.add(event);
+        eventQueue.postEvent(event);
+      }
       long start = currentTimeMillis();
       try {
-        while (!event.isDispatched() && currentTimeMillis() - start < timeout) {
-          lock.wait(timeout);
+        for (InvocationEvent event : events) {
+          while (!event.isDispatched() && currentTimeMillis() - start < timeout) {
+            lock.wait(timeout);
+          }
         }
         return (currentTimeMillis() - start) >= settings.idleTimeout();
       } catch (InterruptedException e) {
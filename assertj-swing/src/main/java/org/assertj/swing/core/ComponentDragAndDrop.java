@@ -127,8 +127,9 @@ public class ComponentDragAndDrop {
     robot.waitForIdle();
   }
 
+  // the delay the robot already adds after each event, which is zero when the timing profile skips fixed delays.
   private int delayBetweenEvents() {
-    return settings().delayBetweenEvents();
+    return settings().effectiveDelayBetweenEvents();
   }
 
   @Nonnull private Settings settings() {
@@ -12,6 +12,10 @@
  */
 package org.assertj.swing.core;
 
+import static java.awt.AWTEvent.COMPONENT_EVENT_MASK;
+import static java.awt.AWTEvent.CONTAINER_EVENT_MASK;
+import static java.awt.AWTEvent.HIERARCHY_EVENT_MASK;
+import static java.awt.AWTEvent.WINDOW_EVENT_MASK;
 import static java.lang.System.lineSeparator;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.util.Strings.concat;
@@ -107,7 +111,7 @@ public final class ComponentFoundCondition extends Condition {
   public boolean test() {
     boolean matchFound = false;
     try {
-      found = finder.find(root, matcher);
+      found = find();
       matchFound = true;
     } catch (ComponentLookupException e) {
       notFoundError.set(e);
@@ -119,6 +123,25 @@ public final class ComponentFoundCondition extends Condition {
     return matchFound;
   }
 
+  /**
+   * Returns the mask of the AWT events that can make the AWT or Swing {@code Component} to find appear (or disappear)
+   * from the hierarchy: {@code Window} events, {@code Component} events, {@code Container} events and hierarchy events.
+   *
+   * @return the mask of the AWT events that can change the result of this condition.
+   */
+  @Override
+  protected long wakeUpEventMask() {
+    return WINDOW_EVENT_MASK | COMPONENT_EVENT_MASK | CONTAINER_EVENT_MASK | HIERARCHY_EVENT_MASK;
+  }
+
+  // failed lookups are expected while waiting, so the hierarchy is only printed if this condition is not satisfied.
+  @Nonnull private Component find() {
+    if (finder instanceof BasicComponentFinder) {
+      return ((BasicComponentFinder) finder).findWithLazyFailureMessage(root, matcher);
+    }
+    return finder.find(root, matcher);
+  }
+
   private void resetMatcher(boolean matchFound) {
     if (!(matcher instanceof ResettableComponentMatcher)) {
       return;
@@ -0,0 +1,601 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static java.awt.AWTEvent.COMPONENT_EVENT_MASK;
+import static java.awt.AWTEvent.CONTAINER_EVENT_MASK;
+import static java.awt.AWTEvent.WINDOW_EVENT_MASK;
+import static java.awt.event.ComponentEvent.COMPONENT_HIDDEN;
+import static java.awt.event.ComponentEvent.COMPONENT_SHOWN;
+import static java.awt.event.ContainerEvent.COMPONENT_REMOVED;
+import static javax.swing.SwingUtilities.isDescendingFrom;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.listener.WeakEventListener.attachAsWeakEventListener;
+import static org.assertj.swing.util.AWTEvents.wasWindowClosed;
+import static org.assertj.swing.util.AWTEvents.wasWindowOpened;
+import static org.assertj.swing.util.Maps.newHashMap;
+import static org.assertj.swing.util.Maps.newWeakHashMap;
+
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.Toolkit;
+import java.awt.Window;
+import java.awt.event.AWTEventListener;
+import java.awt.event.ContainerEvent;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.hierarchy.ComponentHierarchy;
+import org.assertj.swing.hierarchy.SingleComponentHierarchy;
+
+/**
+ * <p>
+ * Index of the AWT and Swing {@code Component}s in a {@link ComponentHierarchy}, by name and by concrete type. Used by
+ * {@link BasicComponentFinder} to answer lookups using a {@link NameMatcher} or a {@link TypeMatcher} without walking
+ * the whole hierarchy on every call.
+ * </p>
+ *
+ * <p>
+ * The index of a hierarchy is built with a single traversal and then kept up to date: AWT events only record which
+ * {@code Component}s changed (a {@code Container} whose children were added or removed, a {@code Component} shown or
+ * hidden, a {@code Window} opened or closed, or a {@code Component} renamed) and the next lookup updates the subtrees
+ * under those {@code Component}s only. Each lookup also compares the roots of the hierarchy and the windows owned by
+ * indexed windows with the indexed ones, since creating a {@code Window} does not generate any event. Lookups always
+ * evaluate the matcher against the indexed candidates, so the result is the same as the one of a full walk.
+ * </p>
+ *
+ * <p>
+ * The index listens to changes in the names of the indexed {@code Component}s, and stops listening to the ones that
+ * leave the hierarchy. The index of a single {@code Container} is discarded once the {@code Container} is removed from
+ * its parent or its {@code Window} is closed. The index only holds weak references to {@code Component}s, and
+ * {@link #cleanUp()} discards all the indexed hierarchies at once.
+ * </p>
+ */
+@ThreadSafe
+final class ComponentIndex implements AWTEventListener {
+  private static final long EVENT_MASK = CONTAINER_EVENT_MASK | COMPONENT_EVENT_MASK | WINDOW_EVENT_MASK;
+  private static final String NAME_PROPERTY = "name";
+  private static final int MAX_PENDING_CHANGES = 1000;
+
+  private static final int CHILDREN_CHANGED = 1;
+  private static final int VISIBILITY_CHANGED = 1 << 1;
+  private static final int NAME_CHANGED = 1 << 2;
+  private static final int DETACHED = 1 << 3;
+
+  private final PropertyChangeListener nameChangeListener = new NameChangeListener(this);
+
+  // changes are recorded in the thread generating the event, which may be holding the AWT tree lock: this lock is never
+  // held while calling into AWT.
+  private final Object pendingLock = new Object();
+
+  @GuardedBy("pendingLock")
+  private final Map<Component, Integer> pendingChanges = newWeakHashMap();
+
+  @GuardedBy("pendingLock")
+  private boolean pendingChangesOverflowed;
+
+  // only accessed in the event dispatch thread (EDT.)
+  private final Map<Object, Snapshot> snapshots = newWeakHashMap();
+
+  ComponentIndex(@Nonnull Toolkit toolkit) {
+    attachAsWeakEventListener(toolkit, this, EVENT_MASK);
+  }
+
+  @Override
+  public void eventDispatched(AWTEvent event) {
+    AWTEvent e = checkNotNull(event);
+    if (e instanceof ContainerEvent) {
+      ContainerEvent containerEvent = (ContainerEvent) e;
+      changed(containerEvent.getContainer(), CHILDREN_CHANGED);
+      if (e.getID() == COMPONENT_REMOVED) {
+        changed(containerEvent.getChild(), DETACHED);
+      }
+      return;
+    }
+    Object source = e.getSource();
+    if (!(source instanceof Component)) {
+      return;
+    }
+    if (wasWindowClosed(e)) {
+      changed((Component) source, DETACHED);
+    } else if (wasWindowOpened(e) || e.getID() == COMPONENT_SHOWN || e.getID() == COMPONENT_HIDDEN) {
+      changed((Component) source, VISIBILITY_CHANGED);
+    }
+  }
+
+  private void changed(@Nullable Component c, int change) {
+    if (c == null) {
+      return;
+    }
+    synchronized (pendingLock) {
+      if (pendingChangesOverflowed) {
+        return;
+      }
+      pendingChanges.merge(c, change, (c1, c2) -> c1 | c2);
+      if (pendingChanges.size() > MAX_PENDING_CHANGES) {
+        // too many changes since the last lookup: cheaper to index the hierarchies again.
+        pendingChanges.clear();
+        pendingChangesOverflowed = true;
+      }
+    }
+  }
+
+  /**
+   * Returns all the AWT and Swing {@code Component}s in the given hierarchy that match the given {@link NameMatcher}, in
+   * the same order as a full traversal of the hierarchy would return them.
+   *
+   * @param h the hierarchy to search.
+   * @param m the matcher to use.
+   * @return the matching {@code Component}s.
+   */
+  @RunsInEDT
+  @Nonnull Collection<Component> find(@Nonnull ComponentHierarchy h, @Nonnull NameMatcher m) {
+    Collection<Component> found = execute(() -> matching(snapshotOf(h).withName(m.name()), m));
+    return checkNotNull(found);
+  }
+
+  /**
+   * Returns all the AWT and Swing {@code Component}s in the given hierarchy that match the given {@link TypeMatcher}, in
+   * the same order as a full traversal of the hierarchy would return them.
+   *
+   * @param h the hierarchy to search.
+   * @param m the matcher to use.
+   * @return the matching {@code Component}s.
+   */
+  @RunsInEDT
+  @Nonnull Collection<Component> find(@Nonnull ComponentHierarchy h, @Nonnull TypeMatcher m) {
+    Collection<Component> found = execute(() -> matching(snapshotOf(h).ofType(m.type()), m));
+    return checkNotNull(found);
+  }
+
+  /**
+   * Discards the index of all the hierarchies, and stops listening to the names of the indexed {@code Component}s.
+   * Pending changes, like {@code Window}s closed since the last lookup, are discarded as well.
+   */
+  @RunsInEDT
+  void cleanUp() {
+    execute(() -> {
+      synchronized (pendingLock) {
+        pendingChanges.clear();
+        pendingChangesOverflowed = false;
+      }
+      discardSnapshots(key -> true);
+    });
+  }
+
+  @RunsInCurrentThread
+  @Nonnull private static Collection<Component> matching(@Nonnull Collection<Component> candidates,
+                                                         @Nonnull ComponentMatcher m) {
+    Set<Component> found = newLinkedHashSet();
+    for (Component c : candidates) {
+      if (m.matches(c)) {
+        found.add(c);
+      }
+    }
+    return found;
+  }
+
+  @RunsInCurrentThread
+  @Nonnull private Snapshot snapshotOf(@Nonnull ComponentHierarchy h) {
+    applyPendingChanges();
+    Object key = keyOf(h);
+    Snapshot snapshot = snapshots.get(key);
+    if (snapshot == null) {
+      snapshot = new Snapshot();
+      snapshots.put(key, snapshot);
+    }
+    snapshot.update(h);
+    return snapshot;
+  }
+
+  @Nonnull private static Object keyOf(@Nonnull ComponentHierarchy h) {
+    if (h instanceof SingleComponentHierarchy) {
+      return ((SingleComponentHierarchy) h).root();
+    }
+    return h;
+  }
+
+  @RunsInCurrentThread
+  private void applyPendingChanges() {
+    Map<Component, Integer> changes;
+    boolean overflowed;
+    synchronized (pendingLock) {
+      changes = new LinkedHashMap<>(pendingChanges);
+      overflowed = pendingChangesOverflowed;
+      pendingChanges.clear();
+      pendingChangesOverflowed = false;
+    }
+    if (overflowed) {
+      discardSnapshots(key -> true);
+      return;
+    }
+    for (Map.Entry<Component, Integer> change : changes.entrySet()) {
+      Component c = change.getKey();
+      int changeType = change.getValue();
+      if ((changeType & DETACHED) != 0) {
+        discardSnapshots(key -> key instanceof Component && isDescendingFrom((Component) key, c));
+      }
+      for (Snapshot snapshot : snapshots.values()) {
+        snapshot.changed(c, changeType);
+      }
+    }
+  }
+
+  @RunsInCurrentThread
+  private void discardSnapshots(@Nonnull Predicate<Object> keyFilter) {
+    List<Snapshot> discarded = newArrayList();
+    for (Iterator<Map.Entry<Object, Snapshot>> i = snapshots.entrySet().iterator(); i.hasNext();) {
+      Map.Entry<Object, Snapshot> entry = i.next();
+      if (keyFilter.test(entry.getKey())) {
+        discarded.add(entry.getValue());
+        i.remove();
+      }
+    }
+    for (Snapshot snapshot : discarded) {
+      for (Component c : snapshot.nodes.keySet()) {
+        released(c);
+      }
+    }
+  }
+
+  @RunsInCurrentThread
+  private void observeName(@Nonnull Component c) {
+    for (PropertyChangeListener l : c.getPropertyChangeListeners(NAME_PROPERTY)) {
+      if (l == nameChangeListener) {
+        return;
+      }
+    }
+    c.addPropertyChangeListener(NAME_PROPERTY, nameChangeListener);
+  }
+
+  // stops listening to the name of the given Component, unless it is still indexed in another hierarchy.
+  @RunsInCurrentThread
+  private void released(@Nonnull Component c) {
+    for (Snapshot snapshot : snapshots.values()) {
+      if (snapshot.nodes.containsKey(c)) {
+        return;
+      }
+    }
+    c.removePropertyChangeListener(NAME_PROPERTY, nameChangeListener);
+  }
+
+  // holds the index weakly: the listened Components should not keep the index alive.
+  private static class NameChangeListener implements PropertyChangeListener {
+    private final WeakReference<ComponentIndex> index;
+
+    NameChangeListener(@Nonnull ComponentIndex index) {
+      this.index = new WeakReference<>(index);
+    }
+
+    @Override
+    public void propertyChange(PropertyChangeEvent e) {
+      Component c = (Component) e.getSource();
+      ComponentIndex i = index.get();
+      if (i == null) {
+        c.removePropertyChangeListener(NAME_PROPERTY, this);
+        return;
+      }
+      i.changed(c, NAME_CHANGED);
+    }
+  }
+
+  // Components are held weakly, so a Snapshot does not keep alive the root it is keyed by, nor Components which left
+  // the hierarchy without generating an event.
+  private static class Node {
+    private final WeakReference<Component> component;
+    final Class<?> type;
+    @Nullable final Node parent;
+    List<Node> children = newArrayList();
+    @Nullable String name;
+    private List<WeakReference<Window>> ownedWindows = newArrayList();
+
+    Node(@Nonnull Component component, @Nullable Node parent) {
+      this.component = new WeakReference<>(component);
+      this.type = component.getClass();
+      this.parent = parent;
+    }
+
+    @Nullable Component component() {
+      return component.get();
+    }
+
+    // returns whether the Windows owned by the given Window changed since the last call.
+    boolean updateOwnedWindows(@Nonnull Window w) {
+      Window[] current = w.getOwnedWindows();
+      if (current.length == ownedWindows.size()) {
+        int i = 0;
+        while (i < current.length && ownedWindows.get(i).get() == current[i]) {
+          i++;
+        }
+        if (i == current.length) {
+          return false;
+        }
+      }
+      ownedWindows = newArrayList();
+      for (Window owned : current) {
+        ownedWindows.add(new WeakReference<>(owned));
+      }
+      return true;
+    }
+  }
+
+  private class Snapshot {
+    private final Map<Component, Node> nodes = newWeakHashMap();
+    private final Set<Node> windows = newLinkedHashSet();
+    private final Map<String, Set<Node>> byName = newHashMap();
+    private final Map<Class<?>, Set<Node>> byType = newHashMap();
+    private final Set<Node> outdated = newLinkedHashSet();
+    private List<Node> roots = newArrayList();
+    private Map<Node, Integer> positions;
+
+    @RunsInCurrentThread
+    void changed(@Nonnull Component c, int changeType) {
+      Node node = nodes.get(c);
+      if (node == null) {
+        // a Window opened or closed may be a child of the Window owning it.
+        if (c instanceof Window && (changeType & (VISIBILITY_CHANGED | DETACHED)) != 0) {
+          Window owner = ((Window) c).getOwner();
+          Node ownerNode = owner != null ? nodes.get(owner) : null;
+          if (ownerNode != null) {
+            outdated.add(ownerNode);
+          }
+        }
+        return;
+      }
+      if ((changeType & NAME_CHANGED) != 0) {
+        unindexName(node);
+        indexName(node);
+      }
+      if ((changeType & CHILDREN_CHANGED) != 0) {
+        outdated.add(node);
+      }
+      if ((changeType & (VISIBILITY_CHANGED | DETACHED)) != 0) {
+        outdated.add(node);
+        if (node.parent != null) {
+          outdated.add(node.parent);
+        }
+      }
+    }
+
+    @RunsInCurrentThread
+    void update(@Nonnull ComponentHierarchy h) {
+      updateRoots(h);
+      for (Node window : newArrayList(windows)) {
+        Component w = window.component();
+        if (w == null) {
+          windows.remove(window);
+        } else if (window.updateOwnedWindows((Window) w)) {
+          outdated.add(window);
+        }
+      }
+      List<Node> toUpdate = newArrayList(outdated);
+      outdated.clear();
+      for (Node node : toUpdate) {
+        if (isIndexed(node)) {
+          updateChildren(node, h);
+        }
+      }
+    }
+
+    @RunsInCurrentThread
+    private void updateRoots(@Nonnull ComponentHierarchy h) {
+      List<Component> currentRoots = newArrayList(h.roots());
+      if (currentRoots.equals(componentsOf(roots))) {
+        return;
+      }
+      Map<Component, Node> previousRoots = byComponent(roots);
+      List<Node> newRoots = newArrayList();
+      for (Component root : currentRoots) {
+        Node node = previousRoots.remove(root);
+        newRoots.add(isIndexed(node) ? node : add(checkNotNull(root), null, h));
+      }
+      removeCollected(roots);
+      for (Node node : previousRoots.values()) {
+        remove(node);
+      }
+      roots = newRoots;
+      positions = null;
+    }
+
+    @RunsInCurrentThread
+    private void updateChildren(@Nonnull Node node, @Nonnull ComponentHierarchy h) {
+      Map<Component, Node> previousChildren = byComponent(node.children);
+      List<Node> children = newArrayList();
+      for (Component child : checkNotNull(h.childrenOf(checkNotNull(node.component())))) {
+        Node childNode = previousChildren.remove(child);
+        children.add(isIndexed(childNode) ? childNode : add(checkNotNull(child), node, h));
+      }
+      removeCollected(node.children);
+      for (Node childNode : previousChildren.values()) {
+        remove(childNode);
+      }
+      node.children = children;
+      positions = null;
+    }
+
+    private boolean isIndexed(@Nullable Node node) {
+      if (node == null) {
+        return false;
+      }
+      Component c = node.component();
+      return c != null && nodes.get(c) == node;
+    }
+
+    @RunsInCurrentThread
+    @Nonnull private Node add(@Nonnull Component c, @Nullable Node parent, @Nonnull ComponentHierarchy h) {
+      Node existing = nodes.get(c);
+      if (existing != null) {
+        // moved from another part of the hierarchy.
+        detach(existing);
+      }
+      Node node = new Node(c, parent);
+      nodes.put(c, node);
+      indexName(node);
+      byType.computeIfAbsent(node.type, k -> newLinkedHashSet()).add(node);
+      if (c instanceof Window) {
+        node.updateOwnedWindows((Window) c);
+        windows.add(node);
+      }
+      observeName(c);
+      for (Component child : checkNotNull(h.childrenOf(c))) {
+        node.children.add(add(checkNotNull(child), node, h));
+      }
+      return node;
+    }
+
+    @RunsInCurrentThread
+    private void detach(@Nonnull Node node) {
+      if (node.parent != null) {
+        node.parent.children.remove(node);
+      } else {
+        roots.remove(node);
+      }
+      remove(node);
+    }
+
+    // removes the nodes which Component was garbage-collected.
+    @RunsInCurrentThread
+    private void removeCollected(@Nonnull List<Node> previous) {
+      for (Node node : previous) {
+        if (node.component() == null) {
+          remove(node);
+        }
+      }
+    }
+
+    @RunsInCurrentThread
+    private void remove(@Nonnull Node node) {
+      for (Node child : node.children) {
+        remove(child);
+      }
+      unindexName(node);
+      Set<Node> sameType = byType.get(node.type);
+      if (sameType != null) {
+        sameType.remove(node);
+      }
+      windows.remove(node);
+      outdated.remove(node);
+      positions = null;
+      Component c = node.component();
+      if (c != null && nodes.get(c) == node) {
+        nodes.remove(c);
+        released(c);
+      }
+    }
+
+    private void indexName(@Nonnull Node node) {
+      Component c = node.component();
+      node.name = c != null ? c.getName() : null;
+      if (node.name != null) {
+        byName.computeIfAbsent(node.name, k -> newLinkedHashSet()).add(node);
+      }
+    }
+
+    private void unindexName(@Nonnull Node node) {
+      Set<Node> sameName = byName.get(node.name);
+      if (sameName != null) {
+        sameName.remove(node);
+      }
+    }
+
+    @Nonnull Collection<Component> withName(@Nullable String name) {
+      Set<Node> found = byName.get(name);
+      return found != null ? inTraversalOrder(found) : newArrayList();
+    }
+
+    @Nonnull Collection<Component> ofType(@Nonnull Class<?> type) {
+      List<Node> found = newArrayList();
+      for (Map.Entry<Class<?>, Set<Node>> entry : byType.entrySet()) {
+        if (type.isAssignableFrom(entry.getKey())) {
+          found.addAll(entry.getValue());
+        }
+      }
+      return inTraversalOrder(found);
+    }
+
+    @Nonnull private List<Component> inTraversalOrder(@Nonnull Collection<Node> found) {
+      Map<Node, Component> live = new LinkedHashMap<>();
+      for (Node node : found) {
+        Component c = node.component();
+        if (c != null) {
+          live.put(node, c);
+        }
+      }
+      List<Node> sorted = newArrayList(live.keySet());
+      if (sorted.size() > 1) {
+        Map<Node, Integer> p = positions();
+        sorted.sort((n1, n2) -> Integer.compare(p.get(n1), p.get(n2)));
+      }
+      List<Component> components = newArrayList();
+      for (Node node : sorted) {
+        components.add(live.get(node));
+      }
+      return components;
+    }
+
+    // same order as FinderDelegate: children before their parent.
+    @Nonnull private Map<Node, Integer> positions() {
+      if (positions == null) {
+        positions = newHashMap();
+        for (Node root : roots) {
+          addPositions(root);
+        }
+      }
+      return positions;
+    }
+
+    private void addPositions(@Nonnull Node node) {
+      for (Node child : node.children) {
+        addPositions(child);
+      }
+      positions.put(node, positions.size());
+    }
+  }
+
+  @Nonnull private static List<Component> componentsOf(@Nonnull List<Node> nodes) {
+    List<Component> components = newArrayList();
+    for (Node node : nodes) {
+      components.add(node.component());
+    }
+    return components;
+  }
+
+  @Nonnull private static Map<Component, Node> byComponent(@Nonnull List<Node> nodes) {
+    Map<Component, Node> byComponent = new LinkedHashMap<>();
+    for (Node node : nodes) {
+      Component c = node.component();
+      if (c != null) {
+        byComponent.put(c, node);
+      }
+    }
+    return byComponent;
+  }
+}
@@ -12,8 +12,13 @@
  */
 package org.assertj.swing.core;
 
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.swing.core.PrintFormat.PLAIN_TEXT;
+
 import java.awt.Component;
 import java.awt.Container;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
 
 import javax.annotation.Nonnull;
@@ -21,7 +26,7 @@ import javax.annotation.Nullable;
 
 /**
  * Sends the {@code String} representation of AWT and Swing {@code Component}s to a {@code java.io.PrintStream}, to
- * facilitate debugging.
+ * facilitate debugging. Hierarchies can also be printed as JSON, to be compared or processed by other tools.
  *
  * @author Alex Ruiz
  */
@@ -90,4 +95,45 @@ public interface ComponentPrinter {
    * @see org.assertj.swing.format.Formatting#format(Component)
    */
   void printComponents(@Nonnull PrintStream out, @Nonnull ComponentMatcher matcher, @Nullable Container root);
-}
\ No newline at end of file
+
+  /**
+   * Prints all the AWT and Swing {@code Component}s in the hierarchy, in the given format.
+   *
+   * @param out where to print the {@code Component}s to.
+   * @param format the format to use.
+   * @throws NullPointerException if {@code out} is {@code null}.
+   * @throws NullPointerException if {@code format} is {@code null}.
+   * @throws UnsupportedOperationException if this printer does not support the given format.
+   * @throws IOException if appending to {@code out} fails.
+   */
+  default void printComponents(@Nonnull Appendable out, @Nonnull PrintFormat format) throws IOException {
+    printComponents(out, format, c -> true, null);
+  }
+
+  /**
+   * Prints all the AWT and Swing {@code Component}s that match the given search criteria under the given root, in the
+   * given format.
+   *
+   * @param out where to print the {@code Component}s to.
+   * @param format the format to use.
+   * @param matcher specifies the search criteria to use filter the {@code Component}s to print.
+   * @param root the root used as the starting point of the search.
+   * @throws NullPointerException if {@code out} is {@code null}.
+   * @throws NullPointerException if {@code format} is {@code null}.
+   * @throws NullPointerException if {@code matcher} is {@code null}.
+   * @throws UnsupportedOperationException if this printer does not support the given format. The default
+   *           implementation only supports {@link PrintFormat#PLAIN_TEXT}, which it prints using
+   *           {@link #printComponents(PrintStream, ComponentMatcher, Container)}.
+   * @throws IOException if appending to {@code out} fails.
+   */
+  default void printComponents(@Nonnull Appendable out, @Nonnull PrintFormat format, @Nonnull ComponentMatcher matcher,
+                               @Nullable Container root) throws IOException {
+    checkNotNull(out);
+    if (checkNotNull(format) != PLAIN_TEXT) {
+      throw new UnsupportedOperationException(String.format("%s cannot print components as %s", getClass(), format));
+    }
+    ByteArrayOutputStream printed = new ByteArrayOutputStream();
+    printComponents(new PrintStream(printed, true), checkNotNull(matcher), root);
+    out.append(printed.toString());
+  }
+}
@@ -0,0 +1,403 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static java.awt.event.InputEvent.ALT_DOWN_MASK;
+import static java.awt.event.InputEvent.ALT_GRAPH_DOWN_MASK;
+import static java.awt.event.InputEvent.BUTTON1_DOWN_MASK;
+import static java.awt.event.InputEvent.BUTTON1_MASK;
+import static java.awt.event.InputEvent.BUTTON2_DOWN_MASK;
+import static java.awt.event.InputEvent.BUTTON2_MASK;
+import static java.awt.event.InputEvent.BUTTON3_DOWN_MASK;
+import static java.awt.event.InputEvent.BUTTON3_MASK;
+import static java.awt.event.InputEvent.CTRL_DOWN_MASK;
+import static java.awt.event.InputEvent.META_DOWN_MASK;
+import static java.awt.event.InputEvent.SHIFT_DOWN_MASK;
+import static java.awt.event.KeyEvent.CHAR_UNDEFINED;
+import static java.awt.event.KeyEvent.KEY_PRESSED;
+import static java.awt.event.KeyEvent.KEY_RELEASED;
+import static java.awt.event.KeyEvent.KEY_TYPED;
+import static java.awt.event.KeyEvent.VK_ALT;
+import static java.awt.event.KeyEvent.VK_ALT_GRAPH;
+import static java.awt.event.KeyEvent.VK_CONTROL;
+import static java.awt.event.KeyEvent.VK_META;
+import static java.awt.event.KeyEvent.VK_SHIFT;
+import static java.awt.event.KeyEvent.VK_UNDEFINED;
+import static java.awt.event.MouseEvent.BUTTON1;
+import static java.awt.event.MouseEvent.BUTTON2;
+import static java.awt.event.MouseEvent.BUTTON3;
+import static java.awt.event.MouseEvent.MOUSE_CLICKED;
+import static java.awt.event.MouseEvent.MOUSE_DRAGGED;
+import static java.awt.event.MouseEvent.MOUSE_ENTERED;
+import static java.awt.event.MouseEvent.MOUSE_EXITED;
+import static java.awt.event.MouseEvent.MOUSE_MOVED;
+import static java.awt.event.MouseEvent.MOUSE_PRESSED;
+import static java.awt.event.MouseEvent.MOUSE_RELEASED;
+import static java.awt.event.MouseEvent.NOBUTTON;
+import static java.awt.event.MouseWheelEvent.MOUSE_WHEEL;
+import static java.awt.event.MouseWheelEvent.WHEEL_UNIT_SCROLL;
+import static java.lang.System.currentTimeMillis;
+import static javax.swing.SwingUtilities.convertPoint;
+import static javax.swing.SwingUtilities.getDeepestComponentAt;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.swing.awt.AWT.locationOnScreenOf;
+import static org.assertj.swing.awt.AWT.popupOnPress;
+import static org.assertj.swing.core.FocusOwnerFinder.focusOwner;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.keystroke.KeyStrokeMap.charFor;
+
+import java.awt.Component;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.Toolkit;
+import java.awt.Window;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.KeyStroke;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.util.ToolkitProvider;
+
+/**
+ * <p>
+ * Simulates user input by posting synthesized {@code MouseEvent}s and {@code KeyEvent}s directly to the
+ * {@code EventQueue} of the target {@code Component}, without using an AWT {@code Robot}. It does not need access to
+ * the screen, does not move the real mouse pointer and does not wait for the operating system to deliver the events.
+ * </p>
+ *
+ * <p>
+ * Mouse events are posted to the heavyweight {@code Component} (usually the {@code Window}) under the simulated
+ * pointer, the same way the native input system does, so that AWT re-targets them to the lightweight {@code Component}
+ * under the pointer and keeps track of enter, exit and drag targets. Key events are posted to the focus owner; a
+ * {@code KeyEvent#KEY_TYPED} event is posted for keys that produce a character, according to
+ * {@link org.assertj.swing.keystroke.KeyStrokeMap}.
+ * </p>
+ *
+ * <p>
+ * Since the operating system is not involved, features that depend on it (e.g. native drag and drop, window activation
+ * on click or input methods) are not available.
+ * </p>
+ */
+class DirectEventGenerator implements InputEventGenerator {
+  private static final int DEFAULT_MULTI_CLICK_INTERVAL = 500;
+  private static final int WHEEL_SCROLL_AMOUNT = 3;
+
+  private final AWTEventPoster eventPoster;
+  private final int multiClickInterval;
+
+  private Point pointerLocation = new Point(0, 0);
+  private Component pointerTarget;
+  private int keyModifiers;
+  private int buttonsDown;
+
+  private Component pressTarget;
+  private Point pressLocation;
+  private int pressButton = NOBUTTON;
+  private long lastPressTime;
+  private int clickCount;
+  private boolean dragged;
+
+  DirectEventGenerator(@Nonnull AWTEventPoster eventPoster) {
+    this(eventPoster, ToolkitProvider.instance().defaultToolkit());
+  }
+
+  DirectEventGenerator(@Nonnull AWTEventPoster eventPoster, @Nonnull Toolkit toolkit) {
+    this.eventPoster = eventPoster;
+    Object interval = toolkit.getDesktopProperty("awt.multiClickInterval");
+    multiClickInterval = interval instanceof Integer ? (Integer) interval : DEFAULT_MULTI_CLICK_INTERVAL;
+  }
+
+  @RunsInEDT
+  @Override
+  public void pressMouse(@Nonnull Component c, @Nonnull Point where, int buttons) {
+    moveMouse(c, where.x, where.y);
+    pressMouse(buttons);
+  }
+
+  @RunsInEDT
+  @Override
+  public void pressMouse(@Nonnull Point where, int buttons) {
+    moveMouse(where.x, where.y);
+    pressMouse(buttons);
+  }
+
+  @RunsInEDT
+  @Override
+  public void pressMouse(int buttons) {
+    Target target = targetUnderPointer();
+    if (target == null) {
+      return;
+    }
+    int button = buttonFor(buttons);
+    long when = currentTimeMillis();
+    boolean multiClick = button == pressButton && !dragged && pointerLocation.equals(pressLocation)
+        && when - lastPressTime <= multiClickInterval;
+    clickCount = multiClick ? clickCount + 1 : 1;
+    buttonsDown |= buttonsDownMaskFor(buttons);
+    pressTarget = target.component;
+    pressLocation = new Point(pointerLocation);
+    pressButton = button;
+    lastPressTime = when;
+    dragged = false;
+    boolean popupTrigger = button == BUTTON3 && popupOnPress();
+    post(target, MOUSE_PRESSED, when, clickCount, popupTrigger, button);
+  }
+
+  @RunsInEDT
+  @Override
+  public void releaseMouse(int buttons) {
+    Component c = pressTarget != null ? pressTarget : pointerTarget;
+    buttonsDown &= ~buttonsDownMaskFor(buttons);
+    if (c == null) {
+      return;
+    }
+    Target target = targetFor(c);
+    if (target == null) {
+      return;
+    }
+    int button = buttonFor(buttons);
+    long when = currentTimeMillis();
+    boolean popupTrigger = button == BUTTON3 && !popupOnPress();
+    List<MouseEvent> events = newArrayList();
+    events.add(mouseEvent(target, MOUSE_RELEASED, when, clickCount, popupTrigger, button));
+    if (!dragged && c == pointerTarget) {
+      events.add(mouseEvent(target, MOUSE_CLICKED, when, clickCount, false, button));
+    }
+    eventPoster.postEvents(c, events);
+    if (buttonsDown == 0) {
+      pressTarget = null;
+    }
+  }
+
+  @RunsInEDT
+  @Override
+  public void rotateMouseWheel(int amount) {
+    Target target = targetUnderPointer();
+    if (target == null) {
+      return;
+    }
+    MouseWheelEvent event = new MouseWheelEvent(target.component, MOUSE_WHEEL, currentTimeMillis(), modifiers(),
+                                                target.location.x, target.location.y, pointerLocation.x,
+                                                pointerLocation.y, 0, false, WHEEL_UNIT_SCROLL, WHEEL_SCROLL_AMOUNT,
+                                                amount);
+    eventPoster.postEvent(target.component, event);
+  }
+
+  @RunsInEDT
+  @Override
+  public void moveMouse(@Nonnull Component c, int x, int y) {
+    Point p = execute(() -> {
+      Point location = locationOnScreenOf(c);
+      location.translate(x, y);
+      return location;
+    });
+    if (p != null) {
+      moveMouse(p.x, p.y);
+    }
+  }
+
+  @RunsInEDT
+  @Override
+  public void moveMouse(int x, int y) {
+    pointerLocation = new Point(x, y);
+    long when = currentTimeMillis();
+    if (buttonsDown != 0 && pressTarget != null) {
+      // While a button is down, the component where it was pressed keeps receiving the mouse events.
+      Target target = targetFor(pressTarget);
+      if (target != null) {
+        dragged = true;
+        post(target, MOUSE_DRAGGED, when, 0, false, NOBUTTON);
+      }
+      return;
+    }
+    Target target = targetUnderPointer();
+    Component newPointerTarget = target != null ? target.component : null;
+    if (pointerTarget != null && pointerTarget != newPointerTarget) {
+      Target previous = targetFor(pointerTarget);
+      if (previous != null) {
+        post(previous, MOUSE_EXITED, when, 0, false, NOBUTTON);
+      }
+    }
+    if (target == null) {
+      pointerTarget = null;
+      return;
+    }
+    if (pointerTarget != newPointerTarget) {
+      post(target, MOUSE_ENTERED, when, 0, false, NOBUTTON);
+    }
+    pointerTarget = newPointerTarget;
+    post(target, MOUSE_MOVED, when, 0, false, NOBUTTON);
+  }
+
+  @RunsInEDT
+  @Override
+  public void pressKey(int keyCode, char keyChar) {
+    if (keyCode == VK_UNDEFINED) {
+      throw new IllegalArgumentException(String.format("Invalid key code '%d'", keyCode));
+    }
+    keyModifiers |= keyModifierDownMaskFor(keyCode);
+    Component focus = execute(() -> focusOwner());
+    if (focus == null) {
+      return;
+    }
+    char character = keyChar != CHAR_UNDEFINED ? keyChar : characterFor(keyCode);
+    long when = currentTimeMillis();
+    List<KeyEvent> events = newArrayList();
+    events.add(new KeyEvent(focus, KEY_PRESSED, when, keyModifiers, keyCode, character));
+    if (character != CHAR_UNDEFINED && (keyModifiers & (CTRL_DOWN_MASK | ALT_DOWN_MASK | META_DOWN_MASK)) == 0) {
+      events.add(new KeyEvent(focus, KEY_TYPED, when, keyModifiers, VK_UNDEFINED, character));
+    }
+    eventPoster.postEvents(focus, events);
+  }
+
+  @RunsInEDT
+  @Override
+  public void releaseKey(int keyCode) {
+    keyModifiers &= ~keyModifierDownMaskFor(keyCode);
+    Component focus = execute(() -> focusOwner());
+    if (focus == null) {
+      return;
+    }
+    KeyEvent event = new KeyEvent(focus, KEY_RELEASED, currentTimeMillis(), keyModifiers, keyCode,
+                                  characterFor(keyCode));
+    eventPoster.postEvent(focus, event);
+  }
+
+  private char characterFor(int keyCode) {
+    if (keyModifierDownMaskFor(keyCode) != 0) {
+      return CHAR_UNDEFINED;
+    }
+    return charFor(KeyStroke.getKeyStroke(keyCode, keyModifiers));
+  }
+
+  private void post(@Nonnull Target target, int id, long when, int count, boolean popupTrigger, int button) {
+    eventPoster.postEvent(target.component, mouseEvent(target, id, when, count, popupTrigger, button));
+  }
+
+  @Nonnull private MouseEvent mouseEvent(@Nonnull Target target, int id, long when, int count, boolean popupTrigger,
+                                         int button) {
+    return new MouseEvent(target.component, id, when, modifiers(), target.location.x, target.location.y,
+                          pointerLocation.x, pointerLocation.y, count, popupTrigger, button);
+  }
+
+  private int modifiers() {
+    return keyModifiers | buttonsDown;
+  }
+
+  @RunsInEDT
+  @Nullable private Target targetUnderPointer() {
+    Point p = pointerLocation;
+    return execute(() -> heavyweightAt(p));
+  }
+
+  @RunsInEDT
+  @Nullable private Target targetFor(@Nonnull Component c) {
+    Point p = pointerLocation;
+    return execute(() -> {
+      if (!c.isShowing()) {
+        return null;
+      }
+      Point location = new Point(p);
+      Point origin = locationOnScreenOf(c);
+      location.translate(-origin.x, -origin.y);
+      return new Target(c, location);
+    });
+  }
+
+  // Finds the heavyweight component under the given point, looking at the most recently created windows first (pop-ups
+  // are usually created after the windows that own them.)
+  @RunsInCurrentThread
+  @Nullable private static Target heavyweightAt(@Nonnull Point screenLocation) {
+    Window[] windows = Window.getWindows();
+    for (int i = windows.length - 1; i >= 0; i--) {
+      Window w = windows[i];
+      if (!w.isShowing()) {
+        continue;
+      }
+      Point origin = locationOnScreenOf(w);
+      if (!new Rectangle(origin, w.getSize()).contains(screenLocation)) {
+        continue;
+      }
+      Point location = new Point(screenLocation.x - origin.x, screenLocation.y - origin.y);
+      Component c = getDeepestComponentAt(w, location.x, location.y);
+      while (c != null && c != w && c.isLightweight()) {
+        c = c.getParent();
+      }
+      if (c == null || c == w) {
+        return new Target(w, location);
+      }
+      return new Target(c, convertPoint(w, location, c));
+    }
+    return null;
+  }
+
+  private static int buttonFor(int buttons) {
+    if ((buttons & (BUTTON1_MASK | BUTTON1_DOWN_MASK)) != 0) {
+      return BUTTON1;
+    }
+    if ((buttons & (BUTTON2_MASK | BUTTON2_DOWN_MASK)) != 0) {
+      return BUTTON2;
+    }
+    if ((buttons & (BUTTON3_MASK | BUTTON3_DOWN_MASK)) != 0) {
+      return BUTTON3;
+    }
+    return NOBUTTON;
+  }
+
+  private static int buttonsDownMaskFor(int buttons) {
+    int mask = 0;
+    if ((buttons & (BUTTON1_MASK | BUTTON1_DOWN_MASK)) != 0) {
+      mask |= BUTTON1_DOWN_MASK;
+    }
+    if ((buttons & (BUTTON2_MASK | BUTTON2_DOWN_MASK)) != 0) {
+      mask |= BUTTON2_DOWN_MASK;
+    }
+    if ((buttons & (BUTTON3_MASK | BUTTON3_DOWN_MASK)) != 0) {
+      mask |= BUTTON3_DOWN_MASK;
+    }
+    return mask;
+  }
+
+  private static int keyModifierDownMaskFor(int keyCode) {
+    switch (keyCode) {
+    case VK_SHIFT:
+      return SHIFT_DOWN_MASK;
+    case VK_CONTROL:
+      return CTRL_DOWN_MASK;
+    case VK_ALT:
+      return ALT_DOWN_MASK;
+    case VK_ALT_GRAPH:
+      return ALT_GRAPH_DOWN_MASK;
+    case VK_META:
+      return META_DOWN_MASK;
+    default:
+      return 0;
+    }
+  }
+
+  private static class Target {
+    final Component component;
+    final Point location;
+
+    Target(@Nonnull Component component, @Nonnull Point location) {
+      this.component = component;
+      this.location = location;
+    }
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static java.awt.AWTEvent.COMPONENT_EVENT_MASK;
+import static java.awt.AWTEvent.CONTAINER_EVENT_MASK;
+import static java.awt.AWTEvent.FOCUS_EVENT_MASK;
+import static java.awt.AWTEvent.KEY_EVENT_MASK;
+import static java.awt.AWTEvent.MOUSE_EVENT_MASK;
+import static java.awt.AWTEvent.MOUSE_MOTION_EVENT_MASK;
+import static java.awt.AWTEvent.MOUSE_WHEEL_EVENT_MASK;
+import static java.awt.AWTEvent.WINDOW_EVENT_MASK;
+import static java.awt.AWTEvent.WINDOW_FOCUS_EVENT_MASK;
+import static java.awt.AWTEvent.WINDOW_STATE_EVENT_MASK;
+
+import java.awt.AWTEvent;
+import java.awt.Toolkit;
+import java.awt.event.AWTEventListener;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Counts the input, focus, window and component events dispatched by AWT. The invocation events used to wait for the
+ * AWT event queue to be idle are not counted, so a change in the count between two idle states means the application
+ * under test was still reacting to the generated input.
+ */
+@ThreadSafe
+class DispatchedEventCounter implements AWTEventListener {
+  private static final long EVENT_MASK = KEY_EVENT_MASK | MOUSE_EVENT_MASK | MOUSE_MOTION_EVENT_MASK
+      | MOUSE_WHEEL_EVENT_MASK | FOCUS_EVENT_MASK | WINDOW_EVENT_MASK | WINDOW_FOCUS_EVENT_MASK
+      | WINDOW_STATE_EVENT_MASK | COMPONENT_EVENT_MASK | CONTAINER_EVENT_MASK;
+
+  private final AtomicLong count = new AtomicLong();
+
+  /**
+   * Creates a new {@link DispatchedEventCounter} and starts counting the events dispatched by the given
+   * {@code Toolkit}.
+   *
+   * @param toolkit the {@code Toolkit} to listen to.
+   * @return the created counter.
+   */
+  @Nonnull static DispatchedEventCounter install(@Nonnull Toolkit toolkit) {
+    DispatchedEventCounter counter = new DispatchedEventCounter();
+    toolkit.addAWTEventListener(counter, EVENT_MASK);
+    return counter;
+  }
+
+  @Override
+  public void eventDispatched(AWTEvent event) {
+    count.incrementAndGet();
+  }
+
+  /**
+   * @return the number of events dispatched since this counter was installed.
+   */
+  long count() {
+    return count.get();
+  }
+}
@@ -22,12 +22,18 @@ import java.util.Set;
 
 import javax.annotation.Nonnull;
 
+import org.assertj.swing.annotation.RunsInCurrentThread;
 import org.assertj.swing.annotation.RunsInEDT;
 import org.assertj.swing.hierarchy.ComponentHierarchy;
 
 /**
  * Finds all the AWT and Swing {@code Components} in a {@link ComponentHierarchy} that match the search criteria
  * specified in a {@link ComponentMatcher}.
+ * <p>
+ * The {@code find} methods visit the hierarchy node by node, accessing each {@code Component} in its own trip to the
+ * event dispatch thread (EDT). The {@code findInSingleQuery} methods traverse the whole hierarchy and evaluate the
+ * {@link ComponentMatcher} inside one single {@link org.assertj.swing.edt.GuiQuery}.
+ * </p>
  *
  * @author Alex Ruiz
  */
@@ -98,4 +104,44 @@ final class FinderDelegate {
     Boolean matching = execute(() -> m.matches(c));
     return checkNotNull(matching);
   }
+
+  @RunsInEDT
+  @Nonnull
+  Collection<Component> findInSingleQuery(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m) {
+    Collection<Component> found = execute(() -> findInCurrentThread(h, m));
+    return checkNotNull(found);
+  }
+
+  @RunsInEDT
+  @Nonnull
+  <T extends Component> Collection<T> findInSingleQuery(@Nonnull ComponentHierarchy h,
+                                                        @Nonnull GenericTypeMatcher<T> m) {
+    Collection<Component> matching = findInSingleQuery(h, (ComponentMatcher) m);
+    Set<T> found = newLinkedHashSet();
+    for (Component c : matching) {
+      found.add(m.supportedType().cast(c));
+    }
+    return found;
+  }
+
+  @RunsInCurrentThread
+  @Nonnull
+  static Collection<Component> findInCurrentThread(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m) {
+    Set<Component> found = newLinkedHashSet();
+    for (Component c : h.roots()) {
+      findInCurrentThread(h, m, checkNotNull(c), found);
+    }
+    return found;
+  }
+
+  @RunsInCurrentThread
+  private static void findInCurrentThread(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m,
+                                          @Nonnull Component root, @Nonnull Set<Component> found) {
+    for (Component c : checkNotNull(h.childrenOf(root))) {
+      findInCurrentThread(h, m, checkNotNull(c), found);
+    }
+    if (m.matches(root)) {
+      found.add(root);
+    }
+  }
 }
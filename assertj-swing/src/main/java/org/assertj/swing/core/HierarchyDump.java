@@ -0,0 +1,232 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static java.lang.System.lineSeparator;
+import static org.assertj.core.util.Objects.areEqual;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.format.Formatting.formatTo;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.JLabel;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.hierarchy.ComponentHierarchy;
+
+/**
+ * <p>
+ * Prints a bounded part of a {@link ComponentHierarchy}, to be included in the message of a failed
+ * {@code Component} lookup. {@code Component}s nested deeper than the maximum depth, and {@code Component}s after the
+ * maximum count, are left out.
+ * </p>
+ *
+ * <p>
+ * It can also print only the part of the hierarchy around the {@code Component} that comes closest to the search
+ * criteria of a {@link ComponentMatcher}: the closest match, its ancestors, its siblings and their descendants.
+ * </p>
+ */
+final class HierarchyDump {
+  static final int UNLIMITED = Integer.MAX_VALUE;
+
+  private static final String INDENTATION = "  ";
+  private static final String CLOSEST_MATCH_MARK = "  <-- closest match";
+
+  private final ComponentHierarchy hierarchy;
+  private final int maxDepth;
+  private final int maxComponents;
+
+  HierarchyDump(@Nonnull ComponentHierarchy hierarchy, int maxDepth, int maxComponents) {
+    this.hierarchy = hierarchy;
+    this.maxDepth = maxDepth;
+    this.maxComponents = maxComponents;
+  }
+
+  /**
+   * Prints the whole hierarchy, within the limits of this dump.
+   *
+   * @return the printed hierarchy.
+   */
+  @RunsInEDT
+  @Nonnull String print() {
+    return checkNotNull(execute(() -> new Printer(null).printAll()));
+  }
+
+  /**
+   * Prints the part of the hierarchy around the {@code Component} that comes closest to the search criteria of the
+   * given matcher, within the limits of this dump. If no {@code Component} comes close, the whole hierarchy is printed.
+   *
+   * @param m the matcher that did not match any {@code Component}.
+   * @return the printed hierarchy.
+   */
+  @RunsInEDT
+  @Nonnull String printAroundClosestMatch(@Nonnull ComponentMatcher m) {
+    return checkNotNull(execute(() -> {
+      Component closest = closestMatch(m);
+      Printer printer = new Printer(closest);
+      return closest != null ? printer.printAround(closest) : printer.printAll();
+    }));
+  }
+
+  @RunsInCurrentThread
+  @Nullable private Component closestMatch(@Nonnull ComponentMatcher m) {
+    Component closest = null;
+    int bestScore = 0;
+    Deque<Component> pending = new ArrayDeque<>(hierarchy.roots());
+    while (!pending.isEmpty()) {
+      Component c = pending.removeFirst();
+      int score = partialMatchScore(m, c);
+      if (score > bestScore) {
+        closest = c;
+        bestScore = score;
+      }
+      pending.addAll(hierarchy.childrenOf(c));
+    }
+    return closest;
+  }
+
+  // 0 if the component has nothing in common with the search criteria, higher scores for closer matches.
+  @RunsInCurrentThread
+  private static int partialMatchScore(@Nonnull ComponentMatcher m, @Nonnull Component c) {
+    if (m instanceof NameMatcher) {
+      NameMatcher nameMatcher = (NameMatcher) m;
+      if (areEqual(nameMatcher.name(), c.getName())) {
+        return nameMatcher.type().isInstance(c) ? 3 : 2;
+      }
+      return nameMatcher.type() != Component.class && nameMatcher.type().isInstance(c) ? 1 : 0;
+    }
+    if (m instanceof LabelMatcher) {
+      LabelMatcher labelMatcher = (LabelMatcher) m;
+      if (!(c instanceof JLabel) || !areEqual(labelMatcher.label(), ((JLabel) c).getText())) {
+        return 0;
+      }
+      return labelMatcher.type().isInstance(((JLabel) c).getLabelFor()) ? 2 : 1;
+    }
+    if (m instanceof TypeMatcher) {
+      return ((TypeMatcher) m).type().isInstance(c) ? 1 : 0;
+    }
+    if (m instanceof GenericTypeMatcher) {
+      return ((GenericTypeMatcher<?>) m).supportedType().isInstance(c) ? 1 : 0;
+    }
+    return 0;
+  }
+
+  private class Printer {
+    private final Component closestMatch;
+    private final StringBuilder out = new StringBuilder();
+    private int printed;
+    private boolean truncated;
+
+    Printer(@Nullable Component closestMatch) {
+      this.closestMatch = closestMatch;
+    }
+
+    @RunsInCurrentThread
+    @Nonnull String printAll() {
+      for (Container root : hierarchy.roots()) {
+        print(checkNotNull(root), 0, 0);
+      }
+      return finish();
+    }
+
+    // prints the ancestors of the parent of the given component, and the whole subtree under that parent.
+    @RunsInCurrentThread
+    @Nonnull String printAround(@Nonnull Component c) {
+      Container parent = parentInHierarchy(c);
+      Component subtreeRoot = parent != null ? parent : c;
+      Deque<Component> ancestors = new ArrayDeque<>();
+      for (Container a = parentInHierarchy(subtreeRoot); a != null; a = parentInHierarchy(a)) {
+        ancestors.addFirst(a);
+      }
+      int level = 0;
+      for (Component ancestor : ancestors) {
+        if (!printLine(checkNotNull(ancestor), level++)) {
+          return finish();
+        }
+      }
+      print(subtreeRoot, level, 0);
+      return finish();
+    }
+
+    // the parent may be out of the hierarchy, e.g. when the hierarchy is restricted to the children of a container.
+    @RunsInCurrentThread
+    @Nullable private Container parentInHierarchy(@Nonnull Component c) {
+      Container parent = hierarchy.parentOf(c);
+      return parent != null && hierarchy.contains(parent) ? parent : null;
+    }
+
+    @RunsInCurrentThread
+    private void print(@Nonnull Component c, int level, int depth) {
+      if (!printLine(c, level)) {
+        return;
+      }
+      Collection<Component> children = hierarchy.childrenOf(c);
+      if (children.isEmpty()) {
+        return;
+      }
+      if (depth >= maxDepth) {
+        indent(level + 1);
+        out.append(String.format("... (%d more component(s) nested in here)", children.size()))
+           .append(lineSeparator());
+        return;
+      }
+      for (Component child : children) {
+        print(checkNotNull(child), level + 1, depth + 1);
+      }
+    }
+
+    @RunsInCurrentThread
+    private boolean printLine(@Nonnull Component c, int level) {
+      if (printed >= maxComponents) {
+        truncated = true;
+        return false;
+      }
+      indent(level);
+      try {
+        formatTo(c, out);
+      } catch (IOException e) {
+        // a StringBuilder does not throw IOExceptions.
+        throw new AssertionError(e);
+      }
+      if (c == closestMatch) {
+        out.append(CLOSEST_MATCH_MARK);
+      }
+      out.append(lineSeparator());
+      printed++;
+      return true;
+    }
+
+    private void indent(int level) {
+      for (int i = 0; i < level; i++) {
+        out.append(INDENTATION);
+      }
+    }
+
+    @Nonnull private String finish() {
+      if (truncated) {
+        out.append(String.format("... (only the first %d components are shown)", maxComponents))
+           .append(lineSeparator());
+      }
+      return out.toString();
+    }
+  }
+}
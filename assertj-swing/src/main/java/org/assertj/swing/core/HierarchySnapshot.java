@@ -0,0 +1,244 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static java.lang.System.lineSeparator;
+import static java.util.Collections.unmodifiableList;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.format.Formatting.formatTo;
+
+import java.awt.Component;
+import java.awt.Rectangle;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.hierarchy.ComponentHierarchy;
+import org.assertj.swing.internal.annotation.IORuntimeException;
+
+/**
+ * <p>
+ * Immutable copy of the properties of the AWT and Swing {@code Component}s in a {@link ComponentHierarchy} that match
+ * some search criteria, in depth-first order.
+ * </p>
+ *
+ * <p>
+ * Only taking a snapshot needs the event dispatch thread (EDT.) Printing a snapshot happens in the current thread, so
+ * the application under test does not wait on the output. The {@code String} representations of all the
+ * {@code Component}s are appended to a single buffer while taking the snapshot.
+ * </p>
+ */
+@Immutable
+final class HierarchySnapshot {
+  private static final String INDENTATION = "  ";
+
+  private final List<Node> nodes;
+  private final String descriptions;
+
+  private HierarchySnapshot(@Nonnull List<Node> nodes, @Nonnull String descriptions) {
+    this.nodes = unmodifiableList(nodes);
+    this.descriptions = descriptions;
+  }
+
+  /**
+   * Takes a snapshot of the AWT and Swing {@code Component}s in the given hierarchy that match the given matcher. This
+   * method is executed in the EDT.
+   *
+   * @param hierarchy the hierarchy to copy.
+   * @param matcher specifies the {@code Component}s to copy.
+   * @return the created snapshot.
+   */
+  @RunsInEDT
+  @Nonnull static HierarchySnapshot take(final @Nonnull ComponentHierarchy hierarchy,
+                                         final @Nonnull ComponentMatcher matcher) {
+    StringBuilder descriptions = new StringBuilder();
+    List<Node> nodes = execute(() -> {
+      List<Node> copied = newArrayList();
+      for (Component root : hierarchy.roots()) {
+        copy(checkNotNull(root), hierarchy, matcher, 0, copied, descriptions);
+      }
+      return copied;
+    });
+    return new HierarchySnapshot(checkNotNull(nodes), descriptions.toString());
+  }
+
+  @RunsInCurrentThread
+  private static void copy(@Nonnull Component c, @Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher matcher,
+                           int depth, @Nonnull List<Node> nodes, @Nonnull StringBuilder descriptions) {
+    if (matcher.matches(c)) {
+      nodes.add(new Node(c, depth, descriptions));
+    }
+    for (Component child : h.childrenOf(c)) {
+      copy(checkNotNull(child), h, matcher, depth + 1, nodes, descriptions);
+    }
+  }
+
+  /**
+   * Prints this snapshot as {@link PrintFormat#PLAIN_TEXT plain text}, one line per {@code Component}.
+   *
+   * @param out where to print this snapshot.
+   */
+  void print(@Nonnull PrintStream out) {
+    for (Node node : nodes) {
+      indent(out, node.depth);
+      out.append(descriptions, node.descriptionStart, node.descriptionEnd);
+      out.println();
+    }
+  }
+
+  /**
+   * Prints this snapshot in the given format.
+   *
+   * @param out where to print this snapshot.
+   * @param format the format to use.
+   * @throws IOException if appending to the given {@code Appendable} fails.
+   */
+  void print(@Nonnull Appendable out, @Nonnull PrintFormat format) throws IOException {
+    switch (format) {
+    case JSON:
+      printAsJson(out);
+      return;
+    default:
+      printAsPlainText(out);
+    }
+  }
+
+  private void printAsPlainText(@Nonnull Appendable out) throws IOException {
+    for (Node node : nodes) {
+      indent(out, node.depth);
+      out.append(descriptions, node.descriptionStart, node.descriptionEnd).append(lineSeparator());
+    }
+  }
+
+  private void printAsJson(@Nonnull Appendable out) throws IOException {
+    out.append('[');
+    int last = nodes.size() - 1;
+    for (int i = 0; i <= last; i++) {
+      out.append(lineSeparator()).append(INDENTATION);
+      nodes.get(i).printAsJson(out, descriptions);
+      if (i < last) {
+        out.append(',');
+      }
+    }
+    if (last >= 0) {
+      out.append(lineSeparator());
+    }
+    out.append(']').append(lineSeparator());
+  }
+
+  private static void indent(@Nonnull Appendable out, int depth) throws IOException {
+    for (int i = 0; i < depth; i++) {
+      out.append(INDENTATION);
+    }
+  }
+
+  private static void indent(@Nonnull PrintStream out, int depth) {
+    for (int i = 0; i < depth; i++) {
+      out.print(INDENTATION);
+    }
+  }
+
+  @Immutable
+  private static class Node {
+    final int depth;
+    final String type;
+    final String name;
+    final int descriptionStart;
+    final int descriptionEnd;
+    final boolean enabled;
+    final boolean visible;
+    final boolean showing;
+    final Rectangle bounds;
+
+    @RunsInCurrentThread
+    Node(@Nonnull Component c, int depth, @Nonnull StringBuilder descriptions) {
+      this.depth = depth;
+      type = c.getClass().getName();
+      name = c.getName();
+      descriptionStart = descriptions.length();
+      try {
+        formatTo(c, descriptions);
+      } catch (IOException e) {
+        // a StringBuilder does not throw IOException.
+        throw new IORuntimeException("Unable to format " + type, e);
+      }
+      descriptionEnd = descriptions.length();
+      enabled = c.isEnabled();
+      visible = c.isVisible();
+      showing = c.isShowing();
+      bounds = c.getBounds();
+    }
+
+    void printAsJson(@Nonnull Appendable out, @Nonnull String descriptions) throws IOException {
+      out.append("{\"depth\": ").append(String.valueOf(depth));
+      out.append(", \"type\": ");
+      appendJsonString(out, type);
+      out.append(", \"name\": ");
+      appendJsonString(out, name);
+      out.append(", \"description\": ");
+      appendJsonString(out, descriptions, descriptionStart, descriptionEnd);
+      out.append(", \"enabled\": ").append(String.valueOf(enabled));
+      out.append(", \"visible\": ").append(String.valueOf(visible));
+      out.append(", \"showing\": ").append(String.valueOf(showing));
+      out.append(String.format(", \"bounds\": [%d, %d, %d, %d]}", bounds.x, bounds.y, bounds.width, bounds.height));
+    }
+  }
+
+  private static void appendJsonString(@Nonnull Appendable out, @Nullable String s) throws IOException {
+    if (s == null) {
+      out.append("null");
+      return;
+    }
+    appendJsonString(out, s, 0, s.length());
+  }
+
+  private static void appendJsonString(@Nonnull Appendable out, @Nonnull String s, int start, int end)
+      throws IOException {
+    out.append('"');
+    for (int i = start; i < end; i++) {
+      char c = s.charAt(i);
+      switch (c) {
+      case '"':
+        out.append("\\\"");
+        break;
+      case '\\':
+        out.append("\\\\");
+        break;
+      case '\n':
+        out.append("\\n");
+        break;
+      case '\r':
+        out.append("\\r");
+        break;
+      case '\t':
+        out.append("\\t");
+        break;
+      default:
+        if (c < 0x20) {
+          out.append(String.format("\\u%04x", (int) c));
+        } else {
+          out.append(c);
+        }
+      }
+    }
+    out.append('"');
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static java.lang.System.currentTimeMillis;
+import static java.util.logging.Level.WARNING;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.event.InvocationEvent;
+import java.util.logging.Logger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+import org.assertj.swing.annotation.RunsInEDT;
+
+/**
+ * <p>
+ * {@code EventQueue} that knows when it has been drained. Every time an event has been dispatched, this queue checks
+ * whether there are more events waiting to be dispatched. If there are none, it notifies any thread waiting for the
+ * queue to become idle.
+ * </p>
+ *
+ * <p>
+ * This queue is only able to detect idleness while it is the current system {@code EventQueue}: if another
+ * {@code EventQueue} is pushed on top of it, {@link #isCurrentSystemEventQueue()} returns {@code false} and callers are
+ * expected to fall back to a different strategy.
+ * </p>
+ *
+ * <p>
+ * Once {@link #uninstall() uninstalled}, this queue forwards the events posted to it to the queue it was pushed on, so
+ * components that still reference it do not start a new event dispatch thread.
+ * </p>
+ */
+class IdleDetectingEventQueue extends EventQueue {
+  private static Logger logger = Logger.getLogger(IdleDetectingEventQueue.class.getCanonicalName());
+
+  private final Toolkit toolkit;
+  private final EventQueue pushedOn;
+  private final Object lock = new Object();
+
+  private volatile boolean uninstalled;
+
+  @GuardedBy("lock")
+  private long dispatchedCount;
+
+  @GuardedBy("lock")
+  private long dispatchedCountWhenLastIdle = -1;
+
+  /**
+   * Pushes a new {@link IdleDetectingEventQueue} on top of the system {@code EventQueue} of the given {@code Toolkit}.
+   *
+   * @param toolkit the {@code Toolkit} to use.
+   * @return the pushed queue, or {@code null} if the queue could not be pushed.
+   */
+  @Nullable static IdleDetectingEventQueue install(@Nonnull Toolkit toolkit) {
+    EventQueue systemEventQueue = toolkit.getSystemEventQueue();
+    IdleDetectingEventQueue queue = new IdleDetectingEventQueue(toolkit, systemEventQueue);
+    try {
+      systemEventQueue.push(queue);
+      return queue;
+    } catch (RuntimeException e) {
+      String msg = String.format("Unable to install %s", IdleDetectingEventQueue.class.getName());
+      logger.log(WARNING, msg, e);
+      return null;
+    }
+  }
+
+  IdleDetectingEventQueue(@Nonnull Toolkit toolkit, @Nonnull EventQueue pushedOn) {
+    this.toolkit = toolkit;
+    this.pushedOn = pushedOn;
+  }
+
+  /**
+   * Removes this queue from the top of the system {@code EventQueue} stack. Pending events are transferred to the queue
+   * this one was pushed on. If another queue has been pushed on top of this one, this queue is left where it is, since
+   * {@code EventQueue.pop} would remove the other queue instead.
+   *
+   * @return {@code true} if this queue was removed, {@code false} otherwise.
+   */
+  boolean uninstall() {
+    if (!isCurrentSystemEventQueue()) {
+      logger.warning(String.format("Unable to uninstall %s: another EventQueue was pushed on top of it",
+                                   IdleDetectingEventQueue.class.getName()));
+      return false;
+    }
+    uninstalled = true;
+    try {
+      pop();
+      return true;
+    } catch (RuntimeException e) {
+      uninstalled = false;
+      String msg = String.format("Unable to uninstall %s", IdleDetectingEventQueue.class.getName());
+      logger.log(WARNING, msg, e);
+      return false;
+    }
+  }
+
+  /**
+   * @return {@code true} if this queue is the one currently dispatching the events of the system {@code EventQueue}.
+   */
+  boolean isCurrentSystemEventQueue() {
+    return !uninstalled && toolkit.getSystemEventQueue() == this;
+  }
+
+  /**
+   * Indicates whether the events posted to the given queue are dispatched by this queue: either it is this queue, or
+   * the queue this one was pushed on (which forwards its events to this one.)
+   *
+   * @param queue the queue to check.
+   * @return {@code true} if the events posted to the given queue are dispatched by this queue.
+   */
+  boolean dispatchesEventsOf(@Nonnull EventQueue queue) {
+    return queue == this || queue == pushedOn;
+  }
+
+  @Override
+  public void postEvent(AWTEvent event) {
+    if (uninstalled) {
+      pushedOn.postEvent(event);
+      return;
+    }
+    super.postEvent(event);
+  }
+
+  @RunsInEDT
+  @Override
+  protected void dispatchEvent(AWTEvent event) {
+    try {
+      super.dispatchEvent(event);
+    } finally {
+      boolean drained = peekEvent() == null;
+      synchronized (lock) {
+        dispatchedCount++;
+        if (drained) {
+          dispatchedCountWhenLastIdle = dispatchedCount;
+          lock.notifyAll();
+        }
+      }
+    }
+  }
+
+  /**
+   * Waits until this queue has no more events to dispatch. This method posts an {@code InvocationEvent} to make sure
+   * any event being currently dispatched has finished, and then waits until the queue is found empty after an event has
+   * been dispatched.
+   *
+   * @param timeout the maximum time to wait, in milliseconds.
+   * @return {@code true} if the queue became idle, {@code false} if the wait timed out.
+   * @throws IllegalThreadStateException if this method is called in the event dispatch thread (EDT).
+   */
+  boolean awaitIdle(long timeout) {
+    if (isDispatchThread()) {
+      throw new IllegalThreadStateException("Cannot call method from the event dispatcher thread");
+    }
+    long[] countBeforeMarker = { -1 };
+    Runnable marker = () -> {
+      synchronized (lock) {
+        countBeforeMarker[0] = dispatchedCount;
+      }
+    };
+    postEvent(new InvocationEvent(toolkit, marker));
+    long start = currentTimeMillis();
+    synchronized (lock) {
+      while (countBeforeMarker[0] < 0 || dispatchedCountWhenLastIdle <= countBeforeMarker[0]) {
+        long remaining = timeout - (currentTimeMillis() - start);
+        if (remaining <= 0) {
+          return false;
+        }
+        try {
+          lock.wait(remaining);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+}
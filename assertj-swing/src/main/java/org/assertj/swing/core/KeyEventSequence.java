@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static java.awt.event.KeyEvent.CHAR_UNDEFINED;
+import static java.awt.event.KeyEvent.KEY_PRESSED;
+import static java.awt.event.KeyEvent.KEY_RELEASED;
+import static java.awt.event.KeyEvent.KEY_TYPED;
+import static java.awt.event.KeyEvent.VK_UNDEFINED;
+import static java.lang.System.currentTimeMillis;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.swing.keystroke.KeyStrokeMap.keyStrokeFor;
+import static org.assertj.swing.util.Modifiers.keysFor;
+import static org.assertj.swing.util.Modifiers.maskFor;
+
+import java.awt.Component;
+import java.awt.event.KeyEvent;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.swing.KeyStroke;
+
+/**
+ * Translates text into the ordered sequence of {@code KeyEvent}s a user would generate when typing it. Characters
+ * mapped in {@link org.assertj.swing.keystroke.KeyStrokeMap} produce the key presses and releases of their
+ * {@code KeyStroke} (including modifiers) around a {@code KeyEvent#KEY_TYPED} event; characters that are not mapped
+ * only produce a {@code KeyEvent#KEY_TYPED} event.
+ */
+final class KeyEventSequence {
+  private final Component source;
+  private final List<KeyEvent> events = newArrayList();
+  private final long when = currentTimeMillis();
+
+  /**
+   * Creates the {@code KeyEvent}s to type the given text.
+   *
+   * @param source the source of the events (usually the focus owner.)
+   * @param text the text to type.
+   * @return the {@code KeyEvent}s to type the given text, in the order they should be posted.
+   */
+  @Nonnull static List<KeyEvent> keyEventsToType(@Nonnull Component source, @Nonnull String text) {
+    KeyEventSequence sequence = new KeyEventSequence(source);
+    for (char character : text.toCharArray()) {
+      sequence.type(character);
+    }
+    return sequence.events;
+  }
+
+  private KeyEventSequence(@Nonnull Component source) {
+    this.source = source;
+  }
+
+  private void type(char character) {
+    KeyStroke keyStroke = keyStrokeFor(character);
+    if (keyStroke == null) {
+      add(KEY_TYPED, 0, VK_UNDEFINED, character);
+      return;
+    }
+    int keyCode = keyStroke.getKeyCode();
+    int modifiers = keyStroke.getModifiers();
+    int[] modifierKeys = keysFor(modifiers);
+    int pressedModifiers = 0;
+    for (int modifierKey : modifierKeys) {
+      pressedModifiers |= maskFor(modifierKey);
+      add(KEY_PRESSED, pressedModifiers, modifierKey, CHAR_UNDEFINED);
+    }
+    add(KEY_PRESSED, modifiers, keyCode, character);
+    add(KEY_TYPED, modifiers, VK_UNDEFINED, character);
+    add(KEY_RELEASED, modifiers, keyCode, character);
+    // For consistency, release in the reverse order of press.
+    for (int i = modifierKeys.length - 1; i >= 0; i--) {
+      pressedModifiers &= ~maskFor(modifierKeys[i]);
+      add(KEY_RELEASED, pressedModifiers, modifierKeys[i], CHAR_UNDEFINED);
+    }
+  }
+
+  private void add(int id, int modifiers, int keyCode, char keyChar) {
+    events.add(new KeyEvent(source, id, when, modifiers, keyCode, keyChar));
+  }
+}
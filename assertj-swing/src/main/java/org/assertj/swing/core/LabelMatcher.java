@@ -122,6 +122,16 @@ public class LabelMatcher extends AbstractComponentMatcher {
     return type.isInstance(labeled) && requireShowingMatches(checkNotNull(labeled));
   }
 
+  @Nonnull
+  String label() {
+    return label;
+  }
+
+  @Nonnull
+  Class<? extends Component> type() {
+    return type;
+  }
+
   @Override
   public String toString() {
     String format = "%s[label=%s, type=%s, requireShowing=%b]";
@@ -107,6 +107,16 @@ public final class NameMatcher extends AbstractComponentMatcher {
     return areEqual(name, c.getName()) && type.isInstance(c) && requireShowingMatches(c);
   }
 
+  @Nonnull
+  String name() {
+    return name;
+  }
+
+  @Nonnull
+  Class<? extends Component> type() {
+    return type;
+  }
+
   @Override
   public String toString() {
     String format = "%s[name='%s', type=%s, requireShowing=%b]";
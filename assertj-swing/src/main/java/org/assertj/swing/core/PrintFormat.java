@@ -0,0 +1,34 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+/**
+ * Formats in which a {@link ComponentPrinter} can print AWT and Swing {@code Component}s.
+ */
+public enum PrintFormat {
+  /**
+   * One line per {@code Component}, indented according to its depth in the hierarchy. The text of each line is the
+   * {@code String} representation of the {@code Component}.
+   *
+   * @see org.assertj.swing.format.Formatting#format(java.awt.Component)
+   */
+  PLAIN_TEXT,
+
+  /**
+   * A JSON array with one object per {@code Component}, in depth-first order, each one on its own line so printed
+   * hierarchies can be compared line by line. Each object has the depth of the {@code Component} in the hierarchy, its
+   * type, name, {@code String} representation, whether it is enabled, visible and showing, and its bounds relative to
+   * its parent.
+   */
+  JSON
+}
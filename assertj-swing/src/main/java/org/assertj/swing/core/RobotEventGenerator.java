@@ -12,6 +12,7 @@
  */
 package org.assertj.swing.core;
 
+import static javax.swing.SwingUtilities.isEventDispatchThread;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.swing.awt.AWT.isPointInScreenBoundaries;
 import static org.assertj.swing.awt.AWT.translate;
@@ -127,9 +128,23 @@ class RobotEventGenerator implements InputEventGenerator {
     if (!isOSX()) {
       return;
     }
+    if (settings.timingProfile().skipsFixedDelays()) {
+      waitForInputToBeQueued();
+      return;
+    }
     int delayBetweenEvents = settings.delayBetweenEvents();
     if (KEY_INPUT_DELAY > delayBetweenEvents) {
       pause(KEY_INPUT_DELAY - delayBetweenEvents);
     }
   }
+
+  /**
+   * Waits until the native input generated so far has been turned into AWT events and the AWT event queue has processed
+   * them. Does nothing when called in the event dispatch thread (EDT), which {@code java.awt.Robot} cannot block.
+   */
+  void waitForInputToBeQueued() {
+    if (!isEventDispatchThread()) {
+      robot.waitForIdle();
+    }
+  }
 }
@@ -14,8 +14,10 @@ package org.assertj.swing.core;
 
 import static java.lang.Math.max;
 import static java.lang.Math.min;
+import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.swing.core.ComponentLookupScope.DEFAULT;
 import static org.assertj.swing.core.MouseButton.LEFT_BUTTON;
+import static org.assertj.swing.core.TimingProfile.SAFE;
 import static org.assertj.swing.util.Platform.isOSX;
 import static org.assertj.swing.util.Platform.isWindows;
 import static org.assertj.swing.util.Platform.isX11;
@@ -57,9 +59,18 @@ public class Settings {
   private static final int DEFAULT_DELAY_DROP;
   private static final int DEFAULT_DELAY_POSTING_EVENTS;
   private static final ComponentLookupScope DEFAULT_LOOKUP_SCOPE;
+  private static final boolean DEFAULT_LOOKUP_IN_SINGLE_QUERY;
+  private static final boolean DEFAULT_LOOKUP_INDEX;
+  private static final int DEFAULT_LOOKUP_FAILURE_MAX_DEPTH;
+  private static final int DEFAULT_LOOKUP_FAILURE_MAX_COMPONENTS;
+  private static final boolean DEFAULT_LOOKUP_FAILURE_NEAREST_SUBTREE;
   private static final int DEFAULT_TIMEOUT_IDLE;
   private static final boolean DEFAULT_CLICK_ON_DISABLED;
+  private static final boolean DEFAULT_BATCHED_TEXT_ENTRY;
+  private static final boolean DEFAULT_DIRECT_EVENT_DISPATCH;
   private static final MouseButton DEFAULT_DRAG_BUTTON;
+  private static final TimingProfile DEFAULT_TIMING_PROFILE;
+  private static final int DEFAULT_QUERY_CHUNK_SIZE;
 
   private static final boolean PRESERVE_SCREENSHOTS;
 
@@ -81,9 +92,18 @@ public class Settings {
     DEFAULT_DELAY_DROP = get(p, "delay.drop", 0);
     DEFAULT_DELAY_POSTING_EVENTS = get(p, "delay.posting_events", 100);
     DEFAULT_LOOKUP_SCOPE = getGeneric(p, "lookup_scope", t -> ComponentLookupScope.valueOf(t), DEFAULT);
+    DEFAULT_LOOKUP_IN_SINGLE_QUERY = get(p, "lookup.single_query", true);
+    DEFAULT_LOOKUP_INDEX = get(p, "lookup.index", false);
+    DEFAULT_LOOKUP_FAILURE_MAX_DEPTH = get(p, "lookup.failure.max_depth", 30);
+    DEFAULT_LOOKUP_FAILURE_MAX_COMPONENTS = get(p, "lookup.failure.max_components", 1000);
+    DEFAULT_LOOKUP_FAILURE_NEAREST_SUBTREE = get(p, "lookup.failure.nearest_subtree", false);
     DEFAULT_TIMEOUT_IDLE = get(p, "timeout.idle", 10000);
     DEFAULT_CLICK_ON_DISABLED = get(p, "allow_click_on_disabled_component", true);
+    DEFAULT_BATCHED_TEXT_ENTRY = get(p, "text_entry.batched", false);
+    DEFAULT_DIRECT_EVENT_DISPATCH = get(p, "input.direct_dispatch", false);
     DEFAULT_DRAG_BUTTON = getGeneric(p, "drag.button", t -> MouseButton.valueOf(t), LEFT_BUTTON);
+    DEFAULT_TIMING_PROFILE = getGeneric(p, "timing_profile", t -> TimingProfile.valueOf(t), SAFE);
+    DEFAULT_QUERY_CHUNK_SIZE = get(p, "query.chunk_size", 0);
 
     PRESERVE_SCREENSHOTS = get(p, "preserve_screenshots", false);
   }
@@ -110,6 +130,11 @@ public class Settings {
   }
 
   private ComponentLookupScope componentLookupScope;
+  private boolean componentLookupInSingleQuery;
+  private boolean componentLookupIndex;
+  private int lookupFailureMaxDepth;
+  private int lookupFailureMaxComponents;
+  private boolean lookupFailureNearestSubtree;
   private int timeoutToBeVisible;
   private int timeoutToFindPopup;
   private int timeoutToFindSubMenu;
@@ -120,7 +145,11 @@ public class Settings {
   private int idleTimeout;
   private boolean simpleWaitForIdle;
   private boolean allowClickOnDisabled;
+  private boolean batchedTextEntry;
+  private boolean directEventDispatch;
   private MouseButton dragButton;
+  private TimingProfile timingProfile = SAFE;
+  private int queryChunkSize;
 
   private java.awt.Robot robot;
 
@@ -133,9 +162,18 @@ public class Settings {
     dropDelay(DEFAULT_DELAY_DROP);
     eventPostingDelay(DEFAULT_DELAY_POSTING_EVENTS);
     componentLookupScope(DEFAULT_LOOKUP_SCOPE);
+    componentLookupInSingleQuery(DEFAULT_LOOKUP_IN_SINGLE_QUERY);
+    componentLookupIndex(DEFAULT_LOOKUP_INDEX);
+    lookupFailureMaxDepth(DEFAULT_LOOKUP_FAILURE_MAX_DEPTH);
+    lookupFailureMaxComponents(DEFAULT_LOOKUP_FAILURE_MAX_COMPONENTS);
+    lookupFailureNearestSubtree(DEFAULT_LOOKUP_FAILURE_NEAREST_SUBTREE);
     idleTimeout(DEFAULT_TIMEOUT_IDLE);
     clickOnDisabledComponentsAllowed(DEFAULT_CLICK_ON_DISABLED);
+    batchedTextEntry(DEFAULT_BATCHED_TEXT_ENTRY);
+    directEventDispatch(DEFAULT_DIRECT_EVENT_DISPATCH);
     dragButton(DEFAULT_DRAG_BUTTON);
+    timingProfile(DEFAULT_TIMING_PROFILE);
+    queryChunkSize(DEFAULT_QUERY_CHUNK_SIZE);
   }
 
   public static boolean shouldPreserveScreenshots() {
@@ -174,7 +212,7 @@ public class Settings {
    * </p>
    * <p>
    * To change the speed of a GUI test, you need to change the values of both {@code delayBetweenEvents} and
-   * {@code eventPostingDelay}.
+   * {@code eventPostingDelay}, or use a {@link #timingProfile(TimingProfile) timing profile} without fixed delays.
    * </p>
    *
    * @param ms the millisecond count in between generated events. It should be between -1 and 60000.
@@ -188,7 +226,15 @@ public class Settings {
   }
 
   private void updateRobotAutoDelay() {
-    robot.setAutoDelay(delayBetweenEvents);
+    robot.setAutoDelay(effectiveDelayBetweenEvents());
+  }
+
+  /**
+   * @return the number of milliseconds the {@link Robot} actually waits after generating an event: the value of
+   *         {@link #delayBetweenEvents()}, or zero if the {@link #timingProfile() timing profile} skips fixed delays.
+   */
+  int effectiveDelayBetweenEvents() {
+    return timingProfile.skipsFixedDelays() ? 0 : delayBetweenEvents;
   }
 
   /**
@@ -244,6 +290,10 @@ public class Settings {
   /**
    * Updates the number of milliseconds to wait for a sub-menu to appear. The default value is 100 milliseconds.
    * <p>
+   * This is the time a clicked menu has to start showing its sub-menu (in addition to the hover delay of the menu,)
+   * before clicking is considered failed. The wait ends as soon as the sub-menu is ready for input.
+   * </p>
+   * <p>
    * The property key for configuration file and system properties is <code>org.assertj.swing.timeout.submenu</code>
    * </p>
    *
@@ -296,7 +346,7 @@ public class Settings {
    *
    * <p>
    * To change the speed of a GUI test, you need to change the values of both {@code delayBetweenEvents} and
-   * {@code eventPostingDelay}.
+   * {@code eventPostingDelay}, or use a {@link #timingProfile(TimingProfile) timing profile} without fixed delays.
    * </p>
    *
    * @param ms the time in milliseconds. It should be between 0 and 1000.
@@ -351,6 +401,127 @@ public class Settings {
     componentLookupScope = scope;
   }
 
+  /**
+   * @return {@code true} if AWT or Swing {@code Component} lookups traverse the whole hierarchy in a single trip to the
+   *         event dispatch thread (EDT), {@code false} if every visited {@code Component} is accessed in its own trip.
+   * @see #componentLookupInSingleQuery(boolean) for default value and configuration key
+   */
+  public boolean componentLookupInSingleQuery() {
+    return componentLookupInSingleQuery;
+  }
+
+  /**
+   * Indicates whether AWT or Swing {@code Component} lookups should traverse the whole hierarchy and evaluate the
+   * {@link ComponentMatcher} in a single trip to the event dispatch thread (EDT). If {@code false}, the children and the
+   * matching of every visited {@code Component} are obtained in separate trips to the EDT, giving the application under
+   * test the chance to process other events in between. The default value is {@code true}.
+   * <p>
+   * The property key for configuration file and system properties is
+   * <code>org.assertj.swing.lookup.single_query</code>
+   * </p>
+   *
+   * @param singleQuery the new value for this setting.
+   */
+  public void componentLookupInSingleQuery(boolean singleQuery) {
+    componentLookupInSingleQuery = singleQuery;
+  }
+
+  /**
+   * @return {@code true} if AWT or Swing {@code Component} lookups by name or by type are answered from an index of the
+   *         component hierarchy, {@code false} if they always walk the hierarchy.
+   * @see #componentLookupIndex(boolean) for default value and configuration key
+   */
+  public boolean componentLookupIndex() {
+    return componentLookupIndex;
+  }
+
+  /**
+   * Indicates whether AWT or Swing {@code Component} lookups using a {@link NameMatcher} or a {@link TypeMatcher} should
+   * be answered from an index of the component hierarchy. The index is rebuilt only after the hierarchy changes (e.g. a
+   * {@code Component} is added, removed or renamed, or a {@code Window} is opened or closed.) Lookups using any other
+   * {@link ComponentMatcher} always walk the hierarchy. The default value is {@code false}.
+   * <p>
+   * The property key for configuration file and system properties is <code>org.assertj.swing.lookup.index</code>
+   * </p>
+   *
+   * @param useIndex the new value for this setting.
+   */
+  public void componentLookupIndex(boolean useIndex) {
+    componentLookupIndex = useIndex;
+  }
+
+  /**
+   * @return the maximum depth of the component hierarchy included in the message of a failed AWT or Swing
+   *         {@code Component} lookup.
+   * @see #lookupFailureMaxDepth(int) for default value and configuration key
+   */
+  public int lookupFailureMaxDepth() {
+    return lookupFailureMaxDepth;
+  }
+
+  /**
+   * Updates the maximum depth of the component hierarchy included in the message of a failed AWT or Swing
+   * {@code Component} lookup. {@code Component}s nested deeper are left out. The default value is 30.
+   * <p>
+   * The property key for configuration file and system properties is
+   * <code>org.assertj.swing.lookup.failure.max_depth</code>
+   * </p>
+   *
+   * @param depth the new depth. The value should be equal to or greater than zero.
+   */
+  public void lookupFailureMaxDepth(int depth) {
+    lookupFailureMaxDepth = valueToUpdate(depth, 0, Integer.MAX_VALUE);
+  }
+
+  /**
+   * @return the maximum number of {@code Component}s of the component hierarchy included in the message of a failed
+   *         AWT or Swing {@code Component} lookup.
+   * @see #lookupFailureMaxComponents(int) for default value and configuration key
+   */
+  public int lookupFailureMaxComponents() {
+    return lookupFailureMaxComponents;
+  }
+
+  /**
+   * Updates the maximum number of {@code Component}s of the component hierarchy included in the message of a failed
+   * AWT or Swing {@code Component} lookup. The rest of the hierarchy is left out. The default value is 1000.
+   * <p>
+   * The property key for configuration file and system properties is
+   * <code>org.assertj.swing.lookup.failure.max_components</code>
+   * </p>
+   *
+   * @param count the new number of {@code Component}s. The value should be greater than zero.
+   */
+  public void lookupFailureMaxComponents(int count) {
+    lookupFailureMaxComponents = valueToUpdate(count, 1, Integer.MAX_VALUE);
+  }
+
+  /**
+   * @return {@code true} if the message of a failed AWT or Swing {@code Component} lookup only includes the part of the
+   *         component hierarchy around the closest match, {@code false} if it includes the whole hierarchy.
+   * @see #lookupFailureNearestSubtree(boolean) for default value and configuration key
+   */
+  public boolean lookupFailureNearestSubtree() {
+    return lookupFailureNearestSubtree;
+  }
+
+  /**
+   * Indicates whether the message of a failed AWT or Swing {@code Component} lookup should only include the part of the
+   * component hierarchy around the {@code Component} that comes closest to the search criteria (e.g. a
+   * {@code Component} with the requested name but of another type, or not showing), instead of the whole hierarchy. The
+   * closest match is printed with its ancestors, its siblings and their descendants. If no {@code Component} comes
+   * close, the whole hierarchy is included. The default value is {@code false}.
+   * <p>
+   * The property key for configuration file and system properties is
+   * <code>org.assertj.swing.lookup.failure.nearest_subtree</code>
+   * </p>
+   *
+   * @param nearestSubtree the new value for this setting.
+   */
+  public void lookupFailureNearestSubtree(boolean nearestSubtree) {
+    lookupFailureNearestSubtree = nearestSubtree;
+  }
+
   /**
    * @return the time (in milliseconds) to wait for an idle AWT event queue.
    * @see #idleTimeout(int) for default value and configuration key
@@ -412,6 +583,55 @@ public class Settings {
     allowClickOnDisabled = allow;
   }
 
+  /**
+   * @return {@code true} if text is entered by posting all its key events at once, {@code false} if it is typed one
+   *         character at a time.
+   * @see #batchedTextEntry(boolean) for default value and configuration key
+   */
+  public boolean batchedTextEntry() {
+    return batchedTextEntry;
+  }
+
+  /**
+   * Indicates whether {@link Robot#enterText(String)} should resolve the key strokes of the whole text up front and post
+   * the resulting key events to the focus owner in one ordered burst, waiting for idle only once at the end. If
+   * {@code false}, every character is typed separately using the native input of the platform. The default value is
+   * {@code false}.
+   * <p>
+   * The property key for configuration file and system properties is <code>org.assertj.swing.text_entry.batched</code>
+   * </p>
+   *
+   * @param batched the new value for this setting.
+   */
+  public void batchedTextEntry(boolean batched) {
+    batchedTextEntry = batched;
+  }
+
+  /**
+   * @return {@code true} if mouse and keyboard input is simulated by posting events directly to the AWT
+   *         {@code EventQueue}, {@code false} if it is simulated through the native input of the platform.
+   * @see #directEventDispatch(boolean) for default value and configuration key
+   */
+  public boolean directEventDispatch() {
+    return directEventDispatch;
+  }
+
+  /**
+   * Indicates whether mouse and keyboard input should be simulated by posting synthesized events directly to the
+   * {@code EventQueue} of the target {@code Component}, instead of using an AWT {@code Robot}. Direct dispatch does not
+   * need a screen, does not move the real mouse pointer and avoids the latency of native input, but cannot simulate
+   * behavior that depends on the operating system (e.g. native drag and drop.) The default value is {@code false}.
+   * <p>
+   * The property key for configuration file and system properties is
+   * <code>org.assertj.swing.input.direct_dispatch</code>
+   * </p>
+   *
+   * @param direct the new value for this setting.
+   */
+  public void directEventDispatch(boolean direct) {
+    directEventDispatch = direct;
+  }
+
   /**
    * @return the {@link MouseButton} to use for drag operations.
    * @see #dragButton(MouseButton) for default value and configuration key
@@ -431,4 +651,58 @@ public class Settings {
   public void dragButton(MouseButton button) {
     dragButton = button;
   }
+
+  /**
+   * @return how the {@link Robot} waits for the application under test to process the input it generates.
+   * @see #timingProfile(TimingProfile) for default value and configuration key
+   */
+  @Nonnull public TimingProfile timingProfile() {
+    return timingProfile;
+  }
+
+  /**
+   * Updates how the {@link Robot} waits for the application under test to process the input it generates. With
+   * {@link TimingProfile#FAST} and {@link TimingProfile#COMPARE}, the values of {@link #delayBetweenEvents(int)} and
+   * {@link #eventPostingDelay(int)} are kept, but only used by {@link TimingProfile#COMPARE} to check the waits of
+   * {@link TimingProfile#FAST}. The values of {@link #dragDelay(int)} and {@link #dropDelay(int)} are used by all the
+   * profiles, since the platform needs them to recognize a drag-and-drop gesture. The default value is
+   * {@link TimingProfile#SAFE}.
+   * <p>
+   * The property key for configuration file and system properties is <code>org.assertj.swing.timing_profile</code>
+   * </p>
+   *
+   * @param profile the new profile.
+   * @throws NullPointerException if the given profile is {@code null}.
+   */
+  public void timingProfile(@Nonnull TimingProfile profile) {
+    timingProfile = checkNotNull(profile);
+    if (robot != null) {
+      updateRobotAutoDelay();
+    }
+  }
+
+  /**
+   * @return the maximum number of rows or items read per visit to the event dispatch thread (EDT) when reading the
+   *         contents of a {@code JTable}, {@code JList} or {@code JComboBox}, or zero if they are read in one visit.
+   * @see #queryChunkSize(int) for default value and configuration key
+   */
+  public int queryChunkSize() {
+    return queryChunkSize;
+  }
+
+  /**
+   * Updates the maximum number of rows or items read per visit to the event dispatch thread (EDT) when reading the
+   * contents of a {@code JTable}, {@code JList} or {@code JComboBox}, or looking up a cell of a {@code JTable} by value.
+   * Between visits, the EDT processes the events of the application under test, so it stays responsive while big
+   * models are read. If the model changes in between visits, the read starts again. The default value is zero, which
+   * reads all the rows or items in a single visit.
+   * <p>
+   * The property key for configuration file and system properties is <code>org.assertj.swing.query.chunk_size</code>
+   * </p>
+   *
+   * @param rows the number of rows or items. It should be between 0 and 1000000.
+   */
+  public void queryChunkSize(int rows) {
+    queryChunkSize = valueToUpdate(rows, 0, 1000000);
+  }
 }
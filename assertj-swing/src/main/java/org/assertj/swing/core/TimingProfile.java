@@ -0,0 +1,45 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+/**
+ * Profiles that decide how a {@link Robot} waits for the application under test to process the input it generates.
+ *
+ * @see Settings#timingProfile(TimingProfile)
+ */
+public enum TimingProfile {
+  /**
+   * Fixed delays are added between the generated events and before waiting for the AWT event queue to be idle, as
+   * configured in {@link Settings#delayBetweenEvents(int)} and {@link Settings#eventPostingDelay(int)}. This is the
+   * default profile.
+   */
+  SAFE,
+
+  /**
+   * No fixed delays: events are generated back to back, and waiting for idle waits until the input generated by the
+   * operating system has reached the AWT event queue, and then until the queue is idle.
+   */
+  FAST,
+
+  /**
+   * Same as {@link #FAST}, but every wait for idle is followed by the delays of {@link #SAFE}, after which the AWT event
+   * queue is checked again. If events were dispatched in the meantime, {@link #FAST} would have let the test go on
+   * before the application was done, and a warning is logged with the action that would have returned too early.
+   * Running a test suite with this profile shows whether it can use {@link #FAST}.
+   */
+  COMPARE;
+
+  boolean skipsFixedDelays() {
+    return this != SAFE;
+  }
+}
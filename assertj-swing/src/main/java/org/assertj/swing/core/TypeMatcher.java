@@ -74,6 +74,11 @@ public final class TypeMatcher extends AbstractComponentMatcher {
     return type.isAssignableFrom(c.getClass()) && requireShowingMatches(c);
   }
 
+  @Nonnull
+  Class<? extends Component> type() {
+    return type;
+  }
+
   @Override
   public String toString() {
     return String.format("%s[type=%s, requireShowing=%b]", getClass().getName(), type.getName(), requireShowing());
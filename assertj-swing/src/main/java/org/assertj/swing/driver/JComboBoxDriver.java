@@ -27,6 +27,7 @@ import static org.assertj.swing.driver.JComboBoxMatchingItemQuery.matchingItemIn
 import static org.assertj.swing.driver.JComboBoxSelectedIndexQuery.selectedIndexOf;
 import static org.assertj.swing.driver.JComboBoxSelectionValueQuery.selection;
 import static org.assertj.swing.driver.JComboBoxSetSelectedIndexTask.setSelectedIndex;
+import static org.assertj.swing.driver.LiteralTextMatcher.isLiteral;
 import static org.assertj.swing.driver.TextAssert.verifyThat;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
 import static org.assertj.swing.exception.ActionFailedException.actionFailure;
@@ -79,6 +80,7 @@ public class JComboBoxDriver extends JComponentDriver {
   private final JComboBoxDropDownListFinder dropDownListFinder;
 
   private JComboBoxCellReader cellReader;
+  private boolean itemIndexEnabled;
 
   /**
    * Creates a new {@link JComboBoxDriver}.
@@ -103,7 +105,7 @@ public class JComboBoxDriver extends JComponentDriver {
    */
   @RunsInEDT
   @Nonnull public String[] contentsOf(@Nonnull JComboBox<?> comboBox) {
-    return contents(comboBox, cellReader());
+    return contents(comboBox, cellReader(), robot.settings().queryChunkSize());
   }
 
   /**
@@ -116,10 +118,11 @@ public class JComboBoxDriver extends JComponentDriver {
    * @throws IllegalStateException if the {@code JComboBox} is disabled.
    * @throws IllegalStateException if the {@code JComboBox} is not showing on the screen.
    * @see #replaceCellReader(JComboBoxCellReader)
+   * @see #indexItemValues(boolean)
    */
   @RunsInEDT
   public void selectItem(@Nonnull JComboBox<?> comboBox, @Nullable String value) {
-    selectItem(comboBox, new StringTextMatcher(value));
+    selectItem(comboBox, itemMatcher(value));
   }
 
   /**
@@ -524,6 +527,33 @@ public class JComboBoxDriver extends JComponentDriver {
     cellReader = checkNotNull(newCellReader);
   }
 
+  /**
+   * <p>
+   * Indicates whether {@link #selectItem(JComboBox, String)}, given a value that is not a regular expression, should
+   * look up the item in an index of the values in the {@code JComboBox}. The default value is {@code false}.
+   * </p>
+   *
+   * <p>
+   * The index is built by the first lookup, reading all the items once with this driver's {@link JComboBoxCellReader},
+   * and later lookups in the same {@code JComboBox} only read the found item again to validate it. The index is
+   * discarded every time the items in the model of the {@code JComboBox} change. Enable it when a test selects many
+   * items in a big {@code JComboBox}, especially together with a {@link ModelValueJComboBoxCellReader}.
+   * </p>
+   *
+   * @param enabled {@code true} to use an index of the values in the {@code JComboBox}, {@code false} to read the items
+   *          until a match is found every time.
+   */
+  public void indexItemValues(boolean enabled) {
+    itemIndexEnabled = enabled;
+  }
+
+  @Nonnull private TextMatcher itemMatcher(@Nullable String value) {
+    if (itemIndexEnabled && value != null && isLiteral(value)) {
+      return new LiteralTextMatcher(value);
+    }
+    return new StringTextMatcher(value);
+  }
+
   /**
    * Verifies that number of items in the given {@code JComboBox} is equal to the expected one.
    *
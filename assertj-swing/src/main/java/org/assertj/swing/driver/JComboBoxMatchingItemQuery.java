@@ -12,6 +12,7 @@
  */
 package org.assertj.swing.driver;
 
+import static org.assertj.swing.driver.ListItemIndex.itemIndexOf;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
 
 import javax.annotation.Nonnull;
@@ -23,7 +24,8 @@ import org.assertj.swing.cell.JComboBoxCellReader;
 import org.assertj.swing.util.TextMatcher;
 
 /**
- * Looks up the first item in a {@code JComboBox} whose value matches a given one.
+ * Looks up the first item in a {@code JComboBox} whose value matches a given one. Items matching a
+ * {@link LiteralTextMatcher} are looked up in the {@link ListItemIndex} of the {@code JComboBox}.
  *
  * @author Alex Ruiz
  */
@@ -32,6 +34,12 @@ final class JComboBoxMatchingItemQuery {
   static int matchingItemIndex(final @Nonnull JComboBox<?> comboBox, final @Nonnull TextMatcher matcher,
                                final @Nonnull JComboBoxCellReader cellReader) {
     Integer result = execute(() -> {
+      if (matcher instanceof LiteralTextMatcher) {
+        String text = ((LiteralTextMatcher) matcher).value();
+        ListItemIndex itemIndex = itemIndexOf(comboBox, comboBox.getModel());
+        return itemIndex.indexOf(cellReader, comboBox.getItemCount(), index -> cellReader.valueAt(comboBox, index),
+                                 text);
+      }
       int itemCount = comboBox.getItemCount();
       for (int i = 0; i < itemCount; i++) {
         String value = cellReader.valueAt(comboBox, i);
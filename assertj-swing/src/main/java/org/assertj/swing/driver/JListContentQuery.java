@@ -13,6 +13,7 @@
 package org.assertj.swing.driver;
 
 import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.swing.driver.ModelChangeDetector.changesIn;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
 
 import javax.annotation.Nonnull;
@@ -20,6 +21,7 @@ import javax.swing.JList;
 
 import org.assertj.swing.annotation.RunsInEDT;
 import org.assertj.swing.cell.JListCellReader;
+import org.assertj.swing.edt.GuiChunkedQuery;
 
 /**
  * Returns an array of {@code String}s that represents the contents of a given {@code JList}. This query is executed in
@@ -30,13 +32,50 @@ import org.assertj.swing.cell.JListCellReader;
 final class JListContentQuery {
   @RunsInEDT
   static @Nonnull String[] contents(final @Nonnull JList<?> list, final @Nonnull JListCellReader cellReader) {
-    String[] result = execute(() -> {
-      String[] values = new String[list.getModel().getSize()];
-      for (int i = 0; i < values.length; i++) {
-        values[i] = cellReader.valueAt(list, i);
+    return contents(list, cellReader, 0);
+  }
+
+  /**
+   * Reads the contents of the given {@code JList}, reading at most the given number of items per visit to the EDT.
+   * If the items change in between visits, they are read again.
+   */
+  @RunsInEDT
+  static @Nonnull String[] contents(final @Nonnull JList<?> list, final @Nonnull JListCellReader cellReader,
+                                    int chunkSize) {
+    String[] result = execute(new GuiChunkedQuery<String[]>() {
+      private ModelChangeDetector changes;
+      private String[] values;
+
+      @Override
+      protected int start() {
+        changes = changesIn(list);
+        values = new String[list.getModel().getSize()];
+        return values.length;
+      }
+
+      @Override
+      protected boolean read(int from, int to) {
+        for (int i = from; i < to; i++) {
+          values[i] = cellReader.valueAt(list, i);
+        }
+        return true;
+      }
+
+      @Override
+      protected boolean changedSinceStart() {
+        return changes.changed();
+      }
+
+      @Override
+      protected void finish() {
+        changes.stop();
+      }
+
+      @Override
+      protected String[] result() {
+        return values;
       }
-      return values;
-    });
+    }, chunkSize);
     return checkNotNull(result);
   }
 
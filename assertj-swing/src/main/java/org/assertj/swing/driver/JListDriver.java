@@ -34,6 +34,7 @@ import static org.assertj.swing.driver.JListSelectionIndicesQuery.selectedIndice
 import static org.assertj.swing.driver.JListSelectionValueQuery.NO_SELECTION_VALUE;
 import static org.assertj.swing.driver.JListSelectionValueQuery.singleSelectionValue;
 import static org.assertj.swing.driver.JListSelectionValuesQuery.selectionValues;
+import static org.assertj.swing.driver.LiteralTextMatcher.isLiteral;
 import static org.assertj.swing.driver.TextAssert.verifyThat;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
 import static org.assertj.swing.util.ArrayPreconditions.checkNotNullOrEmpty;
@@ -81,6 +82,7 @@ public class JListDriver extends JComponentDriver {
   private static final String SELECTED_INDEX_PROPERTY = "selectedIndex";
 
   private JListCellReader cellReader;
+  private boolean itemIndexEnabled;
 
   /**
    * Creates a new {@link JListDriver}.
@@ -101,7 +103,7 @@ public class JListDriver extends JComponentDriver {
    */
   @RunsInEDT
   @Nonnull public String[] contentsOf(@Nonnull JList<?> list) {
-    return contents(list, cellReader());
+    return contents(list, cellReader(), robot.settings().queryChunkSize());
   }
 
   /**
@@ -185,10 +187,11 @@ public class JListDriver extends JComponentDriver {
    * @throws IllegalStateException if the {@code JList} is disabled.
    * @throws IllegalStateException if the {@code JList} is not showing on the screen.
    * @throws LocationUnavailableException if an element matching the given value cannot be found.
+   * @see #indexItemValues(boolean)
    */
   @RunsInEDT
   public void selectItem(@Nonnull JList<?> list, @Nullable String value) {
-    selectItem(list, new StringTextMatcher(value));
+    selectItem(list, itemMatcher(value));
   }
 
   /**
@@ -229,7 +232,7 @@ public class JListDriver extends JComponentDriver {
    * @throws LocationUnavailableException if an element matching the given value cannot be found.
    */
   public void clickItem(@Nonnull JList<?> list, @Nullable String value, @Nonnull MouseButton button, int times) {
-    clickItem(list, new StringTextMatcher(value), button, times);
+    clickItem(list, itemMatcher(value), button, times);
   }
 
   /**
@@ -581,7 +584,7 @@ public class JListDriver extends JComponentDriver {
    */
   @RunsInEDT
   public void drag(@Nonnull JList<?> list, @Nullable String value) {
-    drag(list, new StringTextMatcher(value));
+    drag(list, itemMatcher(value));
   }
 
   /**
@@ -619,7 +622,7 @@ public class JListDriver extends JComponentDriver {
    */
   @RunsInEDT
   public void drop(@Nonnull JList<?> list, @Nullable String value) {
-    drop(list, new StringTextMatcher(value));
+    drop(list, itemMatcher(value));
   }
 
   /**
@@ -699,7 +702,7 @@ public class JListDriver extends JComponentDriver {
    */
   @RunsInEDT
   public JPopupMenu showPopupMenu(@Nonnull JList<?> list, @Nullable String value) {
-    return showPopupMenu(list, new StringTextMatcher(value));
+    return showPopupMenu(list, itemMatcher(value));
   }
 
   /**
@@ -773,7 +776,7 @@ public class JListDriver extends JComponentDriver {
    */
   @RunsInEDT
   public int indexOf(@Nonnull JList<?> list, @Nullable String value) {
-    return indexOf(list, new StringTextMatcher(value));
+    return indexOf(list, itemMatcher(value));
   }
 
   /**
@@ -841,6 +844,35 @@ public class JListDriver extends JComponentDriver {
     cellReader = checkNotNull(newCellReader);
   }
 
+  /**
+   * <p>
+   * Indicates whether looking up a single item by a value that is not a regular expression (e.g. in
+   * {@link #selectItem(JList, String)}, {@link #clickItem(JList, String, MouseButton, int)} or
+   * {@link #indexOf(JList, String)}) should use an index of the values in the {@code JList}. The default value is
+   * {@code false}.
+   * </p>
+   *
+   * <p>
+   * The index is built by the first lookup, reading all the items once with this driver's {@link JListCellReader}, and
+   * later lookups in the same {@code JList} only read the found item again to validate it. The index is discarded every
+   * time the items in the model of the {@code JList} change. Enable it when a test looks up many items in a big
+   * {@code JList}, especially together with a {@link ModelValueJListCellReader}.
+   * </p>
+   *
+   * @param enabled {@code true} to use an index of the values in the {@code JList}, {@code false} to read the items
+   *          until a match is found every time.
+   */
+  public void indexItemValues(boolean enabled) {
+    itemIndexEnabled = enabled;
+  }
+
+  @Nonnull private TextMatcher itemMatcher(@Nullable String value) {
+    if (itemIndexEnabled && value != null && isLiteral(value)) {
+      return new LiteralTextMatcher(value);
+    }
+    return new StringTextMatcher(value);
+  }
+
   /**
    * Verifies that number of items in the given {@code JList} is equal to the expected one.
    *
@@ -18,6 +18,7 @@ import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.core.util.Sets.newHashSet;
 import static org.assertj.swing.driver.JListCellBoundsQuery.cellBounds;
 import static org.assertj.swing.driver.JListCellCenterQuery.cellCenter;
+import static org.assertj.swing.driver.ListItemIndex.itemIndexOf;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
 
 import java.awt.Point;
@@ -28,6 +29,7 @@ import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.swing.JList;
+import javax.swing.ListModel;
 
 import org.assertj.swing.annotation.RunsInCurrentThread;
 import org.assertj.swing.annotation.RunsInEDT;
@@ -38,7 +40,8 @@ import org.assertj.swing.util.TextMatcher;
 
 /**
  * Looks up the first item in a {@code JList} whose value matches a given one. This query is executed in the event
- * dispatch thread (EDT).
+ * dispatch thread (EDT). Items matching a {@link LiteralTextMatcher} are looked up in the {@link ListItemIndex} of the
+ * {@code JList}.
  *
  * @author Alex Ruiz
  */
@@ -56,6 +59,12 @@ final class JListMatchingItemQuery {
 
   @RunsInCurrentThread
   static int matchingItemIndex(@Nonnull JList<?> list, @Nonnull TextMatcher matcher, @Nonnull JListCellReader cellReader) {
+    if (matcher instanceof LiteralTextMatcher) {
+      String text = ((LiteralTextMatcher) matcher).value();
+      ListModel<?> model = list.getModel();
+      return itemIndexOf(list, model).indexOf(cellReader, model.getSize(), index -> cellReader.valueAt(list, index),
+                                              text);
+    }
     int size = list.getModel().getSize();
     for (int i = 0; i < size; i++) {
       if (matcher.isMatching(cellReader.valueAt(list, i))) {
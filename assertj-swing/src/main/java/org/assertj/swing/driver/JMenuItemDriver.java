@@ -14,14 +14,12 @@ package org.assertj.swing.driver;
 
 import static java.lang.Boolean.getBoolean;
 import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.core.util.Strings.concat;
 import static org.assertj.swing.core.WindowAncestorFinder.windowAncestorOf;
 import static org.assertj.swing.driver.ComponentPreconditions.checkEnabledAndShowing;
-import static org.assertj.swing.driver.JMenuPopupMenuQuery.popupMenuOf;
+import static org.assertj.swing.driver.JMenuPopupMenuReadyCondition.untilPopupMenuIsReady;
 import static org.assertj.swing.driver.WindowMoveToFrontTask.toFront;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
 import static org.assertj.swing.exception.ActionFailedException.actionFailure;
-import static org.assertj.swing.format.Formatting.format;
 import static org.assertj.swing.timing.Pause.pause;
 import static org.assertj.swing.util.Platform.isOSX;
 
@@ -32,10 +30,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.swing.JMenu;
 import javax.swing.JMenuItem;
-import javax.swing.JPopupMenu;
 
 import org.assertj.swing.annotation.RunsInEDT;
 import org.assertj.swing.core.Robot;
+import org.assertj.swing.exception.WaitTimedOutError;
 import org.assertj.swing.internal.annotation.InternalApi;
 
 /**
@@ -87,8 +85,18 @@ public class JMenuItemDriver extends JComponentDriver {
   @RunsInEDT
   public void click(@Nonnull JMenuItem menuItem) {
     show(menuItem);
-    doClick(menuItem);
-    ensurePopupIsShowing(menuItem);
+    if (!(menuItem instanceof JMenu)) {
+      doClick(menuItem);
+      return;
+    }
+    // listen to the pop-up menu before clicking, so the notification that it becomes visible is not missed.
+    JMenuPopupMenuReadyCondition popupMenuReady = untilPopupMenuIsReady((JMenu) menuItem, robot);
+    try {
+      doClick(menuItem);
+      ensurePopupIsShowing(popupMenuReady);
+    } finally {
+      popupMenuReady.stopListening();
+    }
   }
 
   @RunsInEDT
@@ -96,9 +104,6 @@ public class JMenuItemDriver extends JComponentDriver {
     JMenuItemLocation location = locationOf(menuItem);
     activateParentIfIsMenu(location);
     moveParentWindowToFront(location);
-    if (menuItem instanceof JMenu && !location.inMenuBar()) {
-      waitForSubMenuToShow();
-    }
   }
 
   @RunsInEDT
@@ -151,20 +156,12 @@ public class JMenuItemDriver extends JComponentDriver {
   }
 
   @RunsInEDT
-  private void ensurePopupIsShowing(@Nonnull JMenuItem menuItem) {
-    if (!(menuItem instanceof JMenu)) {
-      return;
-    }
-    JPopupMenu popup = popupMenuOf((JMenu) menuItem);
-    // TODO review EDT access
-    if (!waitForShowing(popup, robot.settings().timeoutToFindPopup())) {
-      throw actionFailure(concat("Clicking on menu item <", format(menuItem), "> never showed a pop-up menu"));
+  private void ensurePopupIsShowing(@Nonnull JMenuPopupMenuReadyCondition popupMenuReady) {
+    try {
+      pause(popupMenuReady, robot.settings().timeoutToFindPopup());
+    } catch (WaitTimedOutError e) {
+      throw actionFailure(popupMenuReady.failureMessage());
     }
-    waitForSubMenuToShow();
-  }
-
-  private void waitForSubMenuToShow() {
-    pause(robot.settings().timeoutToFindSubMenu());
   }
 
   @RunsInEDT
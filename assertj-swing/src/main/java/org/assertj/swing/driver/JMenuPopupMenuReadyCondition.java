@@ -0,0 +1,228 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static java.awt.AWTEvent.COMPONENT_EVENT_MASK;
+import static java.awt.AWTEvent.HIERARCHY_EVENT_MASK;
+import static java.awt.AWTEvent.WINDOW_EVENT_MASK;
+import static java.lang.System.currentTimeMillis;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.exception.ActionFailedException.actionFailure;
+import static org.assertj.swing.format.Formatting.format;
+import static org.assertj.swing.format.Formatting.inEdtFormat;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.swing.JMenu;
+import javax.swing.JPopupMenu;
+import javax.swing.event.PopupMenuEvent;
+import javax.swing.event.PopupMenuListener;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.core.Robot;
+import org.assertj.swing.exception.ActionFailedException;
+import org.assertj.swing.timing.Condition;
+
+/**
+ * <p>
+ * Waits for the pop-up menu of a {@code JMenu} to accept input, after the {@code JMenu} has been clicked. The pop-up
+ * menu is ready when it has notified its {@code PopupMenuListener}s that it is becoming visible, and it is showing in a
+ * {@code Window} that is ready for input.
+ * </p>
+ *
+ * <p>
+ * The condition must be created before clicking the {@code JMenu}, so it does not miss the notification. If the pop-up
+ * menu does not start to become visible within the sub-menu timeout (see
+ * {@link org.assertj.swing.core.Settings#timeoutToFindSubMenu()}) plus the delay of the {@code JMenu}, or if it is
+ * hidden again before it is ready, evaluating this condition throws an {@link ActionFailedException} describing what
+ * happened, instead of waiting until the pop-up timeout.
+ * </p>
+ */
+final class JMenuPopupMenuReadyCondition extends Condition implements PopupMenuListener {
+  private final Robot robot;
+  private final JMenu menu;
+  private final JPopupMenu popupMenu;
+  private final int menuDelay;
+  private final long timeToStartShowing;
+
+  private volatile boolean becameVisible;
+  private volatile boolean becameInvisible;
+
+  @GuardedBy("this")
+  private boolean listening = true;
+
+  @GuardedBy("this")
+  private long start = -1;
+
+  @GuardedBy("this")
+  private long lastJitter;
+
+  @GuardedBy("this")
+  private PopupMenuState lastState = new PopupMenuState(false, false, false);
+
+  /**
+   * Creates a new {@link JMenuPopupMenuReadyCondition} and starts listening to the pop-up menu of the given
+   * {@code JMenu}. This method is executed in the event dispatch thread (EDT).
+   *
+   * @param menu the {@code JMenu} to be clicked.
+   * @param robot the robot simulating user input.
+   * @return the created condition.
+   */
+  @RunsInEDT
+  @Nonnull static JMenuPopupMenuReadyCondition untilPopupMenuIsReady(final @Nonnull JMenu menu,
+                                                                     final @Nonnull Robot robot) {
+    JMenuPopupMenuReadyCondition result = execute(() -> {
+      JPopupMenu popupMenu = menu.getPopupMenu();
+      JMenuPopupMenuReadyCondition condition = new JMenuPopupMenuReadyCondition(menu, popupMenu, robot);
+      popupMenu.addPopupMenuListener(condition);
+      return condition;
+    });
+    return checkNotNull(result);
+  }
+
+  @RunsInCurrentThread
+  private JMenuPopupMenuReadyCondition(@Nonnull JMenu menu, @Nonnull JPopupMenu popupMenu, @Nonnull Robot robot) {
+    super("pop-up menu of " + format(menu) + " to be ready for input");
+    this.robot = robot;
+    this.menu = menu;
+    this.popupMenu = popupMenu;
+    menuDelay = menu.getDelay();
+    // sub-menus shown by hovering open after the delay of their menu, which can be restarted once by jittering.
+    timeToStartShowing = robot.settings().timeoutToFindSubMenu() + 2L * menuDelay;
+    becameVisible = popupMenu.isVisible();
+  }
+
+  @Override
+  public void popupMenuWillBecomeVisible(PopupMenuEvent e) {
+    becameVisible = true;
+    becameInvisible = false;
+  }
+
+  @Override
+  public void popupMenuWillBecomeInvisible(PopupMenuEvent e) {
+    becameInvisible = true;
+  }
+
+  @Override
+  public void popupMenuCanceled(PopupMenuEvent e) {
+  }
+
+  @Override
+  public boolean test() {
+    PopupMenuState state = popupMenuState();
+    long now = currentTimeMillis();
+    long elapsed;
+    synchronized (this) {
+      lastState = state;
+      if (start < 0) {
+        start = now;
+        lastJitter = now;
+      }
+      elapsed = now - start;
+    }
+    if (state.readyForInput) {
+      return true;
+    }
+    if (!becameVisible) {
+      if (elapsed > timeToStartShowing) {
+        throw actionFailure(failureMessage());
+      }
+      jitterIfMenuDelayElapsed(now);
+      return false;
+    }
+    if (becameInvisible && !state.visible) {
+      throw actionFailure(failureMessage());
+    }
+    return false;
+  }
+
+  @RunsInEDT
+  @Nonnull private PopupMenuState popupMenuState() {
+    PopupMenuState result = execute(() -> {
+      boolean visible = popupMenu.isVisible();
+      boolean showing = popupMenu.isShowing();
+      return new PopupMenuState(visible, showing, showing && robot.isReadyForInput(popupMenu));
+    });
+    return checkNotNull(result);
+  }
+
+  // moves the mouse over the menu, in case the pop-up menu only opens when hovering it.
+  private void jitterIfMenuDelayElapsed(long now) {
+    synchronized (this) {
+      if (now - lastJitter < menuDelay) {
+        return;
+      }
+      lastJitter = now;
+    }
+    robot.jitter(menu);
+  }
+
+  /**
+   * @return a description of the state of the pop-up menu, to be used when it fails to be ready for input.
+   */
+  @RunsInEDT
+  @Nonnull String failureMessage() {
+    PopupMenuState state;
+    long elapsed;
+    synchronized (this) {
+      state = lastState;
+      elapsed = start < 0 ? 0 : currentTimeMillis() - start;
+    }
+    String event = becameVisible ? "was notified" : "was never notified";
+    if (becameVisible && becameInvisible) {
+      event = "was notified, but then hidden again";
+    }
+    String msg = "Clicking on menu item <%s> never showed a pop-up menu: the pop-up menu %s that it would become"
+                 + " visible (visible: %b, showing: %b, ready for input: %b, after %d ms)";
+    return String.format(msg, inEdtFormat(menu), event, state.visible, state.showing, state.readyForInput, elapsed);
+  }
+
+  @Override
+  protected long wakeUpEventMask() {
+    return WINDOW_EVENT_MASK | COMPONENT_EVENT_MASK | HIERARCHY_EVENT_MASK;
+  }
+
+  @Override
+  protected void done() {
+    stopListening();
+  }
+
+  /**
+   * Stops listening to the pop-up menu. This method is executed in the event dispatch thread (EDT), and does nothing if
+   * this condition has already stopped listening.
+   */
+  @RunsInEDT
+  void stopListening() {
+    synchronized (this) {
+      if (!listening) {
+        return;
+      }
+      listening = false;
+    }
+    execute(() -> popupMenu.removePopupMenuListener(this));
+  }
+
+  private static class PopupMenuState {
+    final boolean visible;
+    final boolean showing;
+    final boolean readyForInput;
+
+    PopupMenuState(boolean visible, boolean showing, boolean readyForInput) {
+      this.visible = visible;
+      this.showing = showing;
+      this.readyForInput = readyForInput;
+    }
+  }
+}
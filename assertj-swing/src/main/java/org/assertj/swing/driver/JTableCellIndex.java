@@ -0,0 +1,176 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.swing.util.Maps.newHashMap;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.JTable;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.data.TableCell;
+
+/**
+ * <p>
+ * Index from the text of the cells of a {@code JTable} to the first cell (in view order) with that text, used by
+ * {@link JTableMatchingCellQuery} to find cells by value without reading the whole {@code JTable} every time.
+ * </p>
+ *
+ * <p>
+ * A {@code JTable} can have several indices, one per combination of the way cells are read (through a cell reader or
+ * from the model) and of the columns the lookups are restricted to. Indices are built on the first lookup by
+ * {@link JTableMatchingCellQuery}, which can read the cells a chunk of rows per visit to the event dispatch thread
+ * (EDT.)
+ * </p>
+ *
+ * <p>
+ * Indices are kept in {@link ModelCaches}, weakly keyed by {@code JTable}. They are cleared every time the
+ * {@code TableModel}, the {@code RowSorter} or the {@code TableColumnModel} of the {@code JTable} changes, and
+ * discarded when the {@code JTable} gets a new model, sorter or column model.
+ * </p>
+ */
+final class JTableCellIndex implements ModelChangeListener.Target {
+  private static final ModelCaches<JTable, JTableCellIndex> INDICES = new ModelCaches<>(false);
+
+  private final Map<Key, Map<String, TableCell>> indices = newHashMap();
+
+  /**
+   * Returns the index for the given {@code JTable}, creating a new one if the {@code JTable} does not have an index yet
+   * or if its current index was created for a different model, sorter or column model.
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Clients are responsible for calling this
+   * method from the EDT.
+   * </p>
+   *
+   * @param table the target {@code JTable}.
+   * @return the index for the given {@code JTable}.
+   */
+  @RunsInCurrentThread
+  @Nonnull static JTableCellIndex cellIndexOf(@Nonnull JTable table) {
+    return INDICES.cacheOf(table, index -> true, JTableCellIndex::new, table.getModel(), table.getRowSorter(),
+                           table.getColumnModel());
+  }
+
+  private JTableCellIndex() {
+  }
+
+  /**
+   * Indicates whether the cells of the {@code JTable} were indexed with the given source of cell values and columns.
+   *
+   * @param source identifies how the cells are read (e.g. the cell reader,) to tell indices apart.
+   * @param columns the indices of the indexed columns.
+   * @return {@code true} if there is an index for the given source and columns, {@code false} otherwise.
+   */
+  boolean isIndexed(@Nonnull Object source, @Nonnull int[] columns) {
+    return indices.containsKey(new Key(source, columns));
+  }
+
+  /**
+   * Returns the first cell with the given text in the index for the given source of cell values and columns.
+   *
+   * @param source identifies how the cells are read (e.g. the cell reader,) to tell indices apart.
+   * @param columns the indices of the indexed columns.
+   * @param text the text to look for.
+   * @return the first cell with the given text, or {@code null} if there is none or if there is no such index.
+   */
+  @Nullable TableCell firstCellWithText(@Nonnull Object source, @Nonnull int[] columns, @Nonnull String text) {
+    Map<String, TableCell> cells = indices.get(new Key(source, columns));
+    return cells != null ? cells.get(text) : null;
+  }
+
+  /**
+   * Stores the index for the given source of cell values and columns, built with
+   * {@link #indexRows(Map, int, int, int[], CellValue)}.
+   *
+   * @param source identifies how the cells were read (e.g. the cell reader,) to tell indices apart.
+   * @param columns the indices of the indexed columns.
+   * @param cells the first cell with each text.
+   */
+  void put(@Nonnull Object source, @Nonnull int[] columns, @Nonnull Map<String, TableCell> cells) {
+    indices.put(new Key(source, columns), cells);
+  }
+
+  /**
+   * Adds to the given index the cells in the given range of rows which text is not indexed yet. Rows must be indexed
+   * in order, so each text maps to its first cell.
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Clients are responsible for calling this
+   * method from the EDT.
+   * </p>
+   *
+   * @param cells the index being built.
+   * @param from the index of the first row to read.
+   * @param to the index after the last row to read.
+   * @param columns the indices of the columns to index.
+   * @param cellValue reads the text of a cell.
+   */
+  @RunsInCurrentThread
+  static void indexRows(@Nonnull Map<String, TableCell> cells, int from, int to, @Nonnull int[] columns,
+                        @Nonnull CellValue cellValue) {
+    for (int row = from; row < to; row++) {
+      for (int column : columns) {
+        String text = cellValue.at(row, column);
+        if (text != null && !cells.containsKey(text)) {
+          cells.put(text, TableCell.row(row).column(column));
+        }
+      }
+    }
+  }
+
+  /**
+   * Discards all the indices of the {@code JTable}.
+   */
+  void clear() {
+    indices.clear();
+  }
+
+  @Override
+  public void modelChanged() {
+    clear();
+  }
+
+  /**
+   * Reads the text of a cell, given its row and column indices in the view.
+   */
+  interface CellValue {
+    @Nullable String at(int row, int column);
+  }
+
+  private static class Key {
+    final Object source;
+    final int[] columns;
+
+    Key(@Nonnull Object source, @Nonnull int[] columns) {
+      this.source = source;
+      this.columns = columns;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return source == other.source && Arrays.equals(columns, other.columns);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(source) + Arrays.hashCode(columns);
+    }
+  }
+}
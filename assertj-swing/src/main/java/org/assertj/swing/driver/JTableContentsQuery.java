@@ -13,39 +13,174 @@
 package org.assertj.swing.driver;
 
 import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.swing.driver.JTableCellPreconditions.checkColumnInBounds;
+import static org.assertj.swing.driver.JTableCellPreconditions.checkRowInBounds;
+import static org.assertj.swing.driver.ModelChangeDetector.changesIn;
+import static org.assertj.swing.driver.ModelValueToString.asText;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.util.Maps.newHashMap;
+
+import java.util.Map;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.swing.JTable;
 
+import org.assertj.swing.annotation.RunsInCurrentThread;
 import org.assertj.swing.annotation.RunsInEDT;
 import org.assertj.swing.cell.JTableCellReader;
-import org.assertj.swing.edt.GuiQuery;
+import org.assertj.swing.edt.GuiChunkedQuery;
 
 /**
- * Returns the contents of a {@code JTable} as a two-dimensional {@code String} array. This query is executed in the
- * event dispatch thread (EDT).
+ * <p>
+ * Returns the contents of a {@code JTable} (or a range of rows and columns of it) as a two-dimensional {@code String}
+ * array. This query is executed in the event dispatch thread (EDT), reading all the requested cells in one go, or a
+ * chunk of rows per visit to the EDT (see {@link org.assertj.swing.edt.GuiActionRunner#execute(GuiChunkedQuery, int)}.)
+ * </p>
+ *
+ * <p>
+ * Cells are read one column at a time, so the same cell renderer is prepared for consecutive cells, and equal values
+ * share the same {@code String} instance in the returned array. The contents can be read either through a
+ * {@link JTableCellReader} (what the user sees) or straight from the table's model (skipping the cell renderers.)
+ * </p>
  * 
  * @author Alex Ruiz
  */
 final class JTableContentsQuery {
   @RunsInEDT
-  static @Nonnull String[][] tableContents(final @Nonnull JTable table, final @Nonnull JTableCellReader cellReader) {
-    String[][] result = execute(new GuiQuery<String[][]>() {
-      @Override
-      @Nonnull protected String[][] executeInEDT() {
-        int rCount = table.getRowCount();
-        int cCount = table.getColumnCount();
-        String[][] contents = new String[rCount][cCount];
-        for (int r = 0; r < rCount; r++) {
-          for (int c = 0; c < cCount; c++) {
-            contents[r][c] = cellReader.valueAt(table, r, c);
-          }
+  static @Nonnull String[][] tableContents(final @Nonnull JTable table, final @Nonnull JTableCellReader cellReader,
+                                           int chunkSize) {
+    return contents(table, null, (row, column) -> cellReader.valueAt(table, row, column), chunkSize);
+  }
+
+  @RunsInEDT
+  static @Nonnull String[][] tableContents(final @Nonnull JTable table, final @Nonnull JTableCellReader cellReader,
+                                           int firstRow, int lastRow, int firstColumn, int lastColumn,
+                                           int chunkSize) {
+    int[] range = { firstRow, lastRow, firstColumn, lastColumn };
+    return contents(table, range, (row, column) -> cellReader.valueAt(table, row, column), chunkSize);
+  }
+
+  @RunsInEDT
+  static @Nonnull String[][] modelContents(final @Nonnull JTable table, int chunkSize) {
+    return contents(table, null, (row, column) -> asText(table.getValueAt(row, column)), chunkSize);
+  }
+
+  @RunsInEDT
+  static @Nonnull String[][] modelContents(final @Nonnull JTable table, int firstRow, int lastRow, int firstColumn,
+                                           int lastColumn, int chunkSize) {
+    int[] range = { firstRow, lastRow, firstColumn, lastColumn };
+    return contents(table, range, (row, column) -> asText(table.getValueAt(row, column)), chunkSize);
+  }
+
+  @RunsInEDT
+  private static @Nonnull String[][] contents(@Nonnull JTable table, @Nullable int[] range,
+                                              @Nonnull CellValue cellValue, int chunkSize) {
+    String[][] result = execute(new ContentsQuery(table, range, cellValue), chunkSize);
+    return checkNotNull(result);
+  }
+
+  @RunsInCurrentThread
+  private static void checkRangeInBounds(@Nonnull JTable table, int firstRow, int lastRow, int firstColumn,
+                                         int lastColumn) {
+    checkRowInBounds(table, firstRow);
+    checkRowInBounds(table, lastRow);
+    checkColumnInBounds(table, firstColumn);
+    checkColumnInBounds(table, lastColumn);
+    if (firstRow > lastRow) {
+      String msg = "The first row <%d> should not be greater than the last row <%d>";
+      throw new IllegalArgumentException(String.format(msg, firstRow, lastRow));
+    }
+    if (firstColumn > lastColumn) {
+      String msg = "The first column <%d> should not be greater than the last column <%d>";
+      throw new IllegalArgumentException(String.format(msg, firstColumn, lastColumn));
+    }
+  }
+
+  /**
+   * Reads the cells in a range of rows and columns (the whole {@code JTable} if no range is given,) a chunk of rows
+   * at a time. Within a chunk, cells are read one column at a time.
+   */
+  private static class ContentsQuery extends GuiChunkedQuery<String[][]> {
+    private final JTable table;
+    private final int[] range;
+    private final CellValue cellValue;
+
+    private ModelChangeDetector changes;
+    private int firstRow;
+    private int firstColumn;
+    private String[][] contents;
+    private Map<String, String> uniqueValues;
+
+    ContentsQuery(@Nonnull JTable table, @Nullable int[] range, @Nonnull CellValue cellValue) {
+      this.table = table;
+      this.range = range;
+      this.cellValue = cellValue;
+    }
+
+    @Override
+    protected int start() {
+      int lastRow;
+      int lastColumn;
+      if (range != null) {
+        checkRangeInBounds(table, range[0], range[1], range[2], range[3]);
+        firstRow = range[0];
+        lastRow = range[1];
+        firstColumn = range[2];
+        lastColumn = range[3];
+      } else {
+        firstRow = 0;
+        lastRow = table.getRowCount() - 1;
+        firstColumn = 0;
+        lastColumn = table.getColumnCount() - 1;
+      }
+      changes = changesIn(table);
+      int rowCount = Math.max(0, lastRow - firstRow + 1);
+      int columnCount = Math.max(0, lastColumn - firstColumn + 1);
+      contents = new String[rowCount][columnCount];
+      uniqueValues = newHashMap();
+      return rowCount;
+    }
+
+    @Override
+    protected boolean read(int from, int to) {
+      int columnCount = contents.length > 0 ? contents[0].length : 0;
+      for (int c = 0; c < columnCount; c++) {
+        for (int r = from; r < to; r++) {
+          contents[r][c] = unique(cellValue.at(firstRow + r, firstColumn + c), uniqueValues);
         }
-        return contents;
       }
-    });
-    return checkNotNull(result);
+      return true;
+    }
+
+    @Override
+    protected boolean changedSinceStart() {
+      return changes.changed();
+    }
+
+    @Override
+    protected void finish() {
+      if (changes != null) {
+        changes.stop();
+      }
+    }
+
+    @Override
+    protected String[][] result() {
+      return contents;
+    }
+  }
+
+  private static @Nullable String unique(@Nullable String value, @Nonnull Map<String, String> uniqueValues) {
+    if (value == null) {
+      return null;
+    }
+    String existing = uniqueValues.putIfAbsent(value, value);
+    return existing != null ? existing : value;
+  }
+
+  private interface CellValue {
+    @Nullable String at(int row, int column);
   }
 
   private JTableContentsQuery() {
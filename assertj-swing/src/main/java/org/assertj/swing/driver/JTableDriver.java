@@ -24,6 +24,8 @@ import static org.assertj.swing.driver.JTableContentsQuery.tableContents;
 import static org.assertj.swing.driver.JTableHasSelectionQuery.hasSelection;
 import static org.assertj.swing.driver.JTableHeaderQuery.tableHeader;
 import static org.assertj.swing.driver.JTableMatchingCellQuery.cellWithValue;
+import static org.assertj.swing.driver.JTableMatchingCellQuery.indexedCellWithModelValue;
+import static org.assertj.swing.driver.JTableMatchingCellQuery.indexedCellWithValue;
 import static org.assertj.swing.driver.JTableRowCellSelectedQuery.isCellSelected;
 import static org.assertj.swing.driver.TextAssert.verifyThat;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
@@ -86,9 +88,12 @@ public class JTableDriver extends JComponentDriver {
   private static final String SELECTION_PROPERTY = "selection";
   private static final String VALUE_PROPERTY = "value";
 
+  private static final int[] NO_COLUMNS = new int[0];
+
   private final JTableLocation location = new JTableLocation();
   private JTableCellReader cellReader;
   private JTableCellWriter cellWriter;
+  private boolean cellIndexEnabled;
 
   /**
    * Creates a new {@link JTableDriver}.
@@ -163,7 +168,10 @@ public class JTableDriver extends JComponentDriver {
    */
   @RunsInEDT
   @Nonnull public TableCell cell(@Nonnull JTable table, @Nullable String value) {
-    return cellWithValue(table, new StringTextMatcher(value), cellReader());
+    if (cellIndexEnabled) {
+      return indexedCellWithValue(table, value, cellReader(), NO_COLUMNS, queryChunkSize());
+    }
+    return cellWithValue(table, new StringTextMatcher(value), cellReader(), NO_COLUMNS, queryChunkSize());
   }
 
   /**
@@ -177,7 +185,87 @@ public class JTableDriver extends JComponentDriver {
    */
   @RunsInEDT
   @Nonnull public TableCell cell(@Nonnull JTable table, @Nonnull Pattern pattern) {
-    return cellWithValue(table, new PatternTextMatcher(pattern), cellReader());
+    return cellWithValue(table, new PatternTextMatcher(pattern), cellReader(), NO_COLUMNS, queryChunkSize());
+  }
+
+  /**
+   * Returns the first cell in the given columns of the {@code JTable} whose value matches the given one. Only the cells
+   * in the given columns are read, using this driver's {@link JTableCellReader}.
+   *
+   * @param table the target {@code JTable}.
+   * @param value the value of the cell to look for. It can be a regular expression.
+   * @param columns the indices of the columns to look in. If none are given, all the columns are searched.
+   * @return the first cell in the given columns whose value matches the given one.
+   * @throws IndexOutOfBoundsException if any of the column indices is out of bounds.
+   * @throws ActionFailedException if a cell with a matching value cannot be found.
+   * @see #indexCellValues(boolean)
+   */
+  @RunsInEDT
+  @Nonnull public TableCell cellInColumns(@Nonnull JTable table, @Nullable String value, @Nonnull int... columns) {
+    if (cellIndexEnabled) {
+      return indexedCellWithValue(table, value, cellReader(), checkNotNull(columns), queryChunkSize());
+    }
+    return cellWithValue(table, new StringTextMatcher(value), cellReader(), checkNotNull(columns), queryChunkSize());
+  }
+
+  /**
+   * Returns the first cell in the given columns of the {@code JTable} whose value matches the given regular expression
+   * pattern. Only the cells in the given columns are read, using this driver's {@link JTableCellReader}.
+   *
+   * @param table the target {@code JTable}.
+   * @param pattern the regular expression pattern to match.
+   * @param columns the indices of the columns to look in. If none are given, all the columns are searched.
+   * @return the first cell in the given columns whose value matches the given regular expression pattern.
+   * @throws NullPointerException if the given regular expression is {@code null}.
+   * @throws IndexOutOfBoundsException if any of the column indices is out of bounds.
+   * @throws ActionFailedException if a cell with a matching value cannot be found.
+   */
+  @RunsInEDT
+  @Nonnull public TableCell cellInColumns(@Nonnull JTable table, @Nonnull Pattern pattern, @Nonnull int... columns) {
+    return cellWithValue(table, new PatternTextMatcher(pattern), cellReader(), checkNotNull(columns),
+                         queryChunkSize());
+  }
+
+  /**
+   * Returns the first cell of the {@code JTable} whose model value matches the given one. Unlike
+   * {@link #cell(JTable, String)}, this method compares the {@code String} representation of the values in the model of
+   * the {@code JTable}, without using its cell renderers.
+   *
+   * @param table the target {@code JTable}.
+   * @param value the value of the cell to look for. It can be a regular expression.
+   * @param columns the indices of the columns to look in. If none are given, all the columns are searched.
+   * @return the first cell in the given columns whose model value matches the given one.
+   * @throws IndexOutOfBoundsException if any of the column indices is out of bounds.
+   * @throws ActionFailedException if a cell with a matching value cannot be found.
+   * @see #indexCellValues(boolean)
+   */
+  @RunsInEDT
+  @Nonnull public TableCell cellWithModelValue(@Nonnull JTable table, @Nullable String value,
+                                               @Nonnull int... columns) {
+    if (cellIndexEnabled) {
+      return indexedCellWithModelValue(table, value, checkNotNull(columns), queryChunkSize());
+    }
+    return JTableMatchingCellQuery.cellWithModelValue(table, new StringTextMatcher(value), checkNotNull(columns),
+                                                      queryChunkSize());
+  }
+
+  /**
+   * Returns the first cell of the {@code JTable} whose model value matches the given regular expression pattern. This
+   * method does not use the cell renderers of the {@code JTable}.
+   *
+   * @param table the target {@code JTable}.
+   * @param pattern the regular expression pattern to match.
+   * @param columns the indices of the columns to look in. If none are given, all the columns are searched.
+   * @return the first cell in the given columns whose model value matches the given regular expression pattern.
+   * @throws NullPointerException if the given regular expression is {@code null}.
+   * @throws IndexOutOfBoundsException if any of the column indices is out of bounds.
+   * @throws ActionFailedException if a cell with a matching value cannot be found.
+   */
+  @RunsInEDT
+  @Nonnull public TableCell cellWithModelValue(@Nonnull JTable table, @Nonnull Pattern pattern,
+                                               @Nonnull int... columns) {
+    return JTableMatchingCellQuery.cellWithModelValue(table, new PatternTextMatcher(pattern), checkNotNull(columns),
+                                                      queryChunkSize());
   }
 
   /**
@@ -545,6 +633,23 @@ public class JTableDriver extends JComponentDriver {
     }
   }
 
+  /**
+   * Asserts that the {@code String} representation of the values in the model of the {@code JTable} is equal to the
+   * given {@code String} array. Unlike {@link #requireContents(JTable, String[][])}, this method does not use the cell
+   * renderers of the {@code JTable}.
+   *
+   * @param table the target {@code JTable}.
+   * @param contents the expected {@code String} representation of the values in the model of the {@code JTable}.
+   * @see #modelContents(JTable)
+   */
+  @RunsInEDT
+  public void requireModelContents(@Nonnull JTable table, @Nonnull String[][] contents) {
+    String[][] actual = modelContents(table);
+    if (!equal(actual, contents)) {
+      failNotEqual(actual, contents, propertyName(table, CONTENTS_PROPERTY));
+    }
+  }
+
   private static void failNotEqual(@Nonnull String[][] actual, @Nonnull String[][] expected,
                                    @Nullable Description description) {
     String descriptionValue = description != null ? description.value() : null;
@@ -562,7 +667,62 @@ public class JTableDriver extends JComponentDriver {
    */
   @RunsInEDT
   @Nonnull public String[][] contents(@Nonnull JTable table) {
-    return tableContents(table, cellReader());
+    return tableContents(table, cellReader(), queryChunkSize());
+  }
+
+  /**
+   * Returns the {@code String} representation of the cells in the given range of rows and columns of the
+   * {@code JTable}, using this driver's {@link JTableCellReader}. All the cells are read in a single query in the event
+   * dispatch thread (EDT).
+   *
+   * @param table the target {@code JTable}.
+   * @param firstRow the index of the first row to read.
+   * @param lastRow the index of the last row to read (inclusive.)
+   * @param firstColumn the index of the first column to read.
+   * @param lastColumn the index of the last column to read (inclusive.)
+   * @return the {@code String} representation of the cells in the given range, indexed from the first row and column.
+   * @throws IndexOutOfBoundsException if any of the indices is out of bounds.
+   * @throws IllegalArgumentException if the first row or column is greater than the last one.
+   * @see #replaceCellReader(JTableCellReader)
+   */
+  @RunsInEDT
+  @Nonnull public String[][] contents(@Nonnull JTable table, int firstRow, int lastRow, int firstColumn,
+                                      int lastColumn) {
+    return tableContents(table, cellReader(), firstRow, lastRow, firstColumn, lastColumn,
+                         queryChunkSize());
+  }
+
+  /**
+   * Returns the {@code String} representation of the values in the model of the {@code JTable}, in view order. Unlike
+   * {@link #contents(JTable)}, this method does not use the cell renderers of the {@code JTable}, which makes it much
+   * faster for big tables when the test only cares about the values and not about how they are displayed.
+   *
+   * @param table the target {@code JTable}.
+   * @return the {@code String} representation of the values in the model of the {@code JTable}.
+   */
+  @RunsInEDT
+  @Nonnull public String[][] modelContents(@Nonnull JTable table) {
+    return JTableContentsQuery.modelContents(table, queryChunkSize());
+  }
+
+  /**
+   * Returns the {@code String} representation of the values in the model of the {@code JTable} for the given range of
+   * rows and columns (view indices.) This method does not use the cell renderers of the {@code JTable}.
+   *
+   * @param table the target {@code JTable}.
+   * @param firstRow the index of the first row to read.
+   * @param lastRow the index of the last row to read (inclusive.)
+   * @param firstColumn the index of the first column to read.
+   * @param lastColumn the index of the last column to read (inclusive.)
+   * @return the {@code String} representation of the values in the given range, indexed from the first row and column.
+   * @throws IndexOutOfBoundsException if any of the indices is out of bounds.
+   * @throws IllegalArgumentException if the first row or column is greater than the last one.
+   */
+  @RunsInEDT
+  @Nonnull public String[][] modelContents(@Nonnull JTable table, int firstRow, int lastRow, int firstColumn,
+                                           int lastColumn) {
+    return JTableContentsQuery.modelContents(table, firstRow, lastRow, firstColumn, lastColumn,
+                                             queryChunkSize());
   }
 
   /**
@@ -752,6 +912,10 @@ public class JTableDriver extends JComponentDriver {
     execute(() -> JTableCellPreconditions.checkCellIndicesInBounds(table, cell));
   }
 
+  private int queryChunkSize() {
+    return robot.settings().queryChunkSize();
+  }
+
   /**
    * Updates the implementation of {@link JTableCellReader} to use when comparing internal values of a {@code JTable}
    * and the values expected in a test.
@@ -763,6 +927,26 @@ public class JTableDriver extends JComponentDriver {
     cellReader = checkNotNull(newCellReader);
   }
 
+  /**
+   * <p>
+   * Indicates whether looking up cells by a value that is not a regular expression, in {@link #cell(JTable, String)},
+   * {@link #cellInColumns(JTable, String, int...)} and {@link #cellWithModelValue(JTable, String, int...)}, should use
+   * an index of the values in the {@code JTable}. The default value is {@code false}.
+   * </p>
+   *
+   * <p>
+   * The index is built by the first lookup, reading all the cells once, and later lookups in the same {@code JTable}
+   * only read the found cell again to validate it. The index is discarded every time the model, sorter or columns of
+   * the {@code JTable} change. Enable it when a test looks up many cells in a big {@code JTable}.
+   * </p>
+   *
+   * @param enabled {@code true} to use an index of the values in the {@code JTable}, {@code false} to read the cells
+   *          until a match is found every time.
+   */
+  public void indexCellValues(boolean enabled) {
+    cellIndexEnabled = enabled;
+  }
+
   /**
    * Updates the implementation of {@link JTableCellWriter} to use to edit cell values in a {@code JTable}.
    *
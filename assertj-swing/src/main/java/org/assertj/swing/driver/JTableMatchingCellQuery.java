@@ -14,52 +14,274 @@ package org.assertj.swing.driver;
 
 import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.swing.data.TableCell.row;
+import static org.assertj.swing.driver.JTableCellIndex.cellIndexOf;
+import static org.assertj.swing.driver.JTableCellIndex.indexRows;
+import static org.assertj.swing.driver.LiteralTextMatcher.isLiteral;
+import static org.assertj.swing.driver.JTableCellPreconditions.checkColumnInBounds;
+import static org.assertj.swing.driver.ModelChangeDetector.changesIn;
+import static org.assertj.swing.driver.ModelValueToString.asText;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
 import static org.assertj.swing.exception.ActionFailedException.actionFailure;
+import static org.assertj.swing.util.Maps.newHashMap;
+
+import java.util.Map;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.swing.JTable;
 
 import org.assertj.swing.annotation.RunsInCurrentThread;
 import org.assertj.swing.annotation.RunsInEDT;
 import org.assertj.swing.cell.JTableCellReader;
 import org.assertj.swing.data.TableCell;
+import org.assertj.swing.driver.JTableCellIndex.CellValue;
+import org.assertj.swing.edt.GuiChunkedQuery;
+import org.assertj.swing.exception.ActionFailedException;
+import org.assertj.swing.util.StringTextMatcher;
 import org.assertj.swing.util.TextMatcher;
 
 /**
+ * <p>
  * Returns the first cell in a {@code JTable} whose value matches the given one. This query is executed in the event
- * dispatch thread (EDT).
+ * dispatch thread (EDT), scanning all the rows in one go or a chunk of rows per visit to the EDT.
+ * </p>
+ *
+ * <p>
+ * The search can be restricted to some columns, and can read the values either through a {@link JTableCellReader}
+ * (what the user sees) or straight from the table's model (skipping the cell renderers.) Looking up a literal value
+ * (not a regular expression) can use a {@link JTableCellIndex}, so that repeated lookups in the same {@code JTable} do
+ * not read all of its cells again.
+ * </p>
  *
  * @author Alex Ruiz
  */
 final class JTableMatchingCellQuery {
+  private static final int[] ALL_COLUMNS = new int[0];
+
+  // reading cells from the model does not depend on any reader, so model indices share this key.
+  private static final Object MODEL = new Object();
+
   @RunsInEDT
   static @Nonnull TableCell cellWithValue(final @Nonnull JTable table, final @Nonnull TextMatcher matcher,
                                           final @Nonnull JTableCellReader cellReader) {
-    TableCell result = execute(() -> findMatchingCell(table, matcher, cellReader));
+    return cellWithValue(table, matcher, cellReader, ALL_COLUMNS, 0);
+  }
+
+  @RunsInEDT
+  static @Nonnull TableCell cellWithValue(final @Nonnull JTable table, final @Nonnull TextMatcher matcher,
+                                          final @Nonnull JTableCellReader cellReader, final @Nonnull int[] columns,
+                                          int chunkSize) {
+    CellValue cellValue = (row, column) -> cellReader.valueAt(table, row, column);
+    TableCell result = execute(new MatchingCellQuery(table, matcher, columns, cellValue), chunkSize);
+    return checkNotNull(result);
+  }
+
+  @RunsInEDT
+  static @Nonnull TableCell cellWithModelValue(final @Nonnull JTable table, final @Nonnull TextMatcher matcher,
+                                               final @Nonnull int[] columns, int chunkSize) {
+    CellValue cellValue = (row, column) -> asText(table.getValueAt(row, column));
+    TableCell result = execute(new MatchingCellQuery(table, matcher, columns, cellValue), chunkSize);
+    return checkNotNull(result);
+  }
+
+  /**
+   * Returns the first cell whose value, read with the given cell reader, is equal to or matches the given value. If
+   * the value is a literal, the cell is looked up in the {@link JTableCellIndex} of the {@code JTable}.
+   */
+  @RunsInEDT
+  static @Nonnull TableCell indexedCellWithValue(final @Nonnull JTable table, final @Nullable String value,
+                                                 final @Nonnull JTableCellReader cellReader,
+                                                 final @Nonnull int[] columns, int chunkSize) {
+    if (value == null || !isLiteral(value)) {
+      return cellWithValue(table, new StringTextMatcher(value), cellReader, columns, chunkSize);
+    }
+    CellValue cellValue = (row, column) -> cellReader.valueAt(table, row, column);
+    TableCell result = execute(new IndexedCellQuery(table, value, cellReader, columns, cellValue), chunkSize);
+    return checkNotNull(result);
+  }
+
+  /**
+   * Returns the first cell whose model value is equal to or matches the given value. If the value is a literal, the
+   * cell is looked up in the {@link JTableCellIndex} of the {@code JTable}.
+   */
+  @RunsInEDT
+  static @Nonnull TableCell indexedCellWithModelValue(final @Nonnull JTable table, final @Nullable String value,
+                                                      final @Nonnull int[] columns, int chunkSize) {
+    if (value == null || !isLiteral(value)) {
+      return cellWithModelValue(table, new StringTextMatcher(value), columns, chunkSize);
+    }
+    CellValue cellValue = (row, column) -> asText(table.getValueAt(row, column));
+    TableCell result = execute(new IndexedCellQuery(table, value, MODEL, columns, cellValue), chunkSize);
     return checkNotNull(result);
   }
 
   @RunsInCurrentThread
-  @Nonnull private static TableCell findMatchingCell(@Nonnull JTable table, @Nonnull TextMatcher matcher,
-                                                     @Nonnull JTableCellReader cellReader) {
-    int rCount = table.getRowCount();
-    int cCount = table.getColumnCount();
-    for (int r = 0; r < rCount; r++) {
-      for (int c = 0; c < cCount; c++) {
-        if (cellHasValue(table, r, c, matcher, cellReader)) {
-          return row(r).column(c);
-        }
+  @Nonnull private static int[] columnsToSearch(@Nonnull JTable table, @Nonnull int[] columns) {
+    if (columns.length > 0) {
+      for (int column : columns) {
+        checkColumnInBounds(table, column);
       }
+      return columns.clone();
+    }
+    int columnCount = table.getColumnCount();
+    int[] all = new int[columnCount];
+    for (int c = 0; c < columnCount; c++) {
+      all[c] = c;
     }
+    return all;
+  }
+
+  @Nonnull private static ActionFailedException cellNotFound(@Nonnull TextMatcher matcher) {
     String msg = String.format("Unable to find cell matching %s %s", matcher.description(), matcher.formattedValues());
-    throw actionFailure(msg);
+    return actionFailure(msg);
   }
 
-  @RunsInCurrentThread
-  private static boolean cellHasValue(@Nonnull JTable table, int row, int column, @Nonnull TextMatcher matcher,
-                                      @Nonnull JTableCellReader cellReader) {
-    return matcher.isMatching(cellReader.valueAt(table, row, column));
+  /**
+   * Looks up a literal value in the {@link JTableCellIndex} of a {@code JTable}. The cells are indexed, a chunk of rows
+   * at a time, only if there is no index yet or if the cell found in the index no longer has the value (the model
+   * changed without notifying its listeners.) A value missing from an existing index is not looked up again.
+   */
+  private static class IndexedCellQuery extends GuiChunkedQuery<TableCell> {
+    private final JTable table;
+    private final String value;
+    private final Object source;
+    private final int[] requestedColumns;
+    private final CellValue cellValue;
+
+    private ModelChangeDetector changes;
+    private JTableCellIndex index;
+    private int[] columns;
+    private Map<String, TableCell> cells;
+    private TableCell found;
+
+    IndexedCellQuery(@Nonnull JTable table, @Nonnull String value, @Nonnull Object source,
+                     @Nonnull int[] requestedColumns, @Nonnull CellValue cellValue) {
+      this.table = table;
+      this.value = value;
+      this.source = source;
+      this.requestedColumns = requestedColumns;
+      this.cellValue = cellValue;
+    }
+
+    @Override
+    protected int start() {
+      columns = columnsToSearch(table, requestedColumns);
+      index = cellIndexOf(table);
+      changes = null;
+      cells = null;
+      if (index.isIndexed(source, columns)) {
+        found = index.firstCellWithText(source, columns, value);
+        if (found == null || isStillMatching(found)) {
+          return 0;
+        }
+        // the table changed without notifying its listeners: index it again.
+        index.clear();
+      }
+      changes = changesIn(table);
+      cells = newHashMap();
+      found = null;
+      return table.getRowCount();
+    }
+
+    private boolean isStillMatching(@Nonnull TableCell cell) {
+      return cell.row < table.getRowCount() && value.equals(cellValue.at(cell.row, cell.column));
+    }
+
+    @Override
+    protected boolean read(int from, int to) {
+      if (cells != null) {
+        indexRows(cells, from, to, columns, cellValue);
+      }
+      return true;
+    }
+
+    @Override
+    protected boolean changedSinceStart() {
+      return changes != null && changes.changed();
+    }
+
+    @Override
+    protected void finish() {
+      if (changes != null) {
+        changes.stop();
+      }
+    }
+
+    @Override
+    protected TableCell result() {
+      if (cells != null) {
+        index.put(source, columns, cells);
+        found = cells.get(value);
+        cells = null;
+      }
+      if (found == null) {
+        throw cellNotFound(new StringTextMatcher(value));
+      }
+      return found;
+    }
+  }
+
+  /**
+   * Scans the rows of a {@code JTable} for the first cell matching a {@link TextMatcher}, a chunk of rows at a time.
+   */
+  private static class MatchingCellQuery extends GuiChunkedQuery<TableCell> {
+    private final JTable table;
+    private final TextMatcher matcher;
+    private final int[] requestedColumns;
+    private final CellValue cellValue;
+
+    private ModelChangeDetector changes;
+    private int[] columns;
+    private TableCell found;
+
+    MatchingCellQuery(@Nonnull JTable table, @Nonnull TextMatcher matcher, @Nonnull int[] requestedColumns,
+                      @Nonnull CellValue cellValue) {
+      this.table = table;
+      this.matcher = matcher;
+      this.requestedColumns = requestedColumns;
+      this.cellValue = cellValue;
+    }
+
+    @Override
+    protected int start() {
+      columns = columnsToSearch(table, requestedColumns);
+      changes = changesIn(table);
+      found = null;
+      return table.getRowCount();
+    }
+
+    @Override
+    protected boolean read(int from, int to) {
+      for (int r = from; r < to; r++) {
+        for (int c : columns) {
+          if (matcher.isMatching(cellValue.at(r, c))) {
+            found = row(r).column(c);
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+
+    @Override
+    protected boolean changedSinceStart() {
+      return changes.changed();
+    }
+
+    @Override
+    protected void finish() {
+      if (changes != null) {
+        changes.stop();
+      }
+    }
+
+    @Override
+    protected TableCell result() {
+      if (found == null) {
+        throw cellNotFound(matcher);
+      }
+      return found;
+    }
   }
 
   private JTableMatchingCellQuery() {
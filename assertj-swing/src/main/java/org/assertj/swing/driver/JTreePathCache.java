@@ -0,0 +1,156 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.swing.util.Maps.newHashMap;
+
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.JTree;
+import javax.swing.tree.TreeModel;
+import javax.swing.tree.TreePath;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.cell.JTreeCellReader;
+
+/**
+ * <p>
+ * Remembers the {@code TreePath}s already resolved by {@link JTreePathFinder} for a {@code JTree}, together with an
+ * index of the text of the children of each visited node. Resolving a path that was already resolved (or that shares
+ * its parents with one that was) only needs to look at the nodes in that path, instead of at all the children of each
+ * node in it.
+ * </p>
+ *
+ * <p>
+ * Caches are kept in {@link ModelCaches}, weakly keyed by {@code JTree}. A cache is cleared every time the
+ * {@code TreeModel} of its {@code JTree} changes, and discarded when the {@code JTree} gets a new model, when the
+ * visibility of its root changes, or when it is used with a different {@link JTreeCellReader} or path separator.
+ * </p>
+ */
+final class JTreePathCache implements ModelChangeListener.Target {
+  private static final ModelCaches<JTree, JTreePathCache> CACHES = new ModelCaches<>(false);
+
+  private static final Object MULTIPLE_MATCHES = new Object();
+
+  private final boolean rootVisible;
+  private final JTreeCellReader cellReader;
+  private final String separator;
+
+  private final Map<String, TreePath> paths = newHashMap();
+  private final Map<Object, Map<String, Object>> childrenByText = newHashMap();
+
+  /**
+   * Returns the cache for the given {@code JTree}, creating a new one if the {@code JTree} does not have a cache yet or
+   * if its current cache cannot be used with the given cell reader and separator.
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Clients are responsible for calling this
+   * method from the EDT.
+   * </p>
+   *
+   * @param tree the target {@code JTree}.
+   * @param cellReader the cell reader used to get the text of the nodes.
+   * @param separator the separator used in path strings.
+   * @return the cache for the given {@code JTree}.
+   */
+  @RunsInCurrentThread
+  @Nonnull static JTreePathCache pathCacheOf(@Nonnull JTree tree, @Nonnull JTreeCellReader cellReader,
+                                             @Nonnull String separator) {
+    return CACHES.cacheOf(tree, cache -> cache.isValidFor(tree, cellReader, separator),
+                          () -> new JTreePathCache(tree.isRootVisible(), cellReader, separator), tree.getModel());
+  }
+
+  private JTreePathCache(boolean rootVisible, @Nonnull JTreeCellReader cellReader, @Nonnull String separator) {
+    this.rootVisible = rootVisible;
+    this.cellReader = cellReader;
+    this.separator = separator;
+  }
+
+  private boolean isValidFor(@Nonnull JTree tree, @Nonnull JTreeCellReader newCellReader,
+                             @Nonnull String newSeparator) {
+    return rootVisible == tree.isRootVisible() && cellReader == newCellReader && separator.equals(newSeparator);
+  }
+
+  @Nullable TreePath path(@Nonnull String path) {
+    return paths.get(path);
+  }
+
+  void cachePath(@Nonnull String path, @Nonnull TreePath treePath) {
+    paths.put(path, treePath);
+  }
+
+  void discardPath(@Nonnull String path) {
+    paths.remove(path);
+  }
+
+  /**
+   * Returns the only child of the given node which text is equal to the given one, indexing the text of all the
+   * children of the node the first time this method is called for it.
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Clients are responsible for calling this
+   * method from the EDT.
+   * </p>
+   *
+   * @param tree the target {@code JTree}.
+   * @param parent the node to look the child in.
+   * @param text the text to match.
+   * @return the matching child, or {@code null} if there is none or more than one.
+   */
+  @RunsInCurrentThread
+  @Nullable Object uniqueChildMatching(@Nonnull JTree tree, @Nonnull Object parent, @Nonnull String text) {
+    Map<String, Object> children = childrenByText.get(parent);
+    if (children == null) {
+      children = indexChildrenOf(tree, parent);
+      childrenByText.put(parent, children);
+    }
+    Object match = children.get(text);
+    return match == MULTIPLE_MATCHES ? null : match;
+  }
+
+  @RunsInCurrentThread
+  @Nonnull private Map<String, Object> indexChildrenOf(@Nonnull JTree tree, @Nonnull Object parent) {
+    TreeModel model = tree.getModel();
+    int childCount = model.getChildCount(parent);
+    Map<String, Object> children = newHashMap();
+    for (int childIndex = 0; childIndex < childCount; childIndex++) {
+      Object child = model.getChild(parent, childIndex);
+      String text = cellReader.valueAt(tree, child);
+      if (text != null) {
+        children.put(text, children.containsKey(text) ? MULTIPLE_MATCHES : child);
+      }
+    }
+    return children;
+  }
+
+  /**
+   * Discards the index of the children of the given node. {@link JTreePathFinder} calls this method when the index
+   * does not have a unique match, or when the child it returned no longer matches the model, to double-check it
+   * against the model.
+   *
+   * @param parent the node which index should be discarded.
+   */
+  void discardChildrenOf(@Nonnull Object parent) {
+    childrenByText.remove(parent);
+  }
+
+  void clear() {
+    paths.clear();
+    childrenByText.clear();
+  }
+
+  @Override
+  public void modelChanged() {
+    clear();
+  }
+}
@@ -14,6 +14,7 @@ package org.assertj.swing.driver;
 
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Strings.quote;
+import static org.assertj.swing.driver.JTreePathCache.pathCacheOf;
 
 import java.util.List;
 
@@ -28,7 +29,8 @@ import org.assertj.swing.cell.JTreeCellReader;
 import org.assertj.swing.exception.LocationUnavailableException;
 
 /**
- * Lookup of {@code TreePath}s which text matches the given one.
+ * Lookup of {@code TreePath}s which text matches the given one. Resolved paths are remembered in a
+ * {@link JTreePathCache}, so repeated lookups of the same path only read the nodes in that path.
  * 
  * @author Alex Ruiz
  */
@@ -47,14 +49,30 @@ class JTreePathFinder {
   @RunsInCurrentThread
   @Nonnull
   TreePath findMatchingPath(@Nonnull JTree tree, @Nonnull String path) {
+    JTreePathCache cache = pathCacheOf(tree, cellReader, separator);
     String[] pathStrings = splitPath(path);
+    TreePath cached = cache.path(path);
+    if (cached != null) {
+      if (isStillMatching(tree, cached, pathStrings)) {
+        return cached;
+      }
+      // the model changed without notifying its listeners.
+      cache.clear();
+    }
+    TreePath matchingPath = findMatchingPath(tree, path, pathStrings, cache);
+    cache.cachePath(path, matchingPath);
+    return matchingPath;
+  }
+
+  @RunsInCurrentThread
+  @Nonnull private TreePath findMatchingPath(@Nonnull JTree tree, @Nonnull String path, @Nonnull String[] pathStrings,
+                                             @Nonnull JTreePathCache cache) {
     TreeModel model = tree.getModel();
     List<Object> newPathValues = newArrayList();
     Object node = model.getRoot();
     int pathElementCount = pathStrings.length;
     for (int stringIndex = 0; stringIndex < pathElementCount; stringIndex++) {
       String pathString = pathStrings[stringIndex];
-      Object match = null;
       if (stringIndex == 0 && tree.isRootVisible()) {
         if (!pathString.equals(value(tree, node))) {
           throw pathNotFound(path);
@@ -62,18 +80,12 @@ class JTreePathFinder {
         newPathValues.add(node);
         continue;
       }
-      int childCount = model.getChildCount(node);
-      for (int childIndex = 0; childIndex < childCount; childIndex++) {
-        Object child = model.getChild(node, childIndex);
-        if (pathString.equals(value(tree, child))) {
-          if (match != null) {
-            throw multipleMatchingNodes(pathString, value(tree, node));
-          }
-          match = child;
-        }
-      }
-      if (match == null) {
-        throw pathNotFound(path);
+      Object match = cache.uniqueChildMatching(tree, node, pathString);
+      if (match == null || !isChildMatching(tree, node, match, pathString)) {
+        // the index may be out of date (the model can change without notifying its listeners), double-check against
+        // the model.
+        cache.discardChildrenOf(node);
+        match = uniqueChildMatching(tree, node, pathString, path);
       }
       newPathValues.add(match);
       node = match;
@@ -81,6 +93,52 @@ class JTreePathFinder {
     return new TreePath(newPathValues.toArray());
   }
 
+  @RunsInCurrentThread
+  @Nonnull private Object uniqueChildMatching(@Nonnull JTree tree, @Nonnull Object node, @Nonnull String pathString,
+                                              @Nonnull String path) {
+    TreeModel model = tree.getModel();
+    Object match = null;
+    int childCount = model.getChildCount(node);
+    for (int childIndex = 0; childIndex < childCount; childIndex++) {
+      Object child = model.getChild(node, childIndex);
+      if (pathString.equals(value(tree, child))) {
+        if (match != null) {
+          throw multipleMatchingNodes(pathString, value(tree, node));
+        }
+        match = child;
+      }
+    }
+    if (match == null) {
+      throw pathNotFound(path);
+    }
+    return match;
+  }
+
+  @RunsInCurrentThread
+  private boolean isChildMatching(@Nonnull JTree tree, @Nonnull Object parent, @Nonnull Object child,
+                                  @Nonnull String pathString) {
+    return tree.getModel().getIndexOfChild(parent, child) >= 0 && pathString.equals(value(tree, child));
+  }
+
+  @RunsInCurrentThread
+  private boolean isStillMatching(@Nonnull JTree tree, @Nonnull TreePath treePath, @Nonnull String[] pathStrings) {
+    Object[] nodes = treePath.getPath();
+    if (nodes.length != pathStrings.length) {
+      return false;
+    }
+    TreeModel model = tree.getModel();
+    Object parent = tree.isRootVisible() ? null : model.getRoot();
+    for (int i = 0; i < nodes.length; i++) {
+      Object node = nodes[i];
+      boolean inModel = parent == null ? node == model.getRoot() : model.getIndexOfChild(parent, node) >= 0;
+      if (!inModel || !pathStrings[i].equals(value(tree, node))) {
+        return false;
+      }
+      parent = node;
+    }
+    return true;
+  }
+
   @Nonnull private LocationUnavailableException pathNotFound(@Nonnull String path) {
     throw new LocationUnavailableException(String.format("Unable to find path %s", quote(path)));
   }
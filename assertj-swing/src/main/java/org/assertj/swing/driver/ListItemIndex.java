@@ -0,0 +1,133 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.swing.util.Maps.newHashMap;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.JComboBox;
+import javax.swing.JComponent;
+import javax.swing.ListModel;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+
+/**
+ * <p>
+ * Index from the text of the items of a {@code JList} or a {@code JComboBox} to the index of the first item with that
+ * text, used by {@link JListMatchingItemQuery} and {@link JComboBoxMatchingItemQuery} to find items by value without
+ * reading every item every time.
+ * </p>
+ *
+ * <p>
+ * A component can have several indices, one per cell reader. Indices are built on the first lookup.
+ * </p>
+ *
+ * <p>
+ * Indices are kept in {@link ModelCaches}, weakly keyed by component. They are cleared every time the items of the
+ * {@code ListModel} of the component change, and discarded when the component gets a new model.
+ * </p>
+ */
+final class ListItemIndex implements ModelChangeListener.Target {
+  private static final ModelCaches<JComponent, ListItemIndex> LIST_INDICES = new ModelCaches<>(false);
+  // changing the selection of a JComboBox does not change its items.
+  private static final ModelCaches<JComponent, ListItemIndex> COMBO_BOX_INDICES = new ModelCaches<>(true);
+
+  private final Map<Object, Map<String, Integer>> indices = new IdentityHashMap<>();
+
+  /**
+   * Returns the index for the given component, creating a new one if the component does not have an index yet or if
+   * its current index was created for a different model.
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Clients are responsible for calling this
+   * method from the EDT.
+   * </p>
+   *
+   * @param c the target {@code JList} or {@code JComboBox}.
+   * @param model the current model of the component.
+   * @return the index for the given component.
+   */
+  @RunsInCurrentThread
+  @Nonnull static ListItemIndex itemIndexOf(@Nonnull JComponent c, @Nonnull ListModel<?> model) {
+    ModelCaches<JComponent, ListItemIndex> indices = c instanceof JComboBox ? COMBO_BOX_INDICES : LIST_INDICES;
+    return indices.cacheOf(c, index -> true, ListItemIndex::new, model);
+  }
+
+  private ListItemIndex() {
+  }
+
+  /**
+   * Returns the index of the first item with the given text, indexing the items the first time this method is called
+   * with the given source of item values. If the text is not in the index, or the index is out of date (e.g. because
+   * the model changed without notifying its listeners,) the items are indexed again.
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Clients are responsible for calling this
+   * method from the EDT.
+   * </p>
+   *
+   * @param source identifies how {@code itemValue} reads the items (e.g. the cell reader,) to tell indices apart.
+   * @param itemCount the number of items in the component.
+   * @param itemValue reads the text of an item.
+   * @param text the text to look for.
+   * @return the index of the first item with the given text, or -1 if there is none.
+   */
+  @RunsInCurrentThread
+  int indexOf(@Nonnull Object source, int itemCount, @Nonnull ItemValue itemValue, @Nonnull String text) {
+    Map<String, Integer> items = indices.get(source);
+    if (items != null) {
+      Integer index = items.get(text);
+      if (index != null && index < itemCount && text.equals(itemValue.at(index))) {
+        return index;
+      }
+    }
+    // the index is new, out of date or does not have the text: index the items again.
+    items = index(itemCount, itemValue);
+    indices.put(source, items);
+    Integer index = items.get(text);
+    return index != null ? index : -1;
+  }
+
+  @RunsInCurrentThread
+  @Nonnull private static Map<String, Integer> index(int itemCount, @Nonnull ItemValue itemValue) {
+    Map<String, Integer> items = newHashMap();
+    for (int i = 0; i < itemCount; i++) {
+      String text = itemValue.at(i);
+      if (text != null && !items.containsKey(text)) {
+        items.put(text, i);
+      }
+    }
+    return items;
+  }
+
+  /**
+   * Discards all the indices of the component.
+   */
+  void clear() {
+    indices.clear();
+  }
+
+  @Override
+  public void modelChanged() {
+    clear();
+  }
+
+  /**
+   * Reads the text of an item, given its index.
+   */
+  interface ItemValue {
+    @Nullable String at(int index);
+  }
+}
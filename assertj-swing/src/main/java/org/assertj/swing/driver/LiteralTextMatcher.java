@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.core.util.Preconditions.checkNotNull;
+
+import javax.annotation.Nonnull;
+
+import org.assertj.swing.util.StringTextMatcher;
+
+/**
+ * Matches text that is equal to a value without regular expression metacharacters. Drivers use it to tell the queries
+ * that the items matching the value can be looked up in a {@link ListItemIndex}.
+ */
+final class LiteralTextMatcher extends StringTextMatcher {
+  private final String value;
+
+  LiteralTextMatcher(@Nonnull String value) {
+    super(value);
+    this.value = checkNotNull(value);
+  }
+
+  @Nonnull String value() {
+    return value;
+  }
+
+  /**
+   * Indicates whether the given value does not contain regular expression metacharacters, and therefore only matches
+   * text equal to it.
+   *
+   * @param value the value to verify.
+   * @return {@code true} if the given value is a literal, {@code false} otherwise.
+   */
+  static boolean isLiteral(@Nonnull String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if ("\\^$.|?*+()[]{}".indexOf(value.charAt(i)) >= 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
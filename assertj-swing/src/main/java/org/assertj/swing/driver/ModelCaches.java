@@ -0,0 +1,96 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.swing.util.Maps.newWeakHashMap;
+
+import java.awt.Component;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+
+/**
+ * <p>
+ * Keeps a cache derived from the models of each component of a type (e.g. the {@link JTableCellIndex} of each
+ * {@code JTable}), and a {@link ModelChangeListener} that notifies the cache when those models change.
+ * </p>
+ *
+ * <p>
+ * Components are weakly referenced, and neither the caches nor the listeners keep a strong reference to the models,
+ * which usually reference their components back: a cache is garbage-collected together with its component. A cache is
+ * replaced, and its listener removed from the models, when its component gets new models. All the methods of this
+ * class must be called in the EDT.
+ * </p>
+ *
+ * @param <C> the type of the components.
+ * @param <T> the type of the caches.
+ */
+final class ModelCaches<C extends Component, T extends ModelChangeListener.Target> {
+  private final boolean ignoreSelectionChanges;
+
+  private final Map<C, Entry<T>> entries = newWeakHashMap();
+
+  /**
+   * Creates a new {@link ModelCaches}.
+   *
+   * @param ignoreSelectionChanges indicates whether the caches ignore changes of the contents of a {@code ListModel}
+   *          with no indices, which is how {@code JComboBox} models report a change of selection.
+   */
+  ModelCaches(boolean ignoreSelectionChanges) {
+    this.ignoreSelectionChanges = ignoreSelectionChanges;
+  }
+
+  /**
+   * Returns the cache of the given component, creating a new one if the component does not have a cache yet, or if its
+   * current cache was created for different models or cannot be used anymore.
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Clients are responsible for calling this
+   * method from the EDT.
+   * </p>
+   *
+   * @param c the target component.
+   * @param isValid indicates whether the current cache of the component can still be used.
+   * @param newCache creates a new cache.
+   * @param models the current models of the component the cache is derived from.
+   * @return the cache of the given component.
+   */
+  @RunsInCurrentThread
+  @Nonnull T cacheOf(@Nonnull C c, @Nonnull Predicate<T> isValid, @Nonnull Supplier<T> newCache,
+                     @Nonnull Object... models) {
+    Entry<T> entry = entries.get(c);
+    if (entry != null) {
+      if (entry.listener.isListeningTo(models) && isValid.test(entry.cache)) {
+        return entry.cache;
+      }
+      entry.listener.stopListening();
+    }
+    T cache = newCache.get();
+    ModelChangeListener listener = new ModelChangeListener(cache, ignoreSelectionChanges).listenTo(models);
+    entries.put(c, new Entry<>(cache, listener));
+    return cache;
+  }
+
+  private static class Entry<T> {
+    final T cache;
+    final ModelChangeListener listener;
+
+    Entry(@Nonnull T cache, @Nonnull ModelChangeListener listener) {
+      this.cache = cache;
+      this.listener = listener;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+import javax.swing.JComboBox;
+import javax.swing.JList;
+import javax.swing.JTable;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+
+/**
+ * Detects changes in the items shown by a {@code JList}, {@code JComboBox} or {@code JTable} while they are read in
+ * several visits to the event dispatch thread (EDT), by listening to their models with a {@link ModelChangeListener}
+ * and checking that the models were not replaced. All the methods of this class must be called in the EDT.
+ */
+final class ModelChangeDetector implements ModelChangeListener.Target {
+  private final Supplier<Object[]> models;
+  private final ModelChangeListener listener;
+  private boolean changed;
+
+  @RunsInCurrentThread
+  @Nonnull static ModelChangeDetector changesIn(@Nonnull JList<?> list) {
+    return new ModelChangeDetector(false, () -> new Object[] { list.getModel() });
+  }
+
+  @RunsInCurrentThread
+  @Nonnull static ModelChangeDetector changesIn(@Nonnull JComboBox<?> comboBox) {
+    // changing the selection of a JComboBox does not change its items.
+    return new ModelChangeDetector(true, () -> new Object[] { comboBox.getModel() });
+  }
+
+  @RunsInCurrentThread
+  @Nonnull static ModelChangeDetector changesIn(@Nonnull JTable table) {
+    Supplier<Object[]> models = () -> new Object[] { table.getModel(), table.getRowSorter(), table.getColumnModel() };
+    return new ModelChangeDetector(false, models);
+  }
+
+  private ModelChangeDetector(boolean ignoreSelectionChanges, @Nonnull Supplier<Object[]> models) {
+    this.models = models;
+    listener = new ModelChangeListener(this, ignoreSelectionChanges).listenTo(models.get());
+  }
+
+  /**
+   * @return {@code true} if the items changed since this detector was created, {@code false} otherwise.
+   */
+  @RunsInCurrentThread
+  boolean changed() {
+    return changed || !listener.isListeningTo(models.get());
+  }
+
+  @Override
+  public void modelChanged() {
+    changed = true;
+  }
+
+  /**
+   * Stops listening to changes.
+   */
+  @RunsInCurrentThread
+  void stop() {
+    listener.stopListening();
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.swing.ListModel;
+import javax.swing.RowSorter;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.RowSorterEvent;
+import javax.swing.event.RowSorterListener;
+import javax.swing.event.TableColumnModelEvent;
+import javax.swing.event.TableColumnModelListener;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.table.TableColumnModel;
+import javax.swing.table.TableModel;
+import javax.swing.tree.TreeModel;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+
+/**
+ * <p>
+ * Listens to the models a {@code JList}, {@code JComboBox}, {@code JTable} or {@code JTree} gets its items from (a
+ * {@code ListModel}, {@code TableModel}, {@code RowSorter}, {@code TableColumnModel} or {@code TreeModel}) and notifies
+ * a {@link Target} every time the items change. Changes that do not affect the items, like a change of the margin of
+ * the columns of a {@code JTable} or a column moved to its own position, are ignored.
+ * </p>
+ *
+ * <p>
+ * Both the target and the models are weakly referenced: a model that outlives the component it was listened to for
+ * does not keep the target in memory, and the listener removes itself from the models on the first change after the
+ * target was garbage-collected. All the methods of this class must be called in the EDT.
+ * </p>
+ */
+final class ModelChangeListener implements ListDataListener, TableModelListener, RowSorterListener,
+    TableColumnModelListener, TreeModelListener {
+  private final WeakReference<Target> target;
+  private final boolean ignoreSelectionChanges;
+  private final List<WeakReference<Object>> models = newArrayList();
+
+  /**
+   * Creates a new {@link ModelChangeListener}.
+   *
+   * @param target the object to notify when the models change.
+   * @param ignoreSelectionChanges indicates whether changes of the contents of a {@code ListModel} with no indices
+   *          should be ignored, because they report a change of the selection of a {@code JComboBox}.
+   */
+  ModelChangeListener(@Nonnull Target target, boolean ignoreSelectionChanges) {
+    this.target = new WeakReference<>(target);
+    this.ignoreSelectionChanges = ignoreSelectionChanges;
+  }
+
+  /**
+   * Starts listening to the given models.
+   *
+   * @param newModels the models to listen to. {@code null} elements (e.g. a {@code JTable} without a {@code RowSorter})
+   *          are remembered, but not listened to.
+   * @return this listener.
+   * @throws IllegalArgumentException if any of the given models is not a {@code ListModel}, {@code TableModel},
+   *           {@code RowSorter}, {@code TableColumnModel} or {@code TreeModel}.
+   */
+  @RunsInCurrentThread
+  @Nonnull ModelChangeListener listenTo(@Nonnull Object... newModels) {
+    for (Object model : newModels) {
+      if (model instanceof ListModel) {
+        ((ListModel<?>) model).addListDataListener(this);
+      } else if (model instanceof TableModel) {
+        ((TableModel) model).addTableModelListener(this);
+      } else if (model instanceof RowSorter) {
+        ((RowSorter<?>) model).addRowSorterListener(this);
+      } else if (model instanceof TableColumnModel) {
+        ((TableColumnModel) model).addColumnModelListener(this);
+      } else if (model instanceof TreeModel) {
+        ((TreeModel) model).addTreeModelListener(this);
+      } else if (model != null) {
+        throw new IllegalArgumentException(String.format("Unable to listen to changes in %s", model));
+      }
+      models.add(new WeakReference<>(model));
+    }
+    return this;
+  }
+
+  /**
+   * Indicates whether this listener listens to the given models, in the same order they were passed to
+   * {@link #listenTo(Object...)}.
+   *
+   * @param expected the models to check.
+   * @return {@code true} if this listener listens to exactly the given models, {@code false} otherwise.
+   */
+  @RunsInCurrentThread
+  boolean isListeningTo(@Nonnull Object... expected) {
+    if (expected.length != models.size()) {
+      return false;
+    }
+    for (int i = 0; i < expected.length; i++) {
+      if (models.get(i).get() != expected[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Stops listening to all the models this listener was listening to.
+   */
+  @RunsInCurrentThread
+  void stopListening() {
+    for (WeakReference<Object> reference : models) {
+      Object model = reference.get();
+      if (model instanceof ListModel) {
+        ((ListModel<?>) model).removeListDataListener(this);
+      } else if (model instanceof TableModel) {
+        ((TableModel) model).removeTableModelListener(this);
+      } else if (model instanceof RowSorter) {
+        ((RowSorter<?>) model).removeRowSorterListener(this);
+      } else if (model instanceof TableColumnModel) {
+        ((TableColumnModel) model).removeColumnModelListener(this);
+      } else if (model instanceof TreeModel) {
+        ((TreeModel) model).removeTreeModelListener(this);
+      }
+    }
+    models.clear();
+  }
+
+  private void modelChanged() {
+    Target current = target.get();
+    if (current == null) {
+      stopListening();
+      return;
+    }
+    current.modelChanged();
+  }
+
+  @Override
+  public void intervalAdded(ListDataEvent e) {
+    modelChanged();
+  }
+
+  @Override
+  public void intervalRemoved(ListDataEvent e) {
+    modelChanged();
+  }
+
+  @Override
+  public void contentsChanged(ListDataEvent e) {
+    // JComboBox models notify selection changes with an event for no specific interval.
+    if (ignoreSelectionChanges && e.getIndex0() < 0 && e.getIndex1() < 0) {
+      return;
+    }
+    modelChanged();
+  }
+
+  @Override
+  public void tableChanged(TableModelEvent e) {
+    modelChanged();
+  }
+
+  @Override
+  public void sorterChanged(RowSorterEvent e) {
+    modelChanged();
+  }
+
+  @Override
+  public void columnAdded(TableColumnModelEvent e) {
+    modelChanged();
+  }
+
+  @Override
+  public void columnRemoved(TableColumnModelEvent e) {
+    modelChanged();
+  }
+
+  @Override
+  public void columnMoved(TableColumnModelEvent e) {
+    if (e.getFromIndex() != e.getToIndex()) {
+      modelChanged();
+    }
+  }
+
+  @Override
+  public void columnMarginChanged(ChangeEvent e) {
+  }
+
+  @Override
+  public void columnSelectionChanged(ListSelectionEvent e) {
+  }
+
+  @Override
+  public void treeNodesChanged(TreeModelEvent e) {
+    modelChanged();
+  }
+
+  @Override
+  public void treeNodesInserted(TreeModelEvent e) {
+    modelChanged();
+  }
+
+  @Override
+  public void treeNodesRemoved(TreeModelEvent e) {
+    modelChanged();
+  }
+
+  @Override
+  public void treeStructureChanged(TreeModelEvent e) {
+    modelChanged();
+  }
+
+  /**
+   * Notified by a {@link ModelChangeListener} when the models it listens to change.
+   */
+  interface Target {
+    @RunsInCurrentThread
+    void modelChanged();
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.swing.driver.ModelValueToString.asText;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.JComboBox;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.cell.JComboBoxCellReader;
+
+/**
+ * <p>
+ * {@link JComboBoxCellReader} that reads the values in a {@code JComboBox} directly from its model, using the
+ * {@code toString} of each item, without calling the renderer of the {@code JComboBox}.
+ * </p>
+ *
+ * <p>
+ * Looking up items with this reader is much faster than with {@link BasicJComboBoxCellReader} in big
+ * {@code JComboBox}es with expensive renderers, but the values only match what the user sees if the renderer shows the
+ * {@code toString} of each item.
+ * </p>
+ */
+public class ModelValueJComboBoxCellReader implements JComboBoxCellReader {
+  /**
+   * <p>
+   * Returns the {@code toString} value of an item in the model of a {@code JComboBox}, or {@code null} if the item is
+   * {@code null} or does not implement {@code toString}.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param comboBox the given {@code JComboBox}.
+   * @param index the index of the item.
+   * @return the {@code toString} value of an item in the model of a {@code JComboBox}.
+   */
+  @Override
+  @RunsInCurrentThread
+  @Nullable public String valueAt(@Nonnull JComboBox<?> comboBox, int index) {
+    return asText(comboBox.getItemAt(index));
+  }
+}
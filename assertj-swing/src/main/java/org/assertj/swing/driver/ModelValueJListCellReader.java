@@ -0,0 +1,57 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.swing.driver.ModelValueToString.asText;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.JList;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.cell.JListCellReader;
+
+/**
+ * <p>
+ * {@link JListCellReader} that reads the values in a {@code JList} directly from its model, using the
+ * {@code toString} of each element, without calling the cell renderer of the {@code JList}.
+ * </p>
+ *
+ * <p>
+ * Looking up items with this reader is much faster than with {@link BasicJListCellReader} in big {@code JList}s with
+ * expensive cell renderers, but the values only match what the user sees if the cell renderer shows the
+ * {@code toString} of each element.
+ * </p>
+ */
+public class ModelValueJListCellReader implements JListCellReader {
+  /**
+   * <p>
+   * Returns the {@code toString} value of an element in the model of a {@code JList}, or {@code null} if the element
+   * is {@code null} or does not implement {@code toString}.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param list the given {@code JList}.
+   * @param index the index of the element.
+   * @return the {@code toString} value of an element in the model of a {@code JList}.
+   */
+  @Override
+  @RunsInCurrentThread
+  @Nullable public String valueAt(@Nonnull JList list, int index) {
+    return asText(list.getModel().getElementAt(index));
+  }
+}
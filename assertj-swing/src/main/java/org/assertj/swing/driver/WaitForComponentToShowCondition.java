@@ -12,6 +12,9 @@
  */
 package org.assertj.swing.driver;
 
+import static java.awt.AWTEvent.COMPONENT_EVENT_MASK;
+import static java.awt.AWTEvent.HIERARCHY_EVENT_MASK;
+import static java.awt.AWTEvent.WINDOW_EVENT_MASK;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.core.util.Strings.concat;
 import static org.assertj.swing.format.Formatting.format;
@@ -57,6 +60,11 @@ public class WaitForComponentToShowCondition extends Condition {
     return isShowing(c);
   }
 
+  @Override
+  protected long wakeUpEventMask() {
+    return WINDOW_EVENT_MASK | COMPONENT_EVENT_MASK | HIERARCHY_EVENT_MASK;
+  }
+
   @Override
   protected void done() {
     c = null;
@@ -32,6 +32,8 @@ import javax.annotation.concurrent.ThreadSafe;
  */
 @ThreadSafe
 public class GuiActionRunner {
+  private static final int MAX_CHUNKED_ATTEMPTS = 3;
+
   @GuardedBy("this")
   private static boolean executeInEDT = true;
 
@@ -98,6 +100,77 @@ public class GuiActionRunner {
     return resultOf(query);
   }
 
+  /**
+   * <p>
+   * Executes the given query in the event dispatch thread (EDT), reading at most the given number of items per visit
+   * to the EDT. This method waits until the query has finished its execution.
+   * </p>
+   *
+   * <p>
+   * If the items read by the query change in between visits, the query is started again. If they keep changing, or if
+   * the chunk size is zero or negative, or if this method is called in the EDT, all the items are read in a single
+   * visit, which is what {@link #execute(GuiQuery)} would do.
+   * </p>
+   *
+   * @param query the query to execute.
+   * @param chunkSize the maximum number of items to read per visit to the EDT.
+   * @param <T> the return type of the query.
+   * @return the result of the query.
+   * @throws org.assertj.swing.exception.UnexpectedException wrapping any <b>checked</b> exception thrown when executing
+   *           the given query in the event dispatch thread (EDT). Unchecked exceptions are re-thrown without any
+   *           wrapping.
+   */
+  @Nullable public static <T> T execute(@Nonnull GuiChunkedQuery<T> query, int chunkSize) {
+    if (chunkSize > 0 && executeInEDT && !isEventDispatchThread()) {
+      for (int attempt = 0; attempt < MAX_CHUNKED_ATTEMPTS; attempt++) {
+        ChunkedOutcome<T> outcome = executeInChunks(query, chunkSize);
+        if (outcome != null) {
+          return outcome.result;
+        }
+      }
+    }
+    return execute(() -> executeAtOnce(query));
+  }
+
+  // returns null if the items changed in between visits to the EDT.
+  @Nullable private static <T> ChunkedOutcome<T> executeInChunks(@Nonnull GuiChunkedQuery<T> query, int chunkSize) {
+    Integer itemCount = execute(() -> query.start());
+    try {
+      int size = itemCount != null ? itemCount : 0;
+      for (int from = 0; from < size; from += chunkSize) {
+        int first = from;
+        int last = (int) Math.min((long) from + chunkSize, size);
+        Boolean readMore = execute(() -> query.changedSinceStart() ? null : query.read(first, last));
+        if (readMore == null) {
+          return null;
+        }
+        if (!readMore) {
+          break;
+        }
+      }
+      return execute(() -> query.changedSinceStart() ? null : new ChunkedOutcome<T>(query.result()));
+    } finally {
+      execute(() -> query.finish());
+    }
+  }
+
+  @Nullable private static <T> T executeAtOnce(@Nonnull GuiChunkedQuery<T> query) {
+    try {
+      query.read(0, query.start());
+      return query.result();
+    } finally {
+      query.finish();
+    }
+  }
+
+  private static class ChunkedOutcome<T> {
+    final T result;
+
+    ChunkedOutcome(@Nullable T result) {
+      this.result = result;
+    }
+  }
+
   @Nullable private static <T> T executeInCurrentThread(@Nonnull GuiQuery<T> query) {
     try {
       return query.executeInEDT();
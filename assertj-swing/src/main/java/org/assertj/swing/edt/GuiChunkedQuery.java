@@ -0,0 +1,65 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.edt;
+
+import javax.annotation.Nullable;
+
+/**
+ * <p>
+ * Reads a potentially large number of items (e.g. the rows of a model) in the event dispatch thread (EDT), a slice at
+ * a time, so the EDT can process the events of the application in between slices. The query keeps its partial result
+ * between slices.
+ * </p>
+ *
+ * <p>
+ * Since the items can change in between slices, the query reports whether they changed since it started (e.g. by
+ * listening to the model it reads,) in which case {@link GuiActionRunner#execute(GuiChunkedQuery, int)} starts it
+ * again. All the methods of this class are called in the EDT.
+ * </p>
+ *
+ * @param <T> the type of the result of the query.
+ */
+public abstract class GuiChunkedQuery<T> {
+  /**
+   * Starts the query, discarding any partial result of a previous run.
+   *
+   * @return the number of items to read.
+   */
+  protected abstract int start();
+
+  /**
+   * Reads a slice of the items.
+   *
+   * @param from the index of the first item to read.
+   * @param to the index after the last item to read.
+   * @return {@code true} if the query needs to read more items, {@code false} if its result is already known.
+   */
+  protected abstract boolean read(int from, int to);
+
+  /**
+   * @return {@code true} if the items have changed since the query was started, {@code false} otherwise.
+   */
+  protected abstract boolean changedSinceStart();
+
+  /**
+   * Notification that the query is done reading, either because it has a result or because it has to start again.
+   * This is a good place to stop listening to changes in the items. The default implementation does nothing.
+   */
+  protected void finish() {
+  }
+
+  /**
+   * @return the result of the query, once all the needed items have been read.
+   */
+  protected abstract @Nullable T result();
+}
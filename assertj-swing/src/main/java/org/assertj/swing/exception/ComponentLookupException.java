@@ -16,9 +16,13 @@ import static java.util.Collections.unmodifiableCollection;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.awt.Component;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.Collection;
+import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * Error thrown when looking up a component using a {@link org.assertj.swing.core.ComponentFinder}.
@@ -30,6 +34,9 @@ public class ComponentLookupException extends RuntimeException {
   private static final long serialVersionUID = 8565803426992774170L;
   private final Collection<Component> found = newArrayList();
 
+  private transient volatile Supplier<String> detailsSupplier;
+  private volatile String details;
+
   /**
    * Creates a new {@link ComponentLookupException}.
    *
@@ -50,6 +57,54 @@ public class ComponentLookupException extends RuntimeException {
     super(message);
   }
 
+  /**
+   * <p>
+   * Creates a new {@link ComponentLookupException} whose detail message is completed with text that is expensive to
+   * create (e.g. the component hierarchy.) The given supplier is only called the first time the detail message is
+   * read, and only once, so lookups whose failure is expected (e.g. while waiting for a {@code Component} to show up)
+   * do not pay for it. The text reflects the state of the application at the time the message is first read, so this
+   * constructor is not meant for exceptions that reach a test: test frameworks read the message after the test has
+   * cleaned up (e.g. disposed its windows.)
+   * </p>
+   *
+   * @param message the detail message.
+   * @param details supplies the text to append to the detail message.
+   */
+  public ComponentLookupException(@Nonnull String message, @Nonnull Supplier<String> details) {
+    this(message);
+    detailsSupplier = details;
+  }
+
+  /**
+   * @return the detail message of this exception, including the text supplied when it was created (if any.)
+   */
+  @Override
+  @Nullable public String getMessage() {
+    String message = super.getMessage();
+    String currentDetails = details();
+    return currentDetails != null ? message + currentDetails : message;
+  }
+
+  @Nullable private String details() {
+    Supplier<String> supplier = detailsSupplier;
+    if (supplier != null) {
+      // two threads reading the message at the same time may both call the supplier, which is harmless.
+      try {
+        details = supplier.get();
+      } catch (RuntimeException e) {
+        details = String.format("<Unable to create the rest of the message [%s: %s]>", e.getClass().getName(),
+                                e.getMessage());
+      }
+      detailsSupplier = null;
+    }
+    return details;
+  }
+
+  private void writeObject(@Nonnull ObjectOutputStream out) throws IOException {
+    details();
+    out.defaultWriteObject();
+  }
+
   /**
    * @return the AWT and Swing {@code Component}s found by the lookup (if any).
    */
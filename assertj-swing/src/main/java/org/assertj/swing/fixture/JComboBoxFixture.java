@@ -320,4 +320,18 @@ public class JComboBoxFixture extends AbstractJPopupMenuInvokerFixture<JComboBox
   public void replaceCellReader(@Nonnull JComboBoxCellReader cellReader) {
     driver().replaceCellReader(cellReader);
   }
+
+  /**
+   * Indicates whether looking up items by a value that is not a regular expression should use an index of the values
+   * in this fixture's {@code JComboBox}, built by the first lookup and discarded when the items in the
+   * {@code JComboBox} change.
+   *
+   * @param enabled {@code true} to use an index, {@code false} otherwise.
+   * @return this fixture.
+   * @see JComboBoxDriver#indexItemValues(boolean)
+   */
+  @Nonnull public JComboBoxFixture indexItemValues(boolean enabled) {
+    driver().indexItemValues(enabled);
+    return this;
+  }
 }
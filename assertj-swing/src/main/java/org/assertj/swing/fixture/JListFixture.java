@@ -664,4 +664,18 @@ public class JListFixture extends AbstractJPopupMenuInvokerFixture<JListFixture,
   public void replaceCellReader(@Nonnull JListCellReader cellReader) {
     driver().replaceCellReader(cellReader);
   }
+
+  /**
+   * Indicates whether looking up items by a value that is not a regular expression should use an index of the values
+   * in this fixture's {@code JList}, built by the first lookup and discarded when the items in the {@code JList}
+   * change.
+   *
+   * @param enabled {@code true} to use an index, {@code false} otherwise.
+   * @return this fixture.
+   * @see JListDriver#indexItemValues(boolean)
+   */
+  @Nonnull public JListFixture indexItemValues(boolean enabled) {
+    driver().indexItemValues(enabled);
+    return this;
+  }
 }
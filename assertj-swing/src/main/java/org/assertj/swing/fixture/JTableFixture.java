@@ -154,6 +154,37 @@ public class JTableFixture extends AbstractJPopupMenuInvokerFixture<JTableFixtur
     return new JTableCellFixture(this, cell);
   }
 
+  /**
+   * Returns a {@link JTableCellFixture} wrapping the first table cell in the given columns whose value matches the
+   * given one.
+   *
+   * @param value the value of the cell to look for. It can be a regular expression.
+   * @param columns the indices of the columns to look in. If none are given, all the columns are searched.
+   * @return a {@code JTableCellFixture} wrapping the first table cell in the given columns whose value matches the
+   *         given one.
+   * @throws IndexOutOfBoundsException if any of the column indices is out of bounds.
+   * @throws org.assertj.swing.exception.ActionFailedException if a cell with a matching value cannot be found.
+   */
+  @Nonnull public JTableCellFixture cellInColumns(String value, @Nonnull int... columns) {
+    TableCell cell = driver().cellInColumns(target(), value, columns);
+    return new JTableCellFixture(this, cell);
+  }
+
+  /**
+   * Returns a {@link JTableCellFixture} wrapping the first table cell whose model value matches the given one. Unlike
+   * {@link #cell(String)}, the cell renderers of this fixture's {@code JTable} are not used.
+   *
+   * @param value the value of the cell to look for. It can be a regular expression.
+   * @param columns the indices of the columns to look in. If none are given, all the columns are searched.
+   * @return a {@code JTableCellFixture} wrapping the first table cell whose model value matches the given one.
+   * @throws IndexOutOfBoundsException if any of the column indices is out of bounds.
+   * @throws org.assertj.swing.exception.ActionFailedException if a cell with a matching value cannot be found.
+   */
+  @Nonnull public JTableCellFixture cellWithModelValue(String value, @Nonnull int... columns) {
+    TableCell cell = driver().cellWithModelValue(target(), value, columns);
+    return new JTableCellFixture(this, cell);
+  }
+
   /**
    * Returns a {@link JTableCellFixture} wrapping the table cell found by the given {@link TableCellFinder}.
    *
@@ -223,6 +254,15 @@ public class JTableFixture extends AbstractJPopupMenuInvokerFixture<JTableFixtur
     return driver().contents(target());
   }
 
+  /**
+   * @return the {@code String} representation of the values in the model of this fixture's {@code JTable}, in view
+   *         order. Cell renderers are not used, which makes this method much faster than {@link #contents()} for big
+   *         tables.
+   */
+  @Nonnull public String[][] modelContents() {
+    return driver().modelContents(target());
+  }
+
   /**
    * Returns the number of rows that can be shown in this fixture's {@code JTable}, given unlimited space.
    *
@@ -439,6 +479,19 @@ public class JTableFixture extends AbstractJPopupMenuInvokerFixture<JTableFixtur
     driver().replaceCellReader(cellReader);
   }
 
+  /**
+   * Indicates whether looking up cells by a value that is not a regular expression should use an index of the values
+   * in this fixture's {@code JTable}, built by the first lookup and discarded when the {@code JTable} changes.
+   *
+   * @param enabled {@code true} to use an index, {@code false} otherwise.
+   * @return this fixture.
+   * @see JTableDriver#indexCellValues(boolean)
+   */
+  @Nonnull public JTableFixture indexCellValues(boolean enabled) {
+    driver().indexCellValues(enabled);
+    return this;
+  }
+
   /**
    * Asserts that this fixture's {@code JTable} has the given number of rows.
    *
@@ -561,6 +614,20 @@ public class JTableFixture extends AbstractJPopupMenuInvokerFixture<JTableFixtur
     return this;
   }
 
+  /**
+   * Asserts that the {@code String} representation of the values in the model of this fixture's {@code JTable} is equal
+   * to the given {@code String} array. Cell renderers are not used.
+   *
+   * @param contents the expected {@code String} representation of the values in the model of this fixture's
+   *          {@code JTable}.
+   * @return this fixture.
+   * @see #modelContents()
+   */
+  @Nonnull public JTableFixture requireModelContents(@Nonnull String[][] contents) {
+    driver().requireModelContents(target(), contents);
+    return this;
+  }
+
   public void replaceCellWriter(JTableCellWriter cellWriter) {
     driver().replaceCellWriter(cellWriter);
   }
@@ -13,6 +13,7 @@
 package org.assertj.swing.format;
 
 import java.awt.Component;
+import java.io.IOException;
 
 import javax.annotation.Nonnull;
 
@@ -34,6 +35,20 @@ public interface ComponentFormatter {
   @Nonnull
   String format(@Nonnull Component c);
 
+  /**
+   * Appends the {@code String} representation of the given AWT or Swing {@code Component} to the given
+   * {@code Appendable}. The default implementation appends the result of {@link #format(Component)}; implementations
+   * may write to the {@code Appendable} directly, without creating an intermediate {@code String}.
+   * 
+   * @param c the given {@code Component}.
+   * @param out where to append the {@code String} representation of the given {@code Component}.
+   * @throws IOException if appending to the given {@code Appendable} fails.
+   */
+  @RunsInCurrentThread
+  default void formatTo(@Nonnull Component c, @Nonnull Appendable out) throws IOException {
+    out.append(format(c));
+  }
+
   /**
    * Returns the type of AWT or Swing {@code Component} this formatter supports.
    * 
@@ -15,6 +15,7 @@ package org.assertj.swing.format;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 
 import java.awt.Component;
+import java.io.IOException;
 
 import javax.annotation.Nonnull;
 
@@ -50,6 +51,36 @@ public abstract class ComponentFormatterTemplate implements ComponentFormatter {
   @RunsInCurrentThread
   protected abstract @Nonnull String doFormat(@Nonnull Component c);
 
+  /**
+   * Appends the {@code String} representation of the given AWT or Swing {@code Component} to the given
+   * {@code Appendable}.
+   *
+   * @param c the given {@code Component}.
+   * @param out where to append the {@code String} representation of the given {@code Component}.
+   * @throws IOException if appending to the given {@code Appendable} fails.
+   * @throws NullPointerException if the given {@code Component} is {@code null}.
+   * @throws IllegalArgumentException if the type of the given {@code Component} is not supported by this formatter.
+   */
+  @RunsInCurrentThread
+  @Override
+  public final void formatTo(@Nonnull Component c, @Nonnull Appendable out) throws IOException {
+    checkTypeOf(c);
+    doFormatTo(c, out);
+  }
+
+  /**
+   * Appends the {@code String} representation of the given AWT or Swing {@code Component} to the given
+   * {@code Appendable}. The default implementation appends the result of {@link #doFormat(Component)}.
+   *
+   * @param c the given {@code Component}.
+   * @param out where to append the {@code String} representation of the given {@code Component}.
+   * @throws IOException if appending to the given {@code Appendable} fails.
+   */
+  @RunsInCurrentThread
+  protected void doFormatTo(@Nonnull Component c, @Nonnull Appendable out) throws IOException {
+    out.append(doFormat(c));
+  }
+
   private void checkTypeOf(@Nonnull Component c) {
     checkNotNull(c);
     if (!targetType().isAssignableFrom(c.getClass())) {
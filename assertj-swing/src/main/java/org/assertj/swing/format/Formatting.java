@@ -20,6 +20,7 @@ import static org.assertj.swing.util.Maps.newConcurrentHashMap;
 import java.awt.Component;
 import java.awt.Dialog;
 import java.awt.Frame;
+import java.io.IOException;
 import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Logger;
 
@@ -67,6 +68,12 @@ public class Formatting {
 
   private static final ConcurrentMap<Class<?>, ComponentFormatter> FORMATTERS = newConcurrentHashMap();
 
+  // marks types, in resolvedFormatters, that do not have a formatter (maps do not take null values.)
+  private static final ComponentFormatter NO_FORMATTER = new IntrospectionComponentFormatter(Component.class);
+
+  // formatters found by walking up the class hierarchy, replaced with a new map every time a formatter is registered.
+  private static volatile ConcurrentMap<Class<?>, ComponentFormatter> resolvedFormatters = newConcurrentHashMap();
+
   private static Logger logger = Logger.getLogger(Formatting.class.getCanonicalName());
 
   static {
@@ -120,6 +127,7 @@ public class Formatting {
   public static void register(@Nonnull ComponentFormatter formatter) {
     Class<?> key = formatter.targetType();
     ComponentFormatter previous = FORMATTERS.put(key, formatter);
+    resolvedFormatters = newConcurrentHashMap();
     if (previous != null) {
       String format = "Replaced formatter %s with %s for type %s";
       logger.info(String.format(format, previous.toString(), formatter.toString(), key.getName()));
@@ -165,6 +173,41 @@ public class Formatting {
     if (formatter != null) {
       return formatter.format(c);
     }
+    return formatWithoutFormatter(c);
+  }
+
+  /**
+   * <p>
+   * Appends the {@code String} representation of the given AWT or Swing {@code Component} to the given
+   * {@code Appendable}, without creating intermediate {@code String}s when the {@link ComponentFormatter} of the
+   * {@code Component} supports it.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param c the given {@code Component}.
+   * @param out where to append the {@code String} representation of the given {@code Component}.
+   * @throws IOException if appending to the given {@code Appendable} fails.
+   * @see #format(Component)
+   */
+  @RunsInCurrentThread
+  public static void formatTo(@Nullable Component c, @Nonnull Appendable out) throws IOException {
+    if (c == null) {
+      out.append(NULL_COMPONENT_MESSAGE);
+      return;
+    }
+    ComponentFormatter formatter = formatterFor(c.getClass());
+    if (formatter != null) {
+      formatter.formatTo(c, out);
+      return;
+    }
+    out.append(formatWithoutFormatter(c));
+  }
+
+  @Nonnull private static String formatWithoutFormatter(@Nonnull Component c) {
     String name = c.getName();
     if (isNullOrEmpty(name)) {
       return c.toString();
@@ -173,13 +216,21 @@ public class Formatting {
   }
 
   @Nullable private static ComponentFormatter formatterFor(@Nonnull Class<?> type) {
-    ComponentFormatter formatter = FORMATTERS.get(type);
-    if (formatter != null) {
-      return formatter;
+    ConcurrentMap<Class<?>, ComponentFormatter> resolved = resolvedFormatters;
+    ComponentFormatter formatter = resolved.get(type);
+    if (formatter == null) {
+      formatter = resolveFormatterFor(type);
+      resolved.put(type, formatter != null ? formatter : NO_FORMATTER);
     }
-    Class<?> superType = type.getSuperclass();
-    if (superType != null) {
-      return formatterFor(superType);
+    return formatter != NO_FORMATTER ? formatter : null;
+  }
+
+  @Nullable private static ComponentFormatter resolveFormatterFor(@Nonnull Class<?> type) {
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      ComponentFormatter formatter = FORMATTERS.get(current);
+      if (formatter != null) {
+        return formatter;
+      }
     }
     return null;
   }
@@ -12,6 +12,8 @@
  */
 package org.assertj.swing.format;
 
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.core.util.Strings.concat;
@@ -23,6 +25,11 @@ import java.awt.Component;
 import java.beans.BeanInfo;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
 
@@ -34,17 +41,30 @@ import org.assertj.swing.annotation.RunsInCurrentThread;
 import org.assertj.swing.util.Arrays;
 
 /**
+ * <p>
  * Formatter that uses <a href="http://docs.oracle.com/javase/tutorial/javabeans/index.html"
  * target="_blank">introspection</a> to display property values of an AWT or Swing {@code Component}. This formatter
  * does not support nested properties.
+ * </p>
+ *
+ * <p>
+ * Introspection only happens when this formatter is created: the read method of each property is turned into a
+ * {@code MethodHandle}, so formatting a {@code Component} does not use reflection.
+ * </p>
  *
  * @author Alex Ruiz
  */
 public final class IntrospectionComponentFormatter extends ComponentFormatterTemplate {
+  private static final String SHOWING = "showing";
+  private static final MethodType READER_TYPE = methodType(Object.class, Component.class);
+
+  // has the same access rights reflection had: read methods of package-private classes in this package are readable.
+  private static final Lookup LOOKUP = lookup();
+
   private final Class<? extends Component> targetType;
   private final List<String> propertyNames;
 
-  private final Map<String, PropertyDescriptor> descriptors = newHashMap();
+  private final List<PropertyReader> readers = newArrayList();
 
   /**
    * Creates a new {@link IntrospectionComponentFormatter}.
@@ -67,17 +87,30 @@ public final class IntrospectionComponentFormatter extends ComponentFormatterTem
     } catch (Exception e) {
       throw actionFailure(concat("Unable to get BeanInfo for type ", targetType.getName()), e);
     }
+    Map<String, PropertyDescriptor> descriptors = newHashMap();
     for (PropertyDescriptor d : beanInfo.getPropertyDescriptors()) {
-      register(checkNotNull(d));
+      descriptors.put(checkNotNull(d).getName(), d);
+    }
+    for (String name : propertyNames) {
+      readers.add(readerFor(checkNotNull(name), descriptors.get(name)));
     }
   }
 
-  private void register(@Nonnull PropertyDescriptor d) {
-    String name = d.getName();
-    if (!propertyNames.contains(name)) {
-      return;
+  @Nonnull private static PropertyReader readerFor(@Nonnull String name, @Nullable PropertyDescriptor descriptor) {
+    try {
+      if (SHOWING.equals(name)) {
+        MethodHandle isShowing = LOOKUP.findVirtual(Component.class, "isShowing", methodType(boolean.class));
+        return new PropertyReader(name, isShowing.asType(READER_TYPE), null);
+      }
+      Method readMethod = descriptor != null ? descriptor.getReadMethod() : null;
+      if (readMethod == null) {
+        String msg = String.format("No read method for property %s", quote(name));
+        return new PropertyReader(name, null, new NoSuchMethodException(msg));
+      }
+      return new PropertyReader(name, LOOKUP.unreflect(readMethod).asType(READER_TYPE), null);
+    } catch (ReflectiveOperationException e) {
+      return new PropertyReader(name, null, e);
     }
-    descriptors.put(name, d);
   }
 
   /**
@@ -94,41 +127,43 @@ public final class IntrospectionComponentFormatter extends ComponentFormatterTem
   @Override
   @Nonnull protected String doFormat(@Nonnull Component c) {
     StringBuilder b = new StringBuilder();
-    b.append(getRealClassName(c)).append("[");
-    int max = propertyNames.size() - 1;
-    for (int i = 0; i <= max; i++) {
-      appendProperty(b, checkNotNull(propertyNames.get(i)), c);
-      if (i < max) {
-        b.append(", ");
-      }
+    try {
+      doFormatTo(c, b);
+    } catch (IOException e) {
+      // a StringBuilder does not throw IOExceptions.
+      throw new AssertionError(e);
     }
-    b.append("]");
     return b.toString();
   }
 
-  private void appendProperty(@Nonnull StringBuilder b, @Nonnull String name, @Nonnull Component c) {
-    b.append(name).append("=");
-    try {
-      b.append(propertyValue(c, name));
-    } catch (Exception e) {
-      b.append(String.format("<Unable to read property [%s: %s]>", e.getClass().getName(), quote(e.getMessage())));
+  @RunsInCurrentThread
+  @Override
+  protected void doFormatTo(@Nonnull Component c, @Nonnull Appendable out) throws IOException {
+    out.append(getRealClassName(c)).append('[');
+    int max = readers.size() - 1;
+    for (int i = 0; i <= max; i++) {
+      appendProperty(out, readers.get(i), c);
+      if (i < max) {
+        out.append(", ");
+      }
     }
+    out.append(']');
   }
 
-  @Nullable private Object propertyValue(@Nonnull Component c, @Nonnull String property) throws Exception {
-    if ("showing".equals(property)) {
-      return c.isShowing();
-    }
-    PropertyDescriptor descriptor = descriptors.get(property);
-    Object value = descriptor.getReadMethod().invoke(c);
-    if (isOneDimensionalArray(value)) {
-      return Arrays.format(value);
+  private void appendProperty(@Nonnull Appendable out, @Nonnull PropertyReader reader, @Nonnull Component c)
+      throws IOException {
+    out.append(reader.prefix);
+    String value;
+    try {
+      value = reader.valueIn(c);
+    } catch (VirtualMachineError e) {
+      throw e;
+    } catch (Throwable e) {
+      // anything else a read method throws, errors included, is reported in the text: formatting a component must not
+      // hide the failure (e.g. a ComponentLookupException) that the text is part of.
+      value = String.format("<Unable to read property [%s: %s]>", e.getClass().getName(), quote(e.getMessage()));
     }
-    return quote(value);
-  }
-
-  private boolean isOneDimensionalArray(Object o) {
-    return o != null && o.getClass().isArray() && !o.getClass().getComponentType().isArray();
+    out.append(value);
   }
 
   /**
@@ -144,4 +179,32 @@ public final class IntrospectionComponentFormatter extends ComponentFormatterTem
     return String.format("%s[propertyNames=%s", getClass().getName(),
                          new StandardRepresentation().toStringOf(propertyNames));
   }
+
+  private static class PropertyReader {
+    final String prefix;
+    final MethodHandle readMethod;
+    final ReflectiveOperationException error;
+
+    PropertyReader(@Nonnull String name, @Nullable MethodHandle readMethod,
+                   @Nullable ReflectiveOperationException error) {
+      this.prefix = name + "=";
+      this.readMethod = readMethod;
+      this.error = error;
+    }
+
+    @Nonnull String valueIn(@Nonnull Component c) throws Throwable {
+      if (readMethod == null) {
+        throw checkNotNull(error);
+      }
+      Object value = (Object) readMethod.invokeExact(c);
+      if (isOneDimensionalArray(value)) {
+        return Arrays.format(value);
+      }
+      return String.valueOf(quote(value));
+    }
+
+    private static boolean isOneDimensionalArray(@Nullable Object o) {
+      return o != null && o.getClass().isArray() && !o.getClass().getComponentType().isArray();
+    }
+  }
 }
@@ -0,0 +1,194 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.image;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.logging.Level.WARNING;
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.core.util.Strings.quote;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * <p>
+ * Encodes and writes images as PNG files in background threads, so the thread taking screenshots does not wait for
+ * the (slow) PNG encoding.
+ * </p>
+ *
+ * <p>
+ * The number of images waiting to be written is bounded: once the queue is full, the thread submitting a new image
+ * writes it itself, which keeps the memory used by captured images under control when many screenshots are taken at
+ * once.
+ * </p>
+ *
+ * <p>
+ * {@link #instance()} registers a shutdown hook that waits for the pending images to be written before the JVM exits.
+ * </p>
+ */
+@ThreadSafe
+public class AsyncImageFileWriter {
+  private static final int QUEUE_CAPACITY = 16;
+  private static final long SHUTDOWN_FLUSH_TIMEOUT_SECONDS = 30;
+
+  private static Logger logger = Logger.getLogger(AsyncImageFileWriter.class.getCanonicalName());
+
+  private final ImageFileWriter writer;
+  private final ThreadPoolExecutor executor;
+
+  private final Object lock = new Object();
+
+  @GuardedBy("lock")
+  private int pendingCount;
+
+  /**
+   * @return the shared {@link AsyncImageFileWriter}, which is flushed when the JVM shuts down.
+   */
+  @Nonnull public static AsyncImageFileWriter instance() {
+    return SingletonLazyLoader.INSTANCE;
+  }
+
+  private static class SingletonLazyLoader {
+    static final AsyncImageFileWriter INSTANCE = createInstance();
+
+    private static AsyncImageFileWriter createInstance() {
+      int threadCount = max(1, min(4, Runtime.getRuntime().availableProcessors() / 2));
+      AsyncImageFileWriter writer = new AsyncImageFileWriter(new ImageFileWriter(), threadCount, QUEUE_CAPACITY);
+      Thread flush = new Thread(() -> writer.flush(SHUTDOWN_FLUSH_TIMEOUT_SECONDS, SECONDS), "Image File Writer Flush");
+      Runtime.getRuntime().addShutdownHook(flush);
+      return writer;
+    }
+  }
+
+  @VisibleForTesting
+  AsyncImageFileWriter(@Nonnull ImageFileWriter writer, int threadCount, int queueCapacity) {
+    this.writer = writer;
+    executor = new ThreadPoolExecutor(threadCount, threadCount, 0, SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                                      new WriterThreadFactory(), new CallerRunsPolicy());
+  }
+
+  /**
+   * Writes the given image as a PNG file in a background thread. If too many images are already waiting to be written,
+   * the image is written in the current thread instead. Errors are logged, since there is nobody to report them to.
+   *
+   * @param image the image to write.
+   * @param filePath the path of the image file to create.
+   * @return a {@code CompletableFuture} which result is {@code false} if the image could not be saved.
+   * @throws NullPointerException if any of the arguments is {@code null}.
+   */
+  @Nonnull public CompletableFuture<Boolean> writeAsPng(@Nonnull BufferedImage image, @Nonnull String filePath) {
+    return writeAsPng(image, filePath, () -> {});
+  }
+
+  /**
+   * Writes the given image as a PNG file in a background thread, like {@link #writeAsPng(BufferedImage, String)}, and
+   * then runs the given callback, whether the image could be saved or not.
+   *
+   * @param image the image to write.
+   * @param filePath the path of the image file to create.
+   * @param whenWritten the callback to run once the image is no longer needed.
+   * @return a {@code CompletableFuture} which result is {@code false} if the image could not be saved.
+   * @throws NullPointerException if any of the arguments is {@code null}.
+   */
+  @Nonnull CompletableFuture<Boolean> writeAsPng(@Nonnull BufferedImage image, @Nonnull String filePath,
+                                                 @Nonnull Runnable whenWritten) {
+    checkNotNull(image);
+    checkNotNull(filePath);
+    checkNotNull(whenWritten);
+    synchronized (lock) {
+      pendingCount++;
+    }
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return writer.writeAsPng(image, filePath);
+      } catch (IOException | RuntimeException e) {
+        logger.log(WARNING, String.format("Unable to save image as %s", quote(filePath)), e);
+        return false;
+      } finally {
+        try {
+          whenWritten.run();
+        } finally {
+          written();
+        }
+      }
+    }, executor);
+  }
+
+  private void written() {
+    synchronized (lock) {
+      pendingCount--;
+      if (pendingCount == 0) {
+        lock.notifyAll();
+      }
+    }
+  }
+
+  /**
+   * Waits until all the images submitted so far have been written.
+   *
+   * @param timeout the maximum time to wait.
+   * @param unit the unit of the timeout.
+   * @return {@code true} if all the images were written, {@code false} if the wait timed out or was interrupted.
+   * @throws IllegalArgumentException if the timeout is negative.
+   */
+  public boolean flush(long timeout, @Nonnull TimeUnit unit) {
+    checkArgument(timeout >= 0, "The timeout should not be negative");
+    long timeoutInMillis = unit.toMillis(timeout);
+    long start = currentTimeMillis();
+    synchronized (lock) {
+      while (pendingCount > 0) {
+        long remaining = timeoutInMillis - (currentTimeMillis() - start);
+        if (remaining <= 0) {
+          logger.warning(String.format("Timed out waiting for %d image(s) to be saved", pendingCount));
+          return false;
+        }
+        try {
+          lock.wait(remaining);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private static class WriterThreadFactory implements ThreadFactory {
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable r) {
+      Thread thread = new Thread(r, "Image File Writer " + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.image;
+
+import static java.awt.AlphaComposite.Clear;
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.synchronizedSet;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.lang.ref.SoftReference;
+import java.util.Deque;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * <p>
+ * Pool of ARGB image buffers, grouped by size class. The width and height of a buffer are rounded up to the next
+ * multiple of {@link #SIZE_CLASS_STEP}, so components of similar sizes share buffers.
+ * </p>
+ *
+ * <p>
+ * Pooled buffers are only softly referenced, so they can be reclaimed by the garbage collector when memory is short.
+ * Only buffers handed out by {@link #acquire(int, int)} and not released yet can be returned to the pool, so a buffer
+ * is never pooled twice nor shared with a caller that did not ask for it.
+ * </p>
+ */
+@ThreadSafe
+final class ImageBufferPool {
+  @VisibleForTesting
+  static final int SIZE_CLASS_STEP = 64;
+
+  private static final int MAX_BUFFERS_PER_SIZE_CLASS = 2;
+
+  private final ConcurrentMap<Long, Deque<SoftReference<BufferedImage>>> buffers = new ConcurrentHashMap<>();
+
+  // BufferedImage does not override equals, so this set compares buffers by identity. Buffers that are never released
+  // are only weakly referenced and can still be garbage-collected.
+  private final Set<BufferedImage> acquired = synchronizedSet(newSetFromMap(new WeakHashMap<>()));
+
+  /**
+   * Returns a cleared (fully transparent) buffer at least as big as the given size. Buffers should be returned to this
+   * pool with {@link #release(BufferedImage)} once they are no longer used.
+   *
+   * @param width the minimum width of the buffer.
+   * @param height the minimum height of the buffer.
+   * @return a buffer at least as big as the given size.
+   * @throws IllegalArgumentException if the given width or height is not positive.
+   */
+  @Nonnull BufferedImage acquire(int width, int height) {
+    checkArgument(width > 0 && height > 0, "The size of the image should be positive, but was %dx%d", width, height);
+    int bufferWidth = sizeClassOf(width);
+    int bufferHeight = sizeClassOf(height);
+    Deque<SoftReference<BufferedImage>> pooled = buffers.get(key(bufferWidth, bufferHeight));
+    SoftReference<BufferedImage> reference;
+    while (pooled != null && (reference = pooled.pollFirst()) != null) {
+      BufferedImage buffer = reference.get();
+      if (buffer != null) {
+        clear(buffer);
+        acquired.add(buffer);
+        return buffer;
+      }
+    }
+    BufferedImage buffer = new BufferedImage(bufferWidth, bufferHeight, TYPE_INT_ARGB);
+    acquired.add(buffer);
+    return buffer;
+  }
+
+  /**
+   * Returns the given buffer to this pool. Buffers that were not created by this pool, or that were already released,
+   * are ignored.
+   *
+   * @param buffer the buffer to return.
+   */
+  void release(@Nonnull BufferedImage buffer) {
+    if (!acquired.remove(buffer)) {
+      return;
+    }
+    long key = key(buffer.getWidth(), buffer.getHeight());
+    Deque<SoftReference<BufferedImage>> pooled = buffers.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+    // the size check is racy, but a few extra buffers in a size class do no harm.
+    if (pooled.size() < MAX_BUFFERS_PER_SIZE_CLASS) {
+      pooled.addFirst(new SoftReference<>(buffer));
+    }
+  }
+
+  private static void clear(@Nonnull BufferedImage buffer) {
+    Graphics2D g = buffer.createGraphics();
+    try {
+      g.setComposite(Clear);
+      g.fillRect(0, 0, buffer.getWidth(), buffer.getHeight());
+    } finally {
+      g.dispose();
+    }
+  }
+
+  @VisibleForTesting
+  static int sizeClassOf(int size) {
+    return ((size + SIZE_CLASS_STEP - 1) / SIZE_CLASS_STEP) * SIZE_CLASS_STEP;
+  }
+
+  private static long key(int width, int height) {
+    return ((long) width << 32) | height;
+  }
+}
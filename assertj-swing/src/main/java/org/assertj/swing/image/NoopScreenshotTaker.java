@@ -12,8 +12,11 @@
  */
 package org.assertj.swing.image;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
 import java.awt.Component;
 import java.awt.image.BufferedImage;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Screenshot taker, which does nothing.
@@ -30,6 +33,11 @@ public class NoopScreenshotTaker implements ScreenshotTakerIF {
     // do nothing
   }
 
+  @Override
+  public CompletableFuture<Boolean> saveDesktopAsPngInBackground(String imageFilePath) {
+    return completedFuture(false);
+  }
+
   @Override
   public BufferedImage takeDesktopScreenshot() {
     return EMPTY_BUFFERED_IMAGE;
@@ -40,6 +48,11 @@ public class NoopScreenshotTaker implements ScreenshotTakerIF {
     // do nothing
   }
 
+  @Override
+  public CompletableFuture<Boolean> saveComponentAsPngInBackground(Component c, String imageFilePath) {
+    return completedFuture(false);
+  }
+
   @Override
   public BufferedImage takeScreenshotOf(Component c) {
     return EMPTY_BUFFERED_IMAGE;
@@ -0,0 +1,260 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.image;
+
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+import static javax.swing.SwingUtilities.isDescendingFrom;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.swing.core.FocusOwnerFinder.focusOwner;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.image.ScreenshotTaker.checkIsPngFilePath;
+
+import java.awt.Component;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.Window;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.text.Caret;
+import javax.swing.text.JTextComponent;
+
+import org.assertj.core.util.VisibleForTesting;
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.internal.annotation.IORuntimeException;
+
+/**
+ * <p>
+ * Takes screenshots of AWT or Swing {@code Component}s by asking them to paint themselves (using
+ * {@link Component#printAll(java.awt.Graphics) printAll}) into an image, instead of capturing screen pixels. It does
+ * not need a display: Swing components can be painted even in headless mode, as long as they have a non-empty size.
+ * AWT components that are not showing are painted blank.
+ * </p>
+ *
+ * <p>
+ * Since nothing is read from the screen, window decorations and overlapping windows are not part of the screenshots.
+ * A screenshot of the "desktop" is made of the showing {@code Window}s, painted at their location.
+ * </p>
+ *
+ * <p>
+ * The images used to save screenshots as files are taken from a pool, grouped by size class, so taking many screenshots
+ * of similar components does not allocate a new image each time. The images returned by {@link #takeScreenshotOf}
+ * and {@link #takeDesktopScreenshot()} belong to the caller and are never pooled.
+ * </p>
+ */
+public class PaintingScreenshotTaker implements ScreenshotTakerIF {
+  private final ImageFileWriter writer;
+  private final AsyncImageFileWriter asyncWriter;
+  private final ImageBufferPool bufferPool;
+
+  /**
+   * Creates a new {@link PaintingScreenshotTaker}.
+   */
+  public PaintingScreenshotTaker() {
+    this(new ImageFileWriter(), AsyncImageFileWriter.instance(), new ImageBufferPool());
+  }
+
+  @VisibleForTesting
+  PaintingScreenshotTaker(@Nonnull ImageFileWriter writer, @Nonnull AsyncImageFileWriter asyncWriter,
+                          @Nonnull ImageBufferPool bufferPool) {
+    this.writer = writer;
+    this.asyncWriter = asyncWriter;
+    this.bufferPool = bufferPool;
+  }
+
+  @Override
+  public void saveDesktopAsPng(String imageFilePath) {
+    checkIsPngFilePath(imageFilePath);
+    save(renderDesktop(bufferPool), imageFilePath);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> saveDesktopAsPngInBackground(String imageFilePath) {
+    checkIsPngFilePath(imageFilePath);
+    return saveInBackground(renderDesktop(bufferPool), imageFilePath);
+  }
+
+  @Override
+  @Nonnull public BufferedImage takeDesktopScreenshot() {
+    return renderDesktop(null).image();
+  }
+
+  @Override
+  public void saveComponentAsPng(@Nonnull Component c, @Nonnull String imageFilePath) {
+    checkIsPngFilePath(imageFilePath);
+    save(render(c, bufferPool), imageFilePath);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> saveComponentAsPngInBackground(@Nonnull Component c,
+                                                                   @Nonnull String imageFilePath) {
+    checkIsPngFilePath(imageFilePath);
+    return saveInBackground(render(c, bufferPool), imageFilePath);
+  }
+
+  /**
+   * Takes a screenshot of the given AWT or Swing {@code Component}, by painting it into a new image.
+   *
+   * @param c the given {@code Component}.
+   * @return a screenshot of the given {@code Component}.
+   * @throws NullPointerException if the given {@code Component} is {@code null}.
+   * @throws ImageException if the given {@code Component} has an empty size.
+   */
+  @Override
+  @Nonnull public BufferedImage takeScreenshotOf(@Nonnull Component c) {
+    return render(c, null).image();
+  }
+
+  @Override
+  public void saveImage(@Nonnull BufferedImage image, @Nonnull String filePath) {
+    checkIsPngFilePath(filePath);
+    try {
+      writer.writeAsPng(image, filePath);
+    } catch (IOException e) {
+      String msg = String.format("Unable to save image as '%s'", filePath);
+      throw new IORuntimeException(msg, e);
+    }
+  }
+
+  private void save(@Nonnull Rendering rendering, @Nonnull String filePath) {
+    try {
+      saveImage(rendering.image(), filePath);
+    } finally {
+      bufferPool.release(rendering.buffer);
+    }
+  }
+
+  @Nonnull private CompletableFuture<Boolean> saveInBackground(@Nonnull Rendering rendering, @Nonnull String filePath) {
+    return asyncWriter.writeAsPng(rendering.image(), filePath, () -> bufferPool.release(rendering.buffer));
+  }
+
+  @RunsInEDT
+  @Nonnull private static Rendering render(final @Nonnull Component c, final @Nullable ImageBufferPool pool) {
+    checkNotNull(c);
+    Rendering rendering = execute(() -> {
+      int width = c.getWidth();
+      int height = c.getHeight();
+      if (width <= 0 || height <= 0) {
+        String msg = String.format("Unable to paint a component with size %dx%d: %s", width, height, c);
+        throw new ImageException(msg);
+      }
+      Rendering result = new Rendering(newBuffer(width, height, pool), width, height);
+      Graphics2D g = result.buffer.createGraphics();
+      try {
+        paint(c, g);
+      } finally {
+        g.dispose();
+      }
+      return result;
+    });
+    return checkNotNull(rendering);
+  }
+
+  @RunsInEDT
+  @Nonnull private static Rendering renderDesktop(final @Nullable ImageBufferPool pool) {
+    Rendering rendering = execute(() -> {
+      List<Window> windows = newArrayList();
+      Rectangle desktop = null;
+      for (Window w : Window.getWindows()) {
+        if (!w.isShowing() || w.getWidth() <= 0 || w.getHeight() <= 0) {
+          continue;
+        }
+        windows.add(w);
+        Rectangle bounds = new Rectangle(w.getLocationOnScreen(), w.getSize());
+        desktop = desktop == null ? bounds : desktop.union(bounds);
+      }
+      if (desktop == null) {
+        return new Rendering(newBuffer(1, 1, pool), 1, 1);
+      }
+      Rendering result = new Rendering(newBuffer(desktop.width, desktop.height, pool), desktop.width, desktop.height);
+      Graphics2D g = result.buffer.createGraphics();
+      try {
+        // windows are returned in creation order, so owned windows are painted over their owners.
+        for (Window w : windows) {
+          Rectangle bounds = new Rectangle(w.getLocationOnScreen(), w.getSize());
+          Graphics2D windowGraphics = (Graphics2D) g.create(bounds.x - desktop.x, bounds.y - desktop.y, bounds.width,
+                                                            bounds.height);
+          try {
+            paint(w, windowGraphics);
+          } finally {
+            windowGraphics.dispose();
+          }
+        }
+      } finally {
+        g.dispose();
+      }
+      return result;
+    });
+    return checkNotNull(rendering);
+  }
+
+  @Nonnull private static BufferedImage newBuffer(int width, int height, @Nullable ImageBufferPool pool) {
+    return pool != null ? pool.acquire(width, height) : new BufferedImage(width, height, TYPE_INT_ARGB);
+  }
+
+  @RunsInCurrentThread
+  private static void paint(@Nonnull Component c, @Nonnull Graphics2D g) {
+    JTextComponent textComponent = hideCaretOfFocusOwnerIn(c);
+    try {
+      c.printAll(g);
+    } finally {
+      if (textComponent != null) {
+        textComponent.getCaret().setVisible(true);
+      }
+    }
+  }
+
+  // the caret blinks, so it is hidden to make screenshots of the same component comparable.
+  @RunsInCurrentThread
+  @Nullable private static JTextComponent hideCaretOfFocusOwnerIn(@Nonnull Component c) {
+    Component focusOwner = focusOwner();
+    if (!(focusOwner instanceof JTextComponent) || !isDescendingFrom(focusOwner, c)) {
+      return null;
+    }
+    JTextComponent textComponent = (JTextComponent) focusOwner;
+    Caret caret = textComponent.getCaret();
+    if (caret == null || !caret.isVisible()) {
+      return null;
+    }
+    caret.setVisible(false);
+    return textComponent;
+  }
+
+  /**
+   * A painted image, which may be smaller than the buffer it was painted into.
+   */
+  private static class Rendering {
+    final BufferedImage buffer;
+    final int width;
+    final int height;
+
+    Rendering(@Nonnull BufferedImage buffer, int width, int height) {
+      this.buffer = buffer;
+      this.width = width;
+      this.height = height;
+    }
+
+    @Nonnull BufferedImage image() {
+      if (buffer.getWidth() == width && buffer.getHeight() == height) {
+        return buffer;
+      }
+      return buffer.getSubimage(0, 0, width, height);
+    }
+  }
+}
@@ -28,6 +28,7 @@ import java.awt.Robot;
 import java.awt.Toolkit;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -41,7 +42,15 @@ import org.assertj.swing.internal.annotation.IORuntimeException;
 import org.assertj.swing.util.RobotFactory;
 
 /**
+ * <p>
  * Takes screenshots of the desktop and AWT or Swing {@code Component}s.
+ * </p>
+ *
+ * <p>
+ * Screens are captured in the current thread, never in the event dispatch thread (EDT), so the EDT keeps dispatching
+ * events while the screen is being captured. The {@code save...InBackground} methods return as soon as the screen has
+ * been captured, and leave the PNG encoding to an {@link AsyncImageFileWriter}.
+ * </p>
  *
  * @author Alex Ruiz
  * @author Yvonne Wang
@@ -49,6 +58,7 @@ import org.assertj.swing.util.RobotFactory;
 public class ScreenshotTaker implements ScreenshotTakerIF {
   private final Robot robot;
   private final ImageFileWriter writer;
+  private final AsyncImageFileWriter asyncWriter;
 
   /**
    * Creates a new {@link ScreenshotTaker}.
@@ -61,7 +71,14 @@ public class ScreenshotTaker implements ScreenshotTakerIF {
 
   @VisibleForTesting
   ScreenshotTaker(@Nonnull ImageFileWriter writer, @Nonnull RobotFactory robotFactory) {
+    this(writer, AsyncImageFileWriter.instance(), robotFactory);
+  }
+
+  @VisibleForTesting
+  ScreenshotTaker(@Nonnull ImageFileWriter writer, @Nonnull AsyncImageFileWriter asyncWriter,
+                  @Nonnull RobotFactory robotFactory) {
     this.writer = writer;
+    this.asyncWriter = asyncWriter;
     try {
       robot = robotFactory.newRobotInLeftScreen();
     } catch (AWTException e) {
@@ -74,6 +91,12 @@ public class ScreenshotTaker implements ScreenshotTakerIF {
     saveImage(takeDesktopScreenshot(), imageFilePath);
   }
 
+  @Override
+  public CompletableFuture<Boolean> saveDesktopAsPngInBackground(String imageFilePath) {
+    checkIsPngFilePath(imageFilePath);
+    return asyncWriter.writeAsPng(takeDesktopScreenshot(), imageFilePath);
+  }
+
   @Override
   public BufferedImage takeDesktopScreenshot() {
     Rectangle r = new Rectangle(Toolkit.getDefaultToolkit().getScreenSize());
@@ -85,6 +108,13 @@ public class ScreenshotTaker implements ScreenshotTakerIF {
     saveImage(takeScreenshotOf(c), imageFilePath);
   }
 
+  @Override
+  public CompletableFuture<Boolean> saveComponentAsPngInBackground(@Nonnull Component c,
+                                                                   @Nonnull String imageFilePath) {
+    checkIsPngFilePath(imageFilePath);
+    return asyncWriter.writeAsPng(takeScreenshotOf(c), imageFilePath);
+  }
+
   @Override
   @Nonnull public BufferedImage takeScreenshotOf(@Nonnull Component c) {
     Point locationOnScreen = locationOnScreen(c);
@@ -120,10 +150,10 @@ public class ScreenshotTaker implements ScreenshotTakerIF {
     });
   }
 
-  // TODO(Alex): Verify that this method really needs to be executed in the EDT.
+  // Capturing the screen does not access any Swing component, and doing it in the EDT would keep the EDT busy for the
+  // whole capture.
   @Nonnull private static BufferedImage takeScreenshot(final @Nonnull Robot robot, final @Nonnull Rectangle r) {
-    BufferedImage result = execute(() -> robot.createScreenCapture(r));
-    return checkNotNull(result);
+    return checkNotNull(robot.createScreenCapture(r));
   }
 
   private void showCaretIfPossible(@Nullable JTextComponent textComponent) {
@@ -146,11 +176,7 @@ public class ScreenshotTaker implements ScreenshotTakerIF {
 
   @Override
   public void saveImage(@Nonnull BufferedImage image, @Nonnull String filePath) {
-    Preconditions.checkNotNullOrEmpty(filePath);
-    if (!filePath.endsWith(PNG)) {
-      String format = String.format("The file in path '%s' should have extension 'png'", filePath);
-      throw new IllegalArgumentException(format);
-    }
+    checkIsPngFilePath(filePath);
     try {
       writer.writeAsPng(image, filePath);
     } catch (IOException e) {
@@ -158,4 +184,12 @@ public class ScreenshotTaker implements ScreenshotTakerIF {
       throw new IORuntimeException(msg, e);
     }
   }
+
+  static void checkIsPngFilePath(String filePath) {
+    Preconditions.checkNotNullOrEmpty(filePath);
+    if (!filePath.endsWith(PNG)) {
+      String format = String.format("The file in path '%s' should have extension 'png'", filePath);
+      throw new IllegalArgumentException(format);
+    }
+  }
 }
@@ -12,8 +12,11 @@
  */
 package org.assertj.swing.image;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
 import java.awt.Component;
 import java.awt.image.BufferedImage;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Carsten Behring
@@ -32,6 +35,22 @@ public interface ScreenshotTakerIF {
    */
   void saveDesktopAsPng(String imageFilePath);
 
+  /**
+   * Takes a screenshot of the desktop and saves it as a PNG file, without waiting for the file to be written. The
+   * default implementation saves the file in the current thread.
+   *
+   * @param imageFilePath the path of the file to save the screenshot to.
+   * @return a {@code CompletableFuture} completed once the file has been written, which result is {@code false} if the
+   *         screenshot could not be saved.
+   * @throws NullPointerException if the given file path is {@code null}.
+   * @throws IllegalArgumentException if the given file path is empty.
+   * @throws IllegalArgumentException if the given file path does not end with ".png".
+   */
+  default CompletableFuture<Boolean> saveDesktopAsPngInBackground(String imageFilePath) {
+    saveDesktopAsPng(imageFilePath);
+    return completedFuture(true);
+  }
+
   /**
    * Takes a screenshot of the desktop.
    *
@@ -54,6 +73,23 @@ public interface ScreenshotTakerIF {
    */
   void saveComponentAsPng(Component c, String imageFilePath);
 
+  /**
+   * Takes a screenshot of the given AWT or Swing {@code Component} and saves it as a PNG file, without waiting for the
+   * file to be written. The default implementation saves the file in the current thread.
+   *
+   * @param c the given {@code Component}.
+   * @param imageFilePath the path of the file to save the screenshot to.
+   * @return a {@code CompletableFuture} completed once the file has been written, which result is {@code false} if the
+   *         screenshot could not be saved.
+   * @throws NullPointerException if the given file path is {@code null}.
+   * @throws IllegalArgumentException if the given file path is empty.
+   * @throws IllegalArgumentException if the given file path does not end with ".png".
+   */
+  default CompletableFuture<Boolean> saveComponentAsPngInBackground(Component c, String imageFilePath) {
+    saveComponentAsPng(c, imageFilePath);
+    return completedFuture(true);
+  }
+
   /**
    * Takes a screenshot of the given AWT or Swing {@code Component}.
    *
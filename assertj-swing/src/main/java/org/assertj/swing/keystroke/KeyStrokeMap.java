@@ -14,22 +14,38 @@ package org.assertj.swing.keystroke;
 
 import static java.awt.event.InputEvent.SHIFT_MASK;
 import static java.awt.event.KeyEvent.CHAR_UNDEFINED;
+import static org.assertj.swing.util.Maps.newConcurrentHashMap;
 import static org.assertj.swing.util.Platform.osFamily;
 
+import java.util.Locale;
+import java.util.concurrent.ConcurrentMap;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.swing.KeyStroke;
 
 import org.assertj.core.util.VisibleForTesting;
+import org.assertj.swing.util.OSFamily;
 
 /**
+ * <p>
  * A collection of {@link KeyStrokeMapping}.
+ * </p>
+ *
+ * <p>
+ * The mappings of the {@link KeyStrokeMappingProvider} chosen for each OS family and locale are compiled into a lookup
+ * table only once, and shared. Reloading the mappings for an OS family and locale that were already used does not
+ * create or parse anything. A shared table is copied the first time mappings are added to it or removed from it.
+ * </p>
  * 
  * @author Yvonne Wang
  * @author Alex Ruiz
  */
 public class KeyStrokeMap {
-  private static KeyStrokeMapCollection maps = new KeyStrokeMapCollection();
+  private static final ConcurrentMap<OSFamily, ConcurrentMap<Locale, KeyStrokeMapCollection>> COMPILED_MAPS =
+      newConcurrentHashMap();
+
+  private static volatile KeyStrokeMapCollection maps = new KeyStrokeMapCollection();
 
   static {
     reloadFromSystemSettings();
@@ -39,9 +55,27 @@ public class KeyStrokeMap {
    * Reloads the key stroke mappings for the language using the current system settings.
    */
   public static void reloadFromSystemSettings() {
-    KeyStrokeMappingProviderPicker picker = new KeyStrokeMappingProviderPicker();
-    maps.clear();
-    addKeyStrokesFrom(picker.providerFor(osFamily(), KeyStrokeLocale.get()));
+    maps = compiledMapsFor(osFamily(), KeyStrokeLocale.get());
+  }
+
+  @Nonnull private static KeyStrokeMapCollection compiledMapsFor(@Nonnull OSFamily osFamily, @Nonnull Locale locale) {
+    ConcurrentMap<Locale, KeyStrokeMapCollection> mapsByLocale = COMPILED_MAPS.get(osFamily);
+    if (mapsByLocale == null) {
+      COMPILED_MAPS.putIfAbsent(osFamily, newConcurrentHashMap());
+      mapsByLocale = COMPILED_MAPS.get(osFamily);
+    }
+    KeyStrokeMapCollection compiled = mapsByLocale.get(locale);
+    if (compiled != null) {
+      return compiled;
+    }
+    compiled = new KeyStrokeMapCollection();
+    KeyStrokeMappingProvider provider = new KeyStrokeMappingProviderPicker().providerFor(osFamily, locale);
+    for (KeyStrokeMapping entry : provider.keyStrokeMappings()) {
+      compiled.add(entry.character(), entry.keyStroke());
+    }
+    // if two threads compile the same mappings, only one copy is kept.
+    KeyStrokeMapCollection previous = mapsByLocale.putIfAbsent(locale, compiled.freeze());
+    return previous != null ? previous : compiled;
   }
 
   @VisibleForTesting
@@ -61,14 +95,24 @@ public class KeyStrokeMap {
   }
 
   private static void add(@Nonnull Character character, @Nonnull KeyStroke keyStroke) {
-    maps.add(character, keyStroke);
+    KeyStrokeMapCollection current = maps;
+    if (current.isFrozen()) {
+      current = current.copy();
+      maps = current;
+    }
+    current.add(character, keyStroke);
   }
 
   /**
    * Removes all the character-{@code KeyStroke} mappings.
    */
   public static void clearKeyStrokes() {
-    maps.clear();
+    KeyStrokeMapCollection current = maps;
+    if (current.isFrozen()) {
+      maps = new KeyStrokeMapCollection();
+      return;
+    }
+    current.clear();
   }
 
   /**
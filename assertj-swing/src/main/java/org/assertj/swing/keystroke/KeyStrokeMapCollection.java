@@ -21,35 +21,127 @@ import javax.annotation.Nullable;
 import javax.swing.KeyStroke;
 
 /**
+ * <p>
  * Mapping between characters and {@code KeyStroke}s.
+ * </p>
+ *
+ * <p>
+ * The {@code KeyStroke}s are stored in an open-addressing table indexed by {@code char}, so looking up the
+ * {@code KeyStroke} of a character does not box it. A collection can be frozen, to be shared as the compiled form of a
+ * {@link KeyStrokeMappingProvider}; frozen collections cannot be modified, but can be copied.
+ * </p>
  *
  * @author Alex Ruiz
  */
 class KeyStrokeMapCollection {
-  private final Map<Character, KeyStroke> charToKeyStroke = newHashMap();
+  private static final int INITIAL_CAPACITY = 256;
+
+  // a slot is empty if it does not have a KeyStroke.
+  private char[] chars = new char[INITIAL_CAPACITY];
+  private KeyStroke[] keyStrokes = new KeyStroke[INITIAL_CAPACITY];
+  private int size;
+
   private final Map<KeyStroke, Character> keyStrokeToChar = newHashMap();
 
+  private boolean frozen;
+
   void add(@Nonnull Character character, @Nonnull KeyStroke keyStroke) {
-    charToKeyStroke.put(character, keyStroke);
+    checkNotFrozen();
+    put(character, keyStroke);
     keyStrokeToChar.put(keyStroke, character);
   }
 
+  private void put(char character, @Nonnull KeyStroke keyStroke) {
+    int slot = slotOf(character, chars, keyStrokes);
+    if (keyStrokes[slot] == null) {
+      if ((size + 1) * 4 > keyStrokes.length * 3) {
+        grow();
+        slot = slotOf(character, chars, keyStrokes);
+      }
+      size++;
+    }
+    chars[slot] = character;
+    keyStrokes[slot] = keyStroke;
+  }
+
+  private void grow() {
+    char[] oldChars = chars;
+    KeyStroke[] oldKeyStrokes = keyStrokes;
+    chars = new char[oldChars.length * 2];
+    keyStrokes = new KeyStroke[oldKeyStrokes.length * 2];
+    for (int i = 0; i < oldKeyStrokes.length; i++) {
+      if (oldKeyStrokes[i] != null) {
+        int slot = slotOf(oldChars[i], chars, keyStrokes);
+        chars[slot] = oldChars[i];
+        keyStrokes[slot] = oldKeyStrokes[i];
+      }
+    }
+  }
+
+  // returns the slot of the given character, or the empty slot where it should be added.
+  private static int slotOf(char character, @Nonnull char[] chars, @Nonnull KeyStroke[] keyStrokes) {
+    int mask = keyStrokes.length - 1;
+    int hash = character * 0x9E3779B1;
+    int slot = (hash ^ (hash >>> 16)) & mask;
+    while (keyStrokes[slot] != null && chars[slot] != character) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
   void clear() {
-    charToKeyStroke.clear();
+    checkNotFrozen();
+    chars = new char[INITIAL_CAPACITY];
+    keyStrokes = new KeyStroke[INITIAL_CAPACITY];
+    size = 0;
     keyStrokeToChar.clear();
   }
 
   boolean isEmpty() {
-    return charToKeyStroke.isEmpty() && keyStrokeToChar.isEmpty();
+    return size == 0 && keyStrokeToChar.isEmpty();
   }
 
   @Nullable
   KeyStroke keyStrokeFor(char character) {
-    return charToKeyStroke.get(character);
+    return keyStrokes[slotOf(character, chars, keyStrokes)];
   }
 
   @Nullable
   Character charFor(KeyStroke keyStroke) {
     return keyStrokeToChar.get(keyStroke);
   }
+
+  /**
+   * Prevents any further modification of this collection.
+   *
+   * @return this collection.
+   */
+  @Nonnull
+  KeyStrokeMapCollection freeze() {
+    frozen = true;
+    return this;
+  }
+
+  boolean isFrozen() {
+    return frozen;
+  }
+
+  /**
+   * @return a modifiable copy of this collection.
+   */
+  @Nonnull
+  KeyStrokeMapCollection copy() {
+    KeyStrokeMapCollection copy = new KeyStrokeMapCollection();
+    copy.chars = chars.clone();
+    copy.keyStrokes = keyStrokes.clone();
+    copy.size = size;
+    copy.keyStrokeToChar.putAll(keyStrokeToChar);
+    return copy;
+  }
+
+  private void checkNotFrozen() {
+    if (frozen) {
+      throw new IllegalStateException("Frozen key stroke mappings cannot be modified");
+    }
+  }
 }
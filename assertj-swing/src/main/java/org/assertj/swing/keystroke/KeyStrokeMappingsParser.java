@@ -13,17 +13,19 @@
 package org.assertj.swing.keystroke;
 
 import static java.lang.Thread.currentThread;
+import static java.lang.reflect.Modifier.isPublic;
+import static java.lang.reflect.Modifier.isStatic;
+import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.Closeables.closeQuietly;
 import static org.assertj.core.util.Lists.newArrayList;
-import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.core.util.Preconditions.checkNotNullOrEmpty;
 import static org.assertj.core.util.Strings.concat;
 import static org.assertj.core.util.Strings.quote;
 import static org.assertj.swing.keystroke.KeyStrokeMapping.mapping;
 import static org.assertj.swing.keystroke.KeyStrokeMappingProvider.NO_MASK;
+import static org.assertj.swing.util.Maps.newConcurrentHashMap;
 import static org.assertj.swing.util.Maps.newHashMap;
-import static org.fest.reflect.core.Reflection.field;
 
 import java.awt.event.InputEvent;
 import java.awt.event.KeyEvent;
@@ -34,14 +36,15 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.annotation.Nonnull;
 
 import org.assertj.core.util.VisibleForTesting;
 import org.assertj.swing.exception.ParsingException;
-import org.fest.reflect.exception.ReflectionError;
 
 /**
  * <p>
@@ -92,16 +95,43 @@ import org.fest.reflect.exception.ReflectionError;
  * are necessary, we just specify "NO_MASK".
  * </p>
  *
+ * <p>
+ * The names of key codes and modifiers are resolved from tables built once, and the mappings parsed from a file read
+ * with {@link #parse(String)} are kept, so parsing the same file again does not read it.
+ * </p>
+ *
  * @author Olivier DOREMIEUX
  * @author Alex Ruiz
  */
 public class KeyStrokeMappingsParser {
   private static final Map<String, Character> SPECIAL_MAPPINGS = newHashMap();
+  private static final Map<String, Integer> KEY_CODES = intConstantsIn(KeyEvent.class, "VK_");
+  private static final Map<String, Integer> MODIFIERS = intConstantsIn(InputEvent.class, "");
+
+  private static final ConcurrentMap<String, List<KeyStrokeMapping>> PARSED_FILES = newConcurrentHashMap();
 
   static {
     SPECIAL_MAPPINGS.put("COMMA", ',');
   }
 
+  // maps the names, without the given prefix, of the public static int fields of the given type to their values.
+  @Nonnull private static Map<String, Integer> intConstantsIn(@Nonnull Class<?> type, @Nonnull String prefix) {
+    Map<String, Integer> constants = newHashMap();
+    for (Field field : type.getFields()) {
+      int modifiers = field.getModifiers();
+      String name = field.getName();
+      if (!isPublic(modifiers) || !isStatic(modifiers) || field.getType() != int.class || !name.startsWith(prefix)) {
+        continue;
+      }
+      try {
+        constants.put(name.substring(prefix.length()), field.getInt(null));
+      } catch (IllegalAccessException e) {
+        // public fields can be read.
+      }
+    }
+    return constants;
+  }
+
   /**
    * <p>
    * Creates a {@link KeyStrokeMappingProvider} containing all the character-keystroke mappings specified in the file
@@ -121,11 +151,16 @@ public class KeyStrokeMappingsParser {
    */
   @Nonnull public KeyStrokeMappingProvider parse(@Nonnull String fileName) {
     checkNotNullOrEmpty(fileName);
-    try {
-      return parse(fileAsStream(fileName));
-    } catch (IOException e) {
-      throw new ParsingException(concat("An I/O error ocurred while parsing file ", fileName), e);
+    List<KeyStrokeMapping> mappings = PARSED_FILES.get(fileName);
+    if (mappings == null) {
+      try {
+        mappings = mappingsFrom(fileAsStream(fileName));
+      } catch (IOException e) {
+        throw new ParsingException(concat("An I/O error ocurred while parsing file ", fileName), e);
+      }
+      PARSED_FILES.putIfAbsent(fileName, mappings);
     }
+    return new ParsedKeyStrokeMappingProvider(mappings);
   }
 
   @Nonnull private InputStream fileAsStream(String file) {
@@ -165,6 +200,10 @@ public class KeyStrokeMappingsParser {
   }
 
   @Nonnull private KeyStrokeMappingProvider parse(@Nonnull InputStream input) throws IOException {
+    return new ParsedKeyStrokeMappingProvider(mappingsFrom(input));
+  }
+
+  @Nonnull private List<KeyStrokeMapping> mappingsFrom(@Nonnull InputStream input) throws IOException {
     List<KeyStrokeMapping> mappings = newArrayList();
     BufferedReader reader = new BufferedReader(new InputStreamReader(input));
     try {
@@ -173,7 +212,7 @@ public class KeyStrokeMappingsParser {
         mappings.add(mappingFrom(line));
         line = reader.readLine();
       }
-      return new ParsedKeyStrokeMappingProvider(mappings);
+      return unmodifiableList(mappings);
     } finally {
       closeQuietly(reader);
     }
@@ -204,23 +243,21 @@ public class KeyStrokeMappingsParser {
   }
 
   private static int keyCodeFrom(@Nonnull String s) {
-    try {
-      Integer keyCode = field("VK_" + s).ofType(int.class).in(KeyEvent.class).get();
-      return checkNotNull(keyCode);
-    } catch (ReflectionError e) {
-      throw new ParsingException(concat("Unable to retrieve key code from text ", quote(s)), e.getCause());
+    Integer keyCode = KEY_CODES.get(s);
+    if (keyCode == null) {
+      throw new ParsingException(concat("Unable to retrieve key code from text ", quote(s)));
     }
+    return keyCode;
   }
 
   private static int modifiersFrom(@Nonnull String s) {
     if ("NO_MASK".equals(s)) {
       return NO_MASK;
     }
-    try {
-      Integer modifiers = field(s).ofType(int.class).in(InputEvent.class).get();
-      return checkNotNull(modifiers);
-    } catch (ReflectionError e) {
-      throw new ParsingException(concat("Unable to retrieve modifiers from text ", quote(s)), e.getCause());
+    Integer modifiers = MODIFIERS.get(s);
+    if (modifiers == null) {
+      throw new ParsingException(concat("Unable to retrieve modifiers from text ", quote(s)));
     }
+    return modifiers;
   }
 }
@@ -12,6 +12,8 @@
  */
 package org.assertj.swing.monitor;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
@@ -22,6 +24,7 @@ import java.awt.Frame;
 import java.awt.Toolkit;
 import java.awt.Window;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
@@ -46,6 +49,12 @@ class Context {
   @GuardedBy("lock")
   private final EventQueueMapping eventQueueMapping;
 
+  /**
+   * Immutable snapshot of the event queues in both mappings, replaced every time a queue is added or removed. The
+   * queues of closed windows and garbage-collected components are left out when the snapshot is replaced.
+   */
+  private volatile List<EventQueue> eventQueues = emptyList();
+
   private final Object lock = new Object();
 
   Context(@Nonnull Toolkit toolkit) {
@@ -57,6 +66,7 @@ class Context {
     this.windowEventQueueMapping = windowEventQueueMapping;
     this.eventQueueMapping = eventQueueMapping;
     this.windowEventQueueMapping.addQueueFor(toolkit);
+    updateEventQueues();
   }
 
   /**
@@ -86,14 +96,29 @@ class Context {
 
   void removeContextFor(@Nonnull Component component) {
     synchronized (lock) {
-      windowEventQueueMapping.removeMappingFor(component);
+      boolean queueRemoved = windowEventQueueMapping.removeMappingFor(component);
+      if (eventQueueMapping.removeMappingFor(component) || queueRemoved) {
+        updateEventQueues();
+      }
     }
   }
 
   void addContextFor(@Nonnull Component component) {
     synchronized (lock) {
-      windowEventQueueMapping.addQueueFor(component);
-      eventQueueMapping.addQueueFor(component);
+      boolean queueAdded = windowEventQueueMapping.addQueueFor(component);
+      EventQueue queue = eventQueueMapping.addQueueFor(component);
+      if (queueAdded || (queue != null && !eventQueues.contains(queue))) {
+        updateEventQueues();
+      }
+    }
+  }
+
+  private void updateEventQueues() {
+    synchronized (lock) {
+      Set<EventQueue> queues = newLinkedHashSet();
+      queues.addAll(windowEventQueueMapping.eventQueues());
+      queues.addAll(eventQueueMapping.eventQueues());
+      eventQueues = unmodifiableList(newArrayList(queues));
     }
   }
 
@@ -130,15 +155,15 @@ class Context {
   }
 
   /**
-   * @return all known event queues.
+   * Returns the event queues in use: the system event queue of the {@code Toolkit}, the event queues which still have
+   * root windows and the event queues of the components (e.g. applets) that have not been closed or garbage-collected.
+   * The queues are read from an immutable snapshot maintained as windows are opened and closed, so this method neither
+   * blocks nor allocates.
+   *
+   * @return all event queues in use.
    */
   @Nonnull
   Collection<EventQueue> allEventQueues() {
-    Set<EventQueue> eventQueues = newLinkedHashSet();
-    synchronized (lock) {
-      eventQueues.addAll(windowEventQueueMapping.eventQueues());
-      eventQueues.addAll(eventQueueMapping.eventQueues());
-    }
     return eventQueues;
   }
 }
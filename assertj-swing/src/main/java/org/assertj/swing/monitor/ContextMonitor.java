@@ -72,6 +72,9 @@ final class ContextMonitor implements AWTEventListener {
       return;
     }
     processEvent(event);
+    if (event.getID() == WINDOW_CLOSED) {
+      return;
+    }
     // The context for root-level windows may change between WINDOW_OPENED and subsequent events.
     if (!component.getToolkit().getSystemEventQueue().equals(context.storedQueueFor(component))) {
       context.addContextFor(component);
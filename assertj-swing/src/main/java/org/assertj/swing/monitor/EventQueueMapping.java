@@ -36,10 +36,27 @@ import org.assertj.swing.annotation.RunsInCurrentThread;
 class EventQueueMapping {
   final Map<Component, WeakReference<EventQueue>> queueMap = newWeakHashMap();
 
+  /**
+   * Maps the given AWT or Swing {@code Component} to the current system event queue of its {@code Toolkit}.
+   *
+   * @param c the given {@code Component}.
+   * @return the event queue the {@code Component} was mapped to.
+   */
   @RunsInCurrentThread
-  void addQueueFor(@Nonnull Component c) {
+  @Nonnull EventQueue addQueueFor(@Nonnull Component c) {
     EventQueue queue = c.getToolkit().getSystemEventQueue();
     queueMap.put(c, new WeakReference<EventQueue>(queue));
+    return queue;
+  }
+
+  /**
+   * Removes the given AWT or Swing {@code Component} from this mapping.
+   *
+   * @param c the given {@code Component}.
+   * @return {@code true} if the {@code Component} was in this mapping.
+   */
+  boolean removeMappingFor(@Nonnull Component c) {
+    return queueMap.remove(c) != null;
   }
 
   @RunsInCurrentThread
@@ -24,13 +24,15 @@ import java.awt.Toolkit;
 import java.awt.Window;
 import java.awt.event.AWTEventListener;
 import java.awt.event.MouseEvent;
+import java.awt.event.PaintEvent;
 
 import javax.annotation.Nonnull;
 
 import org.assertj.swing.annotation.RunsInEDT;
 
 /**
- * Event listener that monitors when a window is ready to receive OS-level event input.
+ * Event listener that monitors when a window is ready to receive OS-level event input: a window is ready once it has
+ * been painted for the first time or once it receives a mouse event.
  * 
  * @author Alex Ruiz
  */
@@ -50,7 +52,7 @@ final class WindowAvailabilityMonitor implements AWTEventListener {
   @RunsInEDT
   @Override
   public void eventDispatched(AWTEvent e) {
-    if (!(e instanceof MouseEvent)) {
+    if (!(e instanceof MouseEvent) && !(e instanceof PaintEvent)) {
       return;
     }
     Object source = e.getSource();
@@ -59,6 +61,8 @@ final class WindowAvailabilityMonitor implements AWTEventListener {
     }
     Component c = (Component) source;
     Window w = c instanceof Window ? (Window) c : getWindowAncestor(c);
-    windows.markAsReady(w);
+    if (w != null) {
+      windows.markAsReady(w);
+    }
   }
 }
@@ -22,7 +22,9 @@ import java.awt.EventQueue;
 import java.awt.Toolkit;
 import java.awt.Window;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
@@ -30,7 +32,9 @@ import javax.annotation.Nonnull;
 import org.assertj.swing.annotation.RunsInCurrentThread;
 
 /**
- * A mapping of unique event queues to the set of root windows found on each queue.
+ * A mapping of unique event queues to the set of root windows found on each queue. An event queue is removed from the
+ * mapping once the last of its root windows has been removed, unless it is the system event queue of a
+ * {@code Toolkit}.
  *
  * @author Alex Ruiz
  * @author Yvonne Wang
@@ -38,21 +42,36 @@ import org.assertj.swing.annotation.RunsInCurrentThread;
 class WindowEventQueueMapping {
   final Map<EventQueue, Map<Window, Boolean>> queueMap = newWeakHashMap();
 
+  /** The system event queues of {@code Toolkit}s, which stay in the mapping even if they do not have root windows. */
+  final Map<EventQueue, Boolean> toolkitQueues = newWeakHashMap();
+
   void addQueueFor(@Nonnull Toolkit toolkit) {
+    EventQueue queue = toolkit.getSystemEventQueue();
     Map<Window, Boolean> map = newWeakHashMap();
-    queueMap.put(toolkit.getSystemEventQueue(), map);
+    queueMap.put(queue, map);
+    toolkitQueues.put(queue, TRUE);
   }
 
-  void addQueueFor(@Nonnull Component component) {
+  /**
+   * Adds the given AWT or Swing {@code Component} to the mapping of its event queue, if it is a root {@code Window}.
+   * Other components (e.g. applets) are not mapped, so their event queues are never left in the mapping without root
+   * windows.
+   *
+   * @param component the given {@code Component}.
+   * @return {@code true} if the event queue of the given {@code Component} was not in the mapping yet.
+   */
+  boolean addQueueFor(@Nonnull Component component) {
+    if (!(component instanceof Window) || parentOf(component) != null) {
+      return false;
+    }
     EventQueue queue = component.getToolkit().getSystemEventQueue();
     Map<Window, Boolean> windowMapping = queueMap.get(queue);
-    if (windowMapping == null) {
+    boolean queueAdded = windowMapping == null;
+    if (queueAdded) {
       windowMapping = createWindowMapping(queue);
     }
-    if (!(component instanceof Window) || parentOf(component) != null) {
-      return;
-    }
     windowMapping.put((Window) component, TRUE);
+    return queueAdded;
   }
 
   @Nonnull private Map<Window, Boolean> createWindowMapping(EventQueue queue) {
@@ -61,20 +80,30 @@ class WindowEventQueueMapping {
     return windowMapping;
   }
 
+  /**
+   * Removes the given AWT or Swing {@code Component} from the mappings of all the event queues. Event queues left
+   * without root windows are removed too, unless they belong to a {@code Toolkit}.
+   *
+   * @param component the given {@code Component}.
+   * @return {@code true} if any event queue was removed from the mapping.
+   */
   @RunsInCurrentThread
-  void removeMappingFor(@Nonnull Component component) {
-    EventQueue queue = component.getToolkit().getSystemEventQueue();
-    removeComponent(component, queue);
-    for (EventQueue q : queueMap.keySet()) {
-      removeComponent(component, q);
-    }
-  }
-
-  private void removeComponent(@Nonnull Component component, @Nonnull EventQueue queue) {
-    Map<Window, Boolean> windowMapping = queueMap.get(queue);
-    if (windowMapping != null) {
-      windowMapping.remove(component);
+  boolean removeMappingFor(@Nonnull Component component) {
+    boolean queueRemoved = false;
+    Iterator<Entry<EventQueue, Map<Window, Boolean>>> entries = queueMap.entrySet().iterator();
+    while (entries.hasNext()) {
+      Entry<EventQueue, Map<Window, Boolean>> entry = entries.next();
+      Map<Window, Boolean> windowMapping = entry.getValue();
+      if (windowMapping.remove(component) == null || !windowMapping.isEmpty()) {
+        continue;
+      }
+      if (!toolkitQueues.containsKey(entry.getKey())) {
+        // the last root window of the event queue has been disposed.
+        entries.remove();
+        queueRemoved = true;
+      }
     }
+    return queueRemoved;
   }
 
   @Nonnull
@@ -21,6 +21,7 @@ import java.awt.Frame;
 import java.awt.Toolkit;
 import java.awt.Window;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -105,6 +106,56 @@ public class WindowMonitor {
     return false;
   }
 
+  /**
+   * <p>
+   * Returns a handle to wait for the AWT or Swing {@code Window} to be ready to receive OS-level event input. The
+   * returned future is completed as soon as the {@code Window} has been shown and painted for the first time (or has
+   * received a mouse event,) without any polling.
+   * </p>
+   *
+   * <p>
+   * The returned future is already completed if the {@code Window} is ready. If the {@code Window} is never shown, the
+   * returned future is never completed, so callers should always wait with a timeout.
+   * </p>
+   *
+   * @param w the given {@code Window}.
+   * @return a future completed when the {@code Window} is ready to receive OS-level event input.
+   */
+  @Nonnull public CompletableFuture<Void> windowReadiness(@Nonnull Window w) {
+    return windows.readinessOf(w);
+  }
+
+  /**
+   * Returns the state of the given AWT or Swing {@code Window}.
+   *
+   * @param w the given {@code Window}.
+   * @return the state of the given {@code Window}, or {@code null} if the {@code Window} is not known to this monitor.
+   */
+  @Nullable public WindowState windowState(@Nonnull Window w) {
+    return windows.stateOf(w);
+  }
+
+  /**
+   * Adds a listener to be notified every time the {@link WindowState} of a {@code Window} changes, so callers can wait
+   * for a state without polling.
+   *
+   * @param listener the listener to add.
+   * @throws NullPointerException if the given listener is {@code null}.
+   */
+  public void addWindowStateListener(@Nonnull WindowStateListener listener) {
+    windows.addListener(checkNotNull(listener));
+  }
+
+  /**
+   * Removes a listener previously added with {@link #addWindowStateListener(WindowStateListener)}.
+   *
+   * @param listener the listener to remove.
+   * @throws NullPointerException if the given listener is {@code null}.
+   */
+  public void removeWindowStateListener(@Nonnull WindowStateListener listener) {
+    windows.removeListener(checkNotNull(listener));
+  }
+
   /**
    * Returns the event queue corresponding to the given AWT or Swing {@code Compoenent}. In most cases, this is the same
    * as {@code Component.getToolkit().getSystemEventQueue()}, but in the case of applets will bypass the
@@ -0,0 +1,30 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.monitor;
+
+/**
+ * The state of a {@code Window}, as tracked by {@link WindowMonitor}.
+ */
+public enum WindowState {
+  /** {@link java.awt.Window#isShowing() isShowing} is true but is not yet ready for input. */
+  PENDING,
+
+  /** Ready to receive OS-level event input. */
+  READY,
+
+  /** Not visible. */
+  HIDDEN,
+
+  /** Has sent a {@link java.awt.event.WindowEvent#WINDOW_CLOSED WINDOW_CLOSED} event. */
+  CLOSED
+}
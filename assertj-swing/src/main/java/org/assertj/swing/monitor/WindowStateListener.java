@@ -0,0 +1,35 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.monitor;
+
+import java.awt.Window;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Listener notified every time the {@link WindowState} of a {@code Window} changes.
+ *
+ * @see WindowMonitor#addWindowStateListener(WindowStateListener)
+ */
+public interface WindowStateListener {
+  /**
+   * Notification that the state of a {@code Window} has changed. This method is called in the thread that changed the
+   * state (usually the event dispatch thread,) so implementations should return quickly and must not block.
+   *
+   * @param w the {@code Window} which state changed.
+   * @param oldState the previous state of the {@code Window}, or {@code null} if the {@code Window} was not known.
+   * @param newState the new state of the {@code Window}.
+   */
+  void windowStateChanged(@Nonnull Window w, @Nullable WindowState oldState, @Nonnull WindowState newState);
+}
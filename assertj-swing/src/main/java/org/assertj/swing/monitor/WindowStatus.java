@@ -12,6 +12,7 @@
  */
 package org.assertj.swing.monitor;
 
+import static java.lang.System.currentTimeMillis;
 import static java.util.logging.Level.WARNING;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
 import static org.assertj.swing.monitor.WindowMetrics.absoluteCenterOf;
@@ -27,6 +28,7 @@ import java.util.logging.Logger;
 
 import javax.annotation.Nonnull;
 
+import org.assertj.core.util.VisibleForTesting;
 import org.assertj.swing.annotation.RunsInCurrentThread;
 import org.assertj.swing.annotation.RunsInEDT;
 import org.assertj.swing.util.RobotFactory;
@@ -39,6 +41,13 @@ import org.assertj.swing.util.RobotFactory;
 class WindowStatus {
   private static final Dimension MINIMUM_WINDOW_SIZE = new Dimension(50, 30);
 
+  /**
+   * How long (in milliseconds) a window can be pending before moving the mouse pointer over it. A window is usually
+   * marked as ready by its first paint well before this delay.
+   */
+  @VisibleForTesting
+  static int MOUSE_MOVE_DELAY = 500;
+
   private static Logger logger = Logger.getLogger(WindowStatus.class.getCanonicalName());
   private static int sign = 1;
 
@@ -67,7 +76,8 @@ class WindowStatus {
   }
 
   /**
-   * Checks whether the given window is ready for input.
+   * Checks whether the given window is ready for input. If the window has been showing for a while without becoming
+   * ready, this method moves the mouse pointer over it, so it receives a mouse event.
    *
    * @param w the given window.
    */
@@ -87,13 +97,18 @@ class WindowStatus {
 
   @RunsInEDT
   private void checkSafelyIfReady(final @Nonnull Window w) {
-    if (!windows.isShowingButNotReady(w)) {
+    if (!windows.isShowingButNotReady(w) || !isPendingForTooLong(w)) {
       return;
     }
     execute(() -> makeLargeEnoughToReceiveEvents(w));
     mouseMove(w, centerOf(w));
   }
 
+  private boolean isPendingForTooLong(@Nonnull Window w) {
+    Long pendingSince = windows.pendingSince(w);
+    return pendingSince == null || currentTimeMillis() - pendingSince >= MOUSE_MOVE_DELAY;
+  }
+
   @RunsInEDT
   private static Point centerOf(final @Nonnull Window w) {
     return execute(() -> absoluteCenterOf(w));
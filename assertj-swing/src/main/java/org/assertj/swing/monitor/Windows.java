@@ -12,23 +12,52 @@
  */
 package org.assertj.swing.monitor;
 
-import static org.assertj.swing.util.Maps.newWeakHashMap;
+import static java.lang.System.currentTimeMillis;
+import static java.lang.System.identityHashCode;
+import static java.util.logging.Level.WARNING;
+import static org.assertj.swing.monitor.WindowState.CLOSED;
+import static org.assertj.swing.monitor.WindowState.HIDDEN;
+import static org.assertj.swing.monitor.WindowState.PENDING;
+import static org.assertj.swing.monitor.WindowState.READY;
 
 import java.awt.Component;
 import java.awt.Window;
-import java.util.Map;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.List;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.logging.Logger;
 
 import javax.annotation.Nonnull;
-import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 import org.assertj.core.util.VisibleForTesting;
 import org.assertj.swing.annotation.RunsInCurrentThread;
 
 /**
+ * <p>
  * Information collected by the monitors in this package.
+ * </p>
+ *
+ * <p>
+ * A {@code Window} that has just been shown (and therefore laid out) is "pending" until it has been painted for the
+ * first time or it has received a mouse event, since either means its peer is able to receive OS-level event input.
+ * {@link #WINDOW_READY_DELAY} is only a last-resort fallback for windows that never get any of those events.
+ * </p>
+ *
+ * <p>
+ * The {@link WindowState} of each {@code Window} is kept in a concurrent map with weak keys. Transitions replace the
+ * state of a {@code Window} atomically, so queries never block, neither the event dispatch thread (EDT) nor each
+ * other.
+ * </p>
  *
  * @author Alex Ruiz
  */
@@ -37,26 +66,14 @@ class Windows {
   @VisibleForTesting
   static int WINDOW_READY_DELAY = 10000;
 
-  /** {@link Window#isShowing() isShowing} is true but are not yet ready for input. */
-  @GuardedBy("lock")
-  final Map<Window, TimerTask> pending = newWeakHashMap();
-
-  /** Considered to be ready to use. */
-  @GuardedBy("lock")
-  final Map<Window, Boolean> open = newWeakHashMap();
+  private static Logger logger = Logger.getLogger(Windows.class.getCanonicalName());
 
-  /** Have sent a {@link java.awt.event.WindowEvent#WINDOW_CLOSED WINDOW_CLOSED} event. */
-  @GuardedBy("lock")
-  final Map<Window, Boolean> closed = newWeakHashMap();
-
-  /** Not visible. */
-  @GuardedBy("lock")
-  final Map<Window, Boolean> hidden = newWeakHashMap();
+  private final ConcurrentMap<WindowKey, Entry> entries = new ConcurrentHashMap<>();
+  private final ReferenceQueue<Window> collectedWindows = new ReferenceQueue<>();
+  private final List<WindowStateListener> listeners = new CopyOnWriteArrayList<>();
 
   private final Timer windowReadyTimer;
 
-  private final Object lock = new Object();
-
   Windows() {
     windowReadyTimer = new Timer("Window Ready Timer", true);
   }
@@ -79,42 +96,38 @@ class Windows {
    */
   @RunsInCurrentThread
   void markExisting(@Nonnull Window w) {
-    synchronized (lock) {
-      open.put(w, true);
-      if (!w.isShowing()) {
-        hidden.put(w, true);
-      }
-    }
+    WindowState state = w.isShowing() ? READY : HIDDEN;
+    update(w, current -> current.moveTo(state, null));
   }
 
   /**
-   * Marks the given window as "hidden."
+   * Marks the given window as "hidden," unless it is closed.
    *
    * @param w the given window.
    */
   void markAsHidden(@Nonnull Window w) {
-    synchronized (lock) {
-      hidden.put(w, true);
-      removeWindowFrom(w, pending);
-    }
+    update(w, current -> current.state == CLOSED ? current : current.moveTo(HIDDEN, null));
   }
 
   /**
-   * Marks the given window as "showing."
+   * Marks the given window as "showing," unless it is already ready to use.
    *
    * @param w the given window.
    */
   void markAsShowing(final @Nonnull Window w) {
-    synchronized (lock) {
+    update(w, current -> {
+      if (current.state == READY) {
+        // both COMPONENT_SHOWN and WINDOW_OPENED mark a new window as showing, and it may have been painted in between.
+        return current;
+      }
       TimerTask task = new TimerTask() {
         @Override
         public void run() {
           markAsReady(w);
         }
       };
-      windowReadyTimer.schedule(new ProtectingTimerTask(task), WINDOW_READY_DELAY);
-      pending.put(w, task);
-    }
+      return current.moveTo(PENDING, task);
+    });
   }
 
   /**
@@ -123,13 +136,7 @@ class Windows {
    * @param w the given window.
    */
   void markAsReady(@Nonnull Window w) {
-    synchronized (lock) {
-      if (!pending.containsKey(w)) {
-        return;
-      }
-      removeWindowFrom(w, closed, hidden, pending);
-      open.put(w, true);
-    }
+    update(w, current -> current.state != PENDING ? current : current.moveTo(READY, null));
   }
 
   /**
@@ -138,18 +145,116 @@ class Windows {
    * @param w the given window.
    */
   void markAsClosed(@Nonnull Window w) {
-    synchronized (lock) {
-      removeWindowFrom(w, open, hidden, pending);
-      closed.put(w, true);
+    update(w, current -> current.moveTo(CLOSED, null));
+  }
+
+  private void update(@Nonnull Window w, @Nonnull Function<Entry, Entry> transition) {
+    expungeCollectedWindows();
+    WindowKey key = new WindowKey(w, collectedWindows);
+    while (true) {
+      Entry current = entries.get(key);
+      Entry from = current != null ? current : Entry.unknown();
+      Entry to = transition.apply(from);
+      if (to == from) {
+        return;
+      }
+      boolean replaced = current == null ? entries.putIfAbsent(key, to) == null : entries.replace(key, current, to);
+      if (replaced) {
+        stateChanged(w, from, to);
+        return;
+      }
     }
   }
 
-  private void removeWindowFrom(Window w, Map<?, ?>... maps) {
-    for (Map<?, ?> map : maps) {
-      map.remove(w);
+  private void stateChanged(@Nonnull Window w, @Nonnull Entry from, @Nonnull Entry to) {
+    if (from.readyTask != null && from.readyTask != to.readyTask) {
+      from.readyTask.cancel();
+    }
+    if (to.readyTask != null && to.readyTask != from.readyTask) {
+      windowReadyTimer.schedule(new ProtectingTimerTask(to.readyTask), WINDOW_READY_DELAY);
+    }
+    if (to.state == READY) {
+      to.readiness.complete(null);
+    }
+    WindowState newState = to.state;
+    if (newState == null || newState == from.state) {
+      return;
+    }
+    for (WindowStateListener listener : listeners) {
+      try {
+        listener.windowStateChanged(w, from.state, newState);
+      } catch (RuntimeException e) {
+        logger.log(WARNING, "Exception thrown by a WindowStateListener", e);
+      }
+    }
+  }
+
+  private void expungeCollectedWindows() {
+    Reference<? extends Window> collected;
+    while ((collected = collectedWindows.poll()) != null) {
+      Entry entry = entries.remove(collected);
+      if (entry != null && entry.readyTask != null) {
+        entry.readyTask.cancel();
+      }
     }
   }
 
+  @Nullable private Entry entryOf(@Nonnull Window w) {
+    return entries.get(new WindowKey(w, null));
+  }
+
+  /**
+   * Returns the state of the given {@code Window}.
+   *
+   * @param w the given {@code Window}.
+   * @return the state of the given {@code Window}, or {@code null} if the {@code Window} is not known.
+   */
+  @Nullable WindowState stateOf(@Nonnull Window w) {
+    Entry entry = entryOf(w);
+    return entry != null ? entry.state : null;
+  }
+
+  /**
+   * Adds a listener to be notified every time the state of a {@code Window} changes.
+   *
+   * @param listener the listener to add.
+   */
+  void addListener(@Nonnull WindowStateListener listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Removes a listener previously added with {@link #addListener(WindowStateListener)}.
+   *
+   * @param listener the listener to remove.
+   */
+  void removeListener(@Nonnull WindowStateListener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Returns a {@code CompletableFuture} that is completed when the given {@code Window} is ready to receive OS-level
+   * event input. The returned future is already completed if the {@code Window} is ready. If the {@code Window} is
+   * never shown, the returned future is never completed.
+   *
+   * @param w the given {@code Window}.
+   * @return a future completed when the given {@code Window} is ready.
+   */
+  @Nonnull CompletableFuture<Void> readinessOf(@Nonnull Window w) {
+    Entry entry = entryOf(w);
+    if (entry == null) {
+      Entry unknown = Entry.unknown();
+      entry = entries.putIfAbsent(new WindowKey(w, collectedWindows), unknown);
+      if (entry == null) {
+        entry = unknown;
+      }
+    }
+    if (entry.state == READY) {
+      entry.readiness.complete(null);
+    }
+    return entry.readiness;
+  }
+
   /**
    * Indicates whether the given AWT or Swing {@code Component} is a closed {@code Window}.
    *
@@ -157,9 +262,7 @@ class Windows {
    * @return {@code true} if the given {@code Component} is a closed {@code Window}, {@code false} otherwise.
    */
   boolean isClosed(@Nonnull Component c) {
-    synchronized (lock) {
-      return closed.containsKey(c);
-    }
+    return c instanceof Window && stateOf((Window) c) == CLOSED;
   }
 
   /**
@@ -169,9 +272,7 @@ class Windows {
    * @return {@code true} if the given {@code Window} is ready to receive OS-level event input, {@code false} otherwise.
    */
   boolean isReady(@Nonnull Window w) {
-    synchronized (lock) {
-      return open.containsKey(w) && !hidden.containsKey(w);
-    }
+    return stateOf(w) == READY;
   }
 
   /**
@@ -181,9 +282,7 @@ class Windows {
    * @return {@code true} if the given {@code Window} is hidden, {@code false} otherwise.
    */
   boolean isHidden(@Nonnull Window w) {
-    synchronized (lock) {
-      return hidden.containsKey(w);
-    }
+    return stateOf(w) == HIDDEN;
   }
 
   /**
@@ -194,8 +293,78 @@ class Windows {
    *         {@code false} otherwise.
    */
   boolean isShowingButNotReady(@Nonnull Window w) {
-    synchronized (lock) {
-      return pending.containsKey(w);
+    return stateOf(w) == PENDING;
+  }
+
+  /**
+   * Returns the time when the given {@code Window} was shown, if it is showing but not ready to receive OS-level event
+   * input.
+   *
+   * @param w the given {@code Window}.
+   * @return the time (in milliseconds) when the given {@code Window} was shown, or {@code null} if the {@code Window}
+   *         is not pending.
+   */
+  @Nullable Long pendingSince(@Nonnull Window w) {
+    Entry entry = entryOf(w);
+    return entry != null && entry.state == PENDING ? entry.since : null;
+  }
+
+  /**
+   * The state of a {@code Window}, together with the data that goes with it. Entries are never modified: every
+   * transition replaces the entry of the {@code Window}.
+   */
+  private static class Entry {
+    @Nullable final WindowState state;
+    final long since;
+    @Nullable final TimerTask readyTask;
+    @Nonnull final CompletableFuture<Void> readiness;
+
+    @Nonnull static Entry unknown() {
+      return new Entry(null, 0, null, new CompletableFuture<>());
+    }
+
+    private Entry(@Nullable WindowState state, long since, @Nullable TimerTask readyTask,
+                  @Nonnull CompletableFuture<Void> readiness) {
+      this.state = state;
+      this.since = since;
+      this.readyTask = readyTask;
+      this.readiness = readiness;
+    }
+
+    @Nonnull Entry moveTo(@Nonnull WindowState newState, @Nullable TimerTask newReadyTask) {
+      long newSince = newState == state ? since : currentTimeMillis();
+      // a window that stops being ready needs a new future: the current one has already been completed.
+      boolean stopsBeingReady = state == READY && newState != READY;
+      return new Entry(newState, newSince, newReadyTask, stopsBeingReady ? new CompletableFuture<>() : readiness);
+    }
+  }
+
+  /**
+   * Weak reference to a {@code Window}, compared by identity, that can be used as key in a {@code ConcurrentMap}.
+   */
+  private static class WindowKey extends WeakReference<Window> {
+    private final int hashCode;
+
+    WindowKey(@Nonnull Window w, @Nullable ReferenceQueue<Window> queue) {
+      super(w, queue);
+      hashCode = identityHashCode(w);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof WindowKey)) {
+        return false;
+      }
+      Window w = get();
+      return w != null && w == ((WindowKey) obj).get();
     }
   }
 }
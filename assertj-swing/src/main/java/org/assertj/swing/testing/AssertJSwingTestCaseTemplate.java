@@ -18,7 +18,15 @@ import org.assertj.swing.core.BasicRobot;
 import org.assertj.swing.core.Robot;
 
 /**
+ * <p>
  * Template for test cases that use AssertJ-Swing.
+ * </p>
+ *
+ * <p>
+ * To run GUI tests in parallel, start each worker JVM with its own display and describe it by overriding
+ * {@link #displayAssignment()} (or by setting the system properties described in {@link DisplayAssignment}): each test
+ * then verifies that its worker actually runs on the assigned display.
+ * </p>
  * 
  * @author Alex Ruiz
  */
@@ -30,12 +38,27 @@ public abstract class AssertJSwingTestCaseTemplate {
   }
 
   /**
-   * Creates this test's {@link Robot} using a new AWT hierarchy.
+   * Creates this test's {@link Robot} using a new AWT hierarchy, after verifying that this JVM uses the display
+   * returned by {@link #displayAssignment()}.
+   *
+   * @throws IllegalStateException if this JVM does not use the display assigned to this test's worker.
    */
   protected final void setUpRobot() {
+    DisplayAssignment assignment = displayAssignment();
+    assignment.verifyInUse();
     robot = BasicRobot.robotWithNewAwtHierarchy();
   }
 
+  /**
+   * Returns the worker and display this test runs on. By default, the assignment is read from system properties (see
+   * {@link DisplayAssignment#fromSystemProperties()}.) Subclasses can override this method to provide their own.
+   *
+   * @return the worker and display this test runs on.
+   */
+  protected @Nonnull DisplayAssignment displayAssignment() {
+    return DisplayAssignment.fromSystemProperties();
+  }
+
   /**
    * Cleans up resources used by this test's {@link Robot}.
    */
@@ -0,0 +1,135 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.testing;
+
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.core.util.Strings.isNullOrEmpty;
+import static org.assertj.core.util.Strings.quote;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.assertj.core.util.VisibleForTesting;
+import org.assertj.swing.lock.ScreenLock;
+
+/**
+ * <p>
+ * The display a test worker runs its GUI tests on. Assigning a different display to each worker (e.g. one X virtual
+ * frame buffer per forked JVM) lets GUI tests run in parallel: each worker is a separate JVM with its own
+ * {@link ScreenLock}, its own {@link org.assertj.swing.core.Robot} and its own AWT context, so workers do not compete
+ * for the same screen, mouse and keyboard focus. Within a JVM, GUI tests are still serialized by the
+ * {@link ScreenLock}.
+ * </p>
+ *
+ * <p>
+ * AWT reads the display to use only once, when the toolkit is loaded; on X11 it is taken from the environment variable
+ * {@code DISPLAY}. Assigning displays is therefore up to the build tool, which must start each worker with its assigned
+ * display, for example:
+ * </p>
+ *
+ * <pre>
+ * &lt;forkCount&gt;4&lt;/forkCount&gt;
+ * &lt;environmentVariables&gt;
+ *   &lt;DISPLAY&gt;:${surefire.forkNumber}&lt;/DISPLAY&gt;
+ * &lt;/environmentVariables&gt;
+ * &lt;systemPropertyVariables&gt;
+ *   &lt;org.assertj.swing.worker.id&gt;${surefire.forkNumber}&lt;/org.assertj.swing.worker.id&gt;
+ *   &lt;org.assertj.swing.worker.display&gt;:${surefire.forkNumber}&lt;/org.assertj.swing.worker.display&gt;
+ * &lt;/systemPropertyVariables&gt;
+ * </pre>
+ *
+ * <p>
+ * {@link #verifyInUse()} makes sure a worker is not silently running on a display that was assigned to another one.
+ * </p>
+ */
+public final class DisplayAssignment {
+  /** The system property with the id of the current worker. */
+  public static final String WORKER_ID_PROPERTY = "org.assertj.swing.worker.id";
+
+  /** The system property with the display assigned to the current worker. */
+  public static final String WORKER_DISPLAY_PROPERTY = "org.assertj.swing.worker.display";
+
+  private final String workerId;
+  private final String display;
+
+  /**
+   * Returns the assignment configured through the system properties {@link #WORKER_ID_PROPERTY} and
+   * {@link #WORKER_DISPLAY_PROPERTY}. If no display has been assigned, the current worker uses the display of this JVM.
+   *
+   * @return the assignment of the current worker.
+   */
+  @Nonnull public static DisplayAssignment fromSystemProperties() {
+    String workerId = System.getProperty(WORKER_ID_PROPERTY);
+    String display = System.getProperty(WORKER_DISPLAY_PROPERTY);
+    return new DisplayAssignment(isNullOrEmpty(workerId) ? "0" : workerId, isNullOrEmpty(display) ? "" : display);
+  }
+
+  /**
+   * Creates a new {@link DisplayAssignment}.
+   *
+   * @param workerId the id of the worker.
+   * @param display the display assigned to the worker (e.g. {@code ":1"}.) An empty {@code String} refers to the
+   *          display used by this JVM.
+   * @return the created assignment.
+   * @throws NullPointerException if any of the arguments is {@code null}.
+   */
+  @Nonnull public static DisplayAssignment displayAssignment(@Nonnull String workerId, @Nonnull String display) {
+    return new DisplayAssignment(checkNotNull(workerId), checkNotNull(display));
+  }
+
+  private DisplayAssignment(@Nonnull String workerId, @Nonnull String display) {
+    this.workerId = workerId;
+    this.display = display;
+  }
+
+  /**
+   * @return the id of the worker.
+   */
+  @Nonnull public String workerId() {
+    return workerId;
+  }
+
+  /**
+   * @return the display assigned to the worker, or an empty {@code String} if the worker uses the display of this JVM.
+   */
+  @Nonnull public String display() {
+    return display;
+  }
+
+  /**
+   * Verifies that the assigned display is the one used by this JVM.
+   *
+   * @throws IllegalStateException if a display was assigned but this JVM does not use any, or uses a different one.
+   */
+  public void verifyInUse() {
+    verifyInUse(System.getenv("DISPLAY"));
+  }
+
+  @VisibleForTesting
+  void verifyInUse(@Nullable String displayInUse) {
+    if (display.isEmpty() || display.equals(displayInUse)) {
+      return;
+    }
+    if (isNullOrEmpty(displayInUse)) {
+      String format = "Worker %s was assigned the display %s but this JVM does not use any display";
+      throw new IllegalStateException(String.format(format, quote(workerId), quote(display)));
+    }
+    String format = "Worker %s was assigned the display %s but this JVM uses the display %s";
+    throw new IllegalStateException(String.format(format, quote(workerId), quote(display), quote(displayInUse)));
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s[workerId=%s, display=%s]", getClass().getSimpleName(), quote(workerId), quote(display));
+  }
+}
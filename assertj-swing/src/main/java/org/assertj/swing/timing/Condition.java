@@ -81,6 +81,24 @@ public abstract class Condition {
     return EMPTY_TEXT;
   }
 
+  /**
+   * <p>
+   * Returns the mask of the AWT events that can change the result of this condition, as a combination of the
+   * {@code AWTEvent} event masks (e.g. {@code AWTEvent.WINDOW_EVENT_MASK}.) {@link Pause#pause(Condition)} (and all
+   * overloaded methods) evaluates this condition again as soon as one of these events is dispatched, instead of waiting
+   * for the next polling interval.
+   * </p>
+   * 
+   * <p>
+   * The default value is zero, meaning that this condition is only polled.
+   * </p>
+   * 
+   * @return the mask of the AWT events that can change the result of this condition.
+   */
+  protected long wakeUpEventMask() {
+    return 0;
+  }
+
   /**
    * Notification that this condition has been evaluated. This method is invoked by {@link Pause#pause(Condition)} (and
    * all overloaded methods) when this condition is evaluated (either it was satisfied or it timed-out). This is a good
@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.timing;
+
+import static java.lang.Math.min;
+
+import java.awt.AWTEvent;
+import java.awt.Toolkit;
+import java.awt.event.AWTEventListener;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * <p>
+ * Decides when a {@link Condition} being waited for by {@link Pause} should be evaluated again.
+ * </p>
+ *
+ * <p>
+ * Between evaluations, the waiting thread sleeps for an interval that starts at 1 millisecond and doubles up to a
+ * maximum, so that conditions that are satisfied quickly are detected quickly, while long waits do not spin. If the
+ * conditions declare the AWT events that can change their result (see {@link Condition#wakeUpEventMask()},) the
+ * waiting thread is also woken up as soon as any of those events is dispatched.
+ * </p>
+ */
+@ThreadSafe
+class ConditionWakeUp implements AWTEventListener {
+  private static final long MIN_INTERVAL = 1;
+
+  private final Toolkit toolkit;
+  private final long eventMask;
+  private final long maxInterval;
+
+  private final Object lock = new Object();
+
+  @GuardedBy("lock")
+  private boolean signalled;
+
+  @GuardedBy("lock")
+  private long interval = MIN_INTERVAL;
+
+  ConditionWakeUp(@Nonnull Toolkit toolkit, long eventMask, long maxInterval) {
+    this.toolkit = toolkit;
+    this.eventMask = eventMask;
+    this.maxInterval = maxInterval;
+  }
+
+  /**
+   * Starts listening to the AWT events that can wake up the waiting thread, if any.
+   */
+  void start() {
+    if (eventMask != 0) {
+      toolkit.addAWTEventListener(this, eventMask);
+    }
+  }
+
+  /**
+   * Stops listening to AWT events.
+   */
+  void stop() {
+    if (eventMask != 0) {
+      toolkit.removeAWTEventListener(this);
+    }
+  }
+
+  @Override
+  public void eventDispatched(AWTEvent event) {
+    synchronized (lock) {
+      signalled = true;
+      lock.notifyAll();
+    }
+  }
+
+  /**
+   * Blocks the current thread until a relevant AWT event is dispatched or the current backoff interval elapses.
+   *
+   * @throws InterruptedException if the current thread is interrupted while waiting.
+   */
+  void await() throws InterruptedException {
+    synchronized (lock) {
+      if (!signalled) {
+        lock.wait(interval);
+      }
+      if (signalled) {
+        // something happened: the next change may be close too.
+        interval = MIN_INTERVAL;
+      } else {
+        interval = min(interval * 2, maxInterval);
+      }
+      signalled = false;
+    }
+  }
+}
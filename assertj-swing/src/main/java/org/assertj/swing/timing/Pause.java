@@ -28,9 +28,18 @@ import javax.annotation.Nonnull;
 
 import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.swing.exception.WaitTimedOutError;
+import org.assertj.swing.util.ToolkitProvider;
 
 /**
+ * <p>
  * Waits for period of time or for a particular condition to be satisfied.
+ * </p>
+ *
+ * <p>
+ * While waiting for a {@link Condition}, the condition is evaluated again after a short interval that grows up to 10
+ * milliseconds, or as soon as an AWT event that can change its result is dispatched (see
+ * {@link Condition#wakeUpEventMask()}.)
+ * </p>
  * 
  * @author Alex Ruiz
  * @author Yvonne Wang
@@ -75,22 +84,37 @@ public final class Pause {
    */
   public static void pause(@Nonnull final Condition condition, final long timeout) {
     checkNotNull(condition);
+    final ConditionWakeUp wakeUp = wakeUpFor(condition.wakeUpEventMask());
     try {
       Callable<Object> task = new Callable<Object>() {
         @Override
         public Object call() {
           while (!Thread.currentThread().isInterrupted() && !condition.test()) {
-            pause();
+            awaitWakeUp(wakeUp);
           }
           return condition;
         }
       };
+      wakeUp.start();
       performPause(task, timeout, condition);
     } finally {
+      wakeUp.stop();
       condition.done();
     }
   }
 
+  @Nonnull private static ConditionWakeUp wakeUpFor(long eventMask) {
+    return new ConditionWakeUp(ToolkitProvider.instance().defaultToolkit(), eventMask, SLEEP_INTERVAL);
+  }
+
+  private static void awaitWakeUp(@Nonnull ConditionWakeUp wakeUp) {
+    try {
+      wakeUp.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   private static void performPause(Callable<Object> task, long timeout, Object value) {
     Future<Object> futureResult = EXECUTOR_SERVICE.submit(task);
     try {
@@ -149,21 +173,25 @@ public final class Pause {
    */
   public static void pause(@Nonnull final Condition[] conditions, final long timeout) {
     checkNotNullOrEmpty(conditions);
+    long eventMask = 0;
     for (Condition condition : conditions) {
-      checkNotNull(condition);
+      eventMask |= checkNotNull(condition).wakeUpEventMask();
     }
+    final ConditionWakeUp wakeUp = wakeUpFor(eventMask);
     try {
       Callable<Object> task = new Callable<Object>() {
         @Override
         public Object call() {
           while (!Thread.currentThread().isInterrupted() && !areSatisfied(conditions)) {
-            pause();
+            awaitWakeUp(wakeUp);
           }
           return conditions;
         }
       };
+      wakeUp.start();
       performPause(task, timeout, conditions);
     } finally {
+      wakeUp.stop();
       for (Condition condition : conditions) {
         condition.done();
       }
@@ -13,6 +13,7 @@
 package org.assertj.swing.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.core.TimingProfile.SAFE;
 import static org.assertj.swing.test.awt.TestAWTEvents.singletonAWTEventMock;
 import static org.assertj.swing.test.awt.Toolkits.newToolkitMock;
 import static org.assertj.swing.test.util.StopWatch.startNewStopWatch;
@@ -54,6 +55,7 @@ public class AWTEventPoster_postEvent_Test extends EDTSafeTestCase {
     inputState = mock(InputState.class);
     monitor = mock(WindowMonitor.class);
     settings = mock(Settings.class);
+    when(settings.timingProfile()).thenReturn(SAFE);
     eventQueue = mock(EventQueue.class);
     event = singletonAWTEventMock();
     poster = new AWTEventPoster(toolkit, inputState, monitor, settings);
@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import javax.swing.JButton;
+import javax.swing.JLabel;
+
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.exception.ComponentLookupException;
+import org.assertj.swing.test.core.RobotBasedTestCase;
+import org.assertj.swing.test.swing.TestWindow;
+import org.junit.Test;
+
+/**
+ * Tests that the message of the {@link ComponentLookupException} thrown by {@link BasicComponentFinder} when a
+ * component cannot be found describes the hierarchy at the time of the lookup.
+ */
+public class BasicComponentFinder_componentNotFoundMessage_Test extends RobotBasedTestCase {
+  private MyWindow window;
+
+  @Override
+  protected void onSetUp() {
+    window = MyWindow.createNew();
+    robot.showWindow(window);
+  }
+
+  @Test
+  public void should_Include_Hierarchy_In_Message_Read_After_Windows_Were_Disposed() {
+    ComponentLookupException error = null;
+    try {
+      robot.finder().findByName(window, "button", JLabel.class);
+      fail("Expecting ComponentLookupException");
+    } catch (ComponentLookupException e) {
+      error = e;
+    }
+    robot.cleanUp();
+    assertThat(error.getMessage()).contains("Component hierarchy:", "MyWindow[name='myWindow'",
+                                            "javax.swing.JButton[name='button'");
+  }
+
+  private static class MyWindow extends TestWindow {
+    final JButton button = new JButton("A Button");
+
+    @RunsInEDT
+    static MyWindow createNew() {
+      return execute(() -> new MyWindow());
+    }
+
+    private MyWindow() {
+      super(BasicComponentFinder_componentNotFoundMessage_Test.class);
+      setName("myWindow");
+      button.setName("button");
+      addComponents(button);
+    }
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.format.Formatting.format;
+
+import java.awt.Component;
+import java.io.IOException;
+
+import javax.swing.JButton;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link BasicComponentPrinter#printComponents(Appendable, PrintFormat)} and
+ * {@link BasicComponentPrinter#printComponents(Appendable, PrintFormat, ComponentMatcher, java.awt.Container)}.
+ */
+public class BasicComponentPrinter_printComponentsInFormat_Test extends BasicComponentPrinter_TestCase {
+  @Test(expected = NullPointerException.class)
+  public void should_Throw_Error_If_Format_Is_Null() throws IOException {
+    printer.printComponents(new StringBuilder(), null);
+  }
+
+  @Test
+  public void should_Print_All_Components_As_Plain_Text() throws IOException {
+    StringBuilder printed = new StringBuilder();
+    printer.printComponents(printed, PrintFormat.PLAIN_TEXT);
+    assertThat(printed.toString()).contains(formatted(windowOne), formatted(windowOne.button), formatted(windowTwo),
+                                            formatted(windowTwo.button));
+  }
+
+  @Test
+  public void should_Print_Matching_Components_In_Root_As_Json() throws IOException {
+    StringBuilder printed = new StringBuilder();
+    printer.printComponents(printed, PrintFormat.JSON, new TypeMatcher(JButton.class), windowOne);
+    assertThat(printed.toString()).startsWith("[")
+                                  .contains("\"type\": \"javax.swing.JButton\"", "\"name\": \"button1\"")
+                                  .doesNotContain("\"name\": \"button2\"", "\"type\": \"" + MyWindow.class.getName())
+                                  .endsWith("]" + System.lineSeparator());
+  }
+
+  @Test
+  public void should_Print_Empty_Json_Array_If_No_Component_Matches() throws IOException {
+    StringBuilder printed = new StringBuilder();
+    printer.printComponents(printed, PrintFormat.JSON, c -> false, null);
+    assertThat(printed.toString()).isEqualTo("[]" + System.lineSeparator());
+  }
+
+  private static String formatted(Component c) {
+    return execute(() -> format(c));
+  }
+}
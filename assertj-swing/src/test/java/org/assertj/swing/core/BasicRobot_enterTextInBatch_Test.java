@@ -0,0 +1,97 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static java.awt.event.KeyEvent.VK_E;
+import static java.awt.event.KeyEvent.VK_H;
+import static java.awt.event.KeyEvent.VK_L;
+import static java.awt.event.KeyEvent.VK_O;
+import static java.awt.event.KeyEvent.VK_SHIFT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.util.List;
+
+import javax.swing.JTextArea;
+
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.test.core.RobotBasedTestCase;
+import org.assertj.swing.test.swing.TestWindow;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BasicRobot#enterText(String)} when {@link Settings#batchedTextEntry()} is enabled.
+ */
+public class BasicRobot_enterTextInBatch_Test extends RobotBasedTestCase {
+  private JTextArea textArea;
+
+  @Override
+  protected void onSetUp() {
+    robot.settings().batchedTextEntry(true);
+    MyWindow window = MyWindow.createNew();
+    textArea = window.textArea;
+    robot.showWindow(window);
+    robot.focusAndWaitForFocusGain(textArea);
+  }
+
+  @Test
+  public void should_Enter_Text() {
+    String text = "{\"name\": \"Hello World\", \"values\": [1, 2, 3]}";
+    robot.enterText(text);
+    assertThat(textOfTextArea()).isEqualTo(text);
+  }
+
+  @Test
+  public void should_Raise_KeyReleased_Events_In_Order() {
+    KeyReleaseListener keyReleaseListener = new KeyReleaseListener();
+    textArea.addKeyListener(keyReleaseListener);
+    robot.enterText("Hello");
+    assertThat(textOfTextArea()).isEqualTo("Hello");
+    assertThat(keyReleaseListener.released()).containsExactly(VK_H, VK_SHIFT, VK_E, VK_L, VK_L, VK_O);
+  }
+
+  @RunsInEDT
+  private String textOfTextArea() {
+    return execute(() -> textArea.getText());
+  }
+
+  private static class KeyReleaseListener extends KeyAdapter {
+    private final List<Integer> keyCodes = newArrayList();
+
+    @Override
+    public void keyReleased(KeyEvent e) {
+      keyCodes.add(e.getKeyCode());
+    }
+
+    Integer[] released() {
+      return keyCodes.toArray(new Integer[keyCodes.size()]);
+    }
+  }
+
+  private static class MyWindow extends TestWindow {
+    @RunsInEDT
+    static MyWindow createNew() {
+      return execute(() -> new MyWindow());
+    }
+
+    final JTextArea textArea = new JTextArea(5, 20);
+
+    private MyWindow() {
+      super(BasicRobot_enterTextInBatch_Test.class);
+      addComponents(textArea);
+    }
+  }
+}
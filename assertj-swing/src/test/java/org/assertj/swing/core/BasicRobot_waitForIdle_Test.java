@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static javax.swing.SwingUtilities.invokeLater;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.core.TimingProfile.FAST;
+import static org.assertj.swing.timing.Pause.pause;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.swing.test.core.EDTSafeTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BasicRobot#waitForIdle()}.
+ */
+public class BasicRobot_waitForIdle_Test extends EDTSafeTestCase {
+  private static final int EVENT_COUNT = 40;
+
+  private BasicRobot robot;
+
+  @Before
+  public void setUp() {
+    robot = (BasicRobot) BasicRobot.robotWithNewAwtHierarchyWithoutScreenLock();
+    robot.settings().timingProfile(FAST);
+    robot.settings().idleTimeout(500);
+  }
+
+  @After
+  public void tearDown() {
+    robot.cleanUp();
+  }
+
+  @Test
+  public void should_Wait_For_Events_Of_Top_Queue_After_Idle_Detector_Times_Out() {
+    AtomicInteger dispatched = new AtomicInteger();
+    // keeps the queue busy for about 800 ms: longer than the idle detector waits, but shorter than the fallback can
+    // wait after it.
+    invokeLater(new Runnable() {
+      @Override
+      public void run() {
+        pause(20);
+        if (dispatched.incrementAndGet() < EVENT_COUNT) {
+          invokeLater(this);
+        }
+      }
+    });
+    robot.waitForIdle();
+    assertThat(dispatched.get()).isEqualTo(EVENT_COUNT);
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import java.awt.Component;
+import java.beans.PropertyChangeListener;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+
+import javax.swing.JButton;
+import javax.swing.JFrame;
+import javax.swing.JPanel;
+import javax.swing.JTextField;
+
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.hierarchy.ComponentHierarchy;
+import org.assertj.swing.hierarchy.NewHierarchy;
+import org.assertj.swing.hierarchy.SingleComponentHierarchy;
+import org.assertj.swing.test.core.SequentialEDTSafeTestCase;
+import org.assertj.swing.test.swing.TestWindow;
+import org.assertj.swing.util.ToolkitProvider;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ComponentIndex#find(ComponentHierarchy, NameMatcher)} and
+ * {@link ComponentIndex#find(ComponentHierarchy, TypeMatcher)}.
+ */
+public class ComponentIndex_find_Test extends SequentialEDTSafeTestCase {
+  private ComponentHierarchy hierarchy;
+  private MyWindow window;
+  private ComponentIndex index;
+
+  @Override
+  protected final void onSetUp() {
+    hierarchy = NewHierarchy.ignoreExistingComponents();
+    window = MyWindow.createNew();
+    index = new ComponentIndex(ToolkitProvider.instance().defaultToolkit());
+  }
+
+  @Override
+  protected final void onTearDown() {
+    window.destroy();
+  }
+
+  @Test
+  public void should_Find_Components_By_Name() {
+    Collection<Component> found = index.find(hierarchy, new NameMatcher("textBox"));
+    assertThat(found).containsOnly(window.textField);
+  }
+
+  @Test
+  public void should_Find_Components_By_Type() {
+    Collection<Component> found = index.find(hierarchy, new TypeMatcher(JTextField.class));
+    assertThat(found).containsOnly(window.textField, window.otherTextField);
+  }
+
+  @Test
+  public void should_Find_Components_By_Type_In_Traversal_Order() {
+    Collection<Component> found = index.find(hierarchy, new TypeMatcher(JTextField.class));
+    Collection<Component> expected = new FinderDelegate().find(hierarchy, new TypeMatcher(JTextField.class));
+    assertThat(found).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  public void should_Find_Components_In_Root() {
+    SingleComponentHierarchy h = new SingleComponentHierarchy(window, hierarchy);
+    Collection<Component> found = index.find(h, new NameMatcher("textBox"));
+    assertThat(found).containsOnly(window.textField);
+  }
+
+  @Test
+  public void should_Find_Renamed_Component() {
+    assertThat(index.find(hierarchy, new NameMatcher("textBox"))).containsOnly(window.textField);
+    execute(() -> window.textField.setName("renamed"));
+    assertThat(index.find(hierarchy, new NameMatcher("textBox"))).isEmpty();
+    assertThat(index.find(hierarchy, new NameMatcher("renamed"))).containsOnly(window.textField);
+  }
+
+  @Test
+  public void should_Find_Added_Component() {
+    assertThat(index.find(hierarchy, new TypeMatcher(JButton.class))).isEmpty();
+    JButton button = execute(() -> {
+      JButton b = new JButton();
+      window.add(b);
+      return b;
+    });
+    assertThat(index.find(hierarchy, new TypeMatcher(JButton.class))).containsOnly(button);
+  }
+
+  @Test
+  public void should_Find_Components_In_Traversal_Order_After_Adding_Component() {
+    index.find(hierarchy, new TypeMatcher(JTextField.class));
+    execute(() -> window.getContentPane().add(new JTextField(), 0));
+    Collection<Component> found = index.find(hierarchy, new TypeMatcher(JTextField.class));
+    Collection<Component> expected = new FinderDelegate().find(hierarchy, new TypeMatcher(JTextField.class));
+    assertThat(found).hasSize(3).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  public void should_Find_Window_Created_But_Not_Shown() {
+    index.find(hierarchy, new NameMatcher("textBox"));
+    JFrame frame = execute(() -> {
+      JFrame f = new JFrame();
+      f.setName("notShown");
+      return f;
+    });
+    try {
+      assertThat(index.find(hierarchy, new NameMatcher("notShown"))).containsOnly(frame);
+    } finally {
+      execute(() -> frame.dispose());
+    }
+  }
+
+  @Test
+  public void should_Stop_Listening_To_Name_Of_Removed_Component() {
+    int listenerCount = nameListenerCountOf(window.textField);
+    index.find(hierarchy, new NameMatcher("textBox"));
+    assertThat(nameListenerCountOf(window.textField)).isEqualTo(listenerCount + 1);
+    execute(() -> window.textField.getParent().remove(window.textField));
+    assertThat(index.find(hierarchy, new NameMatcher("textBox"))).isEmpty();
+    assertThat(nameListenerCountOf(window.textField)).isEqualTo(listenerCount);
+  }
+
+  @Test
+  public void should_Stop_Listening_To_Names_After_Clean_Up() {
+    int listenerCount = nameListenerCountOf(window.textField);
+    index.find(hierarchy, new NameMatcher("textBox"));
+    index.cleanUp();
+    assertThat(nameListenerCountOf(window.textField)).isEqualTo(listenerCount);
+    assertThat(index.find(hierarchy, new NameMatcher("textBox"))).containsOnly(window.textField);
+  }
+
+  @Test
+  public void should_Not_Keep_Indexed_Container_Alive() throws InterruptedException {
+    WeakReference<JPanel> panel = indexedPanel();
+    for (int i = 0; i < 20 && panel.get() != null; i++) {
+      System.gc();
+      Thread.sleep(50);
+    }
+    assertThat(panel.get()).isNull();
+  }
+
+  @RunsInEDT
+  private WeakReference<JPanel> indexedPanel() {
+    JPanel panel = execute(() -> {
+      JPanel p = new JPanel();
+      JButton button = new JButton();
+      button.setName("button");
+      p.add(button);
+      return p;
+    });
+    assertThat(index.find(new SingleComponentHierarchy(panel, hierarchy), new NameMatcher("button"))).hasSize(1);
+    return new WeakReference<>(panel);
+  }
+
+  @RunsInEDT
+  private static int nameListenerCountOf(final Component c) {
+    PropertyChangeListener[] listeners = execute(() -> c.getPropertyChangeListeners("name"));
+    return listeners.length;
+  }
+
+  private static class MyWindow extends TestWindow {
+    final JTextField textField = new JTextField(10);
+    final JTextField otherTextField = new JTextField(5);
+
+    @RunsInEDT
+    static MyWindow createNew() {
+      return execute(() -> new MyWindow());
+    }
+
+    private MyWindow() {
+      super(ComponentIndex_find_Test.class);
+      addComponents(textField, otherTextField);
+      textField.setName("textBox");
+    }
+  }
+}
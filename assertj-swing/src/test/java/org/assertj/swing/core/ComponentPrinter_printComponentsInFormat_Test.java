@@ -0,0 +1,65 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.test.ExpectedException.none;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.io.PrintStream;
+
+import org.assertj.swing.test.ExpectedException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for the default implementations of {@link ComponentPrinter#printComponents(Appendable, PrintFormat)} and
+ * {@link ComponentPrinter#printComponents(Appendable, PrintFormat, ComponentMatcher, java.awt.Container)}.
+ */
+public class ComponentPrinter_printComponentsInFormat_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  private ComponentPrinter printer;
+  private ComponentMatcher matcher;
+
+  @Before
+  public void setUp() {
+    printer = mock(ComponentPrinter.class, CALLS_REAL_METHODS);
+    matcher = c -> true;
+    doAnswer(invocation -> {
+      invocation.<PrintStream> getArgument(0).println("printed");
+      return null;
+    }).when(printer).printComponents(any(PrintStream.class), same(matcher), isNull());
+  }
+
+  @Test
+  public void should_Print_As_Plain_Text_Using_PrintStream() throws IOException {
+    StringBuilder printed = new StringBuilder();
+    printer.printComponents(printed, PrintFormat.PLAIN_TEXT, matcher, null);
+    assertThat(printed.toString()).isEqualTo("printed" + System.lineSeparator());
+  }
+
+  @Test
+  public void should_Throw_Error_If_Format_Is_Not_Supported() throws IOException {
+    thrown.expect(UnsupportedOperationException.class);
+    printer.printComponents(new StringBuilder(), PrintFormat.JSON);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.core.HierarchyDump.UNLIMITED;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.format.Formatting.format;
+
+import java.awt.Component;
+
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JTextField;
+
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.hierarchy.ComponentHierarchy;
+import org.assertj.swing.hierarchy.NewHierarchy;
+import org.assertj.swing.hierarchy.SingleComponentHierarchy;
+import org.assertj.swing.test.core.SequentialEDTSafeTestCase;
+import org.assertj.swing.test.swing.TestWindow;
+import org.junit.Test;
+
+/**
+ * Tests for {@link HierarchyDump#print()} and {@link HierarchyDump#printAroundClosestMatch(ComponentMatcher)}.
+ */
+public class HierarchyDump_print_Test extends SequentialEDTSafeTestCase {
+  private ComponentHierarchy hierarchy;
+  private MyWindow window;
+
+  @Override
+  protected final void onSetUp() {
+    ComponentHierarchy newHierarchy = NewHierarchy.ignoreExistingComponents();
+    window = MyWindow.createNew();
+    hierarchy = new SingleComponentHierarchy(window.panel, newHierarchy);
+  }
+
+  @Override
+  protected final void onTearDown() {
+    window.destroy();
+  }
+
+  @Test
+  public void should_Print_Whole_Hierarchy() {
+    String printed = new HierarchyDump(hierarchy, UNLIMITED, UNLIMITED).print();
+    assertThat(printed).contains(formatted(window.panel), formatted(window.button), formatted(window.textField),
+                                 formatted(window.nested), formatted(window.label));
+  }
+
+  @Test
+  public void should_Leave_Out_Components_Deeper_Than_Max_Depth() {
+    String printed = new HierarchyDump(hierarchy, 1, UNLIMITED).print();
+    assertThat(printed).contains(formatted(window.nested), "... (1 more component(s) nested in here)")
+                       .doesNotContain(formatted(window.label));
+  }
+
+  @Test
+  public void should_Leave_Out_Components_After_Max_Count() {
+    String printed = new HierarchyDump(hierarchy, UNLIMITED, 2).print();
+    assertThat(printed).contains(formatted(window.panel), formatted(window.button),
+                                 "... (only the first 2 components are shown)")
+                       .doesNotContain(formatted(window.textField));
+  }
+
+  @Test
+  public void should_Print_Subtree_Around_Closest_Match() {
+    String printed = new HierarchyDump(hierarchy, UNLIMITED, UNLIMITED)
+        .printAroundClosestMatch(new NameMatcher("label", JButton.class));
+    assertThat(printed).contains(formatted(window.panel), formatted(window.nested),
+                                 formatted(window.label) + "  <-- closest match")
+                       .doesNotContain(formatted(window.button));
+  }
+
+  @Test
+  public void should_Print_Whole_Hierarchy_If_Nothing_Comes_Close() {
+    String printed = new HierarchyDump(hierarchy, UNLIMITED, UNLIMITED)
+        .printAroundClosestMatch(new NameMatcher("unknown"));
+    assertThat(printed).contains(formatted(window.button), formatted(window.label))
+                       .doesNotContain("<-- closest match");
+  }
+
+  @RunsInEDT
+  private static String formatted(Component c) {
+    return execute(() -> format(c));
+  }
+
+  private static class MyWindow extends TestWindow {
+    final JPanel panel = new JPanel();
+    final JButton button = new JButton("A Button");
+    final JTextField textField = new JTextField(10);
+    final JPanel nested = new JPanel();
+    final JLabel label = new JLabel("A Label");
+
+    @RunsInEDT
+    static MyWindow createNew() {
+      return execute(() -> new MyWindow());
+    }
+
+    private MyWindow() {
+      super(HierarchyDump_print_Test.class);
+      nested.add(label);
+      panel.add(button);
+      panel.add(textField);
+      panel.add(nested);
+      addComponents(panel);
+      button.setName("button");
+      label.setName("label");
+    }
+  }
+}
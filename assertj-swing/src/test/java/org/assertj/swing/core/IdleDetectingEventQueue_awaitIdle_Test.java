@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static javax.swing.SwingUtilities.invokeLater;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.timing.Pause.pause;
+
+import java.awt.Toolkit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link IdleDetectingEventQueue#awaitIdle(long)}.
+ */
+public class IdleDetectingEventQueue_awaitIdle_Test {
+  private IdleDetectingEventQueue queue;
+
+  @Before
+  public void setUp() {
+    queue = IdleDetectingEventQueue.install(Toolkit.getDefaultToolkit());
+  }
+
+  @After
+  public void tearDown() {
+    queue.uninstall();
+  }
+
+  @Test
+  public void should_Be_Current_System_EventQueue_After_Installation() {
+    assertThat(queue).isNotNull();
+    assertThat(queue.isCurrentSystemEventQueue()).isTrue();
+  }
+
+  @Test
+  public void should_Wait_Until_All_Pending_Events_Are_Dispatched() {
+    AtomicInteger dispatched = new AtomicInteger();
+    for (int i = 0; i < 5; i++) {
+      invokeLater(() -> {
+        pause(50);
+        dispatched.incrementAndGet();
+      });
+    }
+    assertThat(queue.awaitIdle(10000)).isTrue();
+    assertThat(dispatched.get()).isEqualTo(5);
+  }
+
+  @Test
+  public void should_Wait_For_Events_Posted_While_Dispatching() {
+    AtomicInteger dispatched = new AtomicInteger();
+    invokeLater(() -> {
+      pause(50);
+      invokeLater(() -> {
+        pause(50);
+        dispatched.incrementAndGet();
+      });
+    });
+    assertThat(queue.awaitIdle(10000)).isTrue();
+    assertThat(dispatched.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_Return_False_If_Queue_Does_Not_Become_Idle_Before_Timeout() {
+    invokeLater(() -> pause(2000));
+    assertThat(queue.awaitIdle(100)).isFalse();
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.event.InvocationEvent;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link IdleDetectingEventQueue#uninstall()}.
+ */
+public class IdleDetectingEventQueue_uninstall_Test {
+  private Toolkit toolkit;
+  private EventQueue systemEventQueue;
+  private IdleDetectingEventQueue queue;
+
+  @Before
+  public void setUp() {
+    toolkit = Toolkit.getDefaultToolkit();
+    systemEventQueue = toolkit.getSystemEventQueue();
+    queue = IdleDetectingEventQueue.install(toolkit);
+  }
+
+  @Test
+  public void should_Dispatch_Events_Of_Queue_It_Was_Pushed_On() {
+    assertThat(queue.dispatchesEventsOf(queue)).isTrue();
+    assertThat(queue.dispatchesEventsOf(systemEventQueue)).isTrue();
+    assertThat(queue.dispatchesEventsOf(new EventQueue())).isFalse();
+    queue.uninstall();
+  }
+
+  @Test
+  public void should_Restore_Previous_System_EventQueue() {
+    assertThat(queue.uninstall()).isTrue();
+    assertThat(queue.isCurrentSystemEventQueue()).isFalse();
+    assertThat(toolkit.getSystemEventQueue()).isSameAs(systemEventQueue);
+  }
+
+  @Test
+  public void should_Forward_Events_Posted_After_Uninstalling_To_Previous_System_EventQueue() throws Exception {
+    queue.uninstall();
+    CountDownLatch dispatched = new CountDownLatch(1);
+    AtomicBoolean inEDT = new AtomicBoolean();
+    queue.postEvent(new InvocationEvent(toolkit, () -> {
+      inEDT.set(EventQueue.isDispatchThread());
+      dispatched.countDown();
+    }));
+    assertThat(dispatched.await(10, SECONDS)).isTrue();
+    assertThat(inEDT.get()).isTrue();
+  }
+
+  @Test
+  public void should_Not_Uninstall_If_Another_Queue_Was_Pushed_On_Top() {
+    IdleDetectingEventQueue other = IdleDetectingEventQueue.install(toolkit);
+    try {
+      assertThat(queue.uninstall()).isFalse();
+    } finally {
+      other.uninstall();
+      queue.uninstall();
+    }
+  }
+}
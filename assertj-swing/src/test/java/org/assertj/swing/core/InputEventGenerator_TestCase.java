@@ -19,12 +19,15 @@ import static org.assertj.swing.timing.Pause.pause;
 
 import java.awt.Component;
 import java.awt.Point;
+import java.awt.Toolkit;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseMotionAdapter;
 
 import javax.swing.JTextField;
 
 import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.input.InputState;
+import org.assertj.swing.monitor.WindowMonitor;
 import org.assertj.swing.test.core.SequentialEDTSafeTestCase;
 import org.assertj.swing.test.swing.TestWindow;
 import org.junit.Ignore;
@@ -56,6 +59,13 @@ public abstract class InputEventGenerator_TestCase extends SequentialEDTSafeTest
 
   abstract InputEventGenerator eventGenerator();
 
+  static DirectEventGenerator newDirectEventGenerator() {
+    Toolkit toolkit = Toolkit.getDefaultToolkit();
+    InputState inputState = new InputState(toolkit);
+    return new DirectEventGenerator(new AWTEventPoster(toolkit, inputState, WindowMonitor.instance(), new Settings()),
+                                    toolkit);
+  }
+
   @Override
   protected final void onTearDown() {
     window.destroy();
@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.core.TimingProfile.COMPARE;
+import static org.assertj.swing.core.TimingProfile.FAST;
+import static org.assertj.swing.core.TimingProfile.SAFE;
+
+import java.awt.Robot;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Settings#timingProfile(TimingProfile)} and {@link Settings#timingProfile()}.
+ */
+public class Settings_timingProfile_Test {
+  private Settings settings;
+  private java.awt.Robot robot;
+
+  @Before
+  public void setUp() throws Exception {
+    settings = new Settings();
+    robot = new Robot();
+    settings.attachTo(robot);
+    settings.delayBetweenEvents(80);
+  }
+
+  @Test
+  public void should_Use_Safe_Profile_By_Default() {
+    assertThat(settings.timingProfile()).isEqualTo(SAFE);
+    assertThat(robot.getAutoDelay()).isEqualTo(80);
+  }
+
+  @Test
+  public void should_Remove_Auto_Delay_Of_Robot_When_Profile_Skips_Fixed_Delays() {
+    settings.timingProfile(FAST);
+    assertThat(settings.timingProfile()).isEqualTo(FAST);
+    assertThat(robot.getAutoDelay()).isEqualTo(0);
+    assertThat(settings.delayBetweenEvents()).isEqualTo(80);
+  }
+
+  @Test
+  public void should_Keep_Auto_Delay_Of_Robot_Removed_When_Delay_Between_Events_Changes() {
+    settings.timingProfile(COMPARE);
+    settings.delayBetweenEvents(120);
+    assertThat(robot.getAutoDelay()).isEqualTo(0);
+    assertThat(settings.delayBetweenEvents()).isEqualTo(120);
+  }
+
+  @Test
+  public void should_Restore_Auto_Delay_Of_Robot_When_Going_Back_To_Safe_Profile() {
+    settings.timingProfile(FAST);
+    settings.timingProfile(SAFE);
+    assertThat(robot.getAutoDelay()).isEqualTo(80);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_Throw_Error_If_Profile_Is_Null() {
+    settings.timingProfile(null);
+  }
+}
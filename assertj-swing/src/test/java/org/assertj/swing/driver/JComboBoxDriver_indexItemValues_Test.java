@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import javax.swing.DefaultComboBoxModel;
+
+import org.assertj.swing.exception.LocationUnavailableException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JComboBoxDriver#indexItemValues(boolean)}.
+ */
+public class JComboBoxDriver_indexItemValues_Test extends JComboBoxDriver_TestCase {
+  @Test
+  public void should_Select_Item_Using_Index() {
+    driver.indexItemValues(true);
+    clearSelection();
+    showWindow();
+    driver.selectItem(comboBox, "third");
+    assertThatSelectedItemIs("third");
+    driver.selectItem(comboBox, "first");
+    assertThatSelectedItemIs("first");
+  }
+
+  @Test
+  public void should_Select_Item_Added_After_Index_Was_Built() {
+    driver.indexItemValues(true);
+    showWindow();
+    driver.selectItem(comboBox, "second");
+    execute(() -> ((DefaultComboBoxModel) comboBox.getModel()).insertElementAt("fourth", 0));
+    robot.waitForIdle();
+    driver.selectItem(comboBox, "fourth");
+    assertThatSelectedItemIs("fourth");
+  }
+
+  @Test
+  public void should_Throw_Error_If_Value_Is_Not_In_Index() {
+    driver.indexItemValues(true);
+    showWindow();
+    thrown.expect(LocationUnavailableException.class, "Unable to find item matching value");
+    driver.selectItem(comboBox, "fifth");
+  }
+}
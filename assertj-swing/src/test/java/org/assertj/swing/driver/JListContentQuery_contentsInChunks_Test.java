@@ -0,0 +1,67 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static javax.swing.SwingUtilities.invokeLater;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import javax.swing.DefaultListModel;
+import javax.swing.JList;
+
+import org.assertj.swing.cell.JListCellReader;
+import org.assertj.swing.test.core.RobotBasedTestCase;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JListContentQuery#contents(JList, JListCellReader, int)}.
+ */
+public class JListContentQuery_contentsInChunks_Test extends RobotBasedTestCase {
+  private DefaultListModel<String> model;
+  private JList<String> list;
+
+  @Override
+  protected void onSetUp() {
+    list = execute(() -> {
+      model = new DefaultListModel<>();
+      for (int i = 0; i < 10; i++) {
+        model.addElement("Item " + i);
+      }
+      return new JList<>(model);
+    });
+  }
+
+  @Test
+  public void should_Return_Contents_Of_JList_Read_In_Chunks() {
+    String[] contents = JListContentQuery.contents(list, new BasicJListCellReader(), 3);
+    assertThat(contents).hasSize(10).startsWith("Item 0").endsWith("Item 9");
+  }
+
+  @Test
+  public void should_Read_Contents_Again_If_Model_Changes_Between_Chunks() {
+    JListCellReader cellReader = new BasicJListCellReader() {
+      private boolean changed;
+
+      @Override
+      public String valueAt(JList list, int index) {
+        if (index == 5 && !changed) {
+          changed = true;
+          invokeLater(() -> model.addElement("Item 10"));
+        }
+        return super.valueAt(list, index);
+      }
+    };
+    String[] contents = JListContentQuery.contents(list, cellReader, 3);
+    assertThat(contents).hasSize(11).endsWith("Item 10");
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import javax.swing.DefaultListModel;
+
+import org.assertj.swing.exception.LocationUnavailableException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JListDriver#indexItemValues(boolean)}.
+ */
+public class JListDriver_indexItemValues_Test extends JListDriver_TestCase {
+  @Override
+  void extraSetUp() {
+    driver.indexItemValues(true);
+  }
+
+  @Test
+  public void should_Find_Items_Using_Index() {
+    assertThat(driver.indexOf(list, "three")).isEqualTo(2);
+    assertThat(driver.indexOf(list, "one")).isEqualTo(0);
+    assertThatCellReaderWasCalled();
+  }
+
+  @Test
+  public void should_Still_Match_Regular_Expressions() {
+    assertThat(driver.indexOf(list, "t.*")).isEqualTo(1);
+  }
+
+  @Test
+  public void should_Find_Items_Added_After_Index_Was_Built() {
+    driver.indexOf(list, "one");
+    execute(() -> ((DefaultListModel) list.getModel()).add(0, "zero"));
+    robot.waitForIdle();
+    assertThat(driver.indexOf(list, "zero")).isEqualTo(0);
+    assertThat(driver.indexOf(list, "three")).isEqualTo(3);
+  }
+
+  @Test
+  public void should_Find_First_Item_After_Duplicate_Was_Set_Before_Indexed_One() {
+    assertThat(driver.indexOf(list, "three")).isEqualTo(2);
+    // the indexed item still has the text, so only the model listener can tell the index is out of date.
+    execute(() -> ((DefaultListModel) list.getModel()).set(0, "three"));
+    robot.waitForIdle();
+    assertThat(driver.indexOf(list, "three")).isEqualTo(0);
+  }
+
+  @Test
+  public void should_Select_Item_Using_Index() {
+    showWindow();
+    driver.selectItem(list, "two");
+    assertThat(selectedValue()).isEqualTo("two");
+  }
+
+  @Test
+  public void should_Throw_Error_If_Value_Is_Not_In_Index() {
+    thrown.expect(LocationUnavailableException.class,
+        "Unable to find item matching the value 'four' among the JList contents [\"one\", \"two\", \"three\"]");
+    driver.indexOf(list, "four");
+  }
+}
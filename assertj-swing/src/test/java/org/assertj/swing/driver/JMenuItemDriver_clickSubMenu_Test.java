@@ -0,0 +1,103 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.test.util.StopWatch.startNewStopWatch;
+
+import java.awt.Dimension;
+
+import javax.swing.JMenu;
+import javax.swing.JMenuBar;
+import javax.swing.JMenuItem;
+
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.exception.ActionFailedException;
+import org.assertj.swing.test.ExpectedException;
+import org.assertj.swing.test.core.RobotBasedTestCase;
+import org.assertj.swing.test.recorder.ClickRecorder;
+import org.assertj.swing.test.recorder.ClickRecorderManager;
+import org.assertj.swing.test.swing.TestWindow;
+import org.assertj.swing.test.util.StopWatch;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JMenuItemDriver#click(JMenuItem)} on items in sub-menus.
+ */
+public class JMenuItemDriver_clickSubMenu_Test extends RobotBasedTestCase {
+  @Rule
+  public ClickRecorderManager clickRecorder = new ClickRecorderManager();
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  private MyWindow window;
+  private JMenuItemDriver driver;
+
+  @Override
+  protected void onSetUp() {
+    driver = new JMenuItemDriver(robot);
+    window = MyWindow.createNew();
+    robot.showWindow(window);
+  }
+
+  @Test
+  public void should_Click_Menu_Item_In_Sub_Menu() {
+    ClickRecorder recorder = clickRecorder.attachDirectlyTo(window.menuItemInSubMenu);
+    driver.click(window.menuItemInSubMenu);
+    recorder.wasClicked();
+  }
+
+  @Test
+  public void should_Fail_Before_Pop_Up_Timeout_If_Sub_Menu_Never_Opens() {
+    robot.settings().timeoutToFindPopup(10000);
+    StopWatch stopWatch = startNewStopWatch();
+    try {
+      thrown.expect(ActionFailedException.class);
+      thrown.expectMessageToContain("never showed a pop-up menu", "was never notified");
+      driver.click(window.subMenuThatNeverOpens);
+    } finally {
+      stopWatch.stop();
+      assertThat(stopWatch.ellapsedTime()).isLessThan(5000);
+    }
+  }
+
+  private static class MyWindow extends TestWindow {
+    final JMenu menuFile = new JMenu("File");
+    final JMenu subMenu = new JMenu("Recent");
+    final JMenuItem menuItemInSubMenu = new JMenuItem("Project");
+    final JMenu subMenuThatNeverOpens = new JMenu("Never") {
+      @Override
+      public void setPopupMenuVisible(boolean b) {
+      }
+    };
+
+    @RunsInEDT
+    static MyWindow createNew() {
+      return execute(() -> new MyWindow());
+    }
+
+    private MyWindow() {
+      super(JMenuItemDriver_clickSubMenu_Test.class);
+      setJMenuBar(new JMenuBar());
+      subMenu.add(menuItemInSubMenu);
+      subMenuThatNeverOpens.add(new JMenuItem("Nothing"));
+      menuFile.add(subMenu);
+      menuFile.add(subMenuThatNeverOpens);
+      getJMenuBar().add(menuFile);
+      setPreferredSize(new Dimension(80, 60));
+    }
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.swing.data.TableCell;
+import org.assertj.swing.exception.ActionFailedException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JTableDriver#cellInColumns(javax.swing.JTable, String, int...)}.
+ */
+public class JTableDriver_cellInColumns_Test extends JTableDriver_TestCase {
+  @Test
+  public void should_Find_First_Matching_Cell_In_Given_Columns() {
+    TableCell cell = driver.cellInColumns(table, "2-.*", 3, 4);
+    assertThat(cell.row).isEqualTo(2);
+    assertThat(cell.column).isEqualTo(3);
+    assertThatCellReaderWasCalled();
+  }
+
+  @Test
+  public void should_Search_All_Columns_If_No_Column_Is_Given() {
+    TableCell cell = driver.cellInColumns(table, "5-1");
+    assertThat(cell.row).isEqualTo(5);
+    assertThat(cell.column).isEqualTo(1);
+  }
+
+  @Test
+  public void should_Throw_Error_If_Matching_Cell_Is_Only_In_Other_Columns() {
+    thrown.expect(ActionFailedException.class, "Unable to find cell matching value '2-0'");
+    driver.cellInColumns(table, "2-0", 1, 2);
+  }
+
+  @Test
+  public void should_Throw_Error_If_Column_Index_Is_Out_Of_Bounds() {
+    thrown.expect(IndexOutOfBoundsException.class);
+    driver.cellInColumns(table, "2-0", 6);
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.regex.Pattern;
+
+import org.assertj.swing.data.TableCell;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JTableDriver#cellWithModelValue(javax.swing.JTable, String, int...)} and
+ * {@link JTableDriver#cellWithModelValue(javax.swing.JTable, Pattern, int...)}.
+ */
+public class JTableDriver_cellWithModelValue_Test extends JTableDriver_TestCase {
+  @Test
+  public void should_Find_Cell_By_Model_Value_Without_Using_Cell_Reader() {
+    driver.replaceCellReader(new BasicJTableCellReader(rendererComponent -> "rendered"));
+    TableCell cell = driver.cellWithModelValue(table, "4-5");
+    assertThat(cell.row).isEqualTo(4);
+    assertThat(cell.column).isEqualTo(5);
+  }
+
+  @Test
+  public void should_Find_Cell_By_Model_Value_Matching_Pattern_In_Given_Columns() {
+    TableCell cell = driver.cellWithModelValue(table, Pattern.compile("[3-9]-2"), 2);
+    assertThat(cell.row).isEqualTo(3);
+    assertThat(cell.column).isEqualTo(2);
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.test.swing.TestTable.createCellValueFrom;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link JTableDriver#contents(javax.swing.JTable, int, int, int, int)}.
+ */
+public class JTableDriver_contentsInRange_Test extends JTableDriver_TestCase {
+  @Test
+  public void should_Return_Values_Of_Cells_In_Range() {
+    String[][] contents = driver.contents(table, 2, 4, 1, 2);
+    assertThat(contents).isEqualTo(new String[][] {
+        { createCellValueFrom(2, 1), createCellValueFrom(2, 2) },
+        { createCellValueFrom(3, 1), createCellValueFrom(3, 2) },
+        { createCellValueFrom(4, 1), createCellValueFrom(4, 2) } });
+    assertThatCellReaderWasCalled();
+  }
+
+  @Test
+  public void should_Throw_Error_If_Row_Is_Out_Of_Bounds() {
+    thrown.expectIndexOutOfBoundsException("row <10> should be between <0> and <9>");
+    driver.contents(table, 0, 10, 0, 1);
+  }
+
+  @Test
+  public void should_Throw_Error_If_First_Column_Is_Greater_Than_Last_Column() {
+    thrown.expectIllegalArgumentException("The first column <2> should not be greater than the last column <1>");
+    driver.contents(table, 0, 1, 2, 1);
+  }
+}
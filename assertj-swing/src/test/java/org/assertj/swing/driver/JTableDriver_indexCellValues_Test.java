@@ -0,0 +1,114 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import java.util.List;
+
+import javax.swing.table.DefaultTableModel;
+
+import org.assertj.swing.data.TableCell;
+import org.assertj.swing.exception.ActionFailedException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JTableDriver#indexCellValues(boolean)}.
+ */
+public class JTableDriver_indexCellValues_Test extends JTableDriver_TestCase {
+  @Override
+  void extraSetUp() {
+    driver.indexCellValues(true);
+  }
+
+  @Test
+  public void should_Find_Cells_Using_Index() {
+    TableCell cell = driver.cell(table, "3-2");
+    assertThat(cell.row).isEqualTo(3);
+    assertThat(cell.column).isEqualTo(2);
+    cell = driver.cell(table, "7-4");
+    assertThat(cell.row).isEqualTo(7);
+    assertThat(cell.column).isEqualTo(4);
+  }
+
+  @Test
+  public void should_Still_Match_Regular_Expressions() {
+    TableCell cell = driver.cell(table, "1.*");
+    assertThat(cell.row).isEqualTo(1);
+    assertThat(cell.column).isEqualTo(0);
+  }
+
+  @Test
+  public void should_Find_Cells_With_Values_Changed_After_Index_Was_Built() {
+    driver.cell(table, "3-2");
+    execute(() -> table.setValueAt("Changed", 8, 1));
+    robot.waitForIdle();
+    TableCell cell = driver.cell(table, "Changed");
+    assertThat(cell.row).isEqualTo(8);
+    assertThat(cell.column).isEqualTo(1);
+  }
+
+  @Test
+  public void should_Find_First_Cell_After_Duplicate_Was_Set_Before_Indexed_One() {
+    driver.cell(table, "3-2");
+    // the indexed cell still has the value, so only the model listener can tell the index is out of date.
+    execute(() -> table.setValueAt("3-2", 0, 0));
+    robot.waitForIdle();
+    TableCell cell = driver.cell(table, "3-2");
+    assertThat(cell.row).isEqualTo(0);
+    assertThat(cell.column).isEqualTo(0);
+  }
+
+  @Test
+  public void should_Find_Cell_Changed_Without_Notifying_Model_Listeners() {
+    driver.cell(table, "3-2");
+    execute(() -> {
+      List<?> data = ((DefaultTableModel) table.getModel()).getDataVector();
+      setSilently(data, 3, 2, "Changed");
+      setSilently(data, 5, 1, "3-2");
+    });
+    TableCell cell = driver.cell(table, "3-2");
+    assertThat(cell.row).isEqualTo(5);
+    assertThat(cell.column).isEqualTo(1);
+  }
+
+  @Test
+  public void should_Find_Cells_Using_Index_Built_In_Chunks() {
+    robot.settings().queryChunkSize(2);
+    TableCell cell = driver.cell(table, "7-4");
+    assertThat(cell.row).isEqualTo(7);
+    assertThat(cell.column).isEqualTo(4);
+    cell = driver.cell(table, "3-2");
+    assertThat(cell.row).isEqualTo(3);
+    assertThat(cell.column).isEqualTo(2);
+  }
+
+  @Test
+  public void should_Find_Cells_By_Model_Value_In_Given_Columns_Using_Index() {
+    TableCell cell = driver.cellWithModelValue(table, "6-3", 3);
+    assertThat(cell.row).isEqualTo(6);
+    assertThat(cell.column).isEqualTo(3);
+  }
+
+  @Test
+  public void should_Throw_Error_If_Value_Is_Not_In_Index() {
+    thrown.expect(ActionFailedException.class, "Unable to find cell matching value 'Hello World'");
+    driver.cell(table, "Hello World");
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void setSilently(List<?> data, int row, int column, Object value) {
+    ((List<Object>) data.get(row)).set(column, value);
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.driver.JTableDriver_TestCase.MyWindow.COLUMN_COUNT;
+import static org.assertj.swing.driver.JTableDriver_TestCase.MyWindow.ROW_COUNT;
+import static org.assertj.swing.test.swing.TestTable.createCellValueFrom;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link JTableDriver#modelContents(javax.swing.JTable)}.
+ */
+public class JTableDriver_modelContents_Test extends JTableDriver_TestCase {
+  @Test
+  public void should_Return_Values_In_Model_Without_Using_Cell_Reader() {
+    driver.replaceCellReader(new BasicJTableCellReader(rendererComponent -> "rendered"));
+    String[][] contents = driver.modelContents(table);
+    assertThat(contents.length).isEqualTo(ROW_COUNT);
+    for (int row = 0; row < ROW_COUNT; row++) {
+      assertThat(contents[row].length).isEqualTo(COLUMN_COUNT);
+      for (int column = 0; column < COLUMN_COUNT; column++) {
+        assertThat(contents[row][column]).isEqualTo(createCellValueFrom(row, column));
+      }
+    }
+  }
+}
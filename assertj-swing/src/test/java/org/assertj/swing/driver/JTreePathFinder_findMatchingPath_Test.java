@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.JTree;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+import javax.swing.tree.TreePath;
+
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.exception.LocationUnavailableException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JTreePathFinder#findMatchingPath(JTree, String)}.
+ */
+public class JTreePathFinder_findMatchingPath_Test extends JTreeDriver_TestCase {
+  private final AtomicInteger readCount = new AtomicInteger();
+  private JTreePathFinder finder;
+
+  @Override
+  void extraSetUp() {
+    finder = new JTreePathFinder();
+    finder.replaceCellReader(new BasicJTreeCellReader() {
+      @Override
+      public String valueAt(JTree t, Object modelValue) {
+        readCount.incrementAndGet();
+        return super.valueAt(t, modelValue);
+      }
+    });
+  }
+
+  @Test
+  public void should_Find_Path() {
+    TreePath path = findMatchingPath("root/branch1/branch1.1/branch1.1.2");
+    assertThat(pathText(path, "/")).isEqualTo("root/branch1/branch1.1/branch1.1.2");
+  }
+
+  @Test
+  public void should_Only_Read_Nodes_In_Path_When_Path_Was_Already_Found() {
+    TreePath path = findMatchingPath("root/branch1/branch1.1/branch1.1.2");
+    readCount.set(0);
+    assertThat(findMatchingPath("root/branch1/branch1.1/branch1.1.2")).isSameAs(path);
+    assertThat(readCount.get()).isEqualTo(4);
+  }
+
+  @Test
+  public void should_Not_Read_Children_Again_When_Path_Shares_Parents_With_Found_Path() {
+    findMatchingPath("root/branch1/branch1.1/branch1.1.2");
+    readCount.set(0);
+    TreePath path = findMatchingPath("root/branch1/branch1.1/branch1.1.1");
+    assertThat(pathText(path, "/")).isEqualTo("root/branch1/branch1.1/branch1.1.1");
+    assertThat(readCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_Find_Renamed_Node_After_Model_Changed() {
+    findMatchingPath("root/branch1/branch1.2");
+    renameFirstChildOfRoot("branch6");
+    TreePath path = findMatchingPath("root/branch6/branch1.2");
+    assertThat(pathText(path, "/")).isEqualTo("root/branch6/branch1.2");
+  }
+
+  @Test(expected = LocationUnavailableException.class)
+  public void should_Throw_Error_If_Found_Path_Was_Removed_From_Model() {
+    findMatchingPath("root/branch1/branch1.2");
+    renameFirstChildOfRoot("branch6");
+    findMatchingPath("root/branch1/branch1.2");
+  }
+
+  @Test
+  public void should_Find_Node_Renamed_Without_Notifying_Model_Listeners() {
+    findMatchingPath("root/branch2");
+    execute(() -> ((DefaultMutableTreeNode) rootOf(tree).getChildAt(1)).setUserObject("branch7"));
+    TreePath path = findMatchingPath("root/branch7");
+    assertThat(pathText(path, "/")).isEqualTo("root/branch7");
+  }
+
+  @Test
+  public void should_Not_Use_Indexed_Child_Renamed_Without_Notifying_Model_Listeners() {
+    findMatchingPath("root/branch2");
+    execute(() -> {
+      DefaultMutableTreeNode root = rootOf(tree);
+      ((DefaultMutableTreeNode) root.getChildAt(0)).setUserObject("branch8");
+      ((DefaultMutableTreeNode) root.getChildAt(1)).setUserObject("branch1");
+    });
+    TreePath path = findMatchingPath("root/branch1");
+    assertThat(path.getLastPathComponent()).isSameAs(execute(() -> rootOf(tree).getChildAt(1)));
+  }
+
+  @RunsInEDT
+  private TreePath findMatchingPath(String path) {
+    return execute(() -> finder.findMatchingPath(tree, path));
+  }
+
+  @RunsInEDT
+  private void renameFirstChildOfRoot(String newName) {
+    execute(() -> {
+      DefaultTreeModel model = (DefaultTreeModel) tree.getModel();
+      DefaultMutableTreeNode node = (DefaultMutableTreeNode) rootOf(tree).getChildAt(0);
+      model.valueForPathChanged(new TreePath(node.getPath()), newName);
+    });
+  }
+}
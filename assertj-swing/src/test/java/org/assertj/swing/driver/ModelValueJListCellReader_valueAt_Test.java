@@ -0,0 +1,57 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import javax.swing.JList;
+import javax.swing.JToolBar;
+
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.test.core.RobotBasedTestCase;
+import org.assertj.swing.test.swing.CustomCellRenderer;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ModelValueJListCellReader#valueAt(JList, int)}.
+ */
+public class ModelValueJListCellReader_valueAt_Test extends RobotBasedTestCase {
+  private JList<Object> list;
+  private ModelValueJListCellReader reader;
+
+  @Override
+  protected void onSetUp() {
+    list = execute(() -> {
+      JList<Object> newList = new JList<>(new Object[] { new Jedi("Yoda"), null });
+      newList.setCellRenderer(new CustomCellRenderer(new JToolBar()));
+      return newList;
+    });
+    reader = new ModelValueJListCellReader();
+  }
+
+  @Test
+  public void should_Return_Model_Value_ToString_Without_Using_CellRenderer() {
+    assertThat(itemValue(0)).isEqualTo("Yoda");
+  }
+
+  @Test
+  public void should_Return_Null_If_Model_Value_Is_Null() {
+    assertThat(itemValue(1)).isNull();
+  }
+
+  @RunsInEDT
+  private String itemValue(int index) {
+    return execute(() -> reader.valueAt(list, index));
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link ComponentLookupException#getMessage()}.
+ */
+public class ComponentLookupException_getMessage_Test {
+  @Test
+  public void should_Return_Message() {
+    ComponentLookupException e = new ComponentLookupException("Hello");
+    assertThat(e.getMessage()).isEqualTo("Hello");
+  }
+
+  @Test
+  public void should_Append_Details_Only_When_Message_Is_Read() {
+    AtomicInteger calls = new AtomicInteger();
+    ComponentLookupException e = new ComponentLookupException("Hello", () -> {
+      calls.incrementAndGet();
+      return " World";
+    });
+    assertThat(calls.get()).isEqualTo(0);
+    assertThat(e.getMessage()).isEqualTo("Hello World");
+    assertThat(e.getMessage()).isEqualTo("Hello World");
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_Return_Message_Even_If_Details_Cannot_Be_Created() {
+    ComponentLookupException e = new ComponentLookupException("Hello", () -> {
+      throw new IllegalStateException("Thrown on purpose");
+    });
+    assertThat(e.getMessage()).startsWith("Hello<Unable to create the rest of the message")
+                              .contains("Thrown on purpose");
+  }
+}
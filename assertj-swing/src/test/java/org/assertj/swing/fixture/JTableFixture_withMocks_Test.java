@@ -156,6 +156,14 @@ public class JTableFixture_withMocks_Test {
     verify(driver).contents(target);
   }
 
+  @Test
+  public void should_Return_Model_Contents_Using_Driver() {
+    String[][] contents = { { "0", "1", "2" } };
+    when(driver.modelContents(target)).thenReturn(contents);
+    assertThat(fixture.modelContents()).isSameAs(contents);
+    verify(driver).modelContents(target);
+  }
+
   @Test
   public void should_Return_Row_Count_Using_Driver() {
     when(driver.rowCountOf(target)).thenReturn(6);
@@ -305,6 +313,13 @@ public class JTableFixture_withMocks_Test {
     verify(driver).requireContents(target, contents);
   }
 
+  @Test
+  public void should_Call_RequireModelContents_In_Driver_And_Return_Self() {
+    String[][] contents = { { "0", "1", "2" } };
+    assertThat(fixture.requireModelContents(contents)).isSameAs(fixture);
+    verify(driver).requireModelContents(target, contents);
+  }
+
   @Test
   public void should_Call_ReplaceCellWriter_In_Driver() {
     JTableCellWriter cellWriter = mock(JTableCellWriter.class);
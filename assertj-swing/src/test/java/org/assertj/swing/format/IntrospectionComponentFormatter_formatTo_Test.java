@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.format;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.test.builder.JButtons.button;
+
+import java.io.IOException;
+
+import javax.swing.JButton;
+
+import org.assertj.swing.test.core.EDTSafeTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link IntrospectionComponentFormatter#formatTo(java.awt.Component, Appendable)}.
+ */
+public class IntrospectionComponentFormatter_formatTo_Test extends EDTSafeTestCase {
+  private JButton button;
+
+  @Before
+  public void setUp() {
+    button = button().withName("button").withText("Click Me").createNew();
+  }
+
+  @Test
+  public void should_Append_Formatted_Component() throws IOException {
+    IntrospectionComponentFormatter formatter = new IntrospectionComponentFormatter(JButton.class, "name", "text");
+    StringBuilder out = new StringBuilder("button: ");
+    formatter.formatTo(button, out);
+    assertThat(out.toString()).isEqualTo("button: javax.swing.JButton[name='button', text='Click Me']");
+  }
+
+  @Test
+  public void should_Append_Same_Text_As_Format() throws IOException {
+    IntrospectionComponentFormatter formatter = new IntrospectionComponentFormatter(JButton.class, "lastName", "text",
+                                                                                    "showing");
+    StringBuilder out = new StringBuilder();
+    formatter.formatTo(button, out);
+    assertThat(out.toString()).isEqualTo(formatter.format(button));
+  }
+}
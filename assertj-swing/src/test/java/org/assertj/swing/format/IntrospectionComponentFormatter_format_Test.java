@@ -63,6 +63,21 @@ public class IntrospectionComponentFormatter_format_Test extends EDTSafeTestCase
     assertThat(formatted).contains("names=[\"Luke\", \"Leia\"]");
   }
 
+  @Test
+  public void should_Format_Errors_Thrown_By_Read_Methods() {
+    FailingButton failingButton = FailingButton.newButton(new AssertionError("Broken"));
+    IntrospectionComponentFormatter formatter = new IntrospectionComponentFormatter(FailingButton.class, "failure",
+                                                                                    "text");
+    String formatted = formatter.format(failingButton);
+    assertThat(formatted).contains("failure=<Unable to read property [java.lang.AssertionError: 'Broken']>");
+  }
+
+  @Test(expected = StackOverflowError.class)
+  public void should_Rethrow_Virtual_Machine_Errors_Thrown_By_Read_Methods() {
+    FailingButton failingButton = FailingButton.newButton(new StackOverflowError());
+    new IntrospectionComponentFormatter(FailingButton.class, "failure").format(failingButton);
+  }
+
   @Test
   public void should_Additionally_Show_Name_Of_Superclass_When_Having_Anynomous_Class_Inside() {
     IntrospectionComponentFormatter formatter = new IntrospectionComponentFormatter(JButton.class, "text");
@@ -106,4 +121,24 @@ public class IntrospectionComponentFormatter_format_Test extends EDTSafeTestCase
       return names;
     }
   };
+
+  static class FailingButton extends JButton {
+    /** Generated serial version UID. */
+    private static final long serialVersionUID = 4712390417650207283L;
+
+    static FailingButton newButton(final Error failure) {
+      return execute(() -> new FailingButton(failure));
+    }
+
+    final Error failure;
+
+    FailingButton(Error failure) {
+      this.failure = failure;
+    }
+
+    // to be called by introspector - do not remove
+    public String getFailure() {
+      throw failure;
+    }
+  }
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.image;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.image.TestImageFileWriters.newImageFileWriterMock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link AsyncImageFileWriter#writeAsPng(BufferedImage, String)}.
+ */
+public class AsyncImageFileWriter_writeAsPng_Test {
+  private ImageFileWriter writer;
+  private BufferedImage image;
+
+  @Before
+  public void setUp() {
+    writer = newImageFileWriterMock();
+    image = mock(BufferedImage.class);
+  }
+
+  @Test
+  public void should_Write_Image_In_Background() throws Exception {
+    when(writer.writeAsPng(image, "image.png")).thenReturn(true);
+    AsyncImageFileWriter asyncWriter = new AsyncImageFileWriter(writer, 1, 1);
+    Future<Boolean> result = asyncWriter.writeAsPng(image, "image.png");
+    assertThat(asyncWriter.flush(5, SECONDS)).isTrue();
+    assertThat(result.get()).isTrue();
+    verify(writer).writeAsPng(image, "image.png");
+  }
+
+  @Test
+  public void should_Return_False_If_Image_Could_Not_Be_Written() throws Exception {
+    when(writer.writeAsPng(image, "image.png")).thenThrow(new IOException("Thrown on purpose"));
+    AsyncImageFileWriter asyncWriter = new AsyncImageFileWriter(writer, 1, 1);
+    Future<Boolean> result = asyncWriter.writeAsPng(image, "image.png");
+    assertThat(result.get()).isFalse();
+    assertThat(asyncWriter.flush(5, SECONDS)).isTrue();
+  }
+
+  @Test
+  public void should_Write_Image_In_Current_Thread_If_Queue_Is_Full() throws Exception {
+    CountDownLatch blocked = new CountDownLatch(1);
+    Thread currentThread = Thread.currentThread();
+    Thread[] writingThread = new Thread[1];
+    when(writer.writeAsPng(image, "blocked.png")).thenAnswer(invocation -> {
+      blocked.await();
+      return true;
+    });
+    when(writer.writeAsPng(image, "queued.png")).thenReturn(true);
+    when(writer.writeAsPng(image, "overflow.png")).thenAnswer(invocation -> {
+      writingThread[0] = Thread.currentThread();
+      return true;
+    });
+    AsyncImageFileWriter asyncWriter = new AsyncImageFileWriter(writer, 1, 1);
+    asyncWriter.writeAsPng(image, "blocked.png");
+    asyncWriter.writeAsPng(image, "queued.png");
+    asyncWriter.writeAsPng(image, "overflow.png");
+    assertThat(writingThread[0]).isSameAs(currentThread);
+    assertThat(asyncWriter.flush(0, SECONDS)).isFalse();
+    blocked.countDown();
+    assertThat(asyncWriter.flush(5, SECONDS)).isTrue();
+  }
+}
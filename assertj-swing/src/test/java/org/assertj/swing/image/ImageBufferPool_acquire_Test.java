@@ -0,0 +1,78 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.image;
+
+import static java.awt.Color.RED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.test.ExpectedException.none;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.assertj.swing.test.ExpectedException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ImageBufferPool#acquire(int, int)}.
+ */
+public class ImageBufferPool_acquire_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  private ImageBufferPool pool;
+
+  @Before
+  public void setUp() {
+    pool = new ImageBufferPool();
+  }
+
+  @Test
+  public void should_Round_Size_Up_To_Size_Class() {
+    BufferedImage buffer = pool.acquire(50, 70);
+    assertThat(buffer.getWidth()).isEqualTo(64);
+    assertThat(buffer.getHeight()).isEqualTo(128);
+  }
+
+  @Test
+  public void should_Reuse_Released_Buffer_Of_Same_Size_Class() {
+    BufferedImage buffer = pool.acquire(50, 20);
+    pool.release(buffer);
+    assertThat(pool.acquire(60, 10)).isSameAs(buffer);
+  }
+
+  @Test
+  public void should_Not_Reuse_Released_Buffer_Of_Different_Size_Class() {
+    BufferedImage buffer = pool.acquire(50, 20);
+    pool.release(buffer);
+    assertThat(pool.acquire(100, 20)).isNotSameAs(buffer);
+  }
+
+  @Test
+  public void should_Clear_Reused_Buffer() {
+    BufferedImage buffer = pool.acquire(10, 10);
+    Graphics2D g = buffer.createGraphics();
+    g.setColor(RED);
+    g.fillRect(0, 0, 10, 10);
+    g.dispose();
+    pool.release(buffer);
+    assertThat(pool.acquire(10, 10).getRGB(5, 5)).isZero();
+  }
+
+  @Test
+  public void should_Throw_Error_If_Size_Is_Not_Positive() {
+    thrown.expectIllegalArgumentException("The size of the image should be positive, but was 0x10");
+    pool.acquire(0, 10);
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.image;
+
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ImageBufferPool#release(BufferedImage)}.
+ */
+public class ImageBufferPool_release_Test {
+  private ImageBufferPool pool;
+
+  @Before
+  public void setUp() {
+    pool = new ImageBufferPool();
+  }
+
+  @Test
+  public void should_Ignore_Buffer_Not_Created_By_Pool() {
+    BufferedImage buffer = new BufferedImage(64, 64, TYPE_INT_ARGB);
+    pool.release(buffer);
+    assertThat(pool.acquire(64, 64)).isNotSameAs(buffer);
+  }
+
+  @Test
+  public void should_Ignore_Buffer_Released_Twice() {
+    BufferedImage buffer = pool.acquire(64, 64);
+    pool.release(buffer);
+    pool.release(buffer);
+    assertThat(pool.acquire(64, 64)).isSameAs(buffer);
+    assertThat(pool.acquire(64, 64)).isNotSameAs(buffer);
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.image;
+
+import static java.awt.Color.BLUE;
+import static java.awt.Color.RED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.test.ExpectedException.none;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+
+import javax.swing.JPanel;
+
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.test.ExpectedException;
+import org.assertj.swing.test.core.EDTSafeTestCase;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PaintingScreenshotTaker#takeScreenshotOf(java.awt.Component)}.
+ */
+public class PaintingScreenshotTaker_takeScreenshotOf_Test extends EDTSafeTestCase {
+  @Rule
+  public ExpectedException thrown = none();
+
+  private PaintingScreenshotTaker taker;
+
+  @Before
+  public void setUp() {
+    taker = new PaintingScreenshotTaker();
+  }
+
+  @Test
+  public void should_Paint_Component_Into_Image_Of_Same_Size() {
+    TwoColorPanel panel = TwoColorPanel.createNew(50, 20);
+    BufferedImage image = taker.takeScreenshotOf(panel);
+    assertThat(image.getWidth()).isEqualTo(50);
+    assertThat(image.getHeight()).isEqualTo(20);
+    assertThat(new Color(image.getRGB(10, 10))).isEqualTo(RED);
+    assertThat(new Color(image.getRGB(40, 10))).isEqualTo(BLUE);
+  }
+
+  @Test
+  public void should_Throw_Error_If_Component_Has_Empty_Size() {
+    TwoColorPanel panel = TwoColorPanel.createNew(0, 0);
+    thrown.expect(ImageException.class);
+    thrown.expectMessageToContain("0x0");
+    taker.takeScreenshotOf(panel);
+  }
+
+  private static class TwoColorPanel extends JPanel {
+    @RunsInEDT
+    static TwoColorPanel createNew(int width, int height) {
+      return execute(() -> {
+        TwoColorPanel panel = new TwoColorPanel();
+        panel.setSize(width, height);
+        return panel;
+      });
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+      int half = getWidth() / 2;
+      g.setColor(RED);
+      g.fillRect(0, 0, half, getHeight());
+      g.setColor(BLUE);
+      g.fillRect(half, 0, getWidth() - half, getHeight());
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.keystroke;
+
+import static java.awt.event.InputEvent.SHIFT_MASK;
+import static java.awt.event.KeyEvent.VK_A;
+import static java.awt.event.KeyEvent.VK_B;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.test.ExpectedException.none;
+
+import javax.swing.KeyStroke;
+
+import org.assertj.swing.test.ExpectedException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link KeyStrokeMapCollection#add(Character, KeyStroke)}.
+ */
+public class KeyStrokeMapCollection_add_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  private KeyStrokeMapCollection maps;
+
+  @Before
+  public void setUp() {
+    maps = new KeyStrokeMapCollection();
+  }
+
+  @Test
+  public void should_Map_Character_And_KeyStroke() {
+    KeyStroke keyStroke = KeyStroke.getKeyStroke(VK_A, SHIFT_MASK);
+    maps.add('A', keyStroke);
+    assertThat(maps.keyStrokeFor('A')).isSameAs(keyStroke);
+    assertThat(maps.charFor(keyStroke)).isEqualTo('A');
+    assertThat(maps.keyStrokeFor('a')).isNull();
+  }
+
+  @Test
+  public void should_Replace_KeyStroke_Of_Character() {
+    maps.add('a', KeyStroke.getKeyStroke(VK_A, 0));
+    KeyStroke keyStroke = KeyStroke.getKeyStroke(VK_B, 0);
+    maps.add('a', keyStroke);
+    assertThat(maps.keyStrokeFor('a')).isSameAs(keyStroke);
+  }
+
+  @Test
+  public void should_Map_More_Characters_Than_Initial_Capacity() {
+    for (char c = 0; c < 2000; c++) {
+      maps.add(c, KeyStroke.getKeyStroke(c, 0));
+    }
+    for (char c = 0; c < 2000; c++) {
+      assertThat(maps.keyStrokeFor(c)).isSameAs(KeyStroke.getKeyStroke(c, 0));
+    }
+    assertThat(maps.keyStrokeFor((char) 2000)).isNull();
+  }
+
+  @Test
+  public void should_Add_To_Copy_Of_Frozen_Collection() {
+    maps.add('a', KeyStroke.getKeyStroke(VK_A, 0));
+    KeyStrokeMapCollection copy = maps.freeze().copy();
+    KeyStroke keyStroke = KeyStroke.getKeyStroke(VK_B, 0);
+    copy.add('b', keyStroke);
+    assertThat(copy.keyStrokeFor('a')).isSameAs(maps.keyStrokeFor('a'));
+    assertThat(copy.keyStrokeFor('b')).isSameAs(keyStroke);
+    assertThat(maps.keyStrokeFor('b')).isNull();
+  }
+
+  @Test
+  public void should_Throw_Error_If_Collection_Is_Frozen() {
+    maps.freeze();
+    thrown.expect(IllegalStateException.class);
+    maps.add('a', KeyStroke.getKeyStroke(VK_A, 0));
+  }
+}
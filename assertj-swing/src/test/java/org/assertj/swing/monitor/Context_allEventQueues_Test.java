@@ -28,10 +28,46 @@ import org.junit.Test;
  */
 public class Context_allEventQueues_Test extends Context_TestCase {
   @Test
-  public void should_Return_All_EventQueues() {
+  public void should_Return_EventQueues_With_Root_Windows() {
+    when(windowEventQueueMapping.addQueueFor(window)).thenReturn(true);
     when(windowEventQueueMapping.eventQueues()).thenReturn(newArrayList(eventQueue));
-    when(eventQueueMapping.eventQueues()).thenReturn(newArrayList(eventQueue));
+    context.addContextFor(window);
     Collection<EventQueue> allEventQueues = context.allEventQueues();
     assertThat(allEventQueues).containsOnly(eventQueue);
   }
+
+  @Test
+  public void should_Not_Return_EventQueue_Removed_From_Mapping() {
+    when(windowEventQueueMapping.addQueueFor(window)).thenReturn(true);
+    when(windowEventQueueMapping.eventQueues()).thenReturn(newArrayList(eventQueue));
+    context.addContextFor(window);
+    when(windowEventQueueMapping.removeMappingFor(window)).thenReturn(true);
+    when(windowEventQueueMapping.eventQueues()).thenReturn(newArrayList());
+    context.removeContextFor(window);
+    assertThat(context.allEventQueues()).isEmpty();
+  }
+
+  @Test
+  public void should_Return_EventQueues_Of_Components_That_Are_Not_Root_Windows() {
+    when(eventQueueMapping.addQueueFor(window)).thenReturn(eventQueue);
+    when(eventQueueMapping.eventQueues()).thenReturn(newArrayList(eventQueue));
+    context.addContextFor(window);
+    assertThat(context.allEventQueues()).containsOnly(eventQueue);
+  }
+
+  @Test
+  public void should_Not_Return_EventQueue_Of_Component_Removed_From_Mapping() {
+    when(eventQueueMapping.addQueueFor(window)).thenReturn(eventQueue);
+    when(eventQueueMapping.eventQueues()).thenReturn(newArrayList(eventQueue));
+    context.addContextFor(window);
+    when(eventQueueMapping.removeMappingFor(window)).thenReturn(true);
+    when(eventQueueMapping.eventQueues()).thenReturn(newArrayList());
+    context.removeContextFor(window);
+    assertThat(context.allEventQueues()).isEmpty();
+  }
+
+  @Test
+  public void should_Return_Same_Snapshot_If_Mapping_Did_Not_Change() {
+    assertThat(context.allEventQueues()).isSameAs(context.allEventQueues());
+  }
 }
@@ -26,5 +26,6 @@ public class Context_removeContextFor_Test extends Context_TestCase {
   public void should_Remove_Context() {
     context.removeContextFor(window);
     verify(windowEventQueueMapping).removeMappingFor(window);
+    verify(eventQueueMapping).removeMappingFor(window);
   }
 }
@@ -19,6 +19,7 @@ import static org.mockito.Mockito.verifyZeroInteractions;
 import java.awt.Component;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
+import java.awt.event.PaintEvent;
 
 import javax.swing.JTextField;
 
@@ -72,7 +73,13 @@ public class WindowAvailabilityMonitor_eventDispatched_Test extends WindowAvaila
   }
 
   @Test
-  public void should_Not_Mark_Source_Window_As_Ready_If_Event_Is_Not_MouseEvent() {
+  public void should_Mark_Source_Window_As_Ready_If_Event_Is_PaintEvent() {
+    monitor.eventDispatched(new PaintEvent(window, PaintEvent.PAINT, window.getBounds()));
+    verify(windows).markAsReady(window);
+  }
+
+  @Test
+  public void should_Not_Mark_Source_Window_As_Ready_If_Event_Is_Not_MouseEvent_Or_PaintEvent() {
     monitor.eventDispatched(new KeyEvent(window, 8, 9238, 0, 0, 'a'));
     verifyZeroInteractions(windows);
   }
@@ -38,10 +38,7 @@ public class WindowEventQueueMapping_addQueueForComponent_Test extends WindowEve
   @Test
   public void should_Not_Add_Queue_For_Component_That_Is_Not_Window() {
     ComponentWithCustomEventQueue c = new ComponentWithCustomEventQueue(toolkit);
-    mapping.addQueueFor(c);
-    assertThat(queueMap).hasSize(1);
-    assertThat(queueMap.keySet()).contains(eventQueue);
-    Map<Window, Boolean> windowMapping = queueMap.get(eventQueue);
-    assertThat(windowMapping).isEmpty();
+    assertThat(mapping.addQueueFor(c)).isFalse();
+    assertThat(queueMap).isEmpty();
   }
 }
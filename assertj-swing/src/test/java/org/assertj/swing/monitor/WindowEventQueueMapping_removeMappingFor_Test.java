@@ -29,8 +29,9 @@ import org.junit.Test;
 public class WindowEventQueueMapping_removeMappingFor_Test extends WindowEventQueueMapping_withWindow_TestCase {
   @Test
   public void should_Remove_Component_From_Mapping() {
+    mapping.addQueueFor(toolkit);
     mapping.addQueueFor(window);
-    mapping.removeMappingFor(window);
+    assertThat(mapping.removeMappingFor(window)).isFalse();
     assertThat(queueMap).hasSize(1);
     assertThat(queueMap.keySet()).contains(eventQueue);
     Map<Window, Boolean> windowMapping = queueMap.get(eventQueue);
@@ -46,4 +47,11 @@ public class WindowEventQueueMapping_removeMappingFor_Test extends WindowEventQu
     mapping.removeMappingFor(window);
     assertThat(windowMapping).isEmpty();
   }
+
+  @Test
+  public void should_Remove_EventQueue_When_Its_Last_Window_Is_Removed() {
+    mapping.addQueueFor(window);
+    assertThat(mapping.removeMappingFor(window)).isTrue();
+    assertThat(queueMap).isEmpty();
+  }
 }
@@ -31,66 +31,23 @@ class WindowStateAssert {
   }
 
   WindowStateAssert isClosed() {
-    assertThat(isWindowClosed()).isEqualTo(true);
-    return this;
-  }
-
-  WindowStateAssert isNotClosed() {
-    assertThat(isWindowClosed()).isEqualTo(false);
-    return this;
-  }
-
-  private boolean isWindowClosed() {
-    return windows.closed.containsKey(target);
+    return hasState(WindowState.CLOSED);
   }
 
   WindowStateAssert isPending() {
-    assertThat(isWindowPending()).isEqualTo(true);
-    return this;
-  }
-
-  WindowStateAssert isNotPending() {
-    assertThat(isWindowPending()).isEqualTo(false);
-    return this;
-  }
-
-  private boolean isWindowPending() {
-    return windows.pending.containsKey(target);
-  }
-
-  WindowStateAssert isOpen() {
-    assertThat(isWindowOpen()).isEqualTo(true);
-    return this;
-  }
-
-  WindowStateAssert isNotOpen() {
-    assertThat(isWindowOpen()).isEqualTo(false);
-    return this;
-  }
-
-  private boolean isWindowOpen() {
-    return windows.open.containsKey(target);
+    return hasState(WindowState.PENDING);
   }
 
   WindowStateAssert isHidden() {
-    assertThat(isWindowHidden()).isEqualTo(true);
-    return this;
-  }
-
-  WindowStateAssert isNotHidden() {
-    assertThat(isWindowHidden()).isEqualTo(false);
-    return this;
+    return hasState(WindowState.HIDDEN);
   }
 
-  private boolean isWindowHidden() {
-    return windows.hidden.containsKey(target);
+  WindowStateAssert isReady() {
+    return hasState(WindowState.READY);
   }
 
-  WindowStateAssert isReady() {
-    isNotClosed();
-    isNotHidden();
-    isOpen();
-    isNotPending();
+  private WindowStateAssert hasState(WindowState expected) {
+    assertThat(windows.stateOf(target)).isEqualTo(expected);
     return this;
   }
 }
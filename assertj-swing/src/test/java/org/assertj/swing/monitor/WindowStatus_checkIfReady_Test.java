@@ -101,4 +101,15 @@ public class WindowStatus_checkIfReady_Test extends SequentialEDTSafeTestCase {
     // mouse pointer should not have moved
     assertThat(MouseInfo.getPointerInfo().getLocation()).isEqualTo(before);
   }
+
+  @Test
+  public void should_Not_Move_Mouse_If_Window_Was_Shown_Recently() {
+    window.display(new Dimension(300, 100));
+    pause(500);
+    Point before = MouseInfo.getPointerInfo().getLocation();
+    when(windows.isShowingButNotReady(window)).thenReturn(true);
+    when(windows.pendingSince(window)).thenReturn(System.currentTimeMillis());
+    status.checkIfReady(window);
+    assertThat(MouseInfo.getPointerInfo().getLocation()).isEqualTo(before);
+  }
 }
@@ -0,0 +1,63 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.monitor;
+
+import static org.assertj.swing.monitor.WindowState.CLOSED;
+import static org.assertj.swing.monitor.WindowState.PENDING;
+import static org.assertj.swing.monitor.WindowState.READY;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+
+/**
+ * Tests for {@link Windows#addListener(WindowStateListener)} and {@link Windows#removeListener(WindowStateListener)}.
+ */
+public class Windows_addListener_Test extends Windows_TestCase {
+  private final WindowStateListener listener = mock(WindowStateListener.class);
+
+  @Test
+  public void should_Notify_Listener_Of_State_Changes() {
+    windows.addListener(listener);
+    windows.markAsShowing(window);
+    windows.markAsReady(window);
+    windows.markAsClosed(window);
+    InOrder inOrder = inOrder(listener);
+    inOrder.verify(listener).windowStateChanged(window, null, PENDING);
+    inOrder.verify(listener).windowStateChanged(window, PENDING, READY);
+    inOrder.verify(listener).windowStateChanged(window, READY, CLOSED);
+  }
+
+  @Test
+  public void should_Not_Notify_Listener_If_State_Did_Not_Change() {
+    windows.markAsShowing(window);
+    windows.addListener(listener);
+    windows.markAsShowing(window);
+    windows.markAsHidden(window);
+    windows.markAsReady(window);
+    verify(listener).windowStateChanged(window, PENDING, WindowState.HIDDEN);
+    verifyNoMoreInteractions(listener);
+  }
+
+  @Test
+  public void should_Not_Notify_Removed_Listener() {
+    windows.addListener(listener);
+    windows.removeListener(listener);
+    windows.markAsShowing(window);
+    verifyZeroInteractions(listener);
+  }
+}
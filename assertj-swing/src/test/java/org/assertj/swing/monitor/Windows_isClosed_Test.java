@@ -24,13 +24,20 @@ import org.junit.Test;
 public class Windows_isClosed_Test extends Windows_TestCase {
   @Test
   public void should_Return_True_If_Window_Is_Closed() {
-    windows.closed.put(window, true);
+    windows.markAsClosed(window);
     assertThat(windows.isClosed(window)).isTrue();
   }
 
   @Test
   public void should_Return_False_If_Window_Is_Not_Closed() {
-    windows.closed.remove(window);
+    windows.markAsShowing(window);
     assertThat(windows.isClosed(window)).isFalse();
   }
+
+  @Test
+  public void should_Return_True_If_Closed_Window_Is_Hidden() {
+    windows.markAsClosed(window);
+    windows.markAsHidden(window);
+    assertThat(windows.isClosed(window)).isTrue();
+  }
 }
@@ -24,13 +24,14 @@ import org.junit.Test;
 public class Windows_isHidden_Test extends Windows_TestCase {
   @Test
   public void should_Return_True_If_Window_Is_Hidden() {
-    windows.hidden.put(window, true);
+    windows.markAsHidden(window);
     assertThat(windows.isHidden(window)).isTrue();
   }
 
   @Test
   public void should_Return_False_If_Window_Is_Not_Hidden() {
-    windows.hidden.remove(window);
+    windows.markAsHidden(window);
+    windows.markAsShowing(window);
     assertThat(windows.isHidden(window)).isFalse();
   }
 }
@@ -23,30 +23,34 @@ import org.junit.Test;
  */
 public class Windows_isReady_Test extends Windows_TestCase {
   @Test
-  public void should_Return_True_If_Window_Is_Open_And_Not_Hidden() {
-    windows.open.put(window, true);
-    windows.hidden.remove(window);
+  public void should_Return_True_If_Window_Is_Ready() {
+    windows.markAsShowing(window);
+    windows.markAsReady(window);
     assertThat(windows.isReady(window)).isTrue();
   }
 
   @Test
-  public void should_Return_False_If_Window_Is_Open_And_Hidden() {
-    windows.hidden.put(window, true);
-    windows.open.put(window, true);
+  public void should_Return_False_If_Window_Is_Pending() {
+    windows.markAsShowing(window);
     assertThat(windows.isReady(window)).isFalse();
   }
 
   @Test
-  public void should_Return_False_If_Window_Is_Not_Open_And_Hidden() {
-    windows.hidden.put(window, true);
-    windows.open.remove(window);
+  public void should_Return_False_If_Window_Is_Hidden() {
+    windows.markAsShowing(window);
+    windows.markAsReady(window);
+    windows.markAsHidden(window);
     assertThat(windows.isReady(window)).isFalse();
   }
 
   @Test
-  public void should_Return_False_If_Window_Is_Not_Open_And_Not_Hidden() {
-    windows.hidden.remove(window);
-    windows.open.remove(window);
+  public void should_Return_False_If_Window_Is_Closed() {
+    windows.markAsClosed(window);
+    assertThat(windows.isReady(window)).isFalse();
+  }
+
+  @Test
+  public void should_Return_False_If_Window_Is_Not_Known() {
     assertThat(windows.isReady(window)).isFalse();
   }
 }
@@ -24,13 +24,14 @@ import org.junit.Test;
 public class Windows_isShowingButNotReadyTest extends Windows_TestCase {
   @Test
   public void should_Return_True_If_Window_Is_Pending() {
-    windows.pending.put(window, null);
+    windows.markAsShowing(window);
     assertThat(windows.isShowingButNotReady(window)).isTrue();
   }
 
   @Test
   public void should_Return_False_If_Window_Is_Not_Pending() {
-    windows.pending.remove(window);
+    windows.markAsShowing(window);
+    windows.markAsReady(window);
     assertThat(windows.isShowingButNotReady(window)).isFalse();
   }
 }
@@ -23,6 +23,6 @@ public class Windows_markAsClosed_Test extends Windows_TestCase {
   @Test
   public void should_Mark_Window_As_Closed() {
     windows.markAsClosed(window);
-    windowState().isClosed().isNotHidden().isNotOpen().isNotPending();
+    windowState().isClosed();
   }
 }
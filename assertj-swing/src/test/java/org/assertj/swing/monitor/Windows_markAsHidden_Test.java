@@ -23,6 +23,6 @@ public class Windows_markAsHidden_Test extends Windows_TestCase {
   @Test
   public void should_Mark_Window_As_Hidden() {
     windows.markAsHidden(window);
-    windowState().isNotClosed().isHidden().isNotOpen().isNotPending();
+    windowState().isHidden();
   }
 }
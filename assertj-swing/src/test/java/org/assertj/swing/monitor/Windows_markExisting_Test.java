@@ -35,7 +35,7 @@ public class Windows_markExisting_Test extends Windows_TestCase {
   public void should_Mark_Not_Visible_Window_As_Ready_And_Hidden() {
     pack(window);
     markExisting(windows, window);
-    windowState().isOpen().isNotClosed().isHidden().isNotPending();
+    windowState().isHidden();
   }
 
   @RunsInEDT
@@ -0,0 +1,72 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.monitor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link Windows#readinessOf(java.awt.Window)}.
+ */
+public class Windows_readinessOf_Test extends Windows_TestCase {
+  @Test
+  public void should_Return_Completed_Future_If_Window_Is_Ready() {
+    windows.markAsShowing(window);
+    windows.markAsReady(window);
+    assertThat(windows.readinessOf(window)).isDone();
+  }
+
+  @Test
+  public void should_Complete_Future_When_Pending_Window_Becomes_Ready() {
+    windows.markAsShowing(window);
+    CompletableFuture<Void> readiness = windows.readinessOf(window);
+    assertThat(readiness).isNotDone();
+    windows.markAsReady(window);
+    assertThat(readiness).isDone();
+    windowState().isReady();
+  }
+
+  @Test
+  public void should_Complete_Future_Requested_Before_Window_Was_Shown() {
+    CompletableFuture<Void> readiness = windows.readinessOf(window);
+    windows.markAsShowing(window);
+    assertThat(readiness).isNotDone();
+    windows.markAsReady(window);
+    assertThat(readiness).isDone();
+  }
+
+  @Test
+  public void should_Return_New_Future_If_Window_Was_Hidden_After_Being_Ready() {
+    windows.markAsShowing(window);
+    windows.markAsReady(window);
+    CompletableFuture<Void> first = windows.readinessOf(window);
+    windows.markAsHidden(window);
+    CompletableFuture<Void> second = windows.readinessOf(window);
+    assertThat(second).isNotSameAs(first).isNotDone();
+    windows.markAsShowing(window);
+    windows.markAsReady(window);
+    assertThat(second).isDone();
+  }
+
+  @Test
+  public void should_Not_Mark_Ready_Window_As_Pending_When_Shown_Again() {
+    windows.markAsShowing(window);
+    windows.markAsReady(window);
+    windows.markAsShowing(window);
+    windowState().isReady();
+    assertThat(windows.pendingSince(window)).isNull();
+  }
+}
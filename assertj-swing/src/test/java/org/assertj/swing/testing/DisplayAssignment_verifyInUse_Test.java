@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.testing;
+
+import static org.assertj.swing.testing.DisplayAssignment.displayAssignment;
+import static org.assertj.swing.test.ExpectedException.none;
+
+import org.assertj.swing.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link DisplayAssignment#verifyInUse(String)}.
+ */
+public class DisplayAssignment_verifyInUse_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_Pass_If_Assigned_Display_Is_In_Use() {
+    displayAssignment("1", ":1").verifyInUse(":1");
+  }
+
+  @Test
+  public void should_Pass_If_No_Display_Was_Assigned() {
+    displayAssignment("1", "").verifyInUse(":1");
+  }
+
+  @Test
+  public void should_Pass_If_No_Display_Was_Assigned_Nor_Is_In_Use() {
+    displayAssignment("1", "").verifyInUse(null);
+  }
+
+  @Test
+  public void should_Fail_If_Display_Was_Assigned_But_None_Is_In_Use() {
+    thrown.expect(IllegalStateException.class,
+                  "Worker '1' was assigned the display ':1' but this JVM does not use any display");
+    displayAssignment("1", ":1").verifyInUse(null);
+  }
+
+  @Test
+  public void should_Fail_If_Display_Was_Assigned_But_Display_In_Use_Is_Empty() {
+    thrown.expect(IllegalStateException.class,
+                  "Worker '1' was assigned the display ':1' but this JVM does not use any display");
+    displayAssignment("1", ":1").verifyInUse("");
+  }
+
+  @Test
+  public void should_Fail_If_Assigned_Display_Is_Not_In_Use() {
+    thrown.expect(IllegalStateException.class,
+                  "Worker '2' was assigned the display ':2' but this JVM uses the display ':1'");
+    displayAssignment("2", ":2").verifyInUse(":1");
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.swing.timing;
+
+import static java.awt.AWTEvent.WINDOW_EVENT_MASK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.test.awt.Toolkits.newToolkitMock;
+import static org.assertj.swing.test.util.StopWatch.startNewStopWatch;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.awt.Toolkit;
+
+import org.assertj.swing.test.util.StopWatch;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ConditionWakeUp}.
+ */
+public class ConditionWakeUp_await_Test {
+  private Toolkit toolkit;
+
+  @Before
+  public void setUp() {
+    toolkit = newToolkitMock();
+  }
+
+  @Test
+  public void should_Return_Immediately_If_Event_Was_Dispatched() throws InterruptedException {
+    ConditionWakeUp wakeUp = new ConditionWakeUp(toolkit, WINDOW_EVENT_MASK, 5000);
+    wakeUp.eventDispatched(null);
+    StopWatch watch = startNewStopWatch();
+    wakeUp.await();
+    watch.stop();
+    assertThat(watch.ellapsedTime()).isLessThan(1000);
+  }
+
+  @Test
+  public void should_Not_Wait_Longer_Than_Maximum_Interval() throws InterruptedException {
+    ConditionWakeUp wakeUp = new ConditionWakeUp(toolkit, 0, 10);
+    StopWatch watch = startNewStopWatch();
+    for (int i = 0; i < 10; i++) {
+      wakeUp.await();
+    }
+    watch.stop();
+    assertThat(watch.ellapsedTime()).isLessThan(1000);
+  }
+
+  @Test
+  public void should_Register_As_AWTEventListener_If_Event_Mask_Is_Not_Zero() {
+    ConditionWakeUp wakeUp = new ConditionWakeUp(toolkit, WINDOW_EVENT_MASK, 10);
+    wakeUp.start();
+    verify(toolkit).addAWTEventListener(wakeUp, WINDOW_EVENT_MASK);
+    wakeUp.stop();
+    verify(toolkit).removeAWTEventListener(wakeUp);
+  }
+
+  @Test
+  public void should_Not_Register_As_AWTEventListener_If_Event_Mask_Is_Zero() {
+    ConditionWakeUp wakeUp = new ConditionWakeUp(toolkit, 0, 10);
+    wakeUp.start();
+    verify(toolkit, never()).addAWTEventListener(wakeUp, 0);
+  }
+}